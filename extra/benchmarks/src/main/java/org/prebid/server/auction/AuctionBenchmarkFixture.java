@@ -0,0 +1,403 @@
+package org.prebid.server.auction;
+
+import com.codahale.metrics.MetricRegistry;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.User;
+import com.iab.openrtb.response.Bid;
+import io.vertx.core.Future;
+import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
+import org.prebid.server.auction.adjustment.BidAdjustmentFactorResolver;
+import org.prebid.server.auction.categorymapping.NoOpCategoryMappingService;
+import org.prebid.server.auction.mediatypeprocessor.NoOpMediaTypeProcessor;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.BidRejectionTracker;
+import org.prebid.server.auction.model.BidderPrivacyResult;
+import org.prebid.server.auction.model.BidderRequest;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.auction.model.StoredResponseResult;
+import org.prebid.server.auction.model.debug.DebugContext;
+import org.prebid.server.auction.throttling.NoOpBidderThrottler;
+import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
+import org.prebid.server.auction.versionconverter.OrtbVersion;
+import org.prebid.server.benchmark.BenchmarkResources;
+import org.prebid.server.benchmark.StubHttpClient;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.BidderDeps;
+import org.prebid.server.bidder.BidderErrorNotifier;
+import org.prebid.server.bidder.BidderInfo;
+import org.prebid.server.bidder.BidderInstanceDeps;
+import org.prebid.server.bidder.GenericBidder;
+import org.prebid.server.bidder.HttpBidderRequestEnricher;
+import org.prebid.server.bidder.HttpBidderRequester;
+import org.prebid.server.bidder.Usersyncer;
+import org.prebid.server.bidder.model.BidderBid;
+import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.cache.CacheService;
+import org.prebid.server.cache.model.CacheTtl;
+import org.prebid.server.cookie.UidsCookie;
+import org.prebid.server.currency.CurrencyConversionService;
+import org.prebid.server.deals.events.ApplicationEventService;
+import org.prebid.server.deals.model.DeepDebugLog;
+import org.prebid.server.deals.model.TxnLog;
+import org.prebid.server.events.EventsService;
+import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.floors.PriceFloorAdjuster;
+import org.prebid.server.floors.PriceFloorEnforcer;
+import org.prebid.server.hooks.execution.HookStageExecutor;
+import org.prebid.server.hooks.execution.model.HookExecutionContext;
+import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
+import org.prebid.server.hooks.execution.v1.auction.AuctionResponsePayloadImpl;
+import org.prebid.server.hooks.execution.v1.bidder.AllProcessedBidResponsesPayloadImpl;
+import org.prebid.server.hooks.execution.v1.bidder.BidderRequestPayloadImpl;
+import org.prebid.server.hooks.execution.v1.bidder.BidderResponsePayloadImpl;
+import org.prebid.server.identity.NoneIdGenerator;
+import org.prebid.server.identity.UUIDIdGenerator;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.log.CriteriaLogManager;
+import org.prebid.server.log.HttpInteractionLogger;
+import org.prebid.server.metric.AccountMetricsVerbosityResolver;
+import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.ReservoirType;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+import org.prebid.server.model.CaseInsensitiveMultiMap;
+import org.prebid.server.model.Endpoint;
+import org.prebid.server.model.HttpRequestContext;
+import org.prebid.server.model.UpdateResult;
+import org.prebid.server.proto.openrtb.ext.response.BidType;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.VideoStoredDataResult;
+import org.prebid.server.spring.config.bidder.model.CompressionType;
+import org.prebid.server.spring.config.bidder.model.MediaType;
+import org.prebid.server.util.BidderUtil;
+import org.prebid.server.validation.ResponseBidValidator;
+import org.prebid.server.validation.model.ValidationResult;
+import org.prebid.server.vast.VastModifier;
+import org.prebid.server.version.PrebidVersionProvider;
+
+import java.math.BigDecimal;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Wires auction components for benchmarks.
+ * <p>
+ * Components on the measured path (bidders, {@link HttpBidderRequester}, {@link BidResponseCreator},
+ * {@link CacheService}, targeting, metrics) are real, network is replaced with {@link StubHttpClient}.
+ * Collaborators which only pass data through in the benchmark scenario (privacy, hooks, stored data)
+ * are replaced with stub-only mocks which do not record invocations.
+ */
+public class AuctionBenchmarkFixture {
+
+    public static final String ACCOUNT_ID = "benchmark-account";
+    public static final List<String> BIDDERS = IntStream.rangeClosed(1, 8).mapToObj(i -> "bidder" + i).toList();
+
+    private final JacksonMapper mapper = new JacksonMapper(ObjectMapperProvider.mapper());
+    private final Clock clock = Clock.systemUTC();
+    private final TimeoutFactory timeoutFactory = new TimeoutFactory(clock);
+    private final Metrics metrics = new Metrics(
+            new MetricRegistry(),
+            CounterType.counter,
+            ReservoirType.exponentiallyDecaying,
+            new AccountMetricsVerbosityResolver(
+                    AccountMetricsVerbosityLevel.detailed, Collections.emptyList(), Collections.emptyList()));
+
+    private final StubHttpClient httpClient = new StubHttpClient(mapper);
+    private final BidderCatalog bidderCatalog = createBidderCatalog();
+    private final HookStageExecutor hookStageExecutor = createHookStageExecutor();
+    private final BidResponseCreator bidResponseCreator = createBidResponseCreator();
+
+    private final BidRequest bidRequest = mapper.decodeValue(
+            BenchmarkResources.readString(BenchmarkResources.BID_REQUEST), BidRequest.class);
+
+    public JacksonMapper getMapper() {
+        return mapper;
+    }
+
+    public BidRequest getBidRequest() {
+        return bidRequest;
+    }
+
+    public BidResponseCreator getBidResponseCreator() {
+        return bidResponseCreator;
+    }
+
+    private BidderCatalog createBidderCatalog() {
+        final List<BidderDeps> bidderDeps = new ArrayList<>();
+        for (int i = 0; i < BIDDERS.size(); i++) {
+            final String bidder = BIDDERS.get(i);
+            httpClient.withBidder(bidder, bidPrice(i));
+
+            bidderDeps.add(BidderDeps.of(Collections.singletonList(BidderInstanceDeps.builder()
+                    .name(bidder)
+                    .deprecatedNames(Collections.emptyList())
+                    .bidderInfo(BidderInfo.create(
+                            true,
+                            OrtbVersion.ORTB_2_5,
+                            false,
+                            StubHttpClient.bidderEndpoint(bidder),
+                            null,
+                            "benchmark@prebid.org",
+                            List.of(MediaType.BANNER, MediaType.VIDEO),
+                            List.of(MediaType.BANNER, MediaType.VIDEO),
+                            null,
+                            0,
+                            true,
+                            false,
+                            CompressionType.NONE))
+                    .usersyncer(Usersyncer.of(bidder, null, null))
+                    .bidder(new GenericBidder(StubHttpClient.bidderEndpoint(bidder), mapper))
+                    .build())));
+        }
+        return new BidderCatalog(bidderDeps);
+    }
+
+    private static HookStageExecutor createHookStageExecutor() {
+        final HookStageExecutor executor = stub(HookStageExecutor.class);
+        given(executor.executeBidderRequestStage(any(), any()))
+                .willAnswer(invocation -> Future.succeededFuture(HookStageExecutionResult.of(
+                        false,
+                        BidderRequestPayloadImpl.of(invocation.<BidderRequest>getArgument(0).getBidRequest()))));
+        given(executor.executeRawBidderResponseStage(any(), any()))
+                .willAnswer(invocation -> Future.succeededFuture(HookStageExecutionResult.of(
+                        false,
+                        BidderResponsePayloadImpl.of(invocation.<BidderResponse>getArgument(0).getSeatBid()
+                                .getBids()))));
+        given(executor.executeProcessedBidderResponseStage(any(), any()))
+                .willAnswer(invocation -> Future.succeededFuture(HookStageExecutionResult.of(
+                        false,
+                        BidderResponsePayloadImpl.of(invocation.<BidderResponse>getArgument(0).getSeatBid()
+                                .getBids()))));
+        given(executor.executeAllProcessedBidResponsesStage(any(), any()))
+                .willAnswer(invocation -> Future.succeededFuture(HookStageExecutionResult.of(
+                        false,
+                        AllProcessedBidResponsesPayloadImpl.of(invocation.getArgument(0)))));
+        given(executor.executeAuctionResponseStage(any(), any()))
+                .willAnswer(invocation -> Future.succeededFuture(HookStageExecutionResult.of(
+                        false,
+                        AuctionResponsePayloadImpl.of(invocation.getArgument(0)))));
+        return executor;
+    }
+
+    private BidResponseCreator createBidResponseCreator() {
+        final EventsService eventsService = new EventsService("http://pbs.stub");
+        final VastModifier vastModifier = new VastModifier(bidderCatalog, eventsService, metrics);
+
+        final StoredRequestProcessor storedRequestProcessor = stub(StoredRequestProcessor.class);
+        given(storedRequestProcessor.videoStoredDataResult(any(), anyList(), anyList(), any()))
+                .willReturn(Future.succeededFuture(VideoStoredDataResult.empty()));
+
+        return new BidResponseCreator(
+                createCacheService(vastModifier, eventsService),
+                bidderCatalog,
+                vastModifier,
+                eventsService,
+                storedRequestProcessor,
+                new WinningBidComparatorFactory(),
+                new NoneIdGenerator(),
+                hookStageExecutor,
+                new NoOpCategoryMappingService(),
+                0,
+                clock,
+                mapper);
+    }
+
+    private CacheService createCacheService(VastModifier vastModifier, EventsService eventsService) {
+        try {
+            return new CacheService(
+                    CacheTtl.empty(),
+                    httpClient,
+                    new URL(StubHttpClient.CACHE_URL),
+                    StubHttpClient.CACHE_URL + "?uuid=",
+                    100L,
+                    vastModifier,
+                    eventsService,
+                    metrics,
+                    clock,
+                    new UUIDIdGenerator(),
+                    mapper);
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Creates {@link ExchangeService} with real bidders behind {@link StubHttpClient}.
+     */
+    public ExchangeService createExchangeService() {
+        final StoredResponseProcessor storedResponseProcessor = stub(StoredResponseProcessor.class);
+        given(storedResponseProcessor.getStoredResponseResult(any(), any()))
+                .willAnswer(inv -> Future.succeededFuture(StoredResponseResult.of(
+                        inv.getArgument(0), Collections.emptyList(), Collections.emptyMap())));
+        given(storedResponseProcessor.mergeWithBidderResponses(any(), any(), any()))
+                .willAnswer(inv -> inv.getArgument(0));
+        given(storedResponseProcessor.updateStoredBidResponse(any()))
+                .willAnswer(inv -> inv.getArgument(0));
+
+        final PrivacyEnforcementService privacyEnforcementService = stub(PrivacyEnforcementService.class);
+        given(privacyEnforcementService.mask(any(), any(), any(), any()))
+                .willAnswer(inv -> Future.succeededFuture(inv.<Map<String, User>>getArgument(1).entrySet().stream()
+                        .map(bidderAndUser -> BidderPrivacyResult.builder()
+                                .requestBidder(bidderAndUser.getKey())
+                                .user(bidderAndUser.getValue())
+                                .build())
+                        .toList()));
+
+        final FpdResolver fpdResolver = stub(FpdResolver.class);
+        given(fpdResolver.resolveUser(any(), any())).willAnswer(inv -> inv.getArgument(0));
+        given(fpdResolver.resolveSite(any(), any())).willAnswer(inv -> inv.getArgument(0));
+        given(fpdResolver.resolveApp(any(), any())).willAnswer(inv -> inv.getArgument(0));
+        given(fpdResolver.resolveImpExt(any(), anyBoolean())).willAnswer(inv -> inv.getArgument(0));
+
+        final UidUpdater uidUpdater = stub(UidUpdater.class);
+        given(uidUpdater.updateUid(any(), any(), any())).willReturn(UpdateResult.unaltered(null));
+
+        final BidRequestOrtbVersionConversionManager ortbVersionConversionManager =
+                stub(BidRequestOrtbVersionConversionManager.class);
+        given(ortbVersionConversionManager.convertFromAuctionSupportedVersion(any(), any()))
+                .willAnswer(inv -> inv.getArgument(0));
+
+        final ResponseBidValidator responseBidValidator = stub(ResponseBidValidator.class);
+        given(responseBidValidator.validate(any(), any(), any(), any())).willReturn(ValidationResult.success());
+
+        final CurrencyConversionService currencyService = stub(CurrencyConversionService.class);
+        given(currencyService.convertCurrency(any(), any(), anyString(), anyString()))
+                .willAnswer(inv -> inv.getArgument(0));
+
+        final HttpBidderRequester httpBidderRequester = new HttpBidderRequester(
+                httpClient,
+                null,
+                new BidderErrorNotifier(200, false, false, 0, httpClient, metrics),
+                new HttpBidderRequestEnricher(new PrebidVersionProvider("benchmark"), bidderCatalog),
+                mapper,
+                null);
+
+        return new ExchangeService(
+                0,
+                90,
+                bidderCatalog,
+                storedResponseProcessor,
+                null,
+                privacyEnforcementService,
+                fpdResolver,
+                stub(SupplyChainResolver.class),
+                new DebugResolver(bidderCatalog, null),
+                new NoOpMediaTypeProcessor(),
+                uidUpdater,
+                new TimeoutResolver(50L, 5000L, 30L),
+                timeoutFactory,
+                ortbVersionConversionManager,
+                httpBidderRequester,
+                responseBidValidator,
+                currencyService,
+                bidResponseCreator,
+                BidResponsePostProcessor.noOp(),
+                hookStageExecutor,
+                stub(ApplicationEventService.class),
+                stub(HttpInteractionLogger.class),
+                PriceFloorAdjuster.noOp(),
+                PriceFloorEnforcer.noOp(),
+                new BidAdjustmentFactorResolver(),
+                metrics,
+                clock,
+                mapper,
+                new CriteriaLogManager(mapper),
+                null,
+                new NoOpBidderThrottler());
+    }
+
+    /**
+     * Creates context as it comes to {@link ExchangeService#holdAuction(AuctionContext)}
+     * from {@link org.prebid.server.auction.requestfactory.AuctionRequestFactory}.
+     */
+    public AuctionContext auctionContext() {
+        final ActivityInfrastructure activityInfrastructure = stub(ActivityInfrastructure.class);
+        given(activityInfrastructure.isAllowed(any(), any())).willReturn(true);
+
+        return AuctionContext.builder()
+                .httpRequest(HttpRequestContext.builder().headers(CaseInsensitiveMultiMap.empty()).build())
+                .uidsCookie(stub(UidsCookie.class))
+                .bidRequest(bidRequest)
+                .account(Account.empty(ACCOUNT_ID))
+                .requestTypeMetric(MetricName.openrtb2web)
+                .startTime(clock.millis())
+                .timeout(timeoutFactory.create(bidRequest.getTmax()))
+                .prebidErrors(new ArrayList<>())
+                .debugWarnings(new ArrayList<>())
+                .debugHttpCalls(new HashMap<>())
+                .bidRejectionTrackers(new HashMap<>())
+                .hookExecutionContext(HookExecutionContext.of(Endpoint.openrtb2_auction))
+                .debugContext(DebugContext.empty())
+                .txnLog(TxnLog.create())
+                .deepDebugLog(DeepDebugLog.create(false, clock))
+                .activityInfrastructure(activityInfrastructure)
+                .build();
+    }
+
+    /**
+     * Creates context as it comes to {@link BidResponseCreator}: every bidder has bid on every imp.
+     */
+    public AuctionContext auctionContextWithBids() {
+        final AuctionContext auctionContext = auctionContext();
+        final Set<String> impIds = BidderUtil.impIds(bidRequest);
+
+        final List<AuctionParticipation> auctionParticipations = new ArrayList<>();
+        for (int i = 0; i < BIDDERS.size(); i++) {
+            final String bidder = BIDDERS.get(i);
+            final BigDecimal price = bidPrice(i);
+
+            final List<BidderBid> bids = bidRequest.getImp().stream()
+                    .map(imp -> BidderBid.of(
+                            Bid.builder()
+                                    .id("%s-%s".formatted(bidder, imp.getId()))
+                                    .impid(imp.getId())
+                                    .price(price)
+                                    .adm("<div>creative</div>")
+                                    .crid("creative-" + bidder)
+                                    .w(300)
+                                    .h(250)
+                                    .build(),
+                            imp.getVideo() != null ? BidType.video : BidType.banner,
+                            "USD"))
+                    .toList();
+
+            auctionContext.getBidRejectionTrackers().put(bidder, new BidRejectionTracker(bidder, impIds, 0));
+            auctionParticipations.add(AuctionParticipation.builder()
+                    .bidder(bidder)
+                    .bidderResponse(BidderResponse.of(bidder, BidderSeatBid.of(bids), 10))
+                    .build());
+        }
+
+        return auctionContext.with(auctionParticipations);
+    }
+
+    /**
+     * Bidders bid different prices to make winning bid selection and price granularity do real work.
+     */
+    private static BigDecimal bidPrice(int bidderIndex) {
+        return BigDecimal.ONE.add(BigDecimal.valueOf(bidderIndex + 1, 1));
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+}
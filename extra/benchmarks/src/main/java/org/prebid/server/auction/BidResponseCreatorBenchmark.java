@@ -0,0 +1,61 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.response.BidResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.BidRequestCacheInfo;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures winning bids selection, targeting keywords, bids caching and response assembling.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BidResponseCreatorBenchmark {
+
+    private AuctionBenchmarkFixture fixture;
+    private BidResponseCreator bidResponseCreator;
+    private BidRequestCacheInfo cacheInfo;
+
+    @Setup
+    public void setUp() {
+        fixture = new AuctionBenchmarkFixture();
+        bidResponseCreator = fixture.getBidResponseCreator();
+        cacheInfo = BidRequestCacheInfo.builder()
+                .doCaching(true)
+                .shouldCacheBids(true)
+                .shouldCacheVideoBids(true)
+                .build();
+    }
+
+    @Benchmark
+    public BidResponse createWithoutCache() {
+        return create(BidRequestCacheInfo.noCache());
+    }
+
+    @Benchmark
+    public BidResponse createWithCache() {
+        return create(cacheInfo);
+    }
+
+    private BidResponse create(BidRequestCacheInfo bidRequestCacheInfo) {
+        // context is mutable (rejection trackers, debug warnings), so it is created for each invocation
+        final AuctionContext auctionContext = fixture.auctionContextWithBids();
+        return bidResponseCreator.create(auctionContext, bidRequestCacheInfo, Collections.emptyMap()).result();
+    }
+}
@@ -0,0 +1,43 @@
+package org.prebid.server.auction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.auction.model.AuctionContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures whole auction: bidder requests preparation, bidders calls, response validation, targeting,
+ * caching and response creation for 8 bidders and 3 imps.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExchangeServiceBenchmark {
+
+    private AuctionBenchmarkFixture fixture;
+    private ExchangeService exchangeService;
+
+    @Setup
+    public void setUp() {
+        fixture = new AuctionBenchmarkFixture();
+        exchangeService = fixture.createExchangeService();
+    }
+
+    @Benchmark
+    public AuctionContext holdAuction() {
+        // all collaborators answer synchronously, so future is already completed here
+        return exchangeService.holdAuction(fixture.auctionContext()).result();
+    }
+}
@@ -0,0 +1,77 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.response.Bid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.proto.openrtb.ext.request.ExtGranularityRange;
+import org.prebid.server.proto.openrtb.ext.request.ExtPriceGranularity;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures targeting keywords creation for single bid.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TargetingKeywordsCreatorBenchmark {
+
+    private TargetingKeywordsCreator targetingKeywordsCreator;
+    private Bid bid;
+    private Bid dealBid;
+
+    @Setup
+    public void setUp() {
+        targetingKeywordsCreator = TargetingKeywordsCreator.create(
+                ExtPriceGranularity.of(2, List.of(
+                        ExtGranularityRange.of(BigDecimal.valueOf(5), BigDecimal.valueOf(0.01)),
+                        ExtGranularityRange.of(BigDecimal.valueOf(20), BigDecimal.valueOf(0.1)))),
+                true,
+                true,
+                true,
+                true,
+                false,
+                0,
+                "cache.stub",
+                "/cache",
+                null);
+
+        bid = Bid.builder()
+                .id("bid-id")
+                .impid("imp-1")
+                .price(BigDecimal.valueOf(3.456))
+                .w(300)
+                .h(250)
+                .build();
+        dealBid = bid.toBuilder().dealid("deal-id").build();
+    }
+
+    @Benchmark
+    public Map<String, String> makeForWinningBid() {
+        return targetingKeywordsCreator.makeFor(bid, "bidder1", true, "cache-id", "banner", null, null);
+    }
+
+    @Benchmark
+    public Map<String, String> makeForNonWinningBid() {
+        return targetingKeywordsCreator.makeFor(bid, "bidder2", false, "cache-id", "banner", null, null);
+    }
+
+    @Benchmark
+    public Map<String, String> makeForDealBid() {
+        return targetingKeywordsCreator.makeFor(dealBid, "bidder3", true, "cache-id", "video", "vast-id", null);
+    }
+}
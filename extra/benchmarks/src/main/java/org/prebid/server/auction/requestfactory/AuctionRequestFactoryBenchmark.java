@@ -0,0 +1,224 @@
+package org.prebid.server.auction.requestfactory;
+
+import com.iab.openrtb.request.BidRequest;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.auction.DebugResolver;
+import org.prebid.server.auction.ImplicitParametersExtractor;
+import org.prebid.server.auction.InterstitialProcessor;
+import org.prebid.server.auction.OrtbTypesResolver;
+import org.prebid.server.auction.PrivacyEnforcementService;
+import org.prebid.server.auction.StoredRequestProcessor;
+import org.prebid.server.auction.gpp.AuctionGppService;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStoredResult;
+import org.prebid.server.auction.model.debug.DebugContext;
+import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
+import org.prebid.server.benchmark.BenchmarkResources;
+import org.prebid.server.deals.model.TxnLog;
+import org.prebid.server.hooks.execution.model.HookExecutionContext;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.JsonMerger;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.model.CaseInsensitiveMultiMap;
+import org.prebid.server.model.Endpoint;
+import org.prebid.server.model.HttpRequestContext;
+import org.prebid.server.privacy.model.PrivacyContext;
+import org.prebid.server.settings.model.Account;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Measures incoming auction request processing: body reading, parsing with OpenRTB types normalization
+ * and building of {@link AuctionContext}.
+ * <p>
+ * Account fetching, stored requests, hooks and privacy are stubbed, so the suite reflects
+ * parsing cost of {@link AuctionRequestFactory} itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuctionRequestFactoryBenchmark {
+
+    private static final String ACCOUNT_ID = "benchmark-account";
+
+    /**
+     * Switches between single-pass parsing and JSON tree normalization fallback.
+     */
+    @Param({"true", "false"})
+    public boolean streamingParsing;
+
+    private AuctionRequestFactory auctionRequestFactory;
+    private RoutingContext routingContext;
+
+    @Setup
+    public void setUp() {
+        final JacksonMapper mapper = new JacksonMapper(ObjectMapperProvider.mapper());
+        final byte[] body = BenchmarkResources.readBytes(BenchmarkResources.BID_REQUEST);
+
+        routingContext = givenRoutingContext(body);
+
+        auctionRequestFactory = new AuctionRequestFactory(
+                Integer.MAX_VALUE,
+                streamingParsing,
+                givenOrtb2RequestFactory(),
+                givenStoredRequestProcessor(),
+                givenOrtbVersionConversionManager(),
+                givenGppService(),
+                stub(ImplicitParametersExtractor.class),
+                givenParamsResolver(),
+                givenInterstitialProcessor(),
+                new OrtbTypesResolver(0, mapper, new JsonMerger(mapper)),
+                givenPrivacyEnforcementService(),
+                givenDebugResolver(),
+                mapper);
+    }
+
+    @Benchmark
+    public AuctionContext fromRequest() {
+        return auctionRequestFactory.fromRequest(routingContext, 0L).result();
+    }
+
+    private static RoutingContext givenRoutingContext(byte[] body) {
+        final HttpServerRequest httpRequest = stub(HttpServerRequest.class);
+        given(httpRequest.headers()).willReturn(MultiMap.caseInsensitiveMultiMap());
+
+        final RoutingContext routingContext = stub(RoutingContext.class);
+        given(routingContext.request()).willReturn(httpRequest);
+        given(routingContext.queryParams()).willReturn(MultiMap.caseInsensitiveMultiMap());
+        // body is decoded on each call, as Vert.x does for real request
+        given(routingContext.getBody()).willAnswer(invocation -> Buffer.buffer(body));
+        given(routingContext.getBodyAsString()).willAnswer(invocation -> Buffer.buffer(body).toString());
+        return routingContext;
+    }
+
+    private static Ortb2RequestFactory givenOrtb2RequestFactory() {
+        final Ortb2RequestFactory ortb2RequestFactory = stub(Ortb2RequestFactory.class);
+
+        given(ortb2RequestFactory.createAuctionContext(any(), any()))
+                .willAnswer(invocation -> AuctionContext.builder()
+                        .hookExecutionContext(HookExecutionContext.of(Endpoint.openrtb2_auction))
+                        .debugContext(DebugContext.empty())
+                        .requestRejected(false)
+                        .txnLog(TxnLog.create())
+                        .prebidErrors(new ArrayList<>())
+                        .debugWarnings(new ArrayList<>())
+                        .debugHttpCalls(new HashMap<>())
+                        .bidRejectionTrackers(new HashMap<>())
+                        .build());
+        given(ortb2RequestFactory.executeEntrypointHooks(any(), any(), any()))
+                .willAnswer(invocation -> Future.succeededFuture(HttpRequestContext.builder()
+                        .headers(CaseInsensitiveMultiMap.empty())
+                        .queryParams(CaseInsensitiveMultiMap.empty())
+                        .body(invocation.getArgument(1))
+                        .build()));
+        given(ortb2RequestFactory.enrichAuctionContext(any(), any(), any(), anyLong()))
+                .willAnswer(invocation -> invocation.<AuctionContext>getArgument(0).toBuilder()
+                        .httpRequest(invocation.getArgument(1))
+                        .bidRequest(invocation.getArgument(2))
+                        .build());
+        given(ortb2RequestFactory.fetchAccount(any()))
+                .willReturn(Future.succeededFuture(Account.empty(ACCOUNT_ID)));
+        given(ortb2RequestFactory.activityInfrastructureFrom(any()))
+                .willReturn(Future.succeededFuture());
+        given(ortb2RequestFactory.executeRawAuctionRequestHooks(any()))
+                .willAnswer(invocation -> Future.succeededFuture(
+                        invocation.<AuctionContext>getArgument(0).getBidRequest()));
+        given(ortb2RequestFactory.validateRequest(any(), any()))
+                .willAnswer(invocation -> Future.succeededFuture(invocation.<BidRequest>getArgument(0)));
+        given(ortb2RequestFactory.enrichBidRequestWithAccountAndPrivacyData(any()))
+                .willAnswer(invocation -> invocation.<AuctionContext>getArgument(0).getBidRequest());
+        given(ortb2RequestFactory.executeProcessedAuctionRequestHooks(any()))
+                .willAnswer(invocation -> Future.succeededFuture(
+                        invocation.<AuctionContext>getArgument(0).getBidRequest()));
+        given(ortb2RequestFactory.populateUserAdditionalInfo(any()))
+                .willAnswer(invocation -> Future.succeededFuture(invocation.getArgument(0)));
+        given(ortb2RequestFactory.enrichWithPriceFloors(any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        given(ortb2RequestFactory.updateTimeout(any(), anyLong()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        given(ortb2RequestFactory.restoreResultFromRejection(any()))
+                .willAnswer(invocation -> Future.failedFuture(invocation.<Throwable>getArgument(0)));
+
+        return ortb2RequestFactory;
+    }
+
+    private static StoredRequestProcessor givenStoredRequestProcessor() {
+        final StoredRequestProcessor storedRequestProcessor = stub(StoredRequestProcessor.class);
+        given(storedRequestProcessor.processAuctionRequest(any(), any()))
+                .willAnswer(invocation -> Future.succeededFuture(
+                        AuctionStoredResult.of(false, invocation.getArgument(1))));
+        return storedRequestProcessor;
+    }
+
+    private static BidRequestOrtbVersionConversionManager givenOrtbVersionConversionManager() {
+        final BidRequestOrtbVersionConversionManager conversionManager =
+                stub(BidRequestOrtbVersionConversionManager.class);
+        given(conversionManager.convertToAuctionSupportedVersion(any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        return conversionManager;
+    }
+
+    private static AuctionGppService givenGppService() {
+        final AuctionGppService gppService = stub(AuctionGppService.class);
+        given(gppService.contextFrom(any())).willReturn(Future.succeededFuture());
+        given(gppService.updateBidRequest(any(), any())).willAnswer(invocation -> invocation.getArgument(0));
+        return gppService;
+    }
+
+    private static Ortb2ImplicitParametersResolver givenParamsResolver() {
+        final Ortb2ImplicitParametersResolver paramsResolver = stub(Ortb2ImplicitParametersResolver.class);
+        given(paramsResolver.resolve(any(), any(), any(), anyBoolean()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        return paramsResolver;
+    }
+
+    private static InterstitialProcessor givenInterstitialProcessor() {
+        final InterstitialProcessor interstitialProcessor = stub(InterstitialProcessor.class);
+        given(interstitialProcessor.process(any())).willAnswer(invocation -> invocation.getArgument(0));
+        return interstitialProcessor;
+    }
+
+    private static PrivacyEnforcementService givenPrivacyEnforcementService() {
+        final PrivacyEnforcementService privacyEnforcementService = stub(PrivacyEnforcementService.class);
+        given(privacyEnforcementService.contextFromBidRequest(any()))
+                .willReturn(Future.succeededFuture(PrivacyContext.of(null, null)));
+        return privacyEnforcementService;
+    }
+
+    private static DebugResolver givenDebugResolver() {
+        final DebugResolver debugResolver = stub(DebugResolver.class);
+        given(debugResolver.debugContextFrom(any())).willReturn(DebugContext.empty());
+        return debugResolver;
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+}
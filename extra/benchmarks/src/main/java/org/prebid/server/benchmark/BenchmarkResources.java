@@ -0,0 +1,31 @@
+package org.prebid.server.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Loads JSON payloads shared by benchmark suites from classpath.
+ */
+public final class BenchmarkResources {
+
+    public static final String BID_REQUEST = "bid-request.json";
+    public static final String STORED_REQUEST = "stored-request.json";
+
+    private BenchmarkResources() {
+    }
+
+    public static String readString(String name) {
+        return new String(readBytes(name), StandardCharsets.UTF_8);
+    }
+
+    public static byte[] readBytes(String name) {
+        try (InputStream inputStream = BenchmarkResources.class.getResourceAsStream(name)) {
+            return Objects.requireNonNull(inputStream, "Benchmark resource not found: " + name).readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
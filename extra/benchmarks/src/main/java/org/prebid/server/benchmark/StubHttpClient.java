@@ -0,0 +1,123 @@
+package org.prebid.server.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpMethod;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.vertx.http.HttpClient;
+import org.prebid.server.vertx.http.model.HttpClientResponse;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * In-process {@link HttpClient} replacing bidders and Prebid Cache, so benchmarks can run offline
+ * and measure only PBS-Core CPU and allocations.
+ * <p>
+ * Every bidder endpoint answers with pre-encoded response bidding on all benchmark imps,
+ * cache endpoint answers with generated UUID for every received put.
+ */
+public class StubHttpClient implements HttpClient {
+
+    public static final String CACHE_URL = "http://cache.stub/cache";
+
+    private static final List<String> BANNER_IMP_IDS = List.of("imp-1", "imp-2");
+    private static final String VIDEO_IMP_ID = "imp-3";
+    private static final String VAST = "<VAST version=\"3.0\"><Ad><Wrapper><VASTAdTagURI>"
+            + "<![CDATA[https://vast.example.com/tag]]></VASTAdTagURI></Wrapper></Ad></VAST>";
+
+    private final JacksonMapper mapper;
+    private final Map<String, HttpClientResponse> bidderResponses = new HashMap<>();
+
+    public StubHttpClient(JacksonMapper mapper) {
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    public static String bidderEndpoint(String bidder) {
+        return "http://%s.stub/openrtb2/auction".formatted(bidder);
+    }
+
+    /**
+     * Registers canned response for the given bidder.
+     */
+    public StubHttpClient withBidder(String bidder, BigDecimal price) {
+        bidderResponses.put(
+                bidderEndpoint(bidder),
+                HttpClientResponse.of(200, MultiMap.caseInsensitiveMultiMap(), bidResponse(bidder, price)));
+        return this;
+    }
+
+    private String bidResponse(String bidder, BigDecimal price) {
+        final ObjectNode response = mapper.mapper().createObjectNode()
+                .put("id", "response-" + bidder)
+                .put("cur", "USD");
+
+        final ArrayNode bids = response.putArray("seatbid").addObject().put("seat", bidder).putArray("bid");
+        for (String impId : BANNER_IMP_IDS) {
+            bids.addObject()
+                    .put("id", "%s-%s".formatted(bidder, impId))
+                    .put("impid", impId)
+                    .put("price", price)
+                    .put("adm", "<div id=\"%s\"><img src=\"https://creative.example.com/%s.png\"/></div>"
+                            .formatted(bidder, impId))
+                    .put("crid", "creative-" + bidder)
+                    .put("w", 300)
+                    .put("h", 250)
+                    .putArray("adomain").add("advertiser.example.com");
+        }
+        bids.addObject()
+                .put("id", "%s-%s".formatted(bidder, VIDEO_IMP_ID))
+                .put("impid", VIDEO_IMP_ID)
+                .put("price", price)
+                .put("adm", VAST)
+                .put("crid", "video-creative-" + bidder)
+                .put("w", 640)
+                .put("h", 480);
+
+        return mapper.encodeToString(response);
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
+                                              String body, long timeoutMs, long maxResponseSize) {
+
+        if (CACHE_URL.equals(url)) {
+            return Future.succeededFuture(cacheResponse(body));
+        }
+
+        final HttpClientResponse response = bidderResponses.get(url);
+        return response != null
+                ? Future.succeededFuture(response)
+                : Future.succeededFuture(HttpClientResponse.of(204, MultiMap.caseInsensitiveMultiMap(), null));
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
+                                              byte[] body, long timeoutMs, long maxResponseSize) {
+
+        // bidder request bodies are not inspected, so do not spend time on decoding them
+        final String bodyAsString = CACHE_URL.equals(url) && body != null
+                ? new String(body, StandardCharsets.UTF_8)
+                : null;
+        return request(method, url, headers, bodyAsString, timeoutMs, maxResponseSize);
+    }
+
+    private HttpClientResponse cacheResponse(String body) {
+        final JsonNode puts = mapper.decodeValue(body, JsonNode.class).path("puts");
+
+        final ObjectNode response = mapper.mapper().createObjectNode();
+        final ArrayNode responses = response.putArray("responses");
+        for (int i = 0; i < puts.size(); i++) {
+            responses.addObject().put("uuid", "cache-uuid-" + i);
+        }
+
+        return HttpClientResponse.of(200, MultiMap.caseInsensitiveMultiMap(), mapper.encodeToString(response));
+    }
+}
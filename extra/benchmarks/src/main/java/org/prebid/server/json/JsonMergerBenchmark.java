@@ -0,0 +1,63 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.iab.openrtb.request.BidRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.benchmark.BenchmarkResources;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures merging of incoming request with stored request, as done on every auction with stored data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonMergerBenchmark {
+
+    private JsonMerger jsonMerger;
+    private BidRequest bidRequest;
+    private String storedRequest;
+    private JsonNode bidRequestNode;
+    private JsonNode storedRequestNode;
+
+    @Setup
+    public void setUp() {
+        final JacksonMapper mapper = new JacksonMapper(ObjectMapperProvider.mapper());
+        jsonMerger = new JsonMerger(mapper);
+
+        final String bidRequestJson = BenchmarkResources.readString(BenchmarkResources.BID_REQUEST);
+        storedRequest = BenchmarkResources.readString(BenchmarkResources.STORED_REQUEST);
+
+        bidRequest = mapper.decodeValue(bidRequestJson, BidRequest.class);
+        bidRequestNode = mapper.decodeValue(bidRequestJson, JsonNode.class);
+        storedRequestNode = mapper.decodeValue(storedRequest, JsonNode.class);
+    }
+
+    @Benchmark
+    public BidRequest mergeWithStoredData() {
+        return jsonMerger.merge(bidRequest, storedRequest, "stored-request", BidRequest.class);
+    }
+
+    @Benchmark
+    public BidRequest mergeObjects() {
+        return jsonMerger.merge(bidRequest, bidRequest, BidRequest.class);
+    }
+
+    @Benchmark
+    public JsonNode mergeNodes() {
+        return jsonMerger.merge(bidRequestNode, storedRequestNode);
+    }
+}
@@ -0,0 +1,428 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.exception.InvalidAccountConfigurationException;
+import org.prebid.server.util.StreamUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Compiled form of the module account configuration.
+ * <p>
+ * Pieces of configuration are converted from JSON at the moment they are needed for the first time and memoized
+ * together with the validation error, if any. So invalid configuration is reported exactly when and how reading raw
+ * configuration would report it, while subsequent reads of the same account configuration perform hash lookups only.
+ * <p>
+ * Instances are immutable from the outside and safe to share between requests and threads.
+ */
+public class AccountBlockingPolicy {
+
+    private static final String ATTRIBUTES_FIELD = "attributes";
+    private static final String ACTION_OVERRIDES_FIELD = "action-overrides";
+    private static final String OVERRIDE_FIELD = "override";
+    private static final String CONDITIONS_FIELD = "conditions";
+    private static final String BIDDERS_FIELD = "bidders";
+    private static final String MEDIA_TYPE_FIELD = "media-type";
+    private static final String DEALIDS_FIELD = "deal-ids";
+
+    private static final AccountBlockingPolicy EMPTY = new AccountBlockingPolicy(null);
+
+    private final Outcome<JsonNode> attributes;
+    private final Map<String, Outcome<AttributePolicy>> attributePolicies;
+
+    private AccountBlockingPolicy(ObjectNode config) {
+        attributes = Outcome.of(() -> config != null ? objectNodeFrom(config, ATTRIBUTES_FIELD) : null);
+        attributePolicies = new ConcurrentHashMap<>();
+    }
+
+    public static AccountBlockingPolicy of(ObjectNode config) {
+        return config != null ? new AccountBlockingPolicy(config) : EMPTY;
+    }
+
+    public boolean hasAttributes() {
+        return attributes.get() != null;
+    }
+
+    /**
+     * Returns policy of the given attribute (e.g. {@code badv}) or null if account has no configuration for it.
+     */
+    public AttributePolicy attribute(String attribute) {
+        final JsonNode attributesNode = attributes.get();
+        if (attributesNode == null) {
+            return null;
+        }
+
+        return memoized(attributePolicies, attribute, () -> {
+            final JsonNode attributeConfig = objectNodeFrom(attributesNode, attribute);
+            return attributeConfig != null ? new AttributePolicy(attributeConfig) : null;
+        });
+    }
+
+    public static class AttributePolicy {
+
+        private final JsonNode config;
+
+        private final Map<String, Outcome<List<?>>> values;
+        private final Map<String, Outcome<Set<?>>> valueSets;
+        private final Map<String, Outcome<Object>> scalarValues;
+        private final Map<String, Outcome<ActionOverrides>> actionOverrides;
+        private final Map<String, Outcome<ActionOverrides>> dealOverrides;
+
+        private AttributePolicy(JsonNode config) {
+            this.config = config;
+
+            values = new ConcurrentHashMap<>();
+            valueSets = new ConcurrentHashMap<>();
+            scalarValues = new ConcurrentHashMap<>();
+            actionOverrides = new ConcurrentHashMap<>();
+            dealOverrides = new ConcurrentHashMap<>();
+        }
+
+        /**
+         * Returns values of array field, or null if field is absent. Each field is expected to be always read
+         * with the same type.
+         */
+        @SuppressWarnings("unchecked")
+        public <T> List<T> values(String field, Class<T> type) {
+            return (List<T>) memoized(values, field, () -> typedArrayFrom(config, type, field));
+        }
+
+        /**
+         * Same as {@link #values(String, Class)}, but as a set for fast lookups.
+         */
+        @SuppressWarnings("unchecked")
+        public <T> Set<T> valueSet(String field, Class<T> type) {
+            return (Set<T>) memoized(valueSets, field, () -> {
+                final List<T> fieldValues = values(field, type);
+                return fieldValues != null ? Collections.unmodifiableSet(new HashSet<>(fieldValues)) : null;
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        public <T> T value(String field, Class<T> type) {
+            return (T) memoized(scalarValues, field, () -> typedFieldFrom(config, type, field));
+        }
+
+        /**
+         * Returns overrides of the given field conditioned by bidders and media types, or null if there are none.
+         */
+        public ActionOverrides actionOverrides(String field) {
+            return memoized(actionOverrides, field, () -> compileOverrides(field, false));
+        }
+
+        /**
+         * Returns overrides of the given field conditioned by deal ids, or null if there are none.
+         */
+        public ActionOverrides dealOverrides(String field) {
+            return memoized(dealOverrides, field, () -> compileOverrides(field, true));
+        }
+
+        private ActionOverrides compileOverrides(String field, boolean byDeals) {
+            final JsonNode actionOverridesNode = objectNodeFrom(config, ACTION_OVERRIDES_FIELD);
+            final JsonNode overridesForField = actionOverridesNode != null
+                    ? objectArrayFrom(actionOverridesNode, field)
+                    : null;
+            if (overridesForField == null) {
+                return null;
+            }
+
+            final List<ActionOverride> overrides = new ArrayList<>();
+            for (final JsonNode override : overridesForField) {
+                overrides.add(byDeals ? dealOverride(override) : actionOverride(override));
+            }
+
+            return new ActionOverrides(overrides);
+        }
+
+        private static ActionOverride actionOverride(JsonNode override) {
+            try {
+                final JsonNode conditions = requireNonNull(
+                        objectNodeFrom(override, CONDITIONS_FIELD), CONDITIONS_FIELD);
+                final List<String> bidders = typedArrayFrom(conditions, String.class, BIDDERS_FIELD);
+                final List<String> mediaTypes = typedArrayFrom(conditions, String.class, MEDIA_TYPE_FIELD);
+
+                if (bidders == null && mediaTypes == null) {
+                    throw new InvalidAccountConfigurationException(
+                            "%s field in account configuration must contain at least one of %s or %s".formatted(
+                                    CONDITIONS_FIELD,
+                                    BIDDERS_FIELD,
+                                    MEDIA_TYPE_FIELD));
+                }
+
+                return ActionOverride.of(setOf(bidders), setOf(mediaTypes), null, override.get(OVERRIDE_FIELD));
+            } catch (InvalidAccountConfigurationException e) {
+                return ActionOverride.invalid(e);
+            }
+        }
+
+        private static ActionOverride dealOverride(JsonNode override) {
+            try {
+                final JsonNode conditions = requireNonNull(
+                        objectNodeFrom(override, CONDITIONS_FIELD), CONDITIONS_FIELD);
+                final List<String> dealIds = typedArrayFrom(conditions, String.class, DEALIDS_FIELD);
+
+                if (dealIds == null) {
+                    throw new InvalidAccountConfigurationException(
+                            "%s field in account configuration must contain %s".formatted(
+                                    CONDITIONS_FIELD, DEALIDS_FIELD));
+                }
+
+                return ActionOverride.of(null, null, setOf(dealIds), override.get(OVERRIDE_FIELD));
+            } catch (InvalidAccountConfigurationException e) {
+                return ActionOverride.invalid(e);
+            }
+        }
+
+        private static Set<String> setOf(List<String> values) {
+            return values != null ? new HashSet<>(values) : null;
+        }
+    }
+
+    /**
+     * Overrides of a single field in configuration order.
+     */
+    public static class ActionOverrides {
+
+        private final List<ActionOverride> overrides;
+        private final Map<String, List<ActionOverride>> bidderOverrides;
+
+        private ActionOverrides(List<ActionOverride> overrides) {
+            this.overrides = Collections.unmodifiableList(overrides);
+
+            bidderOverrides = new ConcurrentHashMap<>();
+        }
+
+        public List<ActionOverride> all() {
+            return overrides;
+        }
+
+        /**
+         * Returns overrides which could match the given bidder, keeping configuration order. Invalid overrides are
+         * always included, so they are reported regardless of bidder.
+         */
+        public List<ActionOverride> forBidder(String bidder) {
+            final List<ActionOverride> cached = bidderOverrides.get(bidder);
+            return cached != null
+                    ? cached
+                    : bidderOverrides.computeIfAbsent(bidder, key -> overrides.stream()
+                    .filter(override -> override.bidders == null || override.bidders.contains(key))
+                    .toList());
+        }
+    }
+
+    /**
+     * Single override with its conditions compiled into hash sets. Invalid override holds validation error which
+     * is thrown when override is checked.
+     */
+    public static class ActionOverride {
+
+        private final Set<String> bidders;
+        private final Set<String> mediaTypes;
+        private final Set<String> dealIds;
+        private final JsonNode override;
+        private final InvalidAccountConfigurationException error;
+
+        private volatile Outcome<Object> convertedOverride;
+
+        private ActionOverride(Set<String> bidders,
+                               Set<String> mediaTypes,
+                               Set<String> dealIds,
+                               JsonNode override,
+                               InvalidAccountConfigurationException error) {
+
+            this.bidders = bidders;
+            this.mediaTypes = mediaTypes;
+            this.dealIds = dealIds;
+            this.override = override;
+            this.error = error;
+        }
+
+        private static ActionOverride of(Set<String> bidders,
+                                         Set<String> mediaTypes,
+                                         Set<String> dealIds,
+                                         JsonNode override) {
+
+            return new ActionOverride(bidders, mediaTypes, dealIds, override, null);
+        }
+
+        private static ActionOverride invalid(InvalidAccountConfigurationException error) {
+            return new ActionOverride(null, null, null, null, error);
+        }
+
+        public void validate() {
+            if (error != null) {
+                throw error;
+            }
+        }
+
+        public boolean isCatchAllBidders() {
+            return bidders == null;
+        }
+
+        public boolean matches(String bidder, Set<String> actualMediaTypes) {
+            return (bidders == null || bidders.contains(bidder))
+                    && (mediaTypes == null || !Collections.disjoint(mediaTypes, actualMediaTypes));
+        }
+
+        public boolean matchesDeal(String dealid) {
+            return dealIds.contains(dealid);
+        }
+
+        public JsonNode override() {
+            return requireNonNull(override, OVERRIDE_FIELD);
+        }
+
+        /**
+         * Returns override converted by the given converter. Each override is expected to be always converted
+         * the same way, so conversion result is memoized.
+         */
+        @SuppressWarnings("unchecked")
+        public <R> R converted(Function<JsonNode, R> converter) {
+            Outcome<Object> converted = convertedOverride;
+            if (converted == null) {
+                converted = Outcome.of(() -> converter.apply(override()));
+                convertedOverride = converted;
+            }
+
+            return (R) converted.get();
+        }
+    }
+
+    private static <T> T memoized(Map<String, Outcome<T>> cache, String key, Supplier<T> supplier) {
+        final Outcome<T> cached = cache.get(key);
+        return (cached != null ? cached : cache.computeIfAbsent(key, ignored -> Outcome.of(supplier))).get();
+    }
+
+    static <T> List<T> typedArrayFrom(JsonNode parent, Class<T> type, String field) {
+        final JsonNode child = parent.get(field);
+        if (child == null) {
+            return null;
+        }
+
+        return asTypedArray(child, type, field);
+    }
+
+    static <T> List<T> asTypedArray(JsonNode node, Class<T> type, String field) {
+        if (node == null) {
+            return null;
+        }
+
+        if (!node.isArray()) {
+            throw new InvalidAccountConfigurationException(field + " field in account configuration is not an array");
+        }
+
+        return StreamUtil.asStream(node.elements())
+                .map(element -> typedAs(element, type, field))
+                .toList();
+    }
+
+    private static <T> T typedFieldFrom(JsonNode parent, Class<T> type, String field) {
+        final JsonNode child = parent.get(field);
+        if (child == null) {
+            return null;
+        }
+
+        return typedAs(child, type, field);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T typedAs(JsonNode node, Class<T> type, String field) {
+        final Function<JsonNode, Boolean> checker;
+        final Function<JsonNode, ?> converter;
+
+        if (type.isAssignableFrom(String.class)) {
+            checker = JsonNode::isTextual;
+            converter = JsonNode::textValue;
+        } else if (type.isAssignableFrom(Integer.class)) {
+            checker = JsonNode::isInt;
+            converter = JsonNode::intValue;
+        } else if (type.isAssignableFrom(Boolean.class)) {
+            checker = JsonNode::isBoolean;
+            converter = JsonNode::booleanValue;
+        } else {
+            throw new IllegalArgumentException("Unsupported type: " + type);
+        }
+
+        final Boolean hasDesiredType = checker.apply(node);
+        if (!hasDesiredType) {
+            throw new InvalidAccountConfigurationException(
+                    "%s field in account configuration has unexpected type. Expected %s".formatted(field, type));
+        }
+
+        return (T) converter.apply(node);
+    }
+
+    private static JsonNode objectNodeFrom(JsonNode parent, String field) {
+        final JsonNode child = parent.get(field);
+        if (child == null) {
+            return null;
+        }
+
+        if (!child.isObject()) {
+            throw new InvalidAccountConfigurationException(field + " field in account configuration is not an object");
+        }
+
+        return child;
+    }
+
+    private static JsonNode objectArrayFrom(JsonNode parent, String field) {
+        final JsonNode child = parent.get(field);
+        if (child == null) {
+            return null;
+        }
+
+        if (!child.isArray() || !StreamUtil.asStream(child.elements()).allMatch(JsonNode::isObject)) {
+            throw new InvalidAccountConfigurationException(
+                    field + " field in account configuration is not an array of objects");
+        }
+
+        return child;
+    }
+
+    private static <T> T requireNonNull(T object, String field) {
+        if (object == null) {
+            throw new InvalidAccountConfigurationException(
+                    field + " field in account configuration is missing");
+        }
+
+        return object;
+    }
+
+    /**
+     * Result of configuration piece conversion: either value or validation error to be thrown on access.
+     */
+    private static final class Outcome<T> {
+
+        private final T value;
+        private final InvalidAccountConfigurationException error;
+
+        private Outcome(T value, InvalidAccountConfigurationException error) {
+            this.value = value;
+            this.error = error;
+        }
+
+        static <T> Outcome<T> of(Supplier<T> supplier) {
+            try {
+                return new Outcome<>(supplier.get(), null);
+            } catch (InvalidAccountConfigurationException e) {
+                return new Outcome<>(null, e);
+            }
+        }
+
+        T get() {
+            if (error != null) {
+                throw error;
+            }
+            return value;
+        }
+    }
+}
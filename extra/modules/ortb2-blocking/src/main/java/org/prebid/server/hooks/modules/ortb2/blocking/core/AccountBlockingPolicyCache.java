@@ -0,0 +1,33 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Map;
+
+/**
+ * Keeps {@link AccountBlockingPolicy} compiled from account configuration, so it is shared by all bidders and
+ * requests of the account.
+ * <p>
+ * Policies are looked up by configuration value rather than by instance, since account configuration could be
+ * re-created for each request (e.g. when merged with default account configuration).
+ */
+public class AccountBlockingPolicyCache {
+
+    private static final int MAXIMUM_SIZE = 10_000;
+
+    private final Map<ObjectNode, AccountBlockingPolicy> policies;
+
+    public AccountBlockingPolicyCache() {
+        policies = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .<ObjectNode, AccountBlockingPolicy>build()
+                .asMap();
+    }
+
+    public AccountBlockingPolicy policyFor(ObjectNode accountConfig) {
+        return accountConfig != null
+                ? policies.computeIfAbsent(accountConfig, AccountBlockingPolicy::of)
+                : AccountBlockingPolicy.of(null);
+    }
+}
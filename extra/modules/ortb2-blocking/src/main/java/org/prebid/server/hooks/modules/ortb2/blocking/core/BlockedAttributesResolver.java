@@ -1,6 +1,5 @@
 package org.prebid.server.hooks.modules.ortb2.blocking.core;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.openrtb.request.BidRequest;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.exception.InvalidAccountConfigurationException;
@@ -15,39 +14,39 @@ public class BlockedAttributesResolver {
     private final BidRequest bidRequest;
     private final String bidder;
     private final OrtbVersion ortbVersion;
-    private final ObjectNode accountConfig;
+    private final AccountBlockingPolicy accountPolicy;
     private final boolean debugEnabled;
 
     private BlockedAttributesResolver(BidRequest bidRequest,
                                       String bidder,
                                       OrtbVersion ortbVersion,
-                                      ObjectNode accountConfig,
+                                      AccountBlockingPolicy accountPolicy,
                                       boolean debugEnabled) {
 
         this.bidRequest = bidRequest;
         this.bidder = bidder;
         this.ortbVersion = ortbVersion;
-        this.accountConfig = accountConfig;
+        this.accountPolicy = accountPolicy;
         this.debugEnabled = debugEnabled;
     }
 
     public static BlockedAttributesResolver create(BidRequest bidRequest,
                                                    String bidder,
                                                    OrtbVersion ortbVersion,
-                                                   ObjectNode accountConfig,
+                                                   AccountBlockingPolicy accountPolicy,
                                                    boolean debugEnabled) {
 
         return new BlockedAttributesResolver(
                 Objects.requireNonNull(bidRequest),
                 Objects.requireNonNull(bidder),
                 Objects.requireNonNull(ortbVersion),
-                accountConfig,
+                Objects.requireNonNull(accountPolicy),
                 debugEnabled);
     }
 
     public ExecutionResult<BlockedAttributes> resolve() {
         final AccountConfigReader accountConfigReader = AccountConfigReader.create(
-                accountConfig, bidder, ortbVersion, debugEnabled);
+                accountPolicy, bidder, ortbVersion, debugEnabled);
 
         try {
             final Result<BlockedAttributes> blockedAttributesResult = accountConfigReader
@@ -0,0 +1,40 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AccountBlockingPolicyCacheTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final AccountBlockingPolicyCache policyCache = new AccountBlockingPolicyCache();
+
+    @Test
+    public void policyForShouldReturnSamePolicyForEqualAccountConfigs() {
+        // when
+        final AccountBlockingPolicy policy = policyCache.policyFor(givenAccountConfig());
+        final AccountBlockingPolicy otherPolicy = policyCache.policyFor(givenAccountConfig());
+
+        // then
+        assertThat(policy).isSameAs(otherPolicy);
+        assertThat(policy.hasAttributes()).isTrue();
+    }
+
+    @Test
+    public void policyForShouldReturnEmptyPolicyWhenNoAccountConfig() {
+        // when
+        final AccountBlockingPolicy policy = policyCache.policyFor(null);
+
+        // then
+        assertThat(policy.hasAttributes()).isFalse();
+    }
+
+    private static ObjectNode givenAccountConfig() {
+        final ObjectNode accountConfig = mapper.createObjectNode();
+        accountConfig.putObject("attributes").putObject("badv").putArray("blocked-adomain").add("domain.com");
+        return accountConfig;
+    }
+}
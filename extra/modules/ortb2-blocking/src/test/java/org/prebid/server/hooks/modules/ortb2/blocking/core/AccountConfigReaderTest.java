@@ -56,7 +56,8 @@ public class AccountConfigReaderTest {
     @Test
     public void blockedAttributesForShouldReturnEmptyResultWhenNoAccountConfig() {
         // given
-        final AccountConfigReader reader = AccountConfigReader.create(null, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(null), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThat(reader.blockedAttributesFor(emptyRequest())).isEqualTo(Result.empty());
@@ -66,7 +67,8 @@ public class AccountConfigReaderTest {
     public void blockedAttributesForShouldReturnEmptyResultWhenNoAttributesField() {
         // given
         final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(null));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThat(reader.blockedAttributesFor(emptyRequest())).isEqualTo(Result.empty());
@@ -76,7 +78,8 @@ public class AccountConfigReaderTest {
     public void blockedAttributesForShouldReturnEmptyResultWhenNoBlockedAttributes() {
         // given
         final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(Attributes.builder().build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThat(reader.blockedAttributesFor(emptyRequest())).isEqualTo(Result.empty());
@@ -88,7 +91,8 @@ public class AccountConfigReaderTest {
         final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(Attributes.builder()
                 .badv(Attribute.badvBuilder().build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThat(reader.blockedAttributesFor(emptyRequest())).isEqualTo(Result.empty());
@@ -98,7 +102,8 @@ public class AccountConfigReaderTest {
     public void blockedAttributesForShouldReturnErrorWhenAttributesIsNotObject() {
         // given
         final ObjectNode accountConfig = mapper.createObjectNode().put("attributes", 1);
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -112,7 +117,8 @@ public class AccountConfigReaderTest {
         final ObjectNode accountConfig = mapper.createObjectNode()
                 .set("attributes", mapper.createObjectNode()
                         .put("badv", 1));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -127,7 +133,8 @@ public class AccountConfigReaderTest {
                 .set("attributes", mapper.createObjectNode()
                         .set("badv", mapper.createObjectNode()
                                 .put("blocked-adomain", 1)));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -144,7 +151,8 @@ public class AccountConfigReaderTest {
                                 .set("blocked-adomain", mapper.createArrayNode()
                                         .add(1)
                                         .add("domain2.com"))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -160,7 +168,8 @@ public class AccountConfigReaderTest {
                 .set("attributes", mapper.createObjectNode()
                         .set("badv", mapper.createObjectNode()
                                 .put("action-overrides", 1)));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -178,7 +187,8 @@ public class AccountConfigReaderTest {
                                         .set("blocked-adomain", mapper.createArrayNode()
                                                 .add(1)
                                                 .add(mapper.createObjectNode())))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -195,7 +205,8 @@ public class AccountConfigReaderTest {
                                 .set("action-overrides", mapper.createObjectNode()
                                         .set("blocked-adomain", mapper.createArrayNode()
                                                 .add(mapper.createObjectNode())))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -213,7 +224,8 @@ public class AccountConfigReaderTest {
                                         .set("blocked-adomain", mapper.createArrayNode()
                                                 .add(mapper.createObjectNode()
                                                         .put("conditions", 1))))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -231,7 +243,8 @@ public class AccountConfigReaderTest {
                                         .set("blocked-adomain", mapper.createArrayNode()
                                                 .add(mapper.createObjectNode()
                                                         .set("conditions", mapper.createObjectNode()))))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -251,7 +264,8 @@ public class AccountConfigReaderTest {
                                                 .add(mapper.createObjectNode()
                                                         .set("conditions", mapper.createObjectNode()
                                                                 .put("bidders", 1)))))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -272,7 +286,8 @@ public class AccountConfigReaderTest {
                                                                 .set("bidders", mapper.createArrayNode()
                                                                         .add(1)
                                                                         .add("abc"))))))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -292,7 +307,8 @@ public class AccountConfigReaderTest {
                                                 .add(mapper.createObjectNode()
                                                         .set("conditions", mapper.createObjectNode()
                                                                 .put("media-type", 1)))))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -313,7 +329,8 @@ public class AccountConfigReaderTest {
                                                                 .set("media-type", mapper.createArrayNode()
                                                                         .add(1)
                                                                         .add("abc"))))))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -334,7 +351,8 @@ public class AccountConfigReaderTest {
                                                         .<ObjectNode>set("conditions", mapper.createObjectNode()
                                                                 .set("bidders", mapper.createArrayNode()
                                                                         .add("bidder1"))))))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -355,7 +373,8 @@ public class AccountConfigReaderTest {
                                                                 .set("bidders", mapper.createArrayNode()
                                                                         .add("bidder1")))
                                                         .put("override", 1))))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -378,7 +397,8 @@ public class AccountConfigReaderTest {
                                                         .set("override", mapper.createArrayNode()
                                                                 .add(1)
                                                                 .add("abc")))))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -396,7 +416,8 @@ public class AccountConfigReaderTest {
                                 .set("blocked-banner-type", mapper.createArrayNode()
                                         .add(1)
                                         .add("type2"))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -413,7 +434,8 @@ public class AccountConfigReaderTest {
                         .blocked(asList("domain1.com", "domain2.com"))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThat(reader.blockedAttributesFor(emptyRequest())).isEqualTo(
@@ -433,7 +455,8 @@ public class AccountConfigReaderTest {
                                                 singletonList("domain3.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThat(reader.blockedAttributesFor(emptyRequest())).isEqualTo(
@@ -453,7 +476,8 @@ public class AccountConfigReaderTest {
                                                 singletonList("domain3.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThat(reader.blockedAttributesFor(emptyRequest())).isEqualTo(
@@ -473,7 +497,8 @@ public class AccountConfigReaderTest {
                                                 singletonList("domain3.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThat(reader.blockedAttributesFor(emptyRequest())).isEqualTo(
@@ -492,7 +517,8 @@ public class AccountConfigReaderTest {
                                                 singletonList("domain3.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         final BidRequest request = BidRequest.builder()
                 .imp(asList(
@@ -517,7 +543,8 @@ public class AccountConfigReaderTest {
                                                 singletonList("domain3.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThat(reader.blockedAttributesFor(emptyRequest())).isEqualTo(
@@ -536,7 +563,8 @@ public class AccountConfigReaderTest {
                                                 singletonList("domain3.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThat(reader.blockedAttributesFor(request(imp -> imp.video(Video.builder().build())))).isEqualTo(
@@ -560,19 +588,19 @@ public class AccountConfigReaderTest {
 
         // when and then
         assertThat(AccountConfigReader
-                .create(accountConfig, "bidder1", ORTB_VERSION, true)
+                .create(AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true)
                 .blockedAttributesFor(request(imp -> imp.audio(Audio.builder().build()))))
                 .isEqualTo(Result.withValue(attributesWithBadv(singletonList("domain3.com"))));
         assertThat(AccountConfigReader
-                .create(accountConfig, "bidder1", ORTB_VERSION, true)
+                .create(AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true)
                 .blockedAttributesFor(request(imp -> imp.video(Video.builder().build()))))
                 .isEqualTo(Result.withValue(attributesWithBadv(singletonList("domain3.com"))));
         assertThat(AccountConfigReader
-                .create(accountConfig, "bidder1", ORTB_VERSION, true)
+                .create(AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true)
                 .blockedAttributesFor(request(imp -> imp.banner(Banner.builder().build()))))
                 .isEqualTo(Result.withValue(attributesWithBadv(singletonList("domain3.com"))));
         assertThat(AccountConfigReader
-                .create(accountConfig, "bidder1", ORTB_VERSION, true)
+                .create(AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true)
                 .blockedAttributesFor(request(imp -> imp.xNative(Native.builder().build()))))
                 .isEqualTo(Result.withValue(attributesWithBadv(singletonList("domain3.com"))));
     }
@@ -592,7 +620,8 @@ public class AccountConfigReaderTest {
                                                 singletonList("domain4.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThat(reader
@@ -620,7 +649,8 @@ public class AccountConfigReaderTest {
                                                 singletonList("domain4.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, false);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, false);
 
         // when and then
         assertThat(reader
@@ -651,7 +681,8 @@ public class AccountConfigReaderTest {
                                                 singletonList("domain6.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThat(reader
@@ -679,7 +710,8 @@ public class AccountConfigReaderTest {
                                                 singletonList("domain6.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThat(reader
@@ -712,7 +744,8 @@ public class AccountConfigReaderTest {
                                         singletonList(4)))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         final Map<String, List<Integer>> expectedBtype = new HashMap<>();
@@ -774,7 +807,8 @@ public class AccountConfigReaderTest {
                                         singletonList(3)))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThat(reader.blockedAttributesFor(request(imp -> imp.id("impId1")))).isEqualTo(
@@ -801,7 +835,8 @@ public class AccountConfigReaderTest {
                   }
                 }
                 """);
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThat(reader.blockedAttributesFor(request(imp -> imp.id("impId1")))).isEqualTo(Result.empty());
@@ -822,7 +857,7 @@ public class AccountConfigReaderTest {
                 }
                 """);
         final AccountConfigReader reader = AccountConfigReader.create(
-                accountConfig, "bidder1", OrtbVersion.ORTB_2_6, true);
+                AccountBlockingPolicy.of(accountConfig), "bidder1", OrtbVersion.ORTB_2_6, true);
 
         // when and then
         assertThat(reader.blockedAttributesFor(request(imp -> imp.id("impId1"), request -> request.cattax(2))))
@@ -844,7 +879,7 @@ public class AccountConfigReaderTest {
                 }
                 """);
         final AccountConfigReader reader = AccountConfigReader.create(
-                accountConfig, "bidder1", OrtbVersion.ORTB_2_6, true);
+                AccountBlockingPolicy.of(accountConfig), "bidder1", OrtbVersion.ORTB_2_6, true);
 
         // when and then
         assertThat(reader.blockedAttributesFor(request(imp -> imp.id("impId1"))))
@@ -858,7 +893,8 @@ public class AccountConfigReaderTest {
                 .set("attributes", mapper.createObjectNode()
                         .set("badv", mapper.createObjectNode()
                                 .put("enforce-blocks", 1)));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThatThrownBy(() -> reader.responseBlockingConfigFor(bid()))
@@ -874,7 +910,8 @@ public class AccountConfigReaderTest {
                 .set("attributes", mapper.createObjectNode()
                         .set("badv", mapper.createObjectNode()
                                 .put("allowed-adomain-for-deals", 1)));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThatThrownBy(() -> reader.responseBlockingConfigFor(bid()))
@@ -891,7 +928,8 @@ public class AccountConfigReaderTest {
                                 .set("allowed-adomain-for-deals", mapper.createArrayNode()
                                         .add(1)
                                         .add("domain1.com"))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThatThrownBy(() -> reader.responseBlockingConfigFor(bid()))
@@ -909,7 +947,8 @@ public class AccountConfigReaderTest {
                                 .set("allowed-banner-attr-for-deals", mapper.createArrayNode()
                                         .add(1)
                                         .add("domain1.com"))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThatThrownBy(() -> reader.responseBlockingConfigFor(bid()))
@@ -928,7 +967,8 @@ public class AccountConfigReaderTest {
                                         .set("allowed-adomain-for-deals", mapper.createArrayNode()
                                                 .add(mapper.createObjectNode()
                                                         .set("conditions", mapper.createObjectNode()))))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThatThrownBy(() -> reader.responseBlockingConfigFor(bid()))
@@ -942,7 +982,8 @@ public class AccountConfigReaderTest {
         final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(Attributes.builder()
                 .badv(Attribute.badvBuilder().build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThat(reader.responseBlockingConfigFor(bid())).satisfies(result -> {
@@ -960,7 +1001,8 @@ public class AccountConfigReaderTest {
                         .allowedForDeals(asList("domain1.com", "domain2.com"))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         final BidderBid bid = BidderBid.of(Bid.builder().build(), BidType.banner, "USD");
 
@@ -982,7 +1024,8 @@ public class AccountConfigReaderTest {
                         .allowedForDeals(asList("domain1.com", "domain2.com"))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThat(reader.responseBlockingConfigFor(bid())).satisfies(result -> {
@@ -1013,7 +1056,8 @@ public class AccountConfigReaderTest {
                                         singletonList("domain3.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThat(reader.responseBlockingConfigFor(bid())).satisfies(result -> {
@@ -1044,7 +1088,8 @@ public class AccountConfigReaderTest {
                                         singletonList("domain3.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThat(reader.responseBlockingConfigFor(bid())).satisfies(result -> {
@@ -1072,7 +1117,8 @@ public class AccountConfigReaderTest {
                                         singletonList("domain3.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThat(reader.responseBlockingConfigFor(bid())).satisfies(result -> {
@@ -1105,7 +1151,8 @@ public class AccountConfigReaderTest {
                                                 true))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThat(reader.responseBlockingConfigFor(bid())).satisfies(result -> {
@@ -1131,7 +1178,8 @@ public class AccountConfigReaderTest {
                                                 singletonList("domain4.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThat(reader.responseBlockingConfigFor(bid())).satisfies(result -> {
@@ -1201,7 +1249,8 @@ public class AccountConfigReaderTest {
                                         singletonList(3)))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThat(reader.responseBlockingConfigFor(bid())).satisfies(result -> {
@@ -1237,7 +1286,8 @@ public class AccountConfigReaderTest {
                                         singletonList("cat3")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                AccountBlockingPolicy.of(accountConfig), "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThat(reader.responseBlockingConfigFor(bid())).satisfies(result -> {
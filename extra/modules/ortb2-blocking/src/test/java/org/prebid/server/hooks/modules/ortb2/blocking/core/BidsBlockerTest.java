@@ -42,7 +42,8 @@ public class BidsBlockerTest {
     public void shouldReturnEmptyResultWhenNoBlockingResponseConfig() {
         // given
         final List<BidderBid> bids = singletonList(bid());
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, null, null, true);
+        final BidsBlocker blocker = BidsBlocker.create(
+                bids, "bidder1", ORTB_VERSION, AccountBlockingPolicy.of(null), null, true);
 
         // when and then
         assertThat(blocker.block()).satisfies(BidsBlockerTest::isEmpty);
@@ -55,7 +56,8 @@ public class BidsBlockerTest {
                 .put("attributes", 1);
 
         final List<BidderBid> bids = singletonList(bid());
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, null, true);
+        final BidsBlocker blocker = BidsBlocker.create(
+                bids, "bidder1", ORTB_VERSION, AccountBlockingPolicy.of(accountConfig), null, true);
 
         // when and then
         assertThat(blocker.block()).isEqualTo(ExecutionResult.builder()
@@ -70,7 +72,8 @@ public class BidsBlockerTest {
                 .put("attributes", 1);
 
         final List<BidderBid> bids = singletonList(bid());
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, null, false);
+        final BidsBlocker blocker = BidsBlocker.create(
+                bids, "bidder1", ORTB_VERSION, AccountBlockingPolicy.of(accountConfig), null, false);
 
         // when and then
         assertThat(blocker.block()).isEqualTo(ExecutionResult.empty());
@@ -88,7 +91,8 @@ public class BidsBlockerTest {
 
         // when
         final List<BidderBid> bids = singletonList(bid());
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, null, true);
+        final BidsBlocker blocker = BidsBlocker.create(
+                bids, "bidder1", ORTB_VERSION, AccountBlockingPolicy.of(accountConfig), null, true);
 
         // when and then
         assertThat(blocker.block()).satisfies(BidsBlockerTest::isEmpty);
@@ -106,7 +110,8 @@ public class BidsBlockerTest {
 
         // when
         final List<BidderBid> bids = singletonList(bid());
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, null, true);
+        final BidsBlocker blocker = BidsBlocker.create(
+                bids, "bidder1", ORTB_VERSION, AccountBlockingPolicy.of(accountConfig), null, true);
 
         // when and then
         assertThat(blocker.block()).satisfies(BidsBlockerTest::isEmpty);
@@ -124,7 +129,8 @@ public class BidsBlockerTest {
 
         // when
         final List<BidderBid> bids = singletonList(bid());
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, null, false);
+        final BidsBlocker blocker = BidsBlocker.create(
+                bids, "bidder1", ORTB_VERSION, AccountBlockingPolicy.of(accountConfig), null, false);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> hasValue(result, 0));
@@ -142,7 +148,8 @@ public class BidsBlockerTest {
         // when
         final List<BidderBid> bids = singletonList(bid(bid -> bid.adomain(singletonList("domain1.com"))));
         final BlockedAttributes blockedAttributes = attributesWithBadv(singletonList("domain1.com"));
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, true);
+        final BidsBlocker blocker = BidsBlocker.create(
+                bids, "bidder1", ORTB_VERSION, AccountBlockingPolicy.of(accountConfig), blockedAttributes, true);
 
         // when and then
         assertThat(blocker.block()).satisfies(BidsBlockerTest::isEmpty);
@@ -160,7 +167,8 @@ public class BidsBlockerTest {
         // when
         final List<BidderBid> bids = singletonList(bid(bid -> bid.adomain(singletonList("domain1.com"))));
         final BlockedAttributes blockedAttributes = attributesWithBadv(singletonList("domain2.com"));
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, true);
+        final BidsBlocker blocker = BidsBlocker.create(
+                bids, "bidder1", ORTB_VERSION, AccountBlockingPolicy.of(accountConfig), blockedAttributes, true);
 
         // when and then
         assertThat(blocker.block()).satisfies(BidsBlockerTest::isEmpty);
@@ -178,7 +186,8 @@ public class BidsBlockerTest {
         // when
         final List<BidderBid> bids = singletonList(bid(bid -> bid.adomain(singletonList("domain1.com"))));
         final BlockedAttributes blockedAttributes = attributesWithBadv(singletonList("domain1.com"));
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, false);
+        final BidsBlocker blocker = BidsBlocker.create(
+                bids, "bidder1", ORTB_VERSION, AccountBlockingPolicy.of(accountConfig), blockedAttributes, false);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> hasValue(result, 0));
@@ -195,7 +204,8 @@ public class BidsBlockerTest {
 
         // when
         final List<BidderBid> bids = singletonList(bid(bid -> bid.adomain(singletonList("domain1.com"))));
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, null, true);
+        final BidsBlocker blocker = BidsBlocker.create(
+                bids, "bidder1", ORTB_VERSION, AccountBlockingPolicy.of(accountConfig), null, true);
 
         // when and then
         assertThat(blocker.block()).satisfies(BidsBlockerTest::isEmpty);
@@ -217,7 +227,8 @@ public class BidsBlockerTest {
         final BlockedAttributes blockedAttributes = BlockedAttributes.builder()
                 .battr(singletonMap("impId1", asList(1, 2)))
                 .build();
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, true);
+        final BidsBlocker blocker = BidsBlocker.create(
+                bids, "bidder1", ORTB_VERSION, AccountBlockingPolicy.of(accountConfig), blockedAttributes, true);
 
         // when and then
         assertThat(blocker.block()).satisfies(BidsBlockerTest::isEmpty);
@@ -236,7 +247,8 @@ public class BidsBlockerTest {
         // when
         final List<BidderBid> bids = singletonList(bid(bid -> bid.adomain(singletonList("domain1.com"))));
         final BlockedAttributes blockedAttributes = attributesWithBadv(singletonList("domain1.com"));
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, true);
+        final BidsBlocker blocker = BidsBlocker.create(
+                bids, "bidder1", ORTB_VERSION, AccountBlockingPolicy.of(accountConfig), blockedAttributes, true);
 
         // when and then
         assertThat(blocker.block()).satisfies(BidsBlockerTest::isEmpty);
@@ -255,7 +267,8 @@ public class BidsBlockerTest {
         // when
         final List<BidderBid> bids = singletonList(bid(bid -> bid.adomain(singletonList("domain1.com"))));
         final BlockedAttributes blockedAttributes = attributesWithBadv(singletonList("domain1.com"));
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, false);
+        final BidsBlocker blocker = BidsBlocker.create(
+                bids, "bidder1", ORTB_VERSION, AccountBlockingPolicy.of(accountConfig), blockedAttributes, false);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> hasValue(result, 0));
@@ -273,7 +286,8 @@ public class BidsBlockerTest {
 
         // when
         final List<BidderBid> bids = singletonList(bid());
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, null, true);
+        final BidsBlocker blocker = BidsBlocker.create(
+                bids, "bidder1", ORTB_VERSION, AccountBlockingPolicy.of(accountConfig), null, true);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> {
@@ -295,7 +309,8 @@ public class BidsBlockerTest {
 
         // when
         final List<BidderBid> bids = singletonList(bid());
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, null, false);
+        final BidsBlocker blocker = BidsBlocker.create(
+                bids, "bidder1", ORTB_VERSION, AccountBlockingPolicy.of(accountConfig), null, false);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> hasValue(result, 0));
@@ -341,7 +356,8 @@ public class BidsBlockerTest {
                 .bapp(asList("app1", "app2", "app3"))
                 .battr(singletonMap("impId2", asList(1, 2, 3)))
                 .build();
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, true);
+        final BidsBlocker blocker = BidsBlocker.create(
+                bids, "bidder1", ORTB_VERSION, AccountBlockingPolicy.of(accountConfig), blockedAttributes, true);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> {
@@ -411,7 +427,8 @@ public class BidsBlockerTest {
                 .bapp(asList("app1", "app2"))
                 .battr(singletonMap("impId1", asList(1, 2)))
                 .build();
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, true);
+        final BidsBlocker blocker = BidsBlocker.create(
+                bids, "bidder1", ORTB_VERSION, AccountBlockingPolicy.of(accountConfig), blockedAttributes, true);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> {
@@ -443,7 +460,8 @@ public class BidsBlockerTest {
                 bid(bid -> bid.cattax(3)),
                 bid());
         final BlockedAttributes blockedAttributes = BlockedAttributes.builder().build();
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, true);
+        final BidsBlocker blocker = BidsBlocker.create(
+                bids, "bidder1", ORTB_VERSION, AccountBlockingPolicy.of(accountConfig), blockedAttributes, true);
 
         // when and then
         assertThat(blocker.block())
@@ -465,7 +483,8 @@ public class BidsBlockerTest {
         final List<BidderBid> bids = singletonList(bid());
         final BlockedAttributes blockedAttributes = BlockedAttributes.builder().build();
         final BidsBlocker blocker = BidsBlocker.create(
-                bids, "bidder1", OrtbVersion.ORTB_2_6, accountConfig, blockedAttributes, true);
+                bids, "bidder1", OrtbVersion.ORTB_2_6,
+                AccountBlockingPolicy.of(accountConfig), blockedAttributes, true);
 
         // when and then
         assertThat(blocker.block())
@@ -489,7 +508,8 @@ public class BidsBlockerTest {
                 bid(bid -> bid.cattax(2)));
         final BlockedAttributes blockedAttributes = BlockedAttributes.builder().cattaxComplement(2).build();
         final BidsBlocker blocker = BidsBlocker.create(
-                bids, "bidder1", OrtbVersion.ORTB_2_6, accountConfig, blockedAttributes, true);
+                bids, "bidder1", OrtbVersion.ORTB_2_6,
+                AccountBlockingPolicy.of(accountConfig), blockedAttributes, true);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> {
@@ -515,7 +535,8 @@ public class BidsBlockerTest {
                 bid(bid -> bid.cattax(2)));
         final BlockedAttributes blockedAttributes = BlockedAttributes.builder().build();
         final BidsBlocker blocker = BidsBlocker.create(
-                bids, "bidder1", OrtbVersion.ORTB_2_6, accountConfig, blockedAttributes, true);
+                bids, "bidder1", OrtbVersion.ORTB_2_6,
+                AccountBlockingPolicy.of(accountConfig), blockedAttributes, true);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> {
@@ -38,7 +38,7 @@ public class BlockedAttributesResolverTest {
         // given
         final ObjectNode accountConfig = mapper.createObjectNode().put("block-lists", 1);
         final BlockedAttributesResolver resolver = BlockedAttributesResolver.create(
-                emptyRequest(), "bidder1", ORTB_VERSION, accountConfig, false);
+                emptyRequest(), "bidder1", ORTB_VERSION, AccountBlockingPolicy.of(accountConfig), false);
 
         // when and then
         assertThat(resolver.resolve()).isEqualTo(ExecutionResult.empty());
@@ -49,7 +49,7 @@ public class BlockedAttributesResolverTest {
         // given
         final ObjectNode accountConfig = mapper.createObjectNode().put("attributes", 1);
         final BlockedAttributesResolver resolver = BlockedAttributesResolver.create(
-                emptyRequest(), "bidder1", ORTB_VERSION, accountConfig, true);
+                emptyRequest(), "bidder1", ORTB_VERSION, AccountBlockingPolicy.of(accountConfig), true);
 
         // when and then
         assertThat(resolver.resolve()).isEqualTo(
@@ -77,7 +77,7 @@ public class BlockedAttributesResolverTest {
                         .banner(Banner.builder().build())),
                 "bidder1",
                 ORTB_VERSION,
-                accountConfig,
+                AccountBlockingPolicy.of(accountConfig),
                 true);
 
         // when and then
@@ -109,7 +109,7 @@ public class BlockedAttributesResolverTest {
                         .banner(Banner.builder().build())),
                 "bidder1",
                 ORTB_VERSION,
-                accountConfig,
+                AccountBlockingPolicy.of(accountConfig),
                 false);
 
         // when and then
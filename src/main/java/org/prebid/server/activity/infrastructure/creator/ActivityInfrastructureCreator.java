@@ -1,5 +1,6 @@
 package org.prebid.server.activity.infrastructure.creator;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.commons.collections4.ListUtils;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.infrastructure.ActivityConfiguration;
@@ -12,25 +13,41 @@ import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountPrivacyConfig;
 import org.prebid.server.settings.model.activity.AccountActivityConfiguration;
 
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Supplier;
-import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Creates {@link ActivityInfrastructure} for the account.
+ * <p>
+ * Account activities configuration changes rarely, so its compiled form is cached by configuration value.
+ * Only rules depending on {@link GppContext} are compiled separately for each set of GPP sections, the rest of
+ * configuration is compiled once and shared between all requests.
+ */
 public class ActivityInfrastructureCreator {
 
+    private static final int COMPILED_CONFIGURATIONS_MAXIMUM_SIZE = 10_000;
+    private static final int GPP_VARIANTS_MAXIMUM_SIZE = 64;
+
     private final ActivityRuleFactory activityRuleFactory;
     private final Metrics metrics;
 
+    private final Map<Map<Activity, AccountActivityConfiguration>, CompiledActivities> compiledActivities;
+
     public ActivityInfrastructureCreator(ActivityRuleFactory activityRuleFactory, Metrics metrics) {
         this.activityRuleFactory = Objects.requireNonNull(activityRuleFactory);
         this.metrics = Objects.requireNonNull(metrics);
+
+        compiledActivities = Caffeine.newBuilder()
+                .maximumSize(COMPILED_CONFIGURATIONS_MAXIMUM_SIZE)
+                .<Map<Activity, AccountActivityConfiguration>, CompiledActivities>build()
+                .asMap();
     }
 
     public ActivityInfrastructure create(Account account, GppContext gppContext, TraceLevel traceLevel) {
@@ -48,12 +65,9 @@ public class ActivityInfrastructureCreator {
                         .map(AccountPrivacyConfig::getActivities)
                         .orElse(Collections.emptyMap());
 
-        return Arrays.stream(Activity.values())
-                .collect(Collectors.toMap(
-                        UnaryOperator.identity(),
-                        activity -> from(activitiesConfiguration.get(activity), gppContext),
-                        (oldValue, newValue) -> newValue,
-                        enumMapFactory()));
+        return compiledActivities
+                .computeIfAbsent(activitiesConfiguration, config -> new CompiledActivities(config, gppContext))
+                .resolve(gppContext);
     }
 
     private ActivityConfiguration from(AccountActivityConfiguration activityConfiguration, GppContext gppContext) {
@@ -70,11 +84,76 @@ public class ActivityInfrastructureCreator {
         return ActivityConfiguration.of(allow, rules);
     }
 
+    private boolean dependsOnGpp(AccountActivityConfiguration activityConfiguration) {
+        return activityConfiguration != null
+                && ListUtils.emptyIfNull(activityConfiguration.getRules()).stream()
+                .filter(Objects::nonNull)
+                .anyMatch(activityRuleFactory::dependsOnGpp);
+    }
+
     private static boolean allowFromConfig(Boolean configValue) {
         return configValue != null ? configValue : ActivityInfrastructure.ALLOW_ACTIVITY_BY_DEFAULT;
     }
 
-    private static Supplier<Map<Activity, ActivityConfiguration>> enumMapFactory() {
-        return () -> new EnumMap<>(Activity.class);
+    private static Set<Integer> gppSectionsIds(GppContext gppContext) {
+        final Set<Integer> sectionsIds = gppContext != null && gppContext.scope() != null
+                ? gppContext.scope().getSectionsIds()
+                : null;
+
+        return sectionsIds != null ? sectionsIds : Collections.emptySet();
+    }
+
+    private class CompiledActivities {
+
+        private final Map<Activity, AccountActivityConfiguration> activitiesConfiguration;
+        private final Map<Activity, ActivityConfiguration> gppIndependentConfigurations;
+        private final Set<Activity> gppDependentActivities;
+        private final Map<Set<Integer>, Map<Activity, ActivityConfiguration>> gppVariants;
+
+        CompiledActivities(Map<Activity, AccountActivityConfiguration> activitiesConfiguration,
+                           GppContext gppContext) {
+
+            this.activitiesConfiguration = activitiesConfiguration;
+
+            gppIndependentConfigurations = new EnumMap<>(Activity.class);
+            gppDependentActivities = EnumSet.noneOf(Activity.class);
+            for (Activity activity : Activity.values()) {
+                final AccountActivityConfiguration activityConfiguration = activitiesConfiguration.get(activity);
+                if (dependsOnGpp(activityConfiguration)) {
+                    gppDependentActivities.add(activity);
+                } else {
+                    gppIndependentConfigurations.put(activity, from(activityConfiguration, gppContext));
+                }
+            }
+
+            gppVariants = new ConcurrentHashMap<>();
+        }
+
+        Map<Activity, ActivityConfiguration> resolve(GppContext gppContext) {
+            if (gppDependentActivities.isEmpty()) {
+                return gppIndependentConfigurations;
+            }
+
+            final Set<Integer> sectionsIds = gppSectionsIds(gppContext);
+            final Map<Activity, ActivityConfiguration> cachedVariant = gppVariants.get(sectionsIds);
+            if (cachedVariant != null) {
+                return cachedVariant;
+            }
+
+            final Map<Activity, ActivityConfiguration> variant = withGppDependent(gppContext);
+            // sections sets are expected to be few, but the ones sent by clients are not trusted to be so
+            if (gppVariants.size() < GPP_VARIANTS_MAXIMUM_SIZE) {
+                gppVariants.putIfAbsent(sectionsIds, variant);
+            }
+            return variant;
+        }
+
+        private Map<Activity, ActivityConfiguration> withGppDependent(GppContext gppContext) {
+            final Map<Activity, ActivityConfiguration> configurations = new EnumMap<>(gppIndependentConfigurations);
+            for (Activity activity : gppDependentActivities) {
+                configurations.put(activity, from(activitiesConfiguration.get(activity), gppContext));
+            }
+            return configurations;
+        }
     }
 }
@@ -22,12 +22,20 @@ public class ActivityRuleFactory {
     }
 
     public Rule from(Object ruleConfiguration, GppContext gppContext) {
+        return ruleCreatorFor(ruleConfiguration).from(ruleConfiguration, gppContext);
+    }
+
+    public boolean dependsOnGpp(Object ruleConfiguration) {
+        return ruleCreatorFor(ruleConfiguration).dependsOnGpp(ruleConfiguration);
+    }
+
+    private RuleCreator<?> ruleCreatorFor(Object ruleConfiguration) {
         final Class<?> ruleConfigurationClass = ruleConfiguration.getClass();
         final RuleCreator<?> ruleCreator = ruleCreators.get(ruleConfigurationClass);
         if (ruleCreator == null) {
             throw new IllegalStateException("Rule creator for %s not found.".formatted(ruleConfigurationClass));
         }
 
-        return ruleCreator.from(ruleConfiguration, gppContext);
+        return ruleCreator;
     }
 }
@@ -28,4 +28,17 @@ public abstract class AbstractRuleCreator<T> implements RuleCreator<T> {
     }
 
     protected abstract Rule fromConfiguration(T ruleConfiguration, GppContext gppContext);
+
+    @Override
+    public boolean dependsOnGpp(Object ruleConfiguration) {
+        if (!relatedConfigurationClass.isInstance(ruleConfiguration)) {
+            throw new AssertionError();
+        }
+
+        return configurationDependsOnGpp(relatedConfigurationClass.cast(ruleConfiguration));
+    }
+
+    protected boolean configurationDependsOnGpp(T ruleConfiguration) {
+        return false;
+    }
 }
@@ -33,6 +33,12 @@ public class GeoRuleCreator extends AbstractRuleCreator<AccountActivityGeoRuleCo
                 allow);
     }
 
+    @Override
+    protected boolean configurationDependsOnGpp(AccountActivityGeoRuleConfig ruleConfiguration) {
+        final AccountActivityGeoRuleConfig.Condition condition = ruleConfiguration.getCondition();
+        return condition != null && condition.getSids() != null;
+    }
+
     private static boolean allowFromConfig(Boolean configValue) {
         return configValue != null ? configValue : ActivityInfrastructure.ALLOW_ACTIVITY_BY_DEFAULT;
     }
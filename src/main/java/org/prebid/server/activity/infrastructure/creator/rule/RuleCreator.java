@@ -8,4 +8,9 @@ public interface RuleCreator<T> {
     Class<T> relatedConfigurationClass();
 
     Rule from(Object ruleConfiguration, GppContext gppContext);
+
+    /**
+     * Tells if rule created from the given configuration could differ depending on {@link GppContext}.
+     */
+    boolean dependsOnGpp(Object ruleConfiguration);
 }
@@ -7,7 +7,9 @@ import java.util.Set;
 
 public final class ComponentRule implements Rule {
 
-    private final Set<ComponentType> componentTypes;
+    private static final int ALL_COMPONENT_TYPES = -1;
+
+    private final int componentTypesMask;
     private final Set<String> componentNames;
     private final boolean allowed;
 
@@ -15,17 +17,40 @@ public final class ComponentRule implements Rule {
                          Set<String> componentNames,
                          boolean allowed) {
 
-        this.componentTypes = componentTypes;
+        this.componentTypesMask = componentTypesMask(componentTypes);
         this.componentNames = componentNames;
         this.allowed = allowed;
     }
 
+    /**
+     * Compiles component types into bit mask indexed by {@link ComponentType} ordinal, so matching is a single
+     * bit test.
+     */
+    private static int componentTypesMask(Set<ComponentType> componentTypes) {
+        if (componentTypes == null) {
+            return ALL_COMPONENT_TYPES;
+        }
+
+        int mask = 0;
+        for (ComponentType componentType : componentTypes) {
+            if (componentType != null) {
+                mask |= 1 << componentType.ordinal();
+            }
+        }
+        return mask;
+    }
+
     @Override
     public boolean matches(ActivityCallPayload activityCallPayload) {
-        return (componentTypes == null || componentTypes.contains(activityCallPayload.componentType()))
+        return (componentTypesMask == ALL_COMPONENT_TYPES
+                || matchesComponentType(activityCallPayload.componentType()))
                 && (componentNames == null || componentNames.contains(activityCallPayload.componentName()));
     }
 
+    private boolean matchesComponentType(ComponentType componentType) {
+        return componentType != null && (componentTypesMask & (1 << componentType.ordinal())) != 0;
+    }
+
     @Override
     public boolean allowed() {
         return allowed;
@@ -549,6 +549,7 @@ public class BidResponseCreator {
                 .collect(Collectors.toSet());
 
         updateSentToClientTxnLog(txnLog, bidInfos);
+        updateWonImpIds(auctionContext.getBidderToWonImpIds(), bidInfos);
 
         final Set<BidInfo> bidsToCache = cacheInfo.isShouldCacheWinningBidsOnly() ? winningBidInfos : bidInfos;
 
@@ -749,6 +750,18 @@ public class BidResponseCreator {
                 .forEach(lineItemId -> txnLog.lineItemsSentToClient().add(lineItemId));
     }
 
+    /**
+     * Collects impressions won by each bidder, regardless of whether targeting was requested.
+     */
+    private static void updateWonImpIds(Map<String, Set<String>> bidderToWonImpIds, Set<BidInfo> bidInfos) {
+        for (BidInfo bidInfo : bidInfos) {
+            if (bidInfo.getTargetingInfo().isWinningBid()) {
+                bidderToWonImpIds.computeIfAbsent(bidInfo.getBidder(), bidder -> new HashSet<>())
+                        .add(bidInfo.getCorrespondingImp().getId());
+            }
+        }
+    }
+
     /**
      * Returns {@link ExtBidResponse} object, populated with response time, errors and debug info (if requested)
      * from all bidders.
@@ -0,0 +1,119 @@
+package org.prebid.server.auction;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.apache.commons.collections4.CollectionUtils;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.BidRejectionReason;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.bidder.BidderLatencyTracker;
+import org.prebid.server.bidder.model.BidderError;
+import org.prebid.server.bidder.model.BidderSeatBid;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Completes participations of bidders still awaited with empty responses as soon as at least one bidder
+ * responded with bids and the rest of them are not expected to bring any bids in according to
+ * {@link BidderLatencyTracker}.
+ * <p>
+ * Requests to closed bidders are not cancelled, but their late responses are ignored: the participation is already
+ * completed, and bid rejection tracker of the bidder is closed.
+ */
+class EarlyAuctionCloser {
+
+    private static final String EARLY_CLOSE_MESSAGE =
+            "Auction was closed early, remaining bidders were not expected to bid";
+
+    private final BidderLatencyTracker bidderLatencyTracker;
+    private final Clock clock;
+
+    EarlyAuctionCloser(BidderLatencyTracker bidderLatencyTracker, Clock clock) {
+        this.bidderLatencyTracker = Objects.requireNonNull(bidderLatencyTracker);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Returns futures of the given participations, which may be completed before the original ones
+     * if the auction was closed early.
+     */
+    @SuppressWarnings("rawtypes")
+    List<Future> closeEarlyIfNotWorthWaiting(AuctionContext context,
+                                             List<Future<AuctionParticipation>> participationFutures) {
+
+        final List<AuctionParticipation> auctionParticipations = context.getAuctionParticipations();
+        final int size = auctionParticipations.size();
+        final Set<String> awaitedBidders = new HashSet<>();
+        final List<Promise<AuctionParticipation>> promises = new ArrayList<>(size);
+        for (AuctionParticipation auctionParticipation : auctionParticipations) {
+            awaitedBidders.add(auctionParticipation.getBidder());
+            promises.add(Promise.promise());
+        }
+
+        final AtomicBoolean hasBids = new AtomicBoolean(false);
+        for (int i = 0; i < size; i++) {
+            final String bidder = auctionParticipations.get(i).getBidder();
+            final Promise<AuctionParticipation> promise = promises.get(i);
+
+            participationFutures.get(i).onComplete(result -> {
+                if (result.succeeded()) {
+                    promise.tryComplete(result.result());
+                } else {
+                    promise.tryFail(result.cause());
+                }
+                awaitedBidders.remove(bidder);
+
+                if (result.succeeded() && hasBids(result.result())) {
+                    hasBids.set(true);
+                }
+                if (hasBids.get() && !awaitedBidders.isEmpty()
+                        && bidderLatencyTracker.isNotWorthWaiting(awaitedBidders)) {
+
+                    closeAwaitedParticipations(context, promises, awaitedBidders);
+                }
+            });
+        }
+
+        final List<Future> futures = new ArrayList<>(size);
+        promises.forEach(promise -> futures.add(promise.future()));
+        return futures;
+    }
+
+    private static boolean hasBids(AuctionParticipation auctionParticipation) {
+        final BidderResponse bidderResponse = auctionParticipation.getBidderResponse();
+        return bidderResponse != null && CollectionUtils.isNotEmpty(bidderResponse.getSeatBid().getBids());
+    }
+
+    private void closeAwaitedParticipations(AuctionContext context,
+                                            List<Promise<AuctionParticipation>> promises,
+                                            Set<String> awaitedBidders) {
+
+        final List<AuctionParticipation> auctionParticipations = context.getAuctionParticipations();
+        final int responseTime = Math.toIntExact(clock.millis() - context.getStartTime());
+        for (int i = 0; i < auctionParticipations.size(); i++) {
+            final AuctionParticipation auctionParticipation = auctionParticipations.get(i);
+            final String bidder = auctionParticipation.getBidder();
+            if (!awaitedBidders.contains(bidder)) {
+                continue;
+            }
+
+            // late response must not change the auction, so the tracker ignores its outcome
+            context.getBidRejectionTrackers().get(bidder).rejectAllAndClose(BidRejectionReason.TIMED_OUT);
+            final BidderSeatBid seatBid = BidderSeatBid.builder()
+                    .errors(Collections.singletonList(BidderError.timeout(EARLY_CLOSE_MESSAGE)))
+                    .build();
+
+            promises.get(i).tryComplete(auctionParticipation.with(BidderResponse.of(bidder, seatBid, responseTime)));
+        }
+
+        awaitedBidders.clear();
+    }
+}
@@ -44,10 +44,12 @@ import org.prebid.server.auction.model.BidderRequest;
 import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.auction.model.MultiBidConfig;
 import org.prebid.server.auction.model.StoredResponseResult;
+import org.prebid.server.auction.throttling.BidderThrottler;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
 import org.prebid.server.bidder.Bidder;
 import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.BidderLatencyTracker;
 import org.prebid.server.bidder.HttpBidderRequester;
 import org.prebid.server.bidder.Usersyncer;
 import org.prebid.server.bidder.model.BidderBid;
@@ -190,6 +192,9 @@ public class ExchangeService {
     private final Clock clock;
     private final JacksonMapper mapper;
     private final CriteriaLogManager criteriaLogManager;
+    private final BidderLatencyTracker bidderLatencyTracker;
+    private final BidderThrottler bidderThrottler;
+    private final EarlyAuctionCloser earlyAuctionCloser;
 
     public ExchangeService(double logSamplingRate,
                            int timeoutAdjustmentFactor,
@@ -219,7 +224,9 @@ public class ExchangeService {
                            Metrics metrics,
                            Clock clock,
                            JacksonMapper mapper,
-                           CriteriaLogManager criteriaLogManager) {
+                           CriteriaLogManager criteriaLogManager,
+                           BidderLatencyTracker bidderLatencyTracker,
+                           BidderThrottler bidderThrottler) {
 
         if (timeoutAdjustmentFactor < 0 || timeoutAdjustmentFactor > 100) {
             throw new IllegalArgumentException("Expected timeout adjustment factor should be in [0, 100].");
@@ -253,6 +260,11 @@ public class ExchangeService {
         this.clock = Objects.requireNonNull(clock);
         this.mapper = Objects.requireNonNull(mapper);
         this.criteriaLogManager = Objects.requireNonNull(criteriaLogManager);
+        this.bidderLatencyTracker = bidderLatencyTracker;
+        this.earlyAuctionCloser = bidderLatencyTracker != null
+                ? new EarlyAuctionCloser(bidderLatencyTracker, clock)
+                : null;
+        this.bidderThrottler = Objects.requireNonNull(bidderThrottler);
     }
 
     /**
@@ -303,15 +315,7 @@ public class ExchangeService {
 
                 .map(context -> updateRequestMetric(context, uidsCookie, aliases, account, requestTypeMetric))
 
-                .compose(context -> CompositeFuture.join(
-                                context.getAuctionParticipations().stream()
-                                        .map(auctionParticipation -> processAndRequestBids(
-                                                context,
-                                                auctionParticipation.getBidderRequest(),
-                                                timeout,
-                                                aliases)
-                                                .map(auctionParticipation::with))
-                                        .collect(Collectors.toCollection(ArrayList::new)))
+                .compose(context -> CompositeFuture.join(requestBidsFromParticipants(context, timeout, aliases))
                         // send all the requests to the bidders and gathers results
                         .map(CompositeFuture::<AuctionParticipation>list)
                         .map(storedResponseProcessor::updateStoredBidResponse)
@@ -325,6 +329,7 @@ public class ExchangeService {
                 // produce response from bidder results
                 .compose(context -> bidResponseCreator.create(context, cacheInfo, bidderToMultiBid)
                         .map(bidResponse -> publishAuctionEvent(bidResponse, context))
+                        .onSuccess(ignored -> bidderThrottler.recordOutcome(context))
                         .map(bidResponse -> criteriaLogManager.traceResponse(logger, bidResponse,
                                 context.getBidRequest(), context.getDebugContext().isDebugEnabled()))
                         .compose(bidResponse -> bidResponsePostProcessor.postProcess(
@@ -797,7 +802,7 @@ public class ExchangeService {
 
         Collections.shuffle(bidderRequests);
 
-        return bidderRequests;
+        return bidderThrottler.throttle(context, bidderRequests);
     }
 
     /**
@@ -1251,6 +1256,22 @@ public class ExchangeService {
                 .build();
     }
 
+    @SuppressWarnings("rawtypes")
+    private List<Future> requestBidsFromParticipants(AuctionContext context, Timeout timeout, BidderAliases aliases) {
+        final List<Future<AuctionParticipation>> participationFutures = context.getAuctionParticipations().stream()
+                .map(auctionParticipation -> processAndRequestBids(
+                        context,
+                        auctionParticipation.getBidderRequest(),
+                        timeout,
+                        aliases)
+                        .map(auctionParticipation::with))
+                .toList();
+
+        return earlyAuctionCloser != null
+                ? earlyAuctionCloser.closeEarlyIfNotWorthWaiting(context, participationFutures)
+                : new ArrayList<>(participationFutures);
+    }
+
     private Future<BidderResponse> processAndRequestBids(AuctionContext auctionContext,
                                                          BidderRequest bidderRequest,
                                                          Timeout timeout,
@@ -1357,7 +1378,22 @@ public class ExchangeService {
                         requestHeaders,
                         aliases,
                         debugResolver.resolveDebugForBidder(auctionContext, resolvedBidderName)))
-                .map(seatBid -> BidderResponse.of(bidderName, seatBid, responseTime(bidderRequestStartTime)));
+                .map(seatBid -> BidderResponse.of(bidderName, seatBid, responseTime(bidderRequestStartTime)))
+                .map(bidderResponse -> recordBidderLatency(bidderResponse, bidRejectionTracker));
+    }
+
+    /**
+     * Records bidder latency unless the auction was closed early without this bidder, late response is ignored.
+     */
+    private BidderResponse recordBidderLatency(BidderResponse bidderResponse, BidRejectionTracker bidRejectionTracker) {
+        if (bidderLatencyTracker != null && !bidRejectionTracker.isClosed()) {
+            bidderLatencyTracker.recordBidderResponse(
+                    bidderResponse.getBidder(),
+                    bidderResponse.getResponseTime(),
+                    CollectionUtils.isNotEmpty(bidderResponse.getSeatBid().getBids()));
+        }
+
+        return bidderResponse;
     }
 
     private BidRequest adjustTmax(BidRequest bidRequest, long startTime, long currentTime) {
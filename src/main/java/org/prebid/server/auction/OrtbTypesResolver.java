@@ -1,11 +1,22 @@
 package org.prebid.server.auction;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
+import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.User;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import org.apache.commons.collections4.CollectionUtils;
@@ -14,7 +25,9 @@ import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.json.JsonMerger;
 import org.prebid.server.log.ConditionalLogger;
+import org.prebid.server.proto.openrtb.ext.request.ExtBidderConfig;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -46,6 +59,7 @@ public class OrtbTypesResolver {
     private static final String UNKNOWN_REFERER = "unknown referer";
     private static final String DATA = "data";
     private static final String EXT = "ext";
+    private static final String WARNINGS_ATTRIBUTE = "ortbTypesResolverWarnings";
 
     private static final Map<String, Set<String>> FIRST_ARRAY_ELEMENT_STANDARD_FIELDS;
     private static final Map<String, Set<String>> FIRST_ARRAY_ELEMENT_REQUEST_FIELDS;
@@ -76,11 +90,20 @@ public class OrtbTypesResolver {
 
     private final JacksonMapper jacksonMapper;
     private final JsonMerger jsonMerger;
+    private final ObjectReader bidRequestReader;
 
     public OrtbTypesResolver(double logSamplingRate, JacksonMapper jacksonMapper, JsonMerger jsonMerger) {
         this.logSamplingRate = logSamplingRate;
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
         this.jsonMerger = Objects.requireNonNull(jsonMerger);
+
+        bidRequestReader = jacksonMapper.mapper().copy()
+                .registerModule(new SimpleModule()
+                        .addDeserializer(User.class, new RequestFpdDeserializer<>(User.class, USER))
+                        .addDeserializer(App.class, new RequestFpdDeserializer<>(App.class, APP))
+                        .addDeserializer(Site.class, new RequestFpdDeserializer<>(Site.class, SITE))
+                        .addDeserializer(ExtBidderConfig.class, new BidderConfigDeserializer()))
+                .readerFor(BidRequest.class);
     }
 
     /**
@@ -95,18 +118,38 @@ public class OrtbTypesResolver {
         final JsonNode bidderConfigs = bidRequest.path("ext").path("prebid").path("bidderconfig");
         if (!bidderConfigs.isMissingNode() && bidderConfigs.isArray()) {
             for (JsonNode bidderConfig : bidderConfigs) {
-
-                mergeFpdFieldsToOrtb2(bidderConfig);
-
-                final JsonNode ortb2Config = bidderConfig.path("config").path("ortb2");
-                if (!ortb2Config.isMissingNode()) {
-                    normalizeStandardFpdFields(ortb2Config, resolverWarnings, "bidrequest.ext.prebid.bidderconfig");
-                }
+                normalizeBidderConfig(bidderConfig.path("config"), resolverWarnings);
             }
         }
         processWarnings(resolverWarnings, warnings, rowOriginBidRequest, referer, BIDREQUEST);
     }
 
+    /**
+     * Parses {@param body} to {@link BidRequest} in a single pass, resolving fields types inconsistency
+     * the same way as {@link #normalizeBidRequest} does, but without building the whole request tree:
+     * only user, app, site and bidderconfig objects are materialized as {@link JsonNode} for normalization.
+     * Mutates {@param warnings}.
+     */
+    public BidRequest parseBidRequest(String body, List<String> warnings, String referer)
+            throws JsonProcessingException {
+
+        final List<String> resolverWarnings = new ArrayList<>();
+        final BidRequest bidRequest = bidRequestReader
+                .withAttribute(WARNINGS_ATTRIBUTE, resolverWarnings)
+                .readValue(body);
+        processWarnings(resolverWarnings, warnings, body, referer, BIDREQUEST);
+        return bidRequest;
+    }
+
+    private void normalizeBidderConfig(JsonNode config, List<String> warnings) {
+        mergeFpdFieldsToOrtb2(config);
+
+        final JsonNode ortb2Config = config.path("ortb2");
+        if (!ortb2Config.isMissingNode()) {
+            normalizeStandardFpdFields(ortb2Config, warnings, "bidrequest.ext.prebid.bidderconfig");
+        }
+    }
+
     private String getOriginalRowContainerNode(JsonNode bidRequest) {
         try {
             return jacksonMapper.mapper().writeValueAsString(bidRequest);
@@ -121,8 +164,7 @@ public class OrtbTypesResolver {
      * config.fpd.context -> config.ortb2.site
      * config.fpd.user -> config.ortb2.user
      */
-    private void mergeFpdFieldsToOrtb2(JsonNode bidderConfig) {
-        final JsonNode config = bidderConfig.path("config");
+    private void mergeFpdFieldsToOrtb2(JsonNode config) {
         final JsonNode configFpd = config.path("fpd");
 
         if (configFpd.isMissingNode()) {
@@ -378,4 +420,70 @@ public class OrtbTypesResolver {
     private List<String> updateWithWarningPrefix(List<String> resolverWarning) {
         return resolverWarning.stream().map(warning -> "WARNING: " + warning).toList();
     }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> warnings(DeserializationContext context) {
+        return (List<String>) context.getAttribute(WARNINGS_ATTRIBUTE);
+    }
+
+    /**
+     * Normalizes bidrequest.user, bidrequest.app and bidrequest.site while the request is being parsed.
+     */
+    private class RequestFpdDeserializer<T> extends StdDeserializer<T> {
+
+        private final String nodeName;
+
+        RequestFpdDeserializer(Class<T> type, String nodeName) {
+            super(type);
+            this.nodeName = nodeName;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            final JsonNode normalizedNode = normalize(parser.readValueAsTree(), context);
+            return normalizedNode != null
+                    ? jacksonMapper.mapper().treeToValue(normalizedNode, (Class<T>) handledType())
+                    : null;
+        }
+
+        @Override
+        public T getNullValue(DeserializationContext context) {
+            // explicit null is not an object, so it is removed with warning as well,
+            // but this method is also called when deserialize(...) has already removed invalid node
+            final JsonParser parser = context.getParser();
+            if (parser != null && parser.currentToken() == JsonToken.VALUE_NULL) {
+                normalize(NullNode.getInstance(), context);
+            }
+            return null;
+        }
+
+        @Override
+        public Object getAbsentValue(DeserializationContext context) {
+            // absent field is not a subject for normalization
+            return null;
+        }
+
+        private JsonNode normalize(JsonNode node, DeserializationContext context) {
+            return normalizeNode(node, nodeName, FIRST_ARRAY_ELEMENT_REQUEST_FIELDS, COMMA_SEPARATED_ELEMENT_FIELDS,
+                    BIDREQUEST + ".", warnings(context));
+        }
+    }
+
+    /**
+     * Normalizes bidrequest.ext.prebid.bidderconfig[].config while the request is being parsed.
+     */
+    private class BidderConfigDeserializer extends StdDeserializer<ExtBidderConfig> {
+
+        BidderConfigDeserializer() {
+            super(ExtBidderConfig.class);
+        }
+
+        @Override
+        public ExtBidderConfig deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            final JsonNode config = parser.readValueAsTree();
+            normalizeBidderConfig(config, warnings(context));
+            return jacksonMapper.mapper().treeToValue(config, ExtBidderConfig.class);
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package org.prebid.server.auction;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Video;
@@ -274,10 +275,17 @@ public class StoredRequestProcessor {
                                        String storedRequestId,
                                        StoredDataResult storedDataResult) {
 
+        if (StringUtils.isBlank(storedRequestId)) {
+            return originalRequest;
+        }
+
+        final JsonNode storedRequestNode = storedDataResult.getStoredIdToRequestNode().get(storedRequestId);
+        if (storedRequestNode != null) {
+            return jsonMerger.merge(originalRequest, storedRequestNode, storedRequestId, BidRequest.class);
+        }
+
         final String storedRequest = storedDataResult.getStoredIdToRequest().get(storedRequestId);
-        return StringUtils.isNotBlank(storedRequestId)
-                ? jsonMerger.merge(originalRequest, storedRequest, storedRequestId, BidRequest.class)
-                : originalRequest;
+        return jsonMerger.merge(originalRequest, storedRequest, storedRequestId, BidRequest.class);
     }
 
     /**
@@ -296,14 +304,22 @@ public class StoredRequestProcessor {
             final Imp imp = mergedImps.get(i);
             final String storedRequestId = impToStoredId.get(imp);
             if (storedRequestId != null) {
-                final String storedImp = storedDataResult.getStoredIdToImp().get(storedRequestId);
-                final Imp mergedImp = jsonMerger.merge(imp, storedImp, storedRequestId, Imp.class);
-                mergedImps.set(i, mergedImp);
+                mergedImps.set(i, mergeImp(imp, storedRequestId, storedDataResult));
             }
         }
         return bidRequest.toBuilder().imp(mergedImps).build();
     }
 
+    private Imp mergeImp(Imp imp, String storedRequestId, StoredDataResult storedDataResult) {
+        final JsonNode storedImpNode = storedDataResult.getStoredIdToImpNode().get(storedRequestId);
+        if (storedImpNode != null) {
+            return jsonMerger.merge(imp, storedImpNode, storedRequestId, Imp.class);
+        }
+
+        final String storedImp = storedDataResult.getStoredIdToImp().get(storedRequestId);
+        return jsonMerger.merge(imp, storedImp, storedRequestId, Imp.class);
+    }
+
     private BidRequest generateBidRequestIdForApp(BidRequest bidRequest) {
         return bidRequest.getApp() != null
                 ? generateBidRequestId(bidRequest)
@@ -3,6 +3,7 @@ package org.prebid.server.auction;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.response.Bid;
@@ -43,6 +44,9 @@ import java.util.stream.Collectors;
 
 /**
  * Resolves stored response data retrieving and BidderResponse merging processes.
+ * <p>
+ * Parsed stored auction responses are bound to exact instance of raw stored response, so they are parsed once
+ * while raw stored response is kept in settings cache and are released together with it.
  */
 public class StoredResponseProcessor {
 
@@ -57,6 +61,11 @@ public class StoredResponseProcessor {
     private final ApplicationSettings applicationSettings;
     private final JacksonMapper mapper;
 
+    private final Map<String, List<SeatBid>> rawToParsedSeatBids = Caffeine.newBuilder()
+            .weakKeys()
+            .<String, List<SeatBid>>build()
+            .asMap();
+
     public StoredResponseProcessor(ApplicationSettings applicationSettings,
                                    JacksonMapper mapper) {
 
@@ -230,8 +239,7 @@ public class StoredResponseProcessor {
                         "Failed to fetch stored auction response for impId = %s and storedAuctionResponse id = %s."
                                 .formatted(impId, id));
             }
-            final List<SeatBid> seatBids = parseSeatBid(id, rowSeatBid);
-            validateStoredSeatBid(seatBids);
+            final List<SeatBid> seatBids = getOrParseSeatBid(id, rowSeatBid);
             resolvedSeatBids.addAll(seatBids.stream()
                     .map(seatBid -> updateSeatBidBids(seatBid, impId))
                     .toList());
@@ -239,6 +247,22 @@ public class StoredResponseProcessor {
         return mergeSameBidderSeatBid(resolvedSeatBids);
     }
 
+    /**
+     * Returns valid parsed stored seatbids. They are shared between incoming requests and must not be modified.
+     */
+    private List<SeatBid> getOrParseSeatBid(String id, String rowSeatBid) {
+        final List<SeatBid> cachedSeatBids = rawToParsedSeatBids.get(rowSeatBid);
+        if (cachedSeatBids != null) {
+            return cachedSeatBids;
+        }
+
+        final List<SeatBid> seatBids = parseSeatBid(id, rowSeatBid);
+        validateStoredSeatBid(seatBids);
+
+        rawToParsedSeatBids.put(rowSeatBid, seatBids);
+        return seatBids;
+    }
+
     private List<SeatBid> parseSeatBid(String id, String rowSeatBid) {
         try {
             return mapper.mapper().readValue(rowSeatBid, SEATBID_LIST_TYPE);
@@ -248,7 +272,11 @@ public class StoredResponseProcessor {
     }
 
     private SeatBid updateSeatBidBids(SeatBid seatBid, String impId) {
-        return seatBid.toBuilder().bid(updateBidsWithImpId(seatBid.getBid(), impId)).build();
+        final ObjectNode ext = seatBid.getExt();
+        return seatBid.toBuilder()
+                .bid(updateBidsWithImpId(seatBid.getBid(), impId))
+                .ext(ext != null ? ext.deepCopy() : null)
+                .build();
     }
 
     private List<Bid> updateBidsWithImpId(List<Bid> bids, String impId) {
@@ -256,7 +284,8 @@ public class StoredResponseProcessor {
     }
 
     private static Bid updateBidWithImpId(Bid bid, String impId) {
-        return bid.toBuilder().impid(impId).build();
+        final ObjectNode ext = bid.getExt();
+        return bid.toBuilder().impid(impId).ext(ext != null ? ext.deepCopy() : null).build();
     }
 
     private void validateStoredSeatBid(List<SeatBid> seatBids) {
@@ -22,6 +22,7 @@ import org.prebid.server.settings.model.Account;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Builder(toBuilder = true)
 @Value
@@ -58,6 +59,9 @@ public class AuctionContext {
 
     Map<String, BidRejectionTracker> bidRejectionTrackers;
 
+    @JsonIgnore
+    Map<String, Set<String>> bidderToWonImpIds;
+
     GppContext gppContext;
 
     PrivacyContext privacyContext;
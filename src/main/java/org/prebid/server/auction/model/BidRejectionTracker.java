@@ -29,6 +29,7 @@ public class BidRejectionTracker {
     private final Set<String> involvedImpIds;
     private final Set<String> succeededImpIds;
     private final Map<String, BidRejectionReason> rejectedImpIds;
+    private boolean closed;
 
     public BidRejectionTracker(String bidder, Set<String> involvedImpIds, double logSamplingRate) {
         this.bidder = bidder;
@@ -40,7 +41,7 @@ public class BidRejectionTracker {
     }
 
     public void succeed(String impId) {
-        if (involvedImpIds.contains(impId)) {
+        if (!closed && involvedImpIds.contains(impId)) {
             succeededImpIds.add(impId);
             rejectedImpIds.remove(impId);
         }
@@ -60,6 +61,10 @@ public class BidRejectionTracker {
     }
 
     public void reject(String impId, BidRejectionReason reason) {
+        if (closed) {
+            return;
+        }
+
         if (involvedImpIds.contains(impId) && !rejectedImpIds.containsKey(impId)) {
             rejectedImpIds.put(impId, reason);
             succeededImpIds.remove(impId);
@@ -77,6 +82,19 @@ public class BidRejectionTracker {
         involvedImpIds.forEach(impId -> reject(impId, reason));
     }
 
+    /**
+     * Rejects all involved imps and ignores outcomes reported afterwards, used when bidder response is not awaited
+     * anymore, so that its late response doesn't change the auction.
+     */
+    public void rejectAllAndClose(BidRejectionReason reason) {
+        rejectAll(reason);
+        closed = true;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
     public Map<String, BidRejectionReason> getRejectionReasons() {
         final Map<String, BidRejectionReason> missingImpIds = new HashMap<>();
         for (String impId : involvedImpIds) {
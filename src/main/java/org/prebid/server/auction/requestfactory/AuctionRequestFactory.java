@@ -35,6 +35,7 @@ import java.util.Optional;
 public class AuctionRequestFactory {
 
     private final long maxRequestSize;
+    private final boolean streamingParsingEnabled;
     private final Ortb2RequestFactory ortb2RequestFactory;
     private final StoredRequestProcessor storedRequestProcessor;
     private final BidRequestOrtbVersionConversionManager ortbVersionConversionManager;
@@ -50,6 +51,7 @@ public class AuctionRequestFactory {
     private static final String ENDPOINT = Endpoint.openrtb2_auction.value();
 
     public AuctionRequestFactory(long maxRequestSize,
+                                 boolean streamingParsingEnabled,
                                  Ortb2RequestFactory ortb2RequestFactory,
                                  StoredRequestProcessor storedRequestProcessor,
                                  BidRequestOrtbVersionConversionManager ortbVersionConversionManager,
@@ -63,6 +65,7 @@ public class AuctionRequestFactory {
                                  JacksonMapper mapper) {
 
         this.maxRequestSize = maxRequestSize;
+        this.streamingParsingEnabled = streamingParsingEnabled;
         this.ortb2RequestFactory = Objects.requireNonNull(ortb2RequestFactory);
         this.storedRequestProcessor = Objects.requireNonNull(storedRequestProcessor);
         this.ortbVersionConversionManager = Objects.requireNonNull(ortbVersionConversionManager);
@@ -147,18 +150,32 @@ public class AuctionRequestFactory {
 
     private Future<BidRequest> parseBidRequest(HttpRequestContext httpRequest, List<String> errors) {
         try {
-            final JsonNode bidRequestNode = bodyAsJsonNode(httpRequest.getBody());
-
             final String referer = paramsExtractor.refererFrom(httpRequest);
-            ortbTypesResolver.normalizeBidRequest(bidRequestNode, errors, referer);
+            final BidRequest bidRequest = streamingParsingEnabled
+                    ? bodyAsBidRequest(httpRequest.getBody(), errors, referer)
+                    : bodyAsNormalizedTree(httpRequest.getBody(), errors, referer);
 
-            return Future.succeededFuture(jsonNodeAsBidRequest(bidRequestNode))
-                    .map(bidRequest -> fillWithValuesFromHttpRequest(bidRequest, httpRequest));
+            return Future.succeededFuture(bidRequest)
+                    .map(parsedBidRequest -> fillWithValuesFromHttpRequest(parsedBidRequest, httpRequest));
         } catch (Exception e) {
             return Future.failedFuture(e);
         }
     }
 
+    private BidRequest bodyAsBidRequest(String body, List<String> errors, String referer) {
+        try {
+            return ortbTypesResolver.parseBidRequest(body, errors, referer);
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("Error decoding bidRequest: " + e.getMessage());
+        }
+    }
+
+    private BidRequest bodyAsNormalizedTree(String body, List<String> errors, String referer) {
+        final JsonNode bidRequestNode = bodyAsJsonNode(body);
+        ortbTypesResolver.normalizeBidRequest(bidRequestNode, errors, referer);
+        return jsonNodeAsBidRequest(bidRequestNode);
+    }
+
     private JsonNode bodyAsJsonNode(String body) {
         try {
             return mapper.mapper().readTree(body);
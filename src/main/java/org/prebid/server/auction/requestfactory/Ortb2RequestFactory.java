@@ -140,6 +140,7 @@ public class Ortb2RequestFactory {
                 .txnLog(TxnLog.create())
                 .debugHttpCalls(new HashMap<>())
                 .bidRejectionTrackers(new HashMap<>())
+                .bidderToWonImpIds(new HashMap<>())
                 .build();
     }
 
@@ -0,0 +1,273 @@
+package org.prebid.server.auction.throttling;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Pmp;
+import com.iab.openrtb.request.Video;
+import com.iab.openrtb.response.Bid;
+import org.apache.commons.collections4.CollectionUtils;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.BidderRequest;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.bidder.model.BidderBid;
+import org.prebid.server.bidder.model.BidderError;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.model.Account;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * {@link BidRateBidderThrottler} is an implementation of {@link BidderThrottler} that skips requests to bidders
+ * which recently did not bid on similar impressions of the same account.
+ * <p>
+ * Bid and win rates are collected per bidder, account, media type and size with exponential decay,
+ * so statistics follow changes of bidder behaviour. Only bids which won the impression in the auction
+ * are counted as wins. Number of tracked combinations is bounded.
+ * <p>
+ * Request is sent with probability proportional to the recent bid rate, but not less than exploration rate,
+ * to keep statistics of throttled bidders up to date. Requests with deals are never throttled.
+ */
+public class BidRateBidderThrottler implements BidderThrottler {
+
+    private static final String NO_SIZE = "-";
+
+    private final double explorationRate;
+    private final double minBidRate;
+    private final double minWinRate;
+    private final double minRequests;
+    private final long halfLifeMillis;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    private final Cache<String, YieldStats> statsCache;
+
+    public BidRateBidderThrottler(double explorationRate,
+                                  double minBidRate,
+                                  double minWinRate,
+                                  long minRequests,
+                                  long halfLifeMillis,
+                                  long maxEntries,
+                                  Metrics metrics,
+                                  Clock clock) {
+
+        if (explorationRate < 0 || explorationRate > 1) {
+            throw new IllegalArgumentException("Exploration rate should be in [0, 1]: " + explorationRate);
+        }
+        if (minBidRate <= 0 || minBidRate > 1) {
+            throw new IllegalArgumentException("Minimum bid rate should be in (0, 1]: " + minBidRate);
+        }
+        if (halfLifeMillis <= 0) {
+            throw new IllegalArgumentException("Half-life should be positive: " + halfLifeMillis);
+        }
+
+        this.explorationRate = explorationRate;
+        this.minBidRate = minBidRate;
+        this.minWinRate = minWinRate;
+        this.minRequests = minRequests;
+        this.halfLifeMillis = halfLifeMillis;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+
+        statsCache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    @Override
+    public List<AuctionParticipation> throttle(AuctionContext auctionContext,
+                                               List<AuctionParticipation> auctionParticipations) {
+
+        final Account account = auctionContext.getAccount();
+        final long now = clock.millis();
+
+        final List<AuctionParticipation> result = new ArrayList<>(auctionParticipations.size());
+        for (AuctionParticipation auctionParticipation : auctionParticipations) {
+            if (!shouldThrottle(auctionParticipation, account.getId(), now)) {
+                result.add(auctionParticipation);
+                continue;
+            }
+
+            final String bidder = auctionParticipation.getBidder();
+            metrics.updateAdapterRequestThrottledMetrics(bidder, account);
+            if (auctionContext.getDebugContext().isDebugEnabled()) {
+                auctionContext.getDebugWarnings()
+                        .add("Bidder %s was throttled due to low recent bid rate".formatted(bidder));
+            }
+        }
+
+        return result;
+    }
+
+    private boolean shouldThrottle(AuctionParticipation auctionParticipation, String accountId, long now) {
+        final BidderRequest bidderRequest = auctionParticipation.getBidderRequest();
+        final List<Imp> imps = bidderRequest != null ? bidderRequest.getBidRequest().getImp() : null;
+        if (CollectionUtils.isEmpty(imps) || bidderRequest.getStoredResponse() != null) {
+            return false;
+        }
+
+        double sendProbability = explorationRate;
+        for (Imp imp : imps) {
+            final YieldStats stats = hasDeals(imp)
+                    ? null
+                    : statsCache.getIfPresent(statsKey(auctionParticipation.getBidder(), accountId, imp));
+            if (stats == null) {
+                return false;
+            }
+
+            sendProbability = Math.max(sendProbability, stats.sendProbability(now));
+            if (sendProbability >= 1) {
+                return false;
+            }
+        }
+
+        return ThreadLocalRandom.current().nextDouble() >= sendProbability;
+    }
+
+    private static boolean hasDeals(Imp imp) {
+        final Pmp pmp = imp.getPmp();
+        return pmp != null && CollectionUtils.isNotEmpty(pmp.getDeals());
+    }
+
+    @Override
+    public void recordOutcome(AuctionContext auctionContext) {
+        final String accountId = auctionContext.getAccount().getId();
+        final Map<String, Set<String>> bidderToWonImpIds = auctionContext.getBidderToWonImpIds();
+        final long now = clock.millis();
+
+        for (AuctionParticipation auctionParticipation : auctionContext.getAuctionParticipations()) {
+            final BidderRequest bidderRequest = auctionParticipation.getBidderRequest();
+            final BidderResponse bidderResponse = auctionParticipation.getBidderResponse();
+            if (bidderRequest == null || bidderResponse == null || isTimedOut(bidderResponse)) {
+                continue;
+            }
+
+            final String bidder = auctionParticipation.getBidder();
+            final Set<String> bidImpIds = bidderResponse.getSeatBid().getBids().stream()
+                    .map(BidderBid::getBid)
+                    .map(Bid::getImpid)
+                    .collect(Collectors.toSet());
+            final Set<String> wonImpIds = bidderToWonImpIds.getOrDefault(bidder, Collections.emptySet());
+
+            for (Imp imp : bidderRequest.getBidRequest().getImp()) {
+                final String impId = imp.getId();
+                statsCache.get(statsKey(bidder, accountId, imp), key -> new YieldStats(now))
+                        .record(now, bidImpIds.contains(impId), wonImpIds.contains(impId));
+            }
+        }
+    }
+
+    /**
+     * Returns recent win rate of bidder on impressions of the account similar to the given one.
+     */
+    double winRate(String bidder, String accountId, Imp imp) {
+        final YieldStats stats = statsCache.getIfPresent(statsKey(bidder, accountId, imp));
+        return stats != null ? stats.winRate(clock.millis()) : 0;
+    }
+
+    /**
+     * Timed out bidders are not recorded, since their responses say nothing about their bid rate.
+     */
+    private static boolean isTimedOut(BidderResponse bidderResponse) {
+        return bidderResponse.getSeatBid().getErrors().stream()
+                .anyMatch(error -> error.getType() == BidderError.Type.timeout);
+    }
+
+    private static String statsKey(String bidder, String accountId, Imp imp) {
+        return bidder + '|' + accountId + '|' + mediaTypeAndSize(imp);
+    }
+
+    private static String mediaTypeAndSize(Imp imp) {
+        final Banner banner = imp.getBanner();
+        if (banner != null) {
+            final List<Format> formats = banner.getFormat();
+            final Format format = CollectionUtils.isNotEmpty(formats) ? formats.get(0) : null;
+            return format != null
+                    ? "banner|" + size(format.getW(), format.getH())
+                    : "banner|" + size(banner.getW(), banner.getH());
+        }
+
+        final Video video = imp.getVideo();
+        if (video != null) {
+            return "video|" + size(video.getW(), video.getH());
+        }
+
+        if (imp.getXNative() != null) {
+            return "native|" + NO_SIZE;
+        }
+
+        return imp.getAudio() != null ? "audio|" + NO_SIZE : NO_SIZE;
+    }
+
+    private static String size(Integer width, Integer height) {
+        return width != null && height != null ? width + "x" + height : NO_SIZE;
+    }
+
+    /**
+     * Exponentially decayed counters of requests, responses with bids and won bids.
+     */
+    private class YieldStats {
+
+        private double requests;
+        private double bids;
+        private double wins;
+        private long updatedAt;
+
+        YieldStats(long updatedAt) {
+            this.updatedAt = updatedAt;
+        }
+
+        synchronized void record(long now, boolean hasBid, boolean won) {
+            decay(now);
+
+            requests++;
+            if (hasBid) {
+                bids++;
+            }
+            if (won) {
+                wins++;
+            }
+        }
+
+        synchronized double sendProbability(long now) {
+            decay(now);
+
+            if (requests < minRequests) {
+                return 1;
+            }
+            if (minWinRate > 0 && wins / requests >= minWinRate) {
+                return 1;
+            }
+            return Math.min(bids / requests / minBidRate, 1);
+        }
+
+        synchronized double winRate(long now) {
+            decay(now);
+
+            return requests > 0 ? wins / requests : 0;
+        }
+
+        private void decay(long now) {
+            if (now <= updatedAt) {
+                return;
+            }
+
+            final double factor = Math.pow(0.5, (double) (now - updatedAt) / halfLifeMillis);
+            requests *= factor;
+            bids *= factor;
+            wins *= factor;
+            updatedAt = now;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package org.prebid.server.auction.throttling;
+
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionParticipation;
+
+import java.util.List;
+
+public interface BidderThrottler {
+
+    List<AuctionParticipation> throttle(AuctionContext auctionContext,
+                                        List<AuctionParticipation> auctionParticipations);
+
+    void recordOutcome(AuctionContext auctionContext);
+}
@@ -0,0 +1,20 @@
+package org.prebid.server.auction.throttling;
+
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionParticipation;
+
+import java.util.List;
+
+public class NoOpBidderThrottler implements BidderThrottler {
+
+    @Override
+    public List<AuctionParticipation> throttle(AuctionContext auctionContext,
+                                               List<AuctionParticipation> auctionParticipations) {
+
+        return auctionParticipations;
+    }
+
+    @Override
+    public void recordOutcome(AuctionContext auctionContext) {
+    }
+}
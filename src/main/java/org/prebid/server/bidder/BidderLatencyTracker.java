@@ -0,0 +1,178 @@
+package org.prebid.server.bidder;
+
+import lombok.Value;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks recent response times and bid rates of bidders and their endpoints.
+ * <p>
+ * Used to derive effective timeout of request to bidder endpoint from its latency percentile within the remaining
+ * auction time, and to close the auction early when bidders still awaited are not expected to bring any bids.
+ * <p>
+ * Statistics are collected in time windows, each window is calculated from the responses of the previous one,
+ * so they follow changes of bidder latency over time.
+ */
+public class BidderLatencyTracker {
+
+    private static final long MAX_TRACKABLE_LATENCY = TimeUnit.MINUTES.toMillis(1);
+    private static final int SIGNIFICANT_VALUE_DIGITS = 2;
+
+    private final double percentile;
+    private final double timeoutMultiplier;
+    private final long minSamples;
+    private final long windowMillis;
+    private final double earlyCloseThreshold;
+    private final Clock clock;
+
+    private final Map<String, Stats> bidderStats = new ConcurrentHashMap<>();
+    private final Map<String, Stats> endpointStats = new ConcurrentHashMap<>();
+
+    public BidderLatencyTracker(double percentile,
+                                double timeoutMultiplier,
+                                long minSamples,
+                                long windowMillis,
+                                double earlyCloseThreshold,
+                                Clock clock) {
+
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("Latency percentile should be in (0, 100]: " + percentile);
+        }
+        if (timeoutMultiplier < 1) {
+            throw new IllegalArgumentException("Timeout multiplier cannot be less than 1: " + timeoutMultiplier);
+        }
+
+        this.percentile = percentile;
+        this.timeoutMultiplier = timeoutMultiplier;
+        this.minSamples = minSamples;
+        this.windowMillis = windowMillis;
+        this.earlyCloseThreshold = earlyCloseThreshold;
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    public void recordEndpointLatency(String endpoint, long latency) {
+        statsFor(endpointStats, endpoint).record(latency, false);
+    }
+
+    public void recordBidderResponse(String bidder, long latency, boolean hasBids) {
+        statsFor(bidderStats, bidder).record(latency, hasBids);
+    }
+
+    /**
+     * Returns timeout for the request to the given bidder endpoint: latency percentile of the endpoint
+     * (or the whole bidder if endpoint was not observed enough yet) multiplied by configured factor,
+     * but not greater than remaining timeout.
+     */
+    public long resolveTimeout(String bidder, String endpoint, long remainingTimeout) {
+        final Window endpointWindow = windowOf(endpointStats, endpoint);
+        final Window window = endpointWindow != null ? endpointWindow : windowOf(bidderStats, bidder);
+        if (window == null) {
+            return remainingTimeout;
+        }
+
+        final long timeout = Math.max((long) Math.ceil(window.getLatencyPercentile() * timeoutMultiplier), 1L);
+        return Math.min(timeout, remainingTimeout);
+    }
+
+    /**
+     * Checks whether expected contribution of the given bidders, measured as sum of their recent bid rates,
+     * is less than configured threshold. Bidders without enough statistics are always considered worth waiting.
+     */
+    public boolean isNotWorthWaiting(Collection<String> bidders) {
+        if (earlyCloseThreshold <= 0) {
+            return false;
+        }
+
+        double expectedContribution = 0;
+        for (String bidder : bidders) {
+            final Window window = windowOf(bidderStats, bidder);
+            if (window == null) {
+                return false;
+            }
+
+            expectedContribution += window.getBidRate();
+            if (expectedContribution >= earlyCloseThreshold) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private Stats statsFor(Map<String, Stats> stats, String key) {
+        return stats.computeIfAbsent(key, ignored -> new Stats(clock.millis()));
+    }
+
+    private Window windowOf(Map<String, Stats> stats, String key) {
+        final Stats keyStats = key != null ? stats.get(key) : null;
+        if (keyStats == null) {
+            return null;
+        }
+
+        keyStats.maybeRoll();
+        return keyStats.window;
+    }
+
+    private class Stats {
+
+        private final Recorder recorder = new Recorder(MAX_TRACKABLE_LATENCY, SIGNIFICANT_VALUE_DIGITS);
+        private final LongAdder responsesWithBids = new LongAdder();
+
+        private Histogram intervalHistogram;
+        private volatile long windowStart;
+        private volatile Window window;
+
+        Stats(long windowStart) {
+            this.windowStart = windowStart;
+        }
+
+        void record(long latency, boolean hasBids) {
+            recorder.recordValue(Math.min(Math.max(latency, 0L), MAX_TRACKABLE_LATENCY));
+            if (hasBids) {
+                responsesWithBids.increment();
+            }
+
+            maybeRoll();
+        }
+
+        void maybeRoll() {
+            final long now = clock.millis();
+            if (now - windowStart < windowMillis) {
+                return;
+            }
+
+            synchronized (this) {
+                if (now - windowStart < windowMillis) {
+                    return;
+                }
+
+                intervalHistogram = recorder.getIntervalHistogram(intervalHistogram);
+                final long withBids = responsesWithBids.sumThenReset();
+                final long total = intervalHistogram.getTotalCount();
+
+                window = total >= minSamples && total > 0
+                        ? Window.of(
+                        intervalHistogram.getValueAtPercentile(percentile),
+                        Math.min((double) withBids / total, 1.0))
+                        : null;
+                windowStart = now;
+            }
+        }
+    }
+
+    @Value(staticConstructor = "of")
+    private static class Window {
+
+        long latencyPercentile;
+
+        double bidRate;
+    }
+}
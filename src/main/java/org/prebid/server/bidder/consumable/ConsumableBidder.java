@@ -173,7 +173,7 @@ public class ConsumableBidder implements Bidder<ConsumableBidRequest> {
     public Result<List<BidderBid>> makeBids(BidderCall<ConsumableBidRequest> httpCall, BidRequest bidRequest) {
         final ConsumableBidResponse consumableResponse;
         try {
-            consumableResponse = mapper.decodeValue(httpCall.getResponse().getBody(), ConsumableBidResponse.class);
+            consumableResponse = mapper.decodeValue(httpCall.getResponse().getBodyBytes(), ConsumableBidResponse.class);
         } catch (DecodeException e) {
             return Result.withError(BidderError.badServerResponse(e.getMessage()));
         }
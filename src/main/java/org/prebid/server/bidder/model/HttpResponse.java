@@ -1,19 +1,61 @@
 package org.prebid.server.bidder.model;
 
 import io.vertx.core.MultiMap;
-import lombok.AllArgsConstructor;
-import lombok.Value;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
 
 /**
  * Packages together information from the server's http response.
+ * <p>
+ * Bidders should decode {@link #getBodyBytes()} directly, {@link #getBody()} is decoded lazily
+ * and is intended mostly for debug output. Responses created from {@link String} body encode it to bytes lazily.
  */
-@AllArgsConstructor(staticName = "of")
-@Value
+@Getter
+@EqualsAndHashCode
+@ToString
 public class HttpResponse {
 
-    int statusCode;
+    private final int statusCode;
+
+    private final MultiMap headers;
+
+    @ToString.Exclude
+    private volatile byte[] bodyBytes;
+
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private volatile String body;
+
+    private HttpResponse(int statusCode, MultiMap headers, byte[] bodyBytes, String body) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.bodyBytes = bodyBytes;
+        this.body = body;
+    }
+
+    public static HttpResponse of(int statusCode, MultiMap headers, String body) {
+        return new HttpResponse(statusCode, headers, null, body);
+    }
+
+    public static HttpResponse fromBytes(int statusCode, MultiMap headers, byte[] bodyBytes) {
+        return new HttpResponse(statusCode, headers, bodyBytes, null);
+    }
 
-    MultiMap headers;
+    @ToString.Include(name = "body")
+    public String getBody() {
+        if (body == null && bodyBytes != null) {
+            body = new String(bodyBytes, StandardCharsets.UTF_8);
+        }
+        return body;
+    }
 
-    String body;
+    public byte[] getBodyBytes() {
+        if (bodyBytes == null && body != null) {
+            bodyBytes = body.getBytes(StandardCharsets.UTF_8);
+        }
+        return bodyBytes;
+    }
 }
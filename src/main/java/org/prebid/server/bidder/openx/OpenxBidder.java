@@ -83,7 +83,7 @@ public class OpenxBidder implements Bidder<BidRequest> {
     @Override
     public CompositeBidderResponse makeBidderResponse(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
-            final OpenxBidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(),
+            final OpenxBidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBodyBytes(),
                     OpenxBidResponse.class);
             return CompositeBidderResponse.withBids(extractBids(bidRequest, bidResponse), extractFledge(bidResponse));
         } catch (DecodeException e) {
@@ -18,9 +18,11 @@ import org.prebid.server.deals.model.TxnLog;
 import org.prebid.server.deals.proto.DeliverySchedule;
 import org.prebid.server.deals.proto.LineItemMetaData;
 import org.prebid.server.deals.proto.Price;
+import org.prebid.server.deals.targeting.RequestContext;
 import org.prebid.server.deals.targeting.TargetingDefinition;
 import org.prebid.server.exception.TargetingSyntaxException;
 import org.prebid.server.log.CriteriaLogManager;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.openrtb.ext.response.ExtTraceDeal.Category;
 import org.prebid.server.util.HttpUtil;
 
@@ -68,9 +70,11 @@ public class LineItemService {
     private final String adServerCurrency;
     private final Clock clock;
     private final CriteriaLogManager criteriaLogManager;
+    private final Metrics metrics;
 
     protected final Map<String, LineItem> idToLineItems;
     protected volatile boolean isPlannerResponsive;
+    private volatile LineItemsIndex lineItemsIndex;
 
     public LineItemService(int maxDealsPerBidder,
                            TargetingService targetingService,
@@ -78,7 +82,8 @@ public class LineItemService {
                            ApplicationEventService applicationEventService,
                            String adServerCurrency,
                            Clock clock,
-                           CriteriaLogManager criteriaLogManager) {
+                           CriteriaLogManager criteriaLogManager,
+                           Metrics metrics) {
 
         this.maxDealsPerBidder = maxDealsPerBidder;
         this.targetingService = Objects.requireNonNull(targetingService);
@@ -87,8 +92,12 @@ public class LineItemService {
         this.adServerCurrency = Objects.requireNonNull(adServerCurrency);
         this.clock = Objects.requireNonNull(clock);
         this.criteriaLogManager = Objects.requireNonNull(criteriaLogManager);
+        this.metrics = Objects.requireNonNull(metrics);
 
         idToLineItems = new ConcurrentHashMap<>();
+        lineItemsIndex = LineItemsIndex.EMPTY;
+
+        metrics.createLineItemsIndexSizeGauge(() -> lineItemsIndex.size());
     }
 
     /**
@@ -110,8 +119,9 @@ public class LineItemService {
      */
     public boolean accountHasDeals(String account, ZonedDateTime now) {
         return StringUtils.isNotEmpty(account)
-                && idToLineItems.values().stream().anyMatch(lineItem -> Objects.equals(lineItem.getAccountId(), account)
-                && lineItem.isActive(now));
+                && lineItemsIndex.sourceToLineItems(account).values().stream()
+                .flatMap(Collection::stream)
+                .anyMatch(lineItem -> lineItem.isActive(now));
     }
 
     /**
@@ -139,9 +149,10 @@ public class LineItemService {
                                                          AuctionContext auctionContext,
                                                          ZonedDateTime now) {
 
+        final RequestContext requestContext = targetingService.createRequestContext(bidRequest, imp, auctionContext);
         final List<LineItem> matchedLineItems =
                 getPreMatchedLineItems(auctionContext.getAccount().getId(), bidder, aliases).stream()
-                        .filter(lineItem -> isTargetingMatched(lineItem, bidRequest, imp, auctionContext))
+                        .filter(lineItem -> isTargetingMatched(lineItem, requestContext, imp, auctionContext))
                         .toList();
 
         return MatchLineItemsResult.of(
@@ -170,20 +181,33 @@ public class LineItemService {
 
             removeInactiveLineItems(planResponse, now);
             lineItemsMetaData.forEach(lineItemMetaData -> updateLineItem(lineItemMetaData, now));
+            rebuildLineItemsIndex();
         }
     }
 
     public void invalidateLineItemsByIds(List<String> lineItemIds) {
         idToLineItems.entrySet().removeIf(stringLineItemEntry -> lineItemIds.contains(stringLineItemEntry.getKey()));
+        rebuildLineItemsIndex();
         logger.info("Line Items with ids {0} were removed", String.join(", ", lineItemIds));
     }
 
     public void invalidateLineItems() {
         final String lineItemsToRemove = String.join(", ", idToLineItems.keySet());
         idToLineItems.clear();
+        rebuildLineItemsIndex();
         logger.info("Line Items with ids {0} were removed", lineItemsToRemove);
     }
 
+    /**
+     * Replaces lookup index with the one reflecting current line items. Synchronized, so the index published last
+     * is never older than any line items modification that preceded it.
+     */
+    private synchronized void rebuildLineItemsIndex() {
+        final long startTime = System.nanoTime();
+        lineItemsIndex = LineItemsIndex.of(idToLineItems.values());
+        metrics.updateLineItemsIndexRebuildTime(System.nanoTime() - startTime);
+    }
+
     private boolean isExpired(ZonedDateTime now, ZonedDateTime endTime) {
         return now.isAfter(endTime);
     }
@@ -272,11 +296,9 @@ public class LineItemService {
             return Collections.emptyList();
         }
 
-        final List<LineItem> accountsLineItems = idToLineItems.values().stream()
-                .filter(lineItem -> lineItem.getAccountId().equals(accountId))
-                .toList();
+        final Map<String, List<LineItem>> sourceToLineItems = lineItemsIndex.sourceToLineItems(accountId);
 
-        if (accountsLineItems.isEmpty()) {
+        if (sourceToLineItems.isEmpty()) {
             criteriaLogManager.log(
                     logger,
                     accountId,
@@ -285,8 +307,10 @@ public class LineItemService {
             return Collections.emptyList();
         }
 
-        return accountsLineItems.stream()
-                .filter(lineItem -> aliases.isSame(bidder, lineItem.getSource()))
+        return sourceToLineItems.entrySet().stream()
+                .filter(entry -> aliases.isSame(bidder, entry.getKey()))
+                .map(Map.Entry::getValue)
+                .flatMap(Collection::stream)
                 .toList();
     }
 
@@ -296,7 +320,7 @@ public class LineItemService {
      * Updates deep debug log with matching information.
      */
     private boolean isTargetingMatched(LineItem lineItem,
-                                       BidRequest bidRequest,
+                                       RequestContext requestContext,
                                        Imp imp,
                                        AuctionContext auctionContext) {
 
@@ -315,8 +339,7 @@ public class LineItemService {
             return false;
         }
 
-        final boolean matched = targetingService.matchesTargeting(
-                bidRequest, imp, lineItem.getTargetingDefinition(), auctionContext);
+        final boolean matched = targetingService.matchesTargeting(requestContext, targetingDefinition);
 
         final String debugMessage = matched
                 ? "Line Item %s targeting matched imp with id %s".formatted(lineItemId, imp.getId())
@@ -588,4 +611,42 @@ public class LineItemService {
                 .get(topLineItem.getSource())
                 .add(topLineItem.getLineItemId());
     }
+
+    /**
+     * Immutable view of line items partitioned by account and then by source (bidder), so auction looks up
+     * only line items relevant to it.
+     */
+    private static class LineItemsIndex {
+
+        private static final LineItemsIndex EMPTY = new LineItemsIndex(Collections.emptyMap(), 0);
+
+        private final Map<String, Map<String, List<LineItem>>> accountToSourceToLineItems;
+        private final int size;
+
+        private LineItemsIndex(Map<String, Map<String, List<LineItem>>> accountToSourceToLineItems, int size) {
+            this.accountToSourceToLineItems = accountToSourceToLineItems;
+            this.size = size;
+        }
+
+        static LineItemsIndex of(Collection<LineItem> lineItems) {
+            final List<LineItem> indexedLineItems = lineItems.stream()
+                    .filter(lineItem -> lineItem.getAccountId() != null && lineItem.getSource() != null)
+                    .toList();
+
+            final Map<String, Map<String, List<LineItem>>> accountToSourceToLineItems = indexedLineItems.stream()
+                    .collect(Collectors.groupingBy(
+                            LineItem::getAccountId,
+                            Collectors.groupingBy(LineItem::getSource)));
+
+            return new LineItemsIndex(accountToSourceToLineItems, indexedLineItems.size());
+        }
+
+        Map<String, List<LineItem>> sourceToLineItems(String accountId) {
+            return accountToSourceToLineItems.getOrDefault(accountId, Collections.emptyMap());
+        }
+
+        int size() {
+            return size;
+        }
+    }
 }
@@ -60,6 +60,14 @@ public class TargetingService {
         return TargetingDefinition.of(parseNode(targetingDefinition, lineItemId));
     }
 
+    /**
+     * Creates snapshot of OpenRTB2 request and particular Imp attributes, which is meant to be shared
+     * by all Line Items targeting definitions evaluated against this Imp.
+     */
+    public RequestContext createRequestContext(BidRequest bidRequest, Imp imp, AuctionContext auctionContext) {
+        return new RequestContext(bidRequest, imp, auctionContext.getTxnLog(), mapper);
+    }
+
     /**
      * Accepts OpenRTB2 request and particular Imp object to evaluate Line Item targeting
      * definition against and returns whether it is matched or not.
@@ -69,7 +77,14 @@ public class TargetingService {
                                     TargetingDefinition targetingDefinition,
                                     AuctionContext auctionContext) {
 
-        final RequestContext requestContext = new RequestContext(bidRequest, imp, auctionContext.getTxnLog(), mapper);
+        return matchesTargeting(createRequestContext(bidRequest, imp, auctionContext), targetingDefinition);
+    }
+
+    /**
+     * Evaluates Line Item targeting definition against previously created {@link RequestContext}
+     * and returns whether it is matched or not.
+     */
+    public boolean matchesTargeting(RequestContext requestContext, TargetingDefinition targetingDefinition) {
         return targetingDefinition.getRootExpression().matches(requestContext);
     }
 
@@ -64,7 +64,7 @@ public class SimulationAwareHttpBidderRequester extends HttpBidderRequester {
             LineItemService lineItemService,
             JacksonMapper mapper) {
 
-        super(httpClient, bidderRequestCompletionTrackerFactory, bidderErrorNotifier, requestEnricher, mapper);
+        super(httpClient, bidderRequestCompletionTrackerFactory, bidderErrorNotifier, requestEnricher, mapper, null);
 
         this.lineItemService = Objects.requireNonNull(lineItemService);
         this.mapper = Objects.requireNonNull(mapper);
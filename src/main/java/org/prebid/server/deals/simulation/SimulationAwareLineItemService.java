@@ -10,6 +10,7 @@ import org.prebid.server.deals.TargetingService;
 import org.prebid.server.deals.events.ApplicationEventService;
 import org.prebid.server.deals.model.MatchLineItemsResult;
 import org.prebid.server.log.CriteriaLogManager;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.util.HttpUtil;
 import org.springframework.beans.factory.annotation.Value;
 
@@ -25,7 +26,8 @@ public class SimulationAwareLineItemService extends LineItemService {
                                           ApplicationEventService applicationEventService,
                                           @Value("${auction.ad-server-currency}}") String adServerCurrency,
                                           Clock clock,
-                                          CriteriaLogManager criteriaLogManager) {
+                                          CriteriaLogManager criteriaLogManager,
+                                          Metrics metrics) {
 
         super(
                 maxDealsPerBidder,
@@ -34,7 +36,8 @@ public class SimulationAwareLineItemService extends LineItemService {
                 applicationEventService,
                 adServerCurrency,
                 clock,
-                criteriaLogManager);
+                criteriaLogManager,
+                metrics);
     }
 
     @Override
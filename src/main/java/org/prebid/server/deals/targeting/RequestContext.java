@@ -41,6 +41,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -49,6 +50,12 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+/**
+ * Snapshot of OpenRTB2 request and particular Imp attributes used for line items targeting evaluation.
+ * <p>
+ * Values are looked up and normalized at most once per targeting category, so the same instance is expected
+ * to be shared by all line items evaluated against the Imp. Not thread-safe.
+ */
 public class RequestContext {
 
     private static final String EXT_BIDDER = "bidder.";
@@ -66,6 +73,14 @@ public class RequestContext {
     private final AttributeReader<Site> siteReader;
     private final AttributeReader<App> appReader;
 
+    private final Map<TargetingCategory, LookupResult<String>> stringLookups = new HashMap<>();
+    private final Map<TargetingCategory, LookupResult<String>> lowerCaseStringLookups = new HashMap<>();
+    private final Map<TargetingCategory, LookupResult<Integer>> integerLookups = new HashMap<>();
+    private final Map<TargetingCategory, LookupResult<List<String>>> stringsLookups = new HashMap<>();
+    private final Map<TargetingCategory, LookupResult<List<String>>> lowerCaseStringsLookups = new HashMap<>();
+    private final Map<TargetingCategory, LookupResult<List<Integer>>> integersLookups = new HashMap<>();
+    private LookupResult<List<Size>> sizesLookup;
+
     public RequestContext(BidRequest bidRequest,
                           Imp imp,
                           TxnLog txnLog,
@@ -95,6 +110,20 @@ public class RequestContext {
     }
 
     public LookupResult<String> lookupString(TargetingCategory category) {
+        return stringLookups.computeIfAbsent(category, this::readString);
+    }
+
+    /**
+     * Returns the same values as {@link #lookupString(TargetingCategory)} does, but lower-cased.
+     */
+    public LookupResult<String> lookupLowerCaseString(TargetingCategory category) {
+        return lowerCaseStringLookups.computeIfAbsent(category, key -> LookupResult.of(
+                lookupString(key).getValues().stream()
+                        .map(String::toLowerCase)
+                        .toList()));
+    }
+
+    private LookupResult<String> readString(TargetingCategory category) {
         final TargetingCategory.Type type = category.type();
         final String path = category.path();
 
@@ -125,6 +154,10 @@ public class RequestContext {
     }
 
     public LookupResult<Integer> lookupInteger(TargetingCategory category) {
+        return integerLookups.computeIfAbsent(category, this::readInteger);
+    }
+
+    private LookupResult<Integer> readInteger(TargetingCategory category) {
         final TargetingCategory.Type type = category.type();
         final String path = category.path();
 
@@ -148,6 +181,20 @@ public class RequestContext {
     }
 
     public LookupResult<List<String>> lookupStrings(TargetingCategory category) {
+        return stringsLookups.computeIfAbsent(category, this::readStrings);
+    }
+
+    /**
+     * Returns the same values as {@link #lookupStrings(TargetingCategory)} does, but lower-cased.
+     */
+    public LookupResult<List<String>> lookupLowerCaseStrings(TargetingCategory category) {
+        return lowerCaseStringsLookups.computeIfAbsent(category, key -> LookupResult.of(
+                lookupStrings(key).getValues().stream()
+                        .map(values -> values.stream().map(String::toLowerCase).toList())
+                        .toList()));
+    }
+
+    private LookupResult<List<String>> readStrings(TargetingCategory category) {
         final TargetingCategory.Type type = category.type();
         final String path = category.path();
         final User user = bidRequest.getUser();
@@ -166,6 +213,10 @@ public class RequestContext {
     }
 
     public LookupResult<List<Integer>> lookupIntegers(TargetingCategory category) {
+        return integersLookups.computeIfAbsent(category, this::readIntegers);
+    }
+
+    private LookupResult<List<Integer>> readIntegers(TargetingCategory category) {
         final TargetingCategory.Type type = category.type();
         final String path = category.path();
         final User user = bidRequest.getUser();
@@ -187,9 +238,12 @@ public class RequestContext {
             throw new TargetingSyntaxException("Unexpected category for fetching sizes for: " + type);
         }
 
-        final List<Size> sizes = ListUtils.union(sizesFromBanner(imp), sizesFromVideo(imp));
+        if (sizesLookup == null) {
+            final List<Size> sizes = ListUtils.union(sizesFromBanner(imp), sizesFromVideo(imp));
+            sizesLookup = !sizes.isEmpty() ? LookupResult.ofValue(sizes) : LookupResult.empty();
+        }
 
-        return !sizes.isEmpty() ? LookupResult.ofValue(sizes) : LookupResult.empty();
+        return sizesLookup;
     }
 
     private static List<Size> sizesFromBanner(Imp imp) {
@@ -0,0 +1,146 @@
+package org.prebid.server.deals.targeting.interpret;
+
+import org.prebid.server.deals.targeting.RequestContext;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Evaluates children of short-circuiting boolean operator in the order of their expected evaluation cost.
+ * <p>
+ * Children which are cheap and most likely to short-circuit the operator are evaluated first. Probability
+ * of short-circuiting is learned from previous evaluations and order is recalculated periodically, starting from
+ * declaration order. Order is never changed when any of children has side effects, since that would change
+ * which of them are evaluated.
+ * <p>
+ * Only a sample of evaluations is observed and counted in {@link LongAdder}s, so event loops evaluating the same
+ * line item do not contend on shared counters. Counts are halved at each reorder, so older observations decay
+ * and order follows changes in traffic.
+ */
+class AdaptiveEvaluationOrder {
+
+    private static final int SAMPLING_RATE = 16;
+    private static final int REORDER_INTERVAL = 64;
+
+    private final List<Expression> expressions;
+    private final boolean shortCircuitResult;
+    private final int samplingRate;
+    private final boolean reorderable;
+
+    private final LongAdder samples;
+    private final LongAdder[] childEvaluations;
+    private final LongAdder[] childShortCircuits;
+    private final AtomicBoolean reordering;
+    private volatile int[] order;
+
+    AdaptiveEvaluationOrder(List<Expression> expressions, boolean shortCircuitResult) {
+        this(expressions, shortCircuitResult, SAMPLING_RATE);
+    }
+
+    AdaptiveEvaluationOrder(List<Expression> expressions, boolean shortCircuitResult, int samplingRate) {
+        this.expressions = expressions;
+        this.shortCircuitResult = shortCircuitResult;
+        this.samplingRate = samplingRate;
+
+        reorderable = expressions.size() > 1 && expressions.stream().noneMatch(Expression::hasSideEffects);
+        samples = new LongAdder();
+        childEvaluations = newAdders(expressions.size());
+        childShortCircuits = newAdders(expressions.size());
+        reordering = new AtomicBoolean();
+        order = IntStream.range(0, expressions.size()).toArray();
+    }
+
+    private static LongAdder[] newAdders(int size) {
+        final LongAdder[] adders = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * Returns short-circuit result if any of children evaluated to it, opposite value otherwise.
+     */
+    boolean evaluate(RequestContext context) {
+        final int[] currentOrder = order;
+        final boolean sampled = reorderable
+                && (samplingRate <= 1 || ThreadLocalRandom.current().nextInt(samplingRate) == 0);
+
+        boolean result = !shortCircuitResult;
+        for (final int index : currentOrder) {
+            final boolean childResult = expressions.get(index).matches(context);
+            if (sampled) {
+                record(index, childResult);
+            }
+            if (childResult == shortCircuitResult) {
+                result = shortCircuitResult;
+                break;
+            }
+        }
+
+        if (sampled) {
+            samples.increment();
+            if (samples.sum() >= REORDER_INTERVAL && reordering.compareAndSet(false, true)) {
+                try {
+                    reorder();
+                } finally {
+                    reordering.set(false);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private void record(int index, boolean childResult) {
+        childEvaluations[index].increment();
+        if (childResult == shortCircuitResult) {
+            childShortCircuits[index].increment();
+        }
+    }
+
+    private void reorder() {
+        samples.reset();
+
+        order = IntStream.range(0, expressions.size())
+                .boxed()
+                .sorted(Comparator.comparingDouble(this::expectedCost))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        for (int i = 0; i < expressions.size(); i++) {
+            decay(childEvaluations[i]);
+            decay(childShortCircuits[i]);
+        }
+    }
+
+    /**
+     * Halves counter, observations made concurrently with decay may be lost, which is fine for statistics.
+     */
+    private static void decay(LongAdder adder) {
+        adder.add(adder.sumThenReset() / 2);
+    }
+
+    /**
+     * Cost of evaluating child divided by probability it short-circuits the operator, Laplace smoothing keeps
+     * rarely evaluated children from being ranked by a few observations only.
+     */
+    private double expectedCost(int index) {
+        final double shortCircuitProbability =
+                (childShortCircuits[index].sum() + 1d) / (childEvaluations[index].sum() + 2d);
+
+        return expressions.get(index).cost() / shortCircuitProbability;
+    }
+
+    int cost() {
+        return expressions.stream().mapToInt(Expression::cost).sum();
+    }
+
+    boolean hasSideEffects() {
+        return expressions.stream().anyMatch(Expression::hasSideEffects);
+    }
+}
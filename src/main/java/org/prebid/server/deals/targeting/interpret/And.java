@@ -11,17 +11,27 @@ public class And implements NonTerminalExpression {
 
     private final List<Expression> expressions;
 
+    @EqualsAndHashCode.Exclude
+    private final AdaptiveEvaluationOrder evaluationOrder;
+
     public And(List<Expression> expressions) {
         this.expressions = Collections.unmodifiableList(expressions);
+
+        evaluationOrder = new AdaptiveEvaluationOrder(this.expressions, false);
     }
 
     @Override
     public boolean matches(RequestContext context) {
-        for (final Expression expression : expressions) {
-            if (!expression.matches(context)) {
-                return false;
-            }
-        }
-        return true;
+        return evaluationOrder.evaluate(context);
+    }
+
+    @Override
+    public int cost() {
+        return evaluationOrder.cost();
+    }
+
+    @Override
+    public boolean hasSideEffects() {
+        return evaluationOrder.hasSideEffects();
     }
 }
@@ -22,4 +22,14 @@ public class DomainMetricAwareExpression implements Expression {
         }
         return matches;
     }
+
+    @Override
+    public int cost() {
+        return domainFunction.cost();
+    }
+
+    @Override
+    public boolean hasSideEffects() {
+        return true;
+    }
 }
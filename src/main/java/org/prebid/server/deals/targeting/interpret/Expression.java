@@ -5,4 +5,18 @@ import org.prebid.server.deals.targeting.RequestContext;
 public interface Expression {
 
     boolean matches(RequestContext context);
+
+    /**
+     * Relative cost of evaluation, used to decide which of sibling expressions to evaluate first.
+     */
+    default int cost() {
+        return 1;
+    }
+
+    /**
+     * Tells whether evaluation has effects beyond computing the result, so evaluation order is significant.
+     */
+    default boolean hasSideEffects() {
+        return false;
+    }
 }
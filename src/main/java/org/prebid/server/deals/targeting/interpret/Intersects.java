@@ -6,19 +6,23 @@ import org.prebid.server.deals.targeting.model.LookupResult;
 import org.prebid.server.deals.targeting.syntax.TargetingCategory;
 
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 @EqualsAndHashCode
 public abstract class Intersects<T> implements TerminalExpression {
 
+    private static final int COST = 2;
+
     protected final TargetingCategory category;
 
-    protected List<T> values;
+    protected Set<T> values;
 
     public Intersects(TargetingCategory category, List<T> values) {
         this.category = Objects.requireNonNull(category);
-        this.values = Collections.unmodifiableList(values);
+        this.values = Collections.unmodifiableSet(new LinkedHashSet<>(values));
     }
 
     @Override
@@ -27,5 +31,10 @@ public abstract class Intersects<T> implements TerminalExpression {
                 .anyMatch(actualValues -> !Collections.disjoint(values, actualValues));
     }
 
+    @Override
+    public int cost() {
+        return COST;
+    }
+
     protected abstract LookupResult<List<T>> lookupActualValues(RequestContext context);
 }
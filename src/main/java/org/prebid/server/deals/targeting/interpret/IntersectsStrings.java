@@ -16,10 +16,7 @@ public class IntersectsStrings extends Intersects<String> {
 
     @Override
     public LookupResult<List<String>> lookupActualValues(RequestContext context) {
-        return LookupResult.of(
-                context.lookupStrings(category).getValues().stream()
-                        .map(IntersectsStrings::toLowerCase)
-                        .toList());
+        return context.lookupLowerCaseStrings(category);
     }
 
     private static List<String> toLowerCase(List<String> values) {
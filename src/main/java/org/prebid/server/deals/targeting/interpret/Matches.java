@@ -26,8 +26,8 @@ public class Matches implements TerminalExpression {
 
     @Override
     public boolean matches(RequestContext context) {
-        return context.lookupString(category)
-                .anyMatch(valueToMatch -> method.apply(valueToMatch.toLowerCase(), value));
+        return context.lookupLowerCaseString(category)
+                .anyMatch(valueToMatch -> method.apply(valueToMatch, value));
     }
 
     private static BiFunction<String, String, Boolean> resolveMethod(String value) {
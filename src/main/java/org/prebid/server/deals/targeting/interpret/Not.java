@@ -18,4 +18,14 @@ public class Not implements NonTerminalExpression {
     public boolean matches(RequestContext context) {
         return !expression.matches(context);
     }
+
+    @Override
+    public int cost() {
+        return expression.cost();
+    }
+
+    @Override
+    public boolean hasSideEffects() {
+        return expression.hasSideEffects();
+    }
 }
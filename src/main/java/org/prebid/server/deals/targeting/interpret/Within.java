@@ -12,6 +12,7 @@ import java.util.Objects;
 public class Within implements TerminalExpression {
 
     private static final int EARTH_RADIUS_MI = 3959;
+    private static final int COST = 3;
 
     private final TargetingCategory category;
 
@@ -29,6 +30,11 @@ public class Within implements TerminalExpression {
         return location != null && isLocationWithinRegion(location);
     }
 
+    @Override
+    public int cost() {
+        return COST;
+    }
+
     private boolean isLocationWithinRegion(GeoLocation location) {
         final double distance = calculateDistance(location.getLat(), location.getLon(), value.getLat(), value.getLon());
 
@@ -0,0 +1,164 @@
+package org.prebid.server.floors;
+
+import lombok.Value;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.floors.model.PriceFloorModelGroup;
+import org.prebid.server.floors.model.PriceFloorSchema;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Compiled form of {@link PriceFloorModelGroup} rules.
+ * <p>
+ * Rules are kept in a trie keyed by lower-cased schema field values, so for every wildcard combination
+ * lookup walks at most one node per schema field instead of building and hashing candidate rule keys.
+ * Wildcard combinations are tried in the same order as rule matching precedence defines: fewer wildcards first
+ * and, among equal number of wildcards, the ones at the rightmost fields first.
+ */
+public class PriceFloorRuleIndex {
+
+    private static final String SCHEMA_DEFAULT_DELIMITER = "|";
+    private static final String WILDCARD_CATCH_ALL = "*";
+
+    private final int fieldsNum;
+    private final Node root;
+    private final int[] wildcardMasks;
+
+    private PriceFloorRuleIndex(int fieldsNum, Node root) {
+        this.fieldsNum = fieldsNum;
+        this.root = root;
+
+        wildcardMasks = orderedWildcardMasks(fieldsNum);
+    }
+
+    public static PriceFloorRuleIndex of(PriceFloorModelGroup modelGroup) {
+        final PriceFloorSchema schema = modelGroup.getSchema();
+        final int fieldsNum = schema != null ? CollectionUtils.size(schema.getFields()) : 0;
+        final String delimiter = schema != null
+                ? ObjectUtils.defaultIfNull(schema.getDelimiter(), SCHEMA_DEFAULT_DELIMITER)
+                : SCHEMA_DEFAULT_DELIMITER;
+
+        final Node root = new Node();
+        final Map<String, BigDecimal> values = modelGroup.getValues();
+        if (values != null) {
+            values.forEach((key, value) -> addRule(root, key.toLowerCase(), value, delimiter, fieldsNum));
+        }
+
+        return new PriceFloorRuleIndex(fieldsNum, root);
+    }
+
+    private static void addRule(Node root, String key, BigDecimal value, String delimiter, int fieldsNum) {
+        final String[] segments = StringUtils.splitByWholeSeparatorPreserveAllTokens(key, delimiter);
+        if (segments.length != fieldsNum) {
+            // such rule could never match desired rule key
+            return;
+        }
+
+        Node node = root;
+        for (String segment : segments) {
+            node = node.children.computeIfAbsent(segment, ignored -> new Node());
+        }
+        node.rule = Rule.of(key, value);
+    }
+
+    private static int[] orderedWildcardMasks(int fieldsNum) {
+        return IntStream.range(0, 1 << fieldsNum)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingInt(Integer::bitCount)
+                        .thenComparingInt(mask -> maskWeight(mask, fieldsNum)))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static int maskWeight(int mask, int fieldsNum) {
+        int weight = 0;
+        for (int position = 0; position < fieldsNum; position++) {
+            if (isWildcard(mask, position)) {
+                weight += 1 << (fieldsNum - position);
+            }
+        }
+        return weight;
+    }
+
+    /**
+     * Finds the most specific rule for the given per-field values, which are expected to be lower-cased and
+     * to contain single {@code "*"} value for the fields which could not be resolved from request.
+     */
+    public Rule find(List<List<String>> fieldValues) {
+        if (fieldValues.size() != fieldsNum) {
+            return null;
+        }
+
+        final int implicitWildcards = implicitWildcardsMask(fieldValues);
+        for (int mask : wildcardMasks) {
+            if ((mask & implicitWildcards) != implicitWildcards) {
+                continue;
+            }
+
+            final Rule rule = findInNode(root, 0, mask, fieldValues);
+            if (rule != null) {
+                return rule;
+            }
+        }
+
+        return null;
+    }
+
+    private static int implicitWildcardsMask(List<List<String>> fieldValues) {
+        int mask = 0;
+        for (int position = 0; position < fieldValues.size(); position++) {
+            if (WILDCARD_CATCH_ALL.equals(fieldValues.get(position).get(0))) {
+                mask |= 1 << position;
+            }
+        }
+        return mask;
+    }
+
+    private static Rule findInNode(Node node, int position, int mask, List<List<String>> fieldValues) {
+        if (node == null) {
+            return null;
+        }
+        if (position == fieldValues.size()) {
+            return node.rule;
+        }
+        if (isWildcard(mask, position)) {
+            return findInNode(node.children.get(WILDCARD_CATCH_ALL), position + 1, mask, fieldValues);
+        }
+
+        final List<String> values = fieldValues.get(position);
+        for (int i = 0; i < values.size(); i++) {
+            final Rule rule = findInNode(node.children.get(values.get(i)), position + 1, mask, fieldValues);
+            if (rule != null) {
+                return rule;
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean isWildcard(int mask, int position) {
+        return (mask & (1 << position)) != 0;
+    }
+
+    private static class Node {
+
+        private final Map<String, Node> children = new HashMap<>();
+
+        private Rule rule;
+    }
+
+    @Value(staticConstructor = "of")
+    public static class Rule {
+
+        String key;
+
+        BigDecimal value;
+    }
+}
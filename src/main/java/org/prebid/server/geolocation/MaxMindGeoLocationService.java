@@ -1,5 +1,7 @@
 package org.prebid.server.geolocation;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.maxmind.db.Reader;
 import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.exception.GeoIp2Exception;
@@ -21,12 +23,21 @@ import org.prebid.server.geolocation.model.GeoInfo;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.zip.GZIPInputStream;
 
 /**
  * Implementation of the {@link GeoLocationService}
  * backed by <a href="https://dev.maxmind.com/geoip/geoip2/geolite2/">MaxMind free database</a>
+ * <p>
+ * Database is extracted from the downloaded archive next to it and memory-mapped, so it is kept off-heap
+ * and its pages are shared between processes reading the same file.
+ * <p>
+ * Lookup results are cached per /24 IPv4 or /48 IPv6 network, if cache size is positive.
  */
 public class MaxMindGeoLocationService implements GeoLocationService, RemoteFileProcessor {
 
@@ -34,7 +45,17 @@ public class MaxMindGeoLocationService implements GeoLocationService, RemoteFile
 
     private static final String DATABASE_FILE_NAME = "GeoLite2-City.mmdb";
 
-    private DatabaseReader databaseReader;
+    private static final long IPV6_KEY_FLAG = 1L << 48;
+
+    private final Cache<Long, GeoInfo> geoInfoCache;
+
+    private volatile DatabaseReader databaseReader;
+
+    public MaxMindGeoLocationService(long cacheSize) {
+        geoInfoCache = cacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(cacheSize).build()
+                : null;
+    }
 
     public Future<?> setDataPath(String dataFilePath) {
         try (TarArchiveInputStream tarInput = new TarArchiveInputStream(new GZIPInputStream(
@@ -53,7 +74,15 @@ public class MaxMindGeoLocationService implements GeoLocationService, RemoteFile
                         .formatted(DATABASE_FILE_NAME, dataFilePath));
             }
 
-            databaseReader = new DatabaseReader.Builder(tarInput).fileMode(Reader.FileMode.MEMORY).build();
+            final Path databasePath = extractDatabase(tarInput, Path.of(dataFilePath));
+
+            // previous reader is not closed since lookups may still use it, its mapping is released on GC
+            databaseReader = new DatabaseReader.Builder(databasePath.toFile())
+                    .fileMode(Reader.FileMode.MEMORY_MAPPED)
+                    .build();
+            if (geoInfoCache != null) {
+                geoInfoCache.invalidateAll();
+            }
             return Future.succeededFuture();
         } catch (IOException e) {
             return Future.failedFuture(
@@ -61,32 +90,124 @@ public class MaxMindGeoLocationService implements GeoLocationService, RemoteFile
         }
     }
 
+    /**
+     * Writes database file from the archive next to the archive itself. File is replaced atomically,
+     * so the currently mapped database is never modified in place.
+     */
+    private static Path extractDatabase(TarArchiveInputStream tarInput, Path archivePath) throws IOException {
+        final Path databasePath = archivePath.resolveSibling(DATABASE_FILE_NAME);
+        final Path tmpDatabasePath = archivePath.resolveSibling(DATABASE_FILE_NAME + ".tmp");
+
+        Files.copy(tarInput, tmpDatabasePath, StandardCopyOption.REPLACE_EXISTING);
+        Files.move(tmpDatabasePath, databasePath,
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        return databasePath;
+    }
+
     @Override
     public Future<GeoInfo> lookup(String ip, Timeout timeout) {
-        if (databaseReader == null) {
+        final DatabaseReader reader = databaseReader;
+        if (reader == null) {
             return Future.failedFuture("Geo location database file hasn't been downloaded yet, try again later");
         }
 
         try {
-            final InetAddress inetAddress = InetAddress.getByName(ip);
-            final CityResponse cityResponse = databaseReader.city(inetAddress);
-            final Location location = cityResponse != null ? cityResponse.getLocation() : null;
-
-            return Future.succeededFuture(GeoInfo.builder()
-                    .vendor(VENDOR)
-                    .continent(resolveContinent(cityResponse))
-                    .country(resolveCountry(cityResponse))
-                    .region(resolveRegion(cityResponse))
-                    // metro code is skipped as Max Mind uses Google's version (Nielsen DMAs required)
-                    .city(resolveCity(cityResponse))
-                    .lat(resolveLatitude(location))
-                    .lon(resolveLongitude(location))
-                    .build());
+            final byte[] address = toAddress(ip);
+            final Long cacheKey = geoInfoCache != null ? cacheKey(address) : null;
+            final GeoInfo cachedGeoInfo = cacheKey != null ? geoInfoCache.getIfPresent(cacheKey) : null;
+            if (cachedGeoInfo != null) {
+                return Future.succeededFuture(cachedGeoInfo);
+            }
+
+            final GeoInfo geoInfo = toGeoInfo(reader.city(InetAddress.getByAddress(address)));
+            if (cacheKey != null) {
+                geoInfoCache.put(cacheKey, geoInfo);
+            }
+            return Future.succeededFuture(geoInfo);
         } catch (IOException | GeoIp2Exception e) {
             return Future.failedFuture(e);
         }
     }
 
+    /**
+     * Parses IPv4 address without {@link InetAddress}. Only IPv6 literals are passed to {@link InetAddress},
+     * so host names are never resolved.
+     */
+    private static byte[] toAddress(String ip) throws UnknownHostException {
+        final byte[] ipv4Address = toIpv4Address(ip);
+        if (ipv4Address != null) {
+            return ipv4Address;
+        }
+
+        if (ip == null || ip.indexOf(':') < 0) {
+            throw new UnknownHostException("Invalid IP address: " + ip);
+        }
+
+        return InetAddress.getByName(ip).getAddress();
+    }
+
+    private static byte[] toIpv4Address(String ip) {
+        final int length = ip != null ? ip.length() : 0;
+        if (length < 7 || length > 15) {
+            return null;
+        }
+
+        final byte[] address = new byte[4];
+        int octet = 0;
+        int value = 0;
+        int digits = 0;
+        for (int i = 0; i < length; i++) {
+            final char character = ip.charAt(i);
+            if (character >= '0' && character <= '9') {
+                value = value * 10 + (character - '0');
+                if (++digits > 3 || value > 255) {
+                    return null;
+                }
+            } else if (character == '.' && digits > 0 && octet < 3) {
+                address[octet++] = (byte) value;
+                value = 0;
+                digits = 0;
+            } else {
+                return null;
+            }
+        }
+
+        if (digits == 0 || octet != 3) {
+            return null;
+        }
+        address[octet] = (byte) value;
+        return address;
+    }
+
+    /**
+     * Returns key of /24 network for IPv4 address or /48 network for IPv6 address.
+     */
+    private static Long cacheKey(byte[] address) {
+        final int prefixLength = address.length == 4 ? 3 : 6;
+
+        long key = 0;
+        for (int i = 0; i < prefixLength; i++) {
+            key = (key << 8) | (address[i] & 0xFF);
+        }
+        return address.length == 4 ? key : key | IPV6_KEY_FLAG;
+    }
+
+    private static GeoInfo toGeoInfo(CityResponse cityResponse) {
+        final Location location = cityResponse != null ? cityResponse.getLocation() : null;
+
+        return GeoInfo.builder()
+                .vendor(VENDOR)
+                .continent(resolveContinent(cityResponse))
+                .country(resolveCountry(cityResponse))
+                .region(resolveRegion(cityResponse))
+                // metro code is skipped as Max Mind uses Google's version (Nielsen DMAs required)
+                .city(resolveCity(cityResponse))
+                .lat(resolveLatitude(location))
+                .lon(resolveLongitude(location))
+                .build();
+    }
+
     private static String resolveContinent(CityResponse cityResponse) {
         final Continent continent = cityResponse != null ? cityResponse.getContinent() : null;
         final String code = continent != null ? continent.getCode() : null;
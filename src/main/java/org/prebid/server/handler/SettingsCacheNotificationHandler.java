@@ -4,6 +4,8 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.web.RoutingContext;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.MapUtils;
 import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.settings.CacheNotificationListener;
@@ -57,6 +59,9 @@ public class SettingsCacheNotificationHandler implements Handler<RoutingContext>
         }
 
         cacheNotificationListener.save(request.getRequests(), request.getImps());
+        if (MapUtils.isNotEmpty(request.getResponses())) {
+            cacheNotificationListener.saveResponses(request.getResponses());
+        }
         respondWith(routingContext, HttpResponseStatus.OK);
     }
 
@@ -79,6 +84,9 @@ public class SettingsCacheNotificationHandler implements Handler<RoutingContext>
         }
 
         cacheNotificationListener.invalidate(request.getRequests(), request.getImps());
+        if (CollectionUtils.isNotEmpty(request.getResponses())) {
+            cacheNotificationListener.invalidateResponses(request.getResponses());
+        }
         respondWith(routingContext, HttpResponseStatus.OK);
     }
 
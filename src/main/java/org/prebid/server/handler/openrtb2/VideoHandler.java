@@ -4,6 +4,7 @@ import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -120,7 +121,7 @@ public class VideoHandler implements Handler<RoutingContext> {
         final MetricName metricRequestStatus;
         final List<String> errorMessages;
         final HttpResponseStatus status;
-        final String body;
+        final Buffer body;
         final VideoResponse videoResponse = responseSucceeded ? responseResult.result() : null;
 
         final HttpServerResponse response = routingContext.response();
@@ -132,7 +133,7 @@ public class VideoHandler implements Handler<RoutingContext> {
 
             status = HttpResponseStatus.OK;
             enrichWithSuccessfulHeaders(response);
-            body = mapper.encodeToString(videoResponse);
+            body = HttpUtil.encodeResponse(mapper, metrics, videoResponse);
         } else {
             final Throwable exception = responseResult.cause();
             if (exception instanceof InvalidRequestException) {
@@ -141,9 +142,9 @@ public class VideoHandler implements Handler<RoutingContext> {
                 logger.info("Invalid request format: {0}", errorMessages);
 
                 status = HttpResponseStatus.BAD_REQUEST;
-                body = errorMessages.stream()
+                body = Buffer.buffer(errorMessages.stream()
                         .map(msg -> "Invalid request format: " + msg)
-                        .collect(Collectors.joining("\n"));
+                        .collect(Collectors.joining("\n")));
             } else if (exception instanceof UnauthorizedAccountException) {
                 metricRequestStatus = MetricName.badinput;
                 final String errorMessage = exception.getMessage();
@@ -151,7 +152,7 @@ public class VideoHandler implements Handler<RoutingContext> {
                 errorMessages = Collections.singletonList(errorMessage);
 
                 status = HttpResponseStatus.UNAUTHORIZED;
-                body = "Unauthorised: " + errorMessage;
+                body = Buffer.buffer("Unauthorised: " + errorMessage);
             } else {
                 metricRequestStatus = MetricName.err;
                 logger.error("Critical error while running the auction", exception);
@@ -160,7 +161,7 @@ public class VideoHandler implements Handler<RoutingContext> {
                 errorMessages = Collections.singletonList(message);
 
                 status = HttpResponseStatus.INTERNAL_SERVER_ERROR;
-                body = "Critical error while running the auction: " + message;
+                body = Buffer.buffer("Critical error while running the auction: " + message);
             }
         }
 
@@ -205,7 +206,7 @@ public class VideoHandler implements Handler<RoutingContext> {
 
     private void respondWith(RoutingContext routingContext,
                              HttpResponseStatus status,
-                             String body,
+                             Buffer body,
                              long startTime,
                              MetricName metricRequestStatus,
                              VideoEvent event,
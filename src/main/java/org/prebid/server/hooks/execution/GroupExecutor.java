@@ -1,9 +1,6 @@
 package org.prebid.server.hooks.execution;
 
-import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
-import io.vertx.core.Promise;
-import io.vertx.core.Vertx;
 import io.vertx.core.logging.LoggerFactory;
 import org.prebid.server.hooks.execution.model.ExecutionGroup;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
@@ -14,16 +11,14 @@ import org.prebid.server.hooks.v1.InvocationResult;
 import org.prebid.server.log.ConditionalLogger;
 
 import java.time.Clock;
-import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
-import java.util.function.Supplier;
 
 class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
 
     private static final ConditionalLogger conditionalLogger =
             new ConditionalLogger(LoggerFactory.getLogger(GroupExecutor.class));
 
-    private final Vertx vertx;
+    private final Function<String, HookExecutor> hookExecutorProvider;
     private final Clock clock;
 
     private ExecutionGroup group;
@@ -33,16 +28,16 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
     private HookExecutionContext hookExecutionContext;
     private boolean rejectAllowed;
 
-    private GroupExecutor(Vertx vertx, Clock clock) {
-        this.vertx = vertx;
+    private GroupExecutor(Function<String, HookExecutor> hookExecutorProvider, Clock clock) {
+        this.hookExecutorProvider = hookExecutorProvider;
         this.clock = clock;
     }
 
     public static <PAYLOAD, CONTEXT extends InvocationContext> GroupExecutor<PAYLOAD, CONTEXT> create(
-            Vertx vertx,
+            Function<String, HookExecutor> hookExecutorProvider,
             Clock clock) {
 
-        return new GroupExecutor<>(vertx, clock);
+        return new GroupExecutor<>(hookExecutorProvider, clock);
     }
 
     public GroupExecutor<PAYLOAD, CONTEXT> withGroup(ExecutionGroup group) {
@@ -107,47 +102,17 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
             return Future.failedFuture(new FailedException("Hook implementation does not exist or disabled"));
         }
 
-        return executeWithTimeout(
-                () -> hook.call(
-                        groupResult.payload(),
-                        invocationContextProvider.apply(timeout, hookId, moduleContextFor(hookId))),
-                timeout);
-    }
-
-    private <T> Future<T> executeWithTimeout(Supplier<Future<T>> action, Long timeout) {
-        final Promise<T> promise = Promise.promise();
-
-        final long timeoutTimerId = vertx.setTimer(timeout, id -> failWithTimeout(promise));
-
-        executeSafely(action)
-                .onComplete(result -> completeWithActionResult(promise, timeoutTimerId, result));
-
-        return promise.future();
-    }
-
-    private static <T> void failWithTimeout(Promise<T> promise) {
-        // no need for synchronization since timer is fired on the same event loop thread
-        if (!promise.future().isComplete()) {
-            promise.fail(new TimeoutException("Timed out while executing action"));
-        }
-    }
-
-    private static <T> Future<T> executeSafely(Supplier<Future<T>> action) {
+        // invocation context reads shared execution context, so it is built here rather than on hook executor
+        final PAYLOAD payload = groupResult.payload();
+        final CONTEXT invocationContext;
         try {
-            final Future<T> result = action.get();
-            return result != null ? result : Future.failedFuture(new FailedException("Action returned null"));
+            invocationContext = invocationContextProvider.apply(timeout, hookId, moduleContextFor(hookId));
         } catch (Throwable e) {
             return Future.failedFuture(new FailedException(e));
         }
-    }
-
-    private <T> void completeWithActionResult(Promise<T> promise, long timeoutTimerId, AsyncResult<T> result) {
-        vertx.cancelTimer(timeoutTimerId);
 
-        // check is to avoid harmless exception if timeout exceeds before successful result becomes ready
-        if (!promise.future().isComplete()) {
-            promise.handle(result);
-        }
+        return hookExecutorProvider.apply(hookId.getModuleCode())
+                .execute(() -> hook.call(payload, invocationContext), timeout);
     }
 
     private long executionTime(long startTime) {
@@ -0,0 +1,229 @@
+package org.prebid.server.hooks.execution;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.prebid.server.metric.Metrics;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Executes module hooks with timeout according to execution policy of the module.
+ * <p>
+ * Event loop executor calls hooks on the calling event loop thread. Worker executor calls hooks on a pool
+ * dedicated to the module, so CPU-heavy or blocking hooks do not stall event loop: pool size limits the number
+ * of hooks running at once, and queue size limits the number of hooks waiting for a thread, execution of hooks
+ * beyond that is rejected.
+ * <p>
+ * Timed out hook is removed from the queue or interrupted. Interruption is cooperative, so a hook ignoring it
+ * (e.g. CPU-bound one) keeps running: such hook is reported as stuck and the pool gets a replacement thread
+ * until the hook finishes, so other hooks of the module are not rejected meanwhile. The number of replacement
+ * threads is limited to pool size, so runaway hooks can't make the pool grow unbounded.
+ */
+public class HookExecutor {
+
+    private final Vertx vertx;
+    private final ThreadPoolExecutor workerPool;
+    private final int poolSize;
+    private final AtomicInteger stuckCount;
+    private final Runnable rejectionListener;
+
+    private int replacementThreads;
+
+    private HookExecutor(Vertx vertx,
+                         ThreadPoolExecutor workerPool,
+                         AtomicInteger stuckCount,
+                         Runnable rejectionListener) {
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.workerPool = workerPool;
+        this.stuckCount = stuckCount;
+        this.rejectionListener = rejectionListener;
+
+        poolSize = workerPool != null ? workerPool.getCorePoolSize() : 0;
+    }
+
+    public static HookExecutor eventLoop(Vertx vertx) {
+        return new HookExecutor(vertx, null, null, null);
+    }
+
+    public static HookExecutor worker(String moduleCode, int poolSize, int queueSize, Vertx vertx, Metrics metrics) {
+        Objects.requireNonNull(moduleCode);
+        Objects.requireNonNull(metrics);
+
+        final BlockingQueue<Runnable> queue = queueSize > 0
+                ? new ArrayBlockingQueue<>(queueSize)
+                : new SynchronousQueue<>();
+        final ThreadPoolExecutor workerPool = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                queue,
+                new BasicThreadFactory.Builder()
+                        .namingPattern("hooks-" + moduleCode + "-%d")
+                        .daemon(true)
+                        .build());
+
+        final AtomicInteger stuckCount = new AtomicInteger();
+
+        metrics.createHooksExecutorGauges(moduleCode, workerPool::getActiveCount, queue::size, stuckCount::get);
+
+        return new HookExecutor(
+                vertx, workerPool, stuckCount, () -> metrics.updateHooksExecutorRejectedMetric(moduleCode));
+    }
+
+    <T> Future<T> execute(Supplier<Future<T>> action, Long timeout) {
+        return workerPool != null
+                ? executeOnWorker(action, timeout)
+                : executeOnEventLoop(action, timeout);
+    }
+
+    private <T> Future<T> executeOnEventLoop(Supplier<Future<T>> action, Long timeout) {
+        final Promise<T> promise = Promise.promise();
+
+        final long timeoutTimerId = vertx.setTimer(timeout, id -> failWithTimeout(promise));
+
+        executeSafely(action)
+                .onComplete(result -> completeWithActionResult(promise, timeoutTimerId, result));
+
+        return promise.future();
+    }
+
+    private <T> Future<T> executeOnWorker(Supplier<Future<T>> action, Long timeout) {
+        final Context context = vertx.getOrCreateContext();
+        final Promise<T> promise = Promise.promise();
+
+        // result is passed back to the calling context, so it does not race with timeout timer
+        final WorkerTask task = new WorkerTask(() -> executeSafely(action).onComplete(result ->
+                context.runOnContext(ignored -> completeWithActionResult(promise, result))));
+
+        try {
+            workerPool.execute(task);
+        } catch (RejectedExecutionException e) {
+            rejectionListener.run();
+            return Future.failedFuture(new FailedException("Hook execution rejected: worker pool is exhausted"));
+        }
+
+        final long timeoutTimerId = vertx.setTimer(timeout, id -> {
+            workerPool.remove(task);
+            task.cancel();
+            failWithTimeout(promise);
+        });
+
+        return promise.future()
+                .onComplete(ignored -> vertx.cancelTimer(timeoutTimerId));
+    }
+
+    private synchronized void taskStuck() {
+        stuckCount.incrementAndGet();
+        if (replacementThreads < poolSize) {
+            replacementThreads++;
+            resizeWorkerPool(poolSize + replacementThreads);
+        }
+    }
+
+    private synchronized void stuckTaskFinished() {
+        if (replacementThreads > stuckCount.decrementAndGet()) {
+            replacementThreads--;
+            resizeWorkerPool(poolSize + replacementThreads);
+        }
+    }
+
+    private void resizeWorkerPool(int size) {
+        // maximum pool size can't be less than core pool size
+        if (size > workerPool.getCorePoolSize()) {
+            workerPool.setMaximumPoolSize(size);
+            workerPool.setCorePoolSize(size);
+        } else {
+            workerPool.setCorePoolSize(size);
+            workerPool.setMaximumPoolSize(size);
+        }
+    }
+
+    private static <T> void failWithTimeout(Promise<T> promise) {
+        // no need for synchronization since timer is fired on the same event loop thread
+        if (!promise.future().isComplete()) {
+            promise.fail(new TimeoutException("Timed out while executing action"));
+        }
+    }
+
+    private static <T> Future<T> executeSafely(Supplier<Future<T>> action) {
+        try {
+            final Future<T> result = action.get();
+            return result != null ? result : Future.failedFuture(new FailedException("Action returned null"));
+        } catch (Throwable e) {
+            return Future.failedFuture(new FailedException(e));
+        }
+    }
+
+    private <T> void completeWithActionResult(Promise<T> promise, long timeoutTimerId, AsyncResult<T> result) {
+        vertx.cancelTimer(timeoutTimerId);
+        completeWithActionResult(promise, result);
+    }
+
+    private static <T> void completeWithActionResult(Promise<T> promise, AsyncResult<T> result) {
+        // check is to avoid harmless exception if timeout exceeds before successful result becomes ready
+        if (!promise.future().isComplete()) {
+            promise.handle(result);
+        }
+    }
+
+    private enum TaskState {
+
+        NEW, RUNNING, DONE, CANCELLED, STUCK
+    }
+
+    /**
+     * Task which interrupts its thread on cancellation and reports itself stuck if it is still running then.
+     */
+    private class WorkerTask implements Runnable {
+
+        private final Runnable action;
+        private final AtomicReference<TaskState> state = new AtomicReference<>(TaskState.NEW);
+        private volatile Thread runner;
+
+        WorkerTask(Runnable action) {
+            this.action = action;
+        }
+
+        @Override
+        public void run() {
+            runner = Thread.currentThread();
+            if (!state.compareAndSet(TaskState.NEW, TaskState.RUNNING)) {
+                return;
+            }
+
+            try {
+                action.run();
+            } finally {
+                // interrupted status left by cancellation is cleared by the pool before the next task
+                if (!state.compareAndSet(TaskState.RUNNING, TaskState.DONE)) {
+                    stuckTaskFinished();
+                }
+            }
+        }
+
+        void cancel() {
+            if (state.compareAndSet(TaskState.RUNNING, TaskState.STUCK)) {
+                runner.interrupt();
+                taskStuck();
+            } else {
+                state.compareAndSet(TaskState.NEW, TaskState.CANCELLED);
+            }
+        }
+    }
+}
@@ -68,13 +68,15 @@ public class HookStageExecutor {
     private final ExecutionPlan defaultAccountExecutionPlan;
     private final HookCatalog hookCatalog;
     private final TimeoutFactory timeoutFactory;
-    private final Vertx vertx;
+    private final Map<String, HookExecutor> moduleCodeToHookExecutor;
+    private final HookExecutor defaultHookExecutor;
     private final Clock clock;
 
     private HookStageExecutor(ExecutionPlan hostExecutionPlan,
                               ExecutionPlan defaultAccountExecutionPlan,
                               HookCatalog hookCatalog,
                               TimeoutFactory timeoutFactory,
+                              Map<String, HookExecutor> moduleCodeToHookExecutor,
                               Vertx vertx,
                               Clock clock) {
 
@@ -82,7 +84,8 @@ public class HookStageExecutor {
         this.defaultAccountExecutionPlan = defaultAccountExecutionPlan;
         this.hookCatalog = hookCatalog;
         this.timeoutFactory = timeoutFactory;
-        this.vertx = vertx;
+        this.moduleCodeToHookExecutor = moduleCodeToHookExecutor;
+        this.defaultHookExecutor = HookExecutor.eventLoop(vertx);
         this.clock = clock;
     }
 
@@ -90,6 +93,7 @@ public class HookStageExecutor {
                                            String defaultAccountExecutionPlan,
                                            HookCatalog hookCatalog,
                                            TimeoutFactory timeoutFactory,
+                                           Map<String, HookExecutor> moduleCodeToHookExecutor,
                                            Vertx vertx,
                                            Clock clock,
                                            JacksonMapper mapper) {
@@ -102,6 +106,7 @@ public class HookStageExecutor {
                 parseAndValidateExecutionPlan(defaultAccountExecutionPlan, mapper, hookCatalog),
                 hookCatalog,
                 Objects.requireNonNull(timeoutFactory),
+                Objects.requireNonNull(moduleCodeToHookExecutor),
                 Objects.requireNonNull(vertx),
                 Objects.requireNonNull(clock));
     }
@@ -254,7 +259,7 @@ public class HookStageExecutor {
             String entity,
             HookExecutionContext context) {
 
-        return StageExecutor.<PAYLOAD, CONTEXT>create(hookCatalog, vertx, clock)
+        return StageExecutor.<PAYLOAD, CONTEXT>create(hookCatalog, this::hookExecutorFor, clock)
                 .withStage(stage)
                 .withEntity(entity)
                 .withHookExecutionContext(context);
@@ -271,6 +276,10 @@ public class HookStageExecutor {
                 .withExecutionPlan(planForStage(account, endpoint, stage.stage()));
     }
 
+    private HookExecutor hookExecutorFor(String moduleCode) {
+        return moduleCodeToHookExecutor.getOrDefault(moduleCode, defaultHookExecutor);
+    }
+
     private static ExecutionPlan parseAndValidateExecutionPlan(
             String executionPlan,
             JacksonMapper mapper,
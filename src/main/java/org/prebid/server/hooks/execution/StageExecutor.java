@@ -1,7 +1,6 @@
 package org.prebid.server.hooks.execution;
 
 import io.vertx.core.Future;
-import io.vertx.core.Vertx;
 import org.prebid.server.hooks.execution.model.ExecutionGroup;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
 import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
@@ -12,11 +11,12 @@ import org.prebid.server.hooks.v1.InvocationContext;
 
 import java.time.Clock;
 import java.util.ArrayList;
+import java.util.function.Function;
 
 class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
 
     private final HookCatalog hookCatalog;
-    private final Vertx vertx;
+    private final Function<String, HookExecutor> hookExecutorProvider;
     private final Clock clock;
 
     private StageWithHookType<? extends Hook<PAYLOAD, CONTEXT>> stage;
@@ -27,18 +27,18 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
     private HookExecutionContext hookExecutionContext;
     private boolean rejectAllowed;
 
-    private StageExecutor(HookCatalog hookCatalog, Vertx vertx, Clock clock) {
+    private StageExecutor(HookCatalog hookCatalog, Function<String, HookExecutor> hookExecutorProvider, Clock clock) {
         this.hookCatalog = hookCatalog;
-        this.vertx = vertx;
+        this.hookExecutorProvider = hookExecutorProvider;
         this.clock = clock;
     }
 
     public static <PAYLOAD, CONTEXT extends InvocationContext> StageExecutor<PAYLOAD, CONTEXT> create(
             HookCatalog hookCatalog,
-            Vertx vertx,
+            Function<String, HookExecutor> hookExecutorProvider,
             Clock clock) {
 
-        return new StageExecutor<>(hookCatalog, vertx, clock);
+        return new StageExecutor<>(hookCatalog, hookExecutorProvider, clock);
     }
 
     public StageExecutor<PAYLOAD, CONTEXT> withStage(StageWithHookType<? extends Hook<PAYLOAD, CONTEXT>> stage) {
@@ -94,7 +94,7 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
     }
 
     private Future<GroupResult<PAYLOAD>> executeGroup(ExecutionGroup group, PAYLOAD initialPayload) {
-        return GroupExecutor.<PAYLOAD, CONTEXT>create(vertx, clock)
+        return GroupExecutor.<PAYLOAD, CONTEXT>create(hookExecutorProvider, clock)
                 .withGroup(group)
                 .withInitialPayload(initialPayload)
                 .withHookProvider(
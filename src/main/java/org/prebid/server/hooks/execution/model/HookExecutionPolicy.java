@@ -0,0 +1,6 @@
+package org.prebid.server.hooks.execution.model;
+
+public enum HookExecutionPolicy {
+
+    event_loop, worker
+}
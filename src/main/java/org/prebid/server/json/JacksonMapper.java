@@ -3,21 +3,33 @@ package org.prebid.server.json;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.Regs;
+import com.iab.openrtb.request.Site;
 import io.netty.buffer.ByteBufInputStream;
 import io.vertx.core.buffer.Buffer;
 import org.prebid.server.proto.openrtb.ext.FlexibleExtension;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Objects;
+import java.util.Set;
 
 public class JacksonMapper {
 
     private static final String FAILED_TO_DECODE = "Failed to decode: %s";
+    private static final int INITIAL_BUFFER_SIZE = 4096;
+    private static final Set<Class<?>> SHARED_FRAGMENT_TYPES = Set.of(Site.class, App.class, Regs.class);
+
     private final ObjectMapper mapper;
+    private final ObjectMapper sharedFragmentsMapper;
 
     public JacksonMapper(ObjectMapper mapper) {
         this.mapper = Objects.requireNonNull(mapper);
+
+        sharedFragmentsMapper = mapper.copy()
+                .registerModule(new JsonFragmentCacheModule(mapper, SHARED_FRAGMENT_TYPES));
     }
 
     public ObjectMapper mapper() {
@@ -40,6 +52,33 @@ public class JacksonMapper {
         }
     }
 
+    /**
+     * Works as {@link #encodeToBytes(Object)}, but {@code site}, {@code app} and {@code regs} objects are serialized
+     * only once per instance, so bidder requests sharing them with the original request don't re-encode them.
+     * Instance modified after its first serialization is serialized again.
+     */
+    public <T> byte[] encodeToBytesWithSharedFragments(T obj) throws EncodeException {
+        try {
+            return sharedFragmentsMapper.writeValueAsBytes(obj);
+        } catch (JsonProcessingException e) {
+            throw new EncodeException("Failed to encode as byte array: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Encodes given object straight into UTF-8 bytes of a Vert.x {@link Buffer},
+     * avoiding intermediate {@link String} and byte array copies of the result.
+     */
+    public <T> Buffer encodeToBuffer(T obj) throws EncodeException {
+        final Buffer buffer = Buffer.buffer(INITIAL_BUFFER_SIZE);
+        try {
+            mapper.writeValue(new BufferOutputStream(buffer), obj);
+        } catch (IOException e) {
+            throw new EncodeException("Failed to encode as buffer: " + e.getMessage());
+        }
+        return buffer;
+    }
+
     public <T> T decodeValue(String str, Class<T> clazz) throws DecodeException {
         try {
             return mapper.readValue(str, clazz);
@@ -64,6 +103,14 @@ public class JacksonMapper {
         }
     }
 
+    public <T> T decodeValue(byte[] bytes, TypeReference<T> type) throws DecodeException {
+        try {
+            return mapper.readValue(bytes, type);
+        } catch (IOException e) {
+            throw new DecodeException(FAILED_TO_DECODE.formatted(e.getMessage()), e);
+        }
+    }
+
     public <T> T decodeValue(Buffer buf, Class<T> clazz) throws DecodeException {
         try {
             return mapper.readValue((InputStream) new ByteBufInputStream(buf.getByteBuf()), clazz);
@@ -84,4 +131,23 @@ public class JacksonMapper {
         target.addProperties(mapper.convertValue(source, FlexibleExtension.PROPERTIES_TYPE_REF));
         return target;
     }
+
+    private static class BufferOutputStream extends OutputStream {
+
+        private final Buffer buffer;
+
+        BufferOutputStream(Buffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) {
+            buffer.appendByte((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            buffer.appendBytes(bytes, offset, length);
+        }
+    }
 }
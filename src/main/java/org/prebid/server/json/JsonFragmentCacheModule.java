@@ -0,0 +1,133 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Serializes instances of the given types once and writes the same raw JSON fragment for every next serialization
+ * of the very same instance.
+ * <p>
+ * Fragments are looked up by instance identity with weak keys, so they live only as long as the instances
+ * shared by bidder requests of the same auction. Since these instances carry mutable extensions, each fragment
+ * remembers hash code of the instance it was serialized from and is serialized again once the hash code changed.
+ */
+class JsonFragmentCacheModule extends SimpleModule {
+
+    private static final int MAXIMUM_SIZE = 10_000;
+
+    JsonFragmentCacheModule(ObjectMapper fragmentMapper, Set<Class<?>> cachedTypes) {
+        Objects.requireNonNull(fragmentMapper);
+        Objects.requireNonNull(cachedTypes);
+
+        // weak keys are compared by identity
+        final Map<Object, Fragment> fragments = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(MAXIMUM_SIZE)
+                .<Object, Fragment>build()
+                .asMap();
+
+        setSerializerModifier(new BeanSerializerModifier() {
+
+            @Override
+            public JsonSerializer<?> modifySerializer(SerializationConfig config,
+                                                      BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+
+                return cachedTypes.contains(beanDesc.getBeanClass())
+                        ? new FragmentCachingSerializer(serializer, fragmentMapper, fragments)
+                        : serializer;
+            }
+        });
+    }
+
+    private static class FragmentCachingSerializer extends JsonSerializer<Object> implements ResolvableSerializer {
+
+        private final JsonSerializer<Object> delegate;
+        private final ObjectMapper fragmentMapper;
+        private final Map<Object, Fragment> fragments;
+
+        @SuppressWarnings("unchecked")
+        FragmentCachingSerializer(JsonSerializer<?> delegate,
+                                  ObjectMapper fragmentMapper,
+                                  Map<Object, Fragment> fragments) {
+
+            this.delegate = (JsonSerializer<Object>) delegate;
+            this.fragmentMapper = fragmentMapper;
+            this.fragments = fragments;
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (delegate instanceof ResolvableSerializer resolvableSerializer) {
+                resolvableSerializer.resolve(provider);
+            }
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            final int hashCode = value.hashCode();
+            Fragment fragment = fragments.get(value);
+            if (fragment == null || fragment.hashCode != hashCode) {
+                fragment = new Fragment(hashCode, serializeFragment(value));
+                fragments.put(value, fragment);
+            }
+
+            gen.writeRawValue(fragment.json);
+        }
+
+        @Override
+        public void serializeWithType(Object value,
+                                      JsonGenerator gen,
+                                      SerializerProvider serializers,
+                                      TypeSerializer typeSer) throws IOException {
+
+            delegate.serializeWithType(value, gen, serializers, typeSer);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, Object value) {
+            return delegate.isEmpty(provider, value);
+        }
+
+        @Override
+        public Class<Object> handledType() {
+            return delegate.handledType();
+        }
+
+        private SerializableString serializeFragment(Object value) throws JsonProcessingException {
+            final SerializedString fragment = new SerializedString(fragmentMapper.writeValueAsString(value));
+            // encode once, so every next write copies ready UTF-8 bytes
+            fragment.asUnquotedUTF8();
+            return fragment;
+        }
+    }
+
+    private static class Fragment {
+
+        private final int hashCode;
+        private final SerializableString json;
+
+        Fragment(int hashCode, SerializableString json) {
+            this.hashCode = hashCode;
+            this.json = json;
+        }
+    }
+}
@@ -4,8 +4,8 @@ import com.codahale.metrics.MetricRegistry;
 import io.netty.util.internal.StringUtil;
 import org.prebid.server.activity.Activity;
 
-import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 public class ActivitiesMetrics extends UpdatableMetrics {
@@ -14,15 +14,20 @@ public class ActivitiesMetrics extends UpdatableMetrics {
 
     private final Map<Activity, UpdatableMetrics> disallowedActivityMetrics;
 
-    ActivitiesMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
-        super(metricRegistry, counterType, nameCreator(prefix, StringUtil.EMPTY_STRING));
+    ActivitiesMetrics(MetricRegistry metricRegistry,
+                      CounterType counterType,
+                      ReservoirSpec reservoirSpec,
+                      String prefix) {
+
+        super(metricRegistry, counterType, reservoirSpec, nameCreator(prefix, StringUtil.EMPTY_STRING));
 
         disallowedActivityMetricCreator = activity -> new UpdatableMetrics(
                 metricRegistry,
                 counterType,
+                reservoirSpec,
                 nameCreator(prefix, suffixFromActivity(activity)));
 
-        disallowedActivityMetrics = new EnumMap<>(Activity.class);
+        disallowedActivityMetrics = new ConcurrentHashMap<>();
     }
 
     private static Function<MetricName, String> nameCreator(String prefix, String suffix) {
@@ -2,9 +2,9 @@ package org.prebid.server.metric;
 
 import com.codahale.metrics.MetricRegistry;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -15,12 +15,17 @@ class AdapterMetrics extends UpdatableMetrics {
     private final Function<String, AdapterTypeMetrics> adapterMetricsCreator;
     private final Map<String, AdapterTypeMetrics> adapterMetrics;
 
-    AdapterMetrics(MetricRegistry metricRegistry, CounterType counterType, String accountPrefix) {
+    AdapterMetrics(MetricRegistry metricRegistry,
+                   CounterType counterType,
+                   ReservoirSpec reservoirSpec,
+                   String accountPrefix) {
+
         super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 nameCreator(createAdapterSuffix(Objects.requireNonNull(accountPrefix))));
 
-        adapterMetrics = new HashMap<>();
-        adapterMetricsCreator = adapterType -> new AdapterTypeMetrics(metricRegistry, counterType,
+        adapterMetrics = new ConcurrentHashMap<>();
+        adapterMetricsCreator = adapterType -> new AdapterTypeMetrics(metricRegistry, counterType, reservoirSpec,
                 createAdapterSuffix(Objects.requireNonNull(accountPrefix)), adapterType);
     }
 
@@ -2,9 +2,9 @@ package org.prebid.server.metric;
 
 import com.codahale.metrics.MetricRegistry;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -20,31 +20,43 @@ class AdapterTypeMetrics extends UpdatableMetrics {
     private final ResponseMetrics responseMetrics;
     private final ActivitiesMetrics activitiesMetrics;
 
-    AdapterTypeMetrics(MetricRegistry metricRegistry, CounterType counterType, String adapterType) {
+    AdapterTypeMetrics(MetricRegistry metricRegistry,
+                       CounterType counterType,
+                       ReservoirSpec reservoirSpec,
+                       String adapterType) {
+
         super(
                 Objects.requireNonNull(metricRegistry),
                 Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 nameCreator(createAdapterPrefix(Objects.requireNonNull(adapterType))));
 
         bidTypeMetricsCreator = bidType ->
-                new BidTypeMetrics(metricRegistry, counterType, createAdapterPrefix(adapterType), bidType);
+                new BidTypeMetrics(
+                        metricRegistry, counterType, reservoirSpec, createAdapterPrefix(adapterType), bidType);
         requestTypeMetricsCreator = requestType ->
-                new RequestTypeMetrics(metricRegistry, counterType, createAdapterPrefix(adapterType), requestType);
-        requestTypeMetrics = new HashMap<>();
-        requestMetrics = new RequestMetrics(metricRegistry, counterType, createAdapterPrefix(adapterType));
-        bidTypeMetrics = new HashMap<>();
-        responseMetrics = new ResponseMetrics(metricRegistry, counterType, createAdapterPrefix(adapterType));
-        activitiesMetrics = new ActivitiesMetrics(metricRegistry, counterType, createAdapterPrefix(adapterType));
+                new RequestTypeMetrics(
+                        metricRegistry, counterType, reservoirSpec, createAdapterPrefix(adapterType), requestType);
+        requestTypeMetrics = new ConcurrentHashMap<>();
+        requestMetrics = new RequestMetrics(
+                metricRegistry, counterType, reservoirSpec, createAdapterPrefix(adapterType));
+        bidTypeMetrics = new ConcurrentHashMap<>();
+        responseMetrics = new ResponseMetrics(
+                metricRegistry, counterType, reservoirSpec, createAdapterPrefix(adapterType));
+        activitiesMetrics = new ActivitiesMetrics(
+                metricRegistry, counterType, reservoirSpec, createAdapterPrefix(adapterType));
     }
 
     AdapterTypeMetrics(MetricRegistry metricRegistry,
                        CounterType counterType,
+                       ReservoirSpec reservoirSpec,
                        String accountAdapterPrefix,
                        String adapterType) {
 
         super(
                 Objects.requireNonNull(metricRegistry),
                 Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 nameCreator(createAdapterPrefix(
                         Objects.requireNonNull(accountAdapterPrefix),
                         Objects.requireNonNull(adapterType))));
@@ -52,6 +64,7 @@ class AdapterTypeMetrics extends UpdatableMetrics {
         requestMetrics = new RequestMetrics(
                 metricRegistry,
                 counterType,
+                reservoirSpec,
                 createAdapterPrefix(accountAdapterPrefix, adapterType));
 
         // not used for account.adapter.adapters metrics
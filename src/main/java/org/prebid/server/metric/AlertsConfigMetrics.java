@@ -7,8 +7,13 @@ import java.util.function.Function;
 
 public class AlertsConfigMetrics extends UpdatableMetrics {
 
-    AlertsConfigMetrics(MetricRegistry metricRegistry, CounterType counterType, String account) {
+    AlertsConfigMetrics(MetricRegistry metricRegistry,
+                        CounterType counterType,
+                        ReservoirSpec reservoirSpec,
+                        String account) {
+
         super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 nameCreator(account));
     }
 
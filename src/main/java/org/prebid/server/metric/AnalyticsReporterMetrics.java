@@ -2,9 +2,9 @@ package org.prebid.server.metric;
 
 import com.codahale.metrics.MetricRegistry;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -15,13 +15,19 @@ class AnalyticsReporterMetrics extends UpdatableMetrics {
     private final Function<MetricName, EventTypeMetrics> eventTypeMetricsCreator;
     private final Map<MetricName, EventTypeMetrics> eventTypeMetrics;
 
-    AnalyticsReporterMetrics(MetricRegistry metricRegistry, CounterType counterType, String analyticCode) {
+    AnalyticsReporterMetrics(MetricRegistry metricRegistry,
+                             CounterType counterType,
+                             ReservoirSpec reservoirSpec,
+                             String analyticCode) {
+
         super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 nameCreator(createAdapterPrefix(Objects.requireNonNull(analyticCode))));
 
         eventTypeMetricsCreator = eventType ->
-                new EventTypeMetrics(metricRegistry, counterType, createAdapterPrefix(analyticCode), eventType);
-        eventTypeMetrics = new HashMap<>();
+                new EventTypeMetrics(
+                        metricRegistry, counterType, reservoirSpec, createAdapterPrefix(analyticCode), eventType);
+        eventTypeMetrics = new ConcurrentHashMap<>();
     }
 
     private static String createAdapterPrefix(String reporterName) {
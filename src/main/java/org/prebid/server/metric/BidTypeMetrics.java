@@ -9,8 +9,13 @@ import java.util.function.Function;
  */
 class BidTypeMetrics extends UpdatableMetrics {
 
-    BidTypeMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix, String bidType) {
-        super(metricRegistry, counterType, nameCreator(prefix, bidType));
+    BidTypeMetrics(MetricRegistry metricRegistry,
+                   CounterType counterType,
+                   ReservoirSpec reservoirSpec,
+                   String prefix,
+                   String bidType) {
+
+        super(metricRegistry, counterType, reservoirSpec, nameCreator(prefix, bidType));
     }
 
     private static Function<MetricName, String> nameCreator(String prefix, String bidType) {
@@ -7,8 +7,12 @@ import java.util.function.Function;
 
 public class BidderCardinalityMetrics extends UpdatableMetrics {
 
-    BidderCardinalityMetrics(MetricRegistry metricRegistry, CounterType counterType, Integer cardinality) {
-        super(metricRegistry, counterType, nameCreator(Objects.requireNonNull(cardinality)));
+    BidderCardinalityMetrics(MetricRegistry metricRegistry,
+                             CounterType counterType,
+                             ReservoirSpec reservoirSpec,
+                             Integer cardinality) {
+
+        super(metricRegistry, counterType, reservoirSpec, nameCreator(Objects.requireNonNull(cardinality)));
     }
 
     private static Function<MetricName, String> nameCreator(Integer cardinality) {
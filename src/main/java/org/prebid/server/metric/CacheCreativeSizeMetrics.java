@@ -7,8 +7,13 @@ import java.util.function.Function;
 
 public class CacheCreativeSizeMetrics extends UpdatableMetrics {
 
-    CacheCreativeSizeMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
+    CacheCreativeSizeMetrics(MetricRegistry metricRegistry,
+                             CounterType counterType,
+                             ReservoirSpec reservoirSpec,
+                             String prefix) {
+
         super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 nameCreator(Objects.requireNonNull(prefix)));
     }
 
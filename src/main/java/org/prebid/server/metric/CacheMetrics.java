@@ -13,24 +13,28 @@ class CacheMetrics extends UpdatableMetrics {
     private final RequestMetrics requestsMetrics;
     private final CacheCreativeSizeMetrics cacheCreativeSizeMetrics;
 
-    CacheMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+    CacheMetrics(MetricRegistry metricRegistry, CounterType counterType, ReservoirSpec reservoirSpec) {
         super(
                 Objects.requireNonNull(metricRegistry),
                 Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 nameCreator(createPrefix()));
 
-        requestsMetrics = new RequestMetrics(metricRegistry, counterType, createPrefix());
-        cacheCreativeSizeMetrics = new CacheCreativeSizeMetrics(metricRegistry, counterType, createPrefix());
+        requestsMetrics = new RequestMetrics(metricRegistry, counterType, reservoirSpec, createPrefix());
+        cacheCreativeSizeMetrics = new CacheCreativeSizeMetrics(
+                metricRegistry, counterType, reservoirSpec, createPrefix());
     }
 
-    CacheMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
+    CacheMetrics(MetricRegistry metricRegistry, CounterType counterType, ReservoirSpec reservoirSpec, String prefix) {
         super(
                 Objects.requireNonNull(metricRegistry),
                 Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 nameCreator(createPrefix(Objects.requireNonNull(prefix))));
 
-        requestsMetrics = new RequestMetrics(metricRegistry, counterType, createPrefix(prefix));
-        cacheCreativeSizeMetrics = new CacheCreativeSizeMetrics(metricRegistry, counterType, createPrefix(prefix));
+        requestsMetrics = new RequestMetrics(metricRegistry, counterType, reservoirSpec, createPrefix(prefix));
+        cacheCreativeSizeMetrics = new CacheCreativeSizeMetrics(
+                metricRegistry, counterType, reservoirSpec, createPrefix(prefix));
     }
 
     private static String createPrefix(String prefix) {
@@ -2,9 +2,9 @@ package org.prebid.server.metric;
 
 import com.codahale.metrics.MetricRegistry;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -17,15 +17,21 @@ class CircuitBreakerMetrics extends UpdatableMetrics {
     private final Function<String, NamedCircuitBreakerMetrics> namedCircuitBreakerMetricsCreator;
     private final Map<String, NamedCircuitBreakerMetrics> namedCircuitBreakerMetrics;
 
-    CircuitBreakerMetrics(MetricRegistry metricRegistry, CounterType counterType, MetricName type) {
+    CircuitBreakerMetrics(MetricRegistry metricRegistry,
+                          CounterType counterType,
+                          ReservoirSpec reservoirSpec,
+                          MetricName type) {
+
         super(
                 Objects.requireNonNull(metricRegistry),
                 Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 nameCreator(createPrefix(Objects.requireNonNull(type))));
 
         namedCircuitBreakerMetricsCreator =
-                name -> new NamedCircuitBreakerMetrics(metricRegistry, counterType, createPrefix(type), name);
-        namedCircuitBreakerMetrics = new HashMap<>();
+                name -> new NamedCircuitBreakerMetrics(
+                        metricRegistry, counterType, reservoirSpec, createPrefix(type), name);
+        namedCircuitBreakerMetrics = new ConcurrentHashMap<>();
     }
 
     NamedCircuitBreakerMetrics forName(String name) {
@@ -62,10 +68,16 @@ class CircuitBreakerMetrics extends UpdatableMetrics {
 
     static class NamedCircuitBreakerMetrics extends UpdatableMetrics {
 
-        NamedCircuitBreakerMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix, String name) {
+        NamedCircuitBreakerMetrics(MetricRegistry metricRegistry,
+                                   CounterType counterType,
+                                   ReservoirSpec reservoirSpec,
+                                   String prefix,
+                                   String name) {
+
             super(
                     Objects.requireNonNull(metricRegistry),
                     Objects.requireNonNull(counterType),
+                    Objects.requireNonNull(reservoirSpec),
                     nameCreator(Objects.requireNonNull(prefix), Objects.requireNonNull(name)));
         }
 
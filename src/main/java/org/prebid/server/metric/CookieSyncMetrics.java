@@ -2,9 +2,9 @@ package org.prebid.server.metric;
 
 import com.codahale.metrics.MetricRegistry;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -15,11 +15,13 @@ public class CookieSyncMetrics extends UpdatableMetrics {
     private final Function<String, CookieSyncMetrics.BidderCookieSyncMetrics> bidderCookieSyncMetricsCreator;
     private final Map<String, CookieSyncMetrics.BidderCookieSyncMetrics> bidderCookieSyncMetrics;
 
-    CookieSyncMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+    CookieSyncMetrics(MetricRegistry metricRegistry, CounterType counterType, ReservoirSpec reservoirSpec) {
         super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 metricName -> "cookie_sync." + metricName);
-        bidderCookieSyncMetricsCreator = bidder -> new BidderCookieSyncMetrics(metricRegistry, counterType, bidder);
-        bidderCookieSyncMetrics = new HashMap<>();
+        bidderCookieSyncMetricsCreator = bidder -> new BidderCookieSyncMetrics(
+                metricRegistry, counterType, reservoirSpec, bidder);
+        bidderCookieSyncMetrics = new ConcurrentHashMap<>();
     }
 
     CookieSyncMetrics.BidderCookieSyncMetrics forBidder(String bidder) {
@@ -30,10 +32,15 @@ public class CookieSyncMetrics extends UpdatableMetrics {
 
         private final TcfMetrics tcfMetrics;
 
-        BidderCookieSyncMetrics(MetricRegistry metricRegistry, CounterType counterType, String bidder) {
+        BidderCookieSyncMetrics(MetricRegistry metricRegistry,
+                                CounterType counterType,
+                                ReservoirSpec reservoirSpec,
+                                String bidder) {
+
             super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                    Objects.requireNonNull(reservoirSpec),
                     nameCreator(Objects.requireNonNull(createCookieSyncPrefix(bidder))));
-            tcfMetrics = new TcfMetrics(metricRegistry, counterType, createCookieSyncPrefix(bidder));
+            tcfMetrics = new TcfMetrics(metricRegistry, counterType, reservoirSpec, createCookieSyncPrefix(bidder));
         }
 
         TcfMetrics tcf() {
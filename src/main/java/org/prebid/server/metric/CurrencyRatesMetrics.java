@@ -12,8 +12,9 @@ class CurrencyRatesMetrics extends UpdatableMetrics {
 
     private static final String SUFFIX = ".count";
 
-    CurrencyRatesMetrics(MetricRegistry metricRegistry, CounterType counterType) {
-        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType), nameCreator());
+    CurrencyRatesMetrics(MetricRegistry metricRegistry, CounterType counterType, ReservoirSpec reservoirSpec) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec), nameCreator());
     }
 
     private static Function<MetricName, String> nameCreator() {
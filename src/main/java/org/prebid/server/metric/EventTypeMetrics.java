@@ -9,8 +9,13 @@ import java.util.function.Function;
  */
 public class EventTypeMetrics extends UpdatableMetrics {
 
-    EventTypeMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix, MetricName eventType) {
-        super(metricRegistry, counterType, nameCreator(prefix, eventType));
+    EventTypeMetrics(MetricRegistry metricRegistry,
+                     CounterType counterType,
+                     ReservoirSpec reservoirSpec,
+                     String prefix,
+                     MetricName eventType) {
+
+        super(metricRegistry, counterType, reservoirSpec, nameCreator(prefix, eventType));
     }
 
     private static Function<MetricName, String> nameCreator(String prefix, MetricName eventType) {
@@ -0,0 +1,197 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Snapshot;
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+import org.HdrHistogram.IntCountsHistogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+
+/**
+ * {@link Reservoir} backed by HdrHistogram {@link Recorder}.
+ * <p>
+ * Recording is wait-free, so updates from event loops do not contend with each other or with reporters. All values
+ * are kept with fixed relative precision instead of being sampled, so high percentiles are not lost under load.
+ * Flushing reservoir starts from scratch after each snapshot, the same way {@link ResettingCounter} does.
+ * Non-flushing reservoir reports values of the configured time window only: they are kept in a ring of time slices,
+ * and slices falling out of the window are dropped, so percentiles follow the current load instead of the whole
+ * uptime.
+ * <p>
+ * Values are accumulated in histograms with int counts, and histogram of a snapshot is built on demand, so nothing
+ * but recorder and accumulated values is kept between snapshots.
+ */
+class HdrHistogramReservoir implements Reservoir {
+
+    private static final int SIGNIFICANT_VALUE_DIGITS = 2;
+    private static final int WINDOW_SLICES = 6;
+
+    private final boolean flushing;
+    private final long sliceDurationMs;
+    private final Clock clock;
+    private final Recorder recorder;
+    private final Histogram intervalHistogram;
+    private final AbstractHistogram[] slices;
+
+    private int currentSlice;
+    private long currentSliceStart;
+
+    HdrHistogramReservoir(boolean flushing, long windowMs) {
+        this(flushing, windowMs, Clock.systemUTC());
+    }
+
+    HdrHistogramReservoir(boolean flushing, long windowMs, Clock clock) {
+        if (windowMs < WINDOW_SLICES) {
+            throw new IllegalArgumentException("HdrHistogram window should be at least %d ms: %d"
+                    .formatted(WINDOW_SLICES, windowMs));
+        }
+
+        this.flushing = flushing;
+        this.clock = clock;
+
+        sliceDurationMs = windowMs / WINDOW_SLICES;
+        recorder = new Recorder(SIGNIFICANT_VALUE_DIGITS);
+        intervalHistogram = new Histogram(SIGNIFICANT_VALUE_DIGITS);
+
+        // flushing reservoir accumulates values between snapshots in the single slice
+        slices = new AbstractHistogram[flushing ? 1 : WINDOW_SLICES];
+        for (int i = 0; i < slices.length; i++) {
+            slices[i] = new IntCountsHistogram(SIGNIFICANT_VALUE_DIGITS);
+        }
+        currentSliceStart = clock.millis();
+    }
+
+    @Override
+    public void update(long value) {
+        // HdrHistogram can't record negative values, Dropwizard timers drop them the same way
+        if (value >= 0) {
+            recorder.recordValue(value);
+        }
+    }
+
+    @Override
+    public synchronized int size() {
+        collect();
+
+        long size = 0;
+        for (AbstractHistogram slice : slices) {
+            size += slice.getTotalCount();
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public synchronized Snapshot getSnapshot() {
+        collect();
+
+        final Histogram snapshotHistogram = new Histogram(SIGNIFICANT_VALUE_DIGITS);
+        for (AbstractHistogram slice : slices) {
+            snapshotHistogram.add(slice);
+        }
+        if (flushing) {
+            slices[0].reset();
+        }
+
+        return new HdrHistogramSnapshot(snapshotHistogram);
+    }
+
+    private void collect() {
+        recorder.getIntervalHistogramInto(intervalHistogram);
+        if (!flushing) {
+            rotateSlices();
+        }
+        slices[currentSlice].add(intervalHistogram);
+    }
+
+    /**
+     * Moves to the slice covering current time, resetting slices that fell out of the window on the way.
+     */
+    private void rotateSlices() {
+        final long elapsedSlices = (clock.millis() - currentSliceStart) / sliceDurationMs;
+        if (elapsedSlices <= 0) {
+            return;
+        }
+
+        for (long i = 0; i < Math.min(elapsedSlices, WINDOW_SLICES); i++) {
+            currentSlice = (currentSlice + 1) % WINDOW_SLICES;
+            slices[currentSlice].reset();
+        }
+        currentSliceStart += elapsedSlices * sliceDurationMs;
+    }
+
+    private static class HdrHistogramSnapshot extends Snapshot {
+
+        private final Histogram histogram;
+
+        HdrHistogramSnapshot(Histogram histogram) {
+            this.histogram = histogram;
+        }
+
+        @Override
+        public double getValue(double quantile) {
+            return histogram.getValueAtPercentile(quantile * 100);
+        }
+
+        /**
+         * Expands all recorded values, so should not be used on hot path.
+         */
+        @Override
+        public long[] getValues() {
+            final long[] values = new long[size()];
+
+            int index = 0;
+            for (HistogramIterationValue value : histogram.recordedValues()) {
+                final long count = value.getCountAtValueIteratedTo();
+                for (long i = 0; i < count && index < values.length; i++) {
+                    values[index++] = value.getValueIteratedTo();
+                }
+            }
+
+            return values;
+        }
+
+        @Override
+        public int size() {
+            return (int) Math.min(histogram.getTotalCount(), Integer.MAX_VALUE);
+        }
+
+        @Override
+        public long getMax() {
+            return isEmpty() ? 0 : histogram.getMaxValue();
+        }
+
+        @Override
+        public double getMean() {
+            return isEmpty() ? 0 : histogram.getMean();
+        }
+
+        @Override
+        public long getMin() {
+            return isEmpty() ? 0 : histogram.getMinValue();
+        }
+
+        @Override
+        public double getStdDev() {
+            return isEmpty() ? 0 : histogram.getStdDeviation();
+        }
+
+        @Override
+        public void dump(OutputStream output) {
+            try (PrintWriter out = new PrintWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8))) {
+                for (long value : getValues()) {
+                    out.printf("%d%n", value);
+                }
+            }
+        }
+
+        private boolean isEmpty() {
+            return histogram.getTotalCount() == 0;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+class HookExecutorMetrics extends UpdatableMetrics {
+
+    HookExecutorMetrics(MetricRegistry metricRegistry,
+                        CounterType counterType,
+                        ReservoirSpec reservoirSpec,
+                        String prefix) {
+
+        super(
+                Objects.requireNonNull(metricRegistry),
+                Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
+                nameCreator(createPrefix(Objects.requireNonNull(prefix))));
+    }
+
+    private static Function<MetricName, String> nameCreator(String prefix) {
+        return metricName -> "%s.%s".formatted(prefix, metricName);
+    }
+
+    private static String createPrefix(String prefix) {
+        return prefix + ".executor";
+    }
+}
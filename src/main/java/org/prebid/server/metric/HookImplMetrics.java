@@ -9,13 +9,20 @@ class HookImplMetrics extends UpdatableMetrics {
 
     private final HookSuccessMetrics successMetrics;
 
-    HookImplMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix, String hookImplCode) {
+    HookImplMetrics(MetricRegistry metricRegistry,
+                    CounterType counterType,
+                    ReservoirSpec reservoirSpec,
+                    String prefix,
+                    String hookImplCode) {
+
         super(
                 Objects.requireNonNull(metricRegistry),
                 Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 nameCreator(createPrefix(Objects.requireNonNull(prefix), Objects.requireNonNull(hookImplCode))));
 
-        successMetrics = new HookSuccessMetrics(metricRegistry, counterType, createPrefix(prefix, hookImplCode));
+        successMetrics = new HookSuccessMetrics(
+                metricRegistry, counterType, reservoirSpec, createPrefix(prefix, hookImplCode));
     }
 
     private static Function<MetricName, String> nameCreator(String prefix) {
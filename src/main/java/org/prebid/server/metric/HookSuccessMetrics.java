@@ -7,10 +7,15 @@ import java.util.function.Function;
 
 class HookSuccessMetrics extends UpdatableMetrics {
 
-    HookSuccessMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
+    HookSuccessMetrics(MetricRegistry metricRegistry,
+                       CounterType counterType,
+                       ReservoirSpec reservoirSpec,
+                       String prefix) {
+
         super(
                 Objects.requireNonNull(metricRegistry),
                 Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 nameCreator(createPrefix(Objects.requireNonNull(prefix))));
     }
 
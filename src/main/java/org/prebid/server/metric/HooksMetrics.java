@@ -2,39 +2,38 @@ package org.prebid.server.metric;
 
 import com.codahale.metrics.MetricRegistry;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 class HooksMetrics extends UpdatableMetrics {
 
-    // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
-    // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
-    // thread-safe
     private final Function<String, ModuleMetrics> moduleMetricsCreator;
     private final Map<String, ModuleMetrics> moduleMetrics;
 
-    HooksMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
+    HooksMetrics(MetricRegistry metricRegistry, CounterType counterType, ReservoirSpec reservoirSpec, String prefix) {
         super(
                 Objects.requireNonNull(metricRegistry),
                 Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 nameCreator(createPrefix(Objects.requireNonNull(prefix))));
 
         moduleMetricsCreator = moduleCode ->
-                new ModuleMetrics(metricRegistry, counterType, createPrefix(prefix), moduleCode);
-        moduleMetrics = new HashMap<>();
+                new ModuleMetrics(metricRegistry, counterType, reservoirSpec, createPrefix(prefix), moduleCode);
+        moduleMetrics = new ConcurrentHashMap<>();
     }
 
-    HooksMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+    HooksMetrics(MetricRegistry metricRegistry, CounterType counterType, ReservoirSpec reservoirSpec) {
         super(
                 Objects.requireNonNull(metricRegistry),
                 Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 nameCreator(createPrefix()));
 
         moduleMetricsCreator = moduleCode ->
-                new ModuleMetrics(metricRegistry, counterType, createPrefix(), moduleCode);
-        moduleMetrics = new HashMap<>();
+                new ModuleMetrics(metricRegistry, counterType, reservoirSpec, createPrefix(), moduleCode);
+        moduleMetrics = new ConcurrentHashMap<>();
     }
 
     private static Function<MetricName, String> nameCreator(String prefix) {
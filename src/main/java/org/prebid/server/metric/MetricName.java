@@ -26,6 +26,7 @@ public enum MetricName {
     app_requests,
     no_cookie_requests,
     request_time,
+    response_allocated_bytes,
     prices,
     imps_requested,
     imps_banner,
@@ -58,6 +59,7 @@ public enum MetricName {
     failed,
     nobid,
     gotbids,
+    throttled,
     badinput,
     blacklisted_account,
     blacklisted_app,
@@ -122,12 +124,23 @@ public enum MetricName {
 
     // settings cache
     stored_request("stored-request"),
+    stored_imp("stored-imp"),
     amp_stored_request("amp-stored-request"),
+    amp_stored_imp("amp-stored-imp"),
+    video_stored_request("video-stored-request"),
+    video_stored_imp("video-stored-imp"),
+    stored_response("stored-response"),
     account,
     initialize,
     update,
     hit,
     miss,
+    coalesced,
+    batched,
+    stale_hit,
+    revalidate_time,
+    revalidate_err,
+    parse_time,
 
     // hooks
     call,
@@ -138,6 +151,10 @@ public enum MetricName {
     failure,
     execution_error("execution-error"),
     duration,
+    active,
+    queued,
+    stuck,
+    rejected,
 
     // price-floors
     price_floors("price-floors"),
@@ -167,6 +184,8 @@ public enum MetricName {
     delivery_request_failed,
     delivery_request_successful,
     delivery_request_time,
+    lineitems_index_size,
+    lineitems_index_rebuild_time,
 
     // activity
     disallowed_count("disallowed.count"),
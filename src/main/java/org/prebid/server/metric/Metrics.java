@@ -12,10 +12,11 @@ import org.prebid.server.settings.model.Account;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumMap;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -39,9 +40,6 @@ public class Metrics extends UpdatableMetrics {
     private final Function<Integer, BidderCardinalityMetrics> bidderCardinalityMetricsCreator;
     private final Function<MetricName, CircuitBreakerMetrics> circuitBreakerMetricsCreator;
     private final Function<MetricName, SettingsCacheMetrics> settingsCacheMetricsCreator;
-    // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
-    // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
-    // thread-safe
     private final RequestsMetrics requestsMetrics;
     private final Map<MetricName, RequestStatusMetrics> requestMetrics;
     private final Map<String, AccountMetrics> accountMetrics;
@@ -63,44 +61,49 @@ public class Metrics extends UpdatableMetrics {
 
     public Metrics(MetricRegistry metricRegistry,
                    CounterType counterType,
+                   ReservoirSpec reservoirSpec,
                    AccountMetricsVerbosityResolver accountMetricsVerbosityResolver) {
 
-        super(metricRegistry, counterType, MetricName::toString);
+        super(metricRegistry, counterType, reservoirSpec, MetricName::toString);
 
         this.accountMetricsVerbosityResolver = Objects.requireNonNull(accountMetricsVerbosityResolver);
 
-        requestMetricsCreator = requestType -> new RequestStatusMetrics(metricRegistry, counterType, requestType);
-        accountMetricsCreator = account -> new AccountMetrics(metricRegistry, counterType, account);
-        adapterMetricsCreator = adapterType -> new AdapterTypeMetrics(metricRegistry, counterType, adapterType);
+        requestMetricsCreator = requestType -> new RequestStatusMetrics(
+                metricRegistry, counterType, reservoirSpec, requestType);
+        accountMetricsCreator = account -> new AccountMetrics(metricRegistry, counterType, reservoirSpec, account);
+        adapterMetricsCreator = adapterType -> new AdapterTypeMetrics(
+                metricRegistry, counterType, reservoirSpec, adapterType);
         bidderCardinalityMetricsCreator = cardinality -> new BidderCardinalityMetrics(
-                metricRegistry, counterType, cardinality);
+                metricRegistry, counterType, reservoirSpec, cardinality);
         analyticMetricsCreator = analyticCode -> new AnalyticsReporterMetrics(
-                metricRegistry, counterType, analyticCode);
+                metricRegistry, counterType, reservoirSpec, analyticCode);
         priceFloorsMetricsCreator = moduleType -> new PriceFloorMetrics(
-                metricRegistry, counterType, moduleType);
+                metricRegistry, counterType, reservoirSpec, moduleType);
         alertsMetricsCreator = account -> new AlertsConfigMetrics(
-                metricRegistry, counterType, account);
-        circuitBreakerMetricsCreator = type -> new CircuitBreakerMetrics(metricRegistry, counterType, type);
-        settingsCacheMetricsCreator = type -> new SettingsCacheMetrics(metricRegistry, counterType, type);
-
-        requestsMetrics = new RequestsMetrics(metricRegistry, counterType);
-        requestMetrics = new EnumMap<>(MetricName.class);
-        accountMetrics = new HashMap<>();
-        adapterMetrics = new HashMap<>();
-        analyticMetrics = new HashMap<>();
-        priceFloorsMetrics = new HashMap<>();
-        alertsMetrics = new HashMap<>();
-        bidderCardinailtyMetrics = new HashMap<>();
-        userSyncMetrics = new UserSyncMetrics(metricRegistry, counterType);
-        cookieSyncMetrics = new CookieSyncMetrics(metricRegistry, counterType);
-        privacyMetrics = new PrivacyMetrics(metricRegistry, counterType);
-        circuitBreakerMetrics = new HashMap<>();
-        cacheMetrics = new CacheMetrics(metricRegistry, counterType);
-        timeoutNotificationMetrics = new TimeoutNotificationMetrics(metricRegistry, counterType);
-        currencyRatesMetrics = new CurrencyRatesMetrics(metricRegistry, counterType);
-        settingsCacheMetrics = new HashMap<>();
-        hooksMetrics = new HooksMetrics(metricRegistry, counterType);
-        pgMetrics = new PgMetrics(metricRegistry, counterType);
+                metricRegistry, counterType, reservoirSpec, account);
+        circuitBreakerMetricsCreator = type -> new CircuitBreakerMetrics(
+                metricRegistry, counterType, reservoirSpec, type);
+        settingsCacheMetricsCreator = type -> new SettingsCacheMetrics(
+                metricRegistry, counterType, reservoirSpec, type);
+
+        requestsMetrics = new RequestsMetrics(metricRegistry, counterType, reservoirSpec);
+        requestMetrics = new ConcurrentHashMap<>();
+        accountMetrics = new ConcurrentHashMap<>();
+        adapterMetrics = new ConcurrentHashMap<>();
+        analyticMetrics = new ConcurrentHashMap<>();
+        priceFloorsMetrics = new ConcurrentHashMap<>();
+        alertsMetrics = new ConcurrentHashMap<>();
+        bidderCardinailtyMetrics = new ConcurrentHashMap<>();
+        userSyncMetrics = new UserSyncMetrics(metricRegistry, counterType, reservoirSpec);
+        cookieSyncMetrics = new CookieSyncMetrics(metricRegistry, counterType, reservoirSpec);
+        privacyMetrics = new PrivacyMetrics(metricRegistry, counterType, reservoirSpec);
+        circuitBreakerMetrics = new ConcurrentHashMap<>();
+        cacheMetrics = new CacheMetrics(metricRegistry, counterType, reservoirSpec);
+        timeoutNotificationMetrics = new TimeoutNotificationMetrics(metricRegistry, counterType, reservoirSpec);
+        currencyRatesMetrics = new CurrencyRatesMetrics(metricRegistry, counterType, reservoirSpec);
+        settingsCacheMetrics = new ConcurrentHashMap<>();
+        hooksMetrics = new HooksMetrics(metricRegistry, counterType, reservoirSpec);
+        pgMetrics = new PgMetrics(metricRegistry, counterType, reservoirSpec);
     }
 
     RequestsMetrics requests() {
@@ -229,6 +232,10 @@ public class Metrics extends UpdatableMetrics {
         updateTimer(requestType, millis);
     }
 
+    public void updateResponseAllocatedBytesMetric(long bytes) {
+        updateHistogram(MetricName.response_allocated_bytes, bytes);
+    }
+
     public void updateRequestTypeMetric(MetricName requestType, MetricName requestStatus) {
         forRequestType(requestType).incCounter(requestStatus);
     }
@@ -300,6 +307,13 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateAdapterRequestThrottledMetrics(String bidder, Account account) {
+        forAdapter(bidder).request().incCounter(MetricName.throttled);
+        if (accountMetricsVerbosityResolver.forAccount(account).isAtLeast(AccountMetricsVerbosityLevel.detailed)) {
+            forAccount(account.getId()).adapter().forAdapter(bidder).request().incCounter(MetricName.throttled);
+        }
+    }
+
     public void updateAdapterBidMetrics(String bidder, Account account, long cpm, boolean isAdm, String bidType) {
         final AdapterTypeMetrics adapterTypeMetrics = forAdapter(bidder);
         adapterTypeMetrics.updateHistogram(MetricName.prices, cpm);
@@ -452,6 +466,14 @@ public class Metrics extends UpdatableMetrics {
         versionMetrics.incCounter(metricName);
     }
 
+    public void updatePrivacyTcfConsentCacheHitMetric() {
+        privacy().tcf().consentCache().incCounter(MetricName.hit);
+    }
+
+    public void updatePrivacyTcfConsentCacheMissMetric() {
+        privacy().tcf().consentCache().incCounter(MetricName.miss);
+    }
+
     public void updatePrivacyTcfVendorListMissingMetric(int version) {
         updatePrivacyTcfVendorListMetric(version, MetricName.missing);
     }
@@ -552,6 +574,14 @@ public class Metrics extends UpdatableMetrics {
         pgMetrics().updateTimer(MetricName.delivery_request_time, millis);
     }
 
+    public void createLineItemsIndexSizeGauge(LongSupplier sizeSupplier) {
+        pgMetrics().createGauge(MetricName.lineitems_index_size, sizeSupplier);
+    }
+
+    public void updateLineItemsIndexRebuildTime(long timeElapsedNanos) {
+        pgMetrics().updateTimer(MetricName.lineitems_index_rebuild_time, timeElapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
     public void updateGeoLocationMetric(boolean successful) {
         incCounter(MetricName.geolocation_requests);
         if (successful) {
@@ -621,6 +651,14 @@ public class Metrics extends UpdatableMetrics {
         forSettingsCacheType(cacheType).incCounter(event);
     }
 
+    public void updateSettingsCacheRevalidateTime(MetricName cacheType, long timeElapsed) {
+        forSettingsCacheType(cacheType).updateTimer(MetricName.revalidate_time, timeElapsed);
+    }
+
+    public void updateSettingsCacheParseTime(MetricName cacheType, long timeElapsedNanos) {
+        forSettingsCacheType(cacheType).updateTimer(MetricName.parse_time, timeElapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
     public void updateHooksMetrics(
             String moduleCode,
             Stage stage,
@@ -640,6 +678,21 @@ public class Metrics extends UpdatableMetrics {
         hookImplMetrics.updateTimer(MetricName.duration, executionTime);
     }
 
+    public void createHooksExecutorGauges(String moduleCode,
+                                          LongSupplier activeSupplier,
+                                          LongSupplier queuedSupplier,
+                                          LongSupplier stuckSupplier) {
+
+        final HookExecutorMetrics executorMetrics = hooks().module(moduleCode).executor();
+        executorMetrics.createGauge(MetricName.active, activeSupplier);
+        executorMetrics.createGauge(MetricName.queued, queuedSupplier);
+        executorMetrics.createGauge(MetricName.stuck, stuckSupplier);
+    }
+
+    public void updateHooksExecutorRejectedMetric(String moduleCode) {
+        hooks().module(moduleCode).executor().incCounter(MetricName.rejected);
+    }
+
     public void updateAccountHooksMetrics(
             Account account,
             String moduleCode,
@@ -3,32 +3,39 @@ package org.prebid.server.metric;
 import com.codahale.metrics.MetricRegistry;
 import org.prebid.server.hooks.execution.model.Stage;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 class ModuleMetrics extends UpdatableMetrics {
 
-    // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
-    // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
-    // thread-safe
     private final Function<Stage, StageMetrics> stageMetricsCreator;
     private final Map<Stage, StageMetrics> stageMetrics;
 
     private final HookSuccessMetrics successMetrics;
+    private final HookExecutorMetrics executorMetrics;
+
+    ModuleMetrics(MetricRegistry metricRegistry,
+                  CounterType counterType,
+                  ReservoirSpec reservoirSpec,
+                  String prefix,
+                  String moduleCode) {
 
-    ModuleMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix, String moduleCode) {
         super(
                 Objects.requireNonNull(metricRegistry),
                 Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 nameCreator(createPrefix(Objects.requireNonNull(prefix), Objects.requireNonNull(moduleCode))));
 
         stageMetricsCreator = stage ->
-                new StageMetrics(metricRegistry, counterType, createPrefix(prefix, moduleCode), stage);
-        stageMetrics = new HashMap<>();
+                new StageMetrics(metricRegistry, counterType, reservoirSpec, createPrefix(prefix, moduleCode), stage);
+        stageMetrics = new ConcurrentHashMap<>();
 
-        successMetrics = new HookSuccessMetrics(metricRegistry, counterType, createPrefix(prefix, moduleCode));
+        successMetrics = new HookSuccessMetrics(
+                metricRegistry, counterType, reservoirSpec, createPrefix(prefix, moduleCode));
+        executorMetrics = new HookExecutorMetrics(
+                metricRegistry, counterType, reservoirSpec, createPrefix(prefix, moduleCode));
     }
 
     private static Function<MetricName, String> nameCreator(String prefix) {
@@ -46,4 +53,8 @@ class ModuleMetrics extends UpdatableMetrics {
     HookSuccessMetrics success() {
         return successMetrics;
     }
+
+    HookExecutorMetrics executor() {
+        return executorMetrics;
+    }
 }
@@ -4,7 +4,7 @@ import com.codahale.metrics.MetricRegistry;
 
 public class PgMetrics extends UpdatableMetrics {
 
-    PgMetrics(MetricRegistry metricRegistry, CounterType counterType) {
-        super(metricRegistry, counterType, metricName -> "pg." + metricName);
+    PgMetrics(MetricRegistry metricRegistry, CounterType counterType, ReservoirSpec reservoirSpec) {
+        super(metricRegistry, counterType, reservoirSpec, metricName -> "pg." + metricName);
     }
 }
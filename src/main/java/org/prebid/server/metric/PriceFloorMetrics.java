@@ -7,8 +7,13 @@ import java.util.function.Function;
 
 public class PriceFloorMetrics extends UpdatableMetrics {
 
-    PriceFloorMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
+    PriceFloorMetrics(MetricRegistry metricRegistry,
+                      CounterType counterType,
+                      ReservoirSpec reservoirSpec,
+                      String prefix) {
+
         super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 nameCreator(Objects.requireNonNull(prefix)));
     }
 
@@ -13,11 +13,12 @@ class PrivacyMetrics extends UpdatableMetrics {
     private final USPrivacyMetrics usPrivacyMetrics;
     private final TcfMetrics tcfMetrics;
 
-    PrivacyMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+    PrivacyMetrics(MetricRegistry metricRegistry, CounterType counterType, ReservoirSpec reservoirSpec) {
         super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 metricName -> "privacy." + metricName);
-        usPrivacyMetrics = new USPrivacyMetrics(metricRegistry, counterType, "privacy");
-        tcfMetrics = new TcfMetrics(metricRegistry, counterType, "privacy");
+        usPrivacyMetrics = new USPrivacyMetrics(metricRegistry, counterType, reservoirSpec, "privacy");
+        tcfMetrics = new TcfMetrics(metricRegistry, counterType, reservoirSpec, "privacy");
     }
 
     USPrivacyMetrics usp() {
@@ -30,8 +31,13 @@ class PrivacyMetrics extends UpdatableMetrics {
 
     static class USPrivacyMetrics extends UpdatableMetrics {
 
-        USPrivacyMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
+        USPrivacyMetrics(MetricRegistry metricRegistry,
+                         CounterType counterType,
+                         ReservoirSpec reservoirSpec,
+                         String prefix) {
+
             super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                    Objects.requireNonNull(reservoirSpec),
                     nameCreator(Objects.requireNonNull(prefix)));
         }
 
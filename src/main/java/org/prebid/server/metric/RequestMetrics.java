@@ -10,8 +10,9 @@ import java.util.function.Function;
  */
 class RequestMetrics extends UpdatableMetrics {
 
-    RequestMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
+    RequestMetrics(MetricRegistry metricRegistry, CounterType counterType, ReservoirSpec reservoirSpec, String prefix) {
         super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 nameCreator(Objects.requireNonNull(prefix)));
     }
 
@@ -10,8 +10,13 @@ import java.util.function.Function;
  */
 class RequestStatusMetrics extends UpdatableMetrics {
 
-    RequestStatusMetrics(MetricRegistry metricRegistry, CounterType counterType, MetricName requestType) {
+    RequestStatusMetrics(MetricRegistry metricRegistry,
+                         CounterType counterType,
+                         ReservoirSpec reservoirSpec,
+                         MetricName requestType) {
+
         super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 nameCreator(Objects.requireNonNull(requestType)));
     }
 
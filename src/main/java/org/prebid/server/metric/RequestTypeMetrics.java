@@ -12,10 +12,16 @@ class RequestTypeMetrics extends UpdatableMetrics {
 
     private final TcfMetrics tcfMetrics;
 
-    RequestTypeMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix, MetricName requestType) {
+    RequestTypeMetrics(MetricRegistry metricRegistry,
+                       CounterType counterType,
+                       ReservoirSpec reservoirSpec,
+                       String prefix,
+                       MetricName requestType) {
+
         super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 nameCreator(Objects.requireNonNull(prefix), Objects.requireNonNull(requestType)));
-        tcfMetrics = new TcfMetrics(metricRegistry, counterType, createTcfPrefix(prefix, requestType));
+        tcfMetrics = new TcfMetrics(metricRegistry, counterType, reservoirSpec, createTcfPrefix(prefix, requestType));
     }
 
     TcfMetrics tcf() {
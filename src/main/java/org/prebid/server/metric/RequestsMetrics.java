@@ -8,8 +8,8 @@ public class RequestsMetrics {
 
     private final ActivitiesMetrics activitiesMetrics;
 
-    RequestsMetrics(MetricRegistry metricRegistry, CounterType counterType) {
-        activitiesMetrics = new ActivitiesMetrics(metricRegistry, counterType, PREFIX);
+    RequestsMetrics(MetricRegistry metricRegistry, CounterType counterType, ReservoirSpec reservoirSpec) {
+        activitiesMetrics = new ActivitiesMetrics(metricRegistry, counterType, reservoirSpec, PREFIX);
     }
 
     ActivitiesMetrics activities() {
@@ -0,0 +1,17 @@
+package org.prebid.server.metric;
+
+import lombok.Value;
+
+/**
+ * Type of reservoir backing timers and histograms along with its settings.
+ */
+@Value(staticConstructor = "of")
+public class ReservoirSpec {
+
+    ReservoirType type;
+
+    /**
+     * Time window reported by non-flushing HdrHistogram reservoir.
+     */
+    long hdrHistogramWindowMs;
+}
@@ -12,11 +12,16 @@ class ResponseMetrics extends UpdatableMetrics {
 
     private final ValidationMetrics validationMetrics;
 
-    ResponseMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
+    ResponseMetrics(MetricRegistry metricRegistry,
+                    CounterType counterType,
+                    ReservoirSpec reservoirSpec,
+                    String prefix) {
+
         super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 nameCreator(createPrefix(Objects.requireNonNull(prefix))));
 
-        validationMetrics = new ValidationMetrics(metricRegistry, counterType, createPrefix(prefix));
+        validationMetrics = new ValidationMetrics(metricRegistry, counterType, reservoirSpec, createPrefix(prefix));
     }
 
     private static Function<MetricName, String> nameCreator(String prefix) {
@@ -2,9 +2,9 @@ package org.prebid.server.metric;
 
 import com.codahale.metrics.MetricRegistry;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -15,13 +15,19 @@ class SettingsCacheMetrics extends UpdatableMetrics {
     private final Function<MetricName, RefreshSettingsCacheMetrics> refreshSettingsCacheMetricsCreator;
     private final Map<MetricName, RefreshSettingsCacheMetrics> refreshSettingsCacheMetrics;
 
-    SettingsCacheMetrics(MetricRegistry metricRegistry, CounterType counterType, MetricName type) {
+    SettingsCacheMetrics(MetricRegistry metricRegistry,
+                         CounterType counterType,
+                         ReservoirSpec reservoirSpec,
+                         MetricName type) {
+
         super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 nameCreator(createPrefix(Objects.requireNonNull(type))));
 
         refreshSettingsCacheMetricsCreator = refreshType ->
-                new RefreshSettingsCacheMetrics(metricRegistry, counterType, createPrefix(type), refreshType);
-        refreshSettingsCacheMetrics = new HashMap<>();
+                new RefreshSettingsCacheMetrics(
+                        metricRegistry, counterType, reservoirSpec, createPrefix(type), refreshType);
+        refreshSettingsCacheMetrics = new ConcurrentHashMap<>();
     }
 
     RefreshSettingsCacheMetrics forRefreshType(MetricName refreshType) {
@@ -40,10 +46,12 @@ class SettingsCacheMetrics extends UpdatableMetrics {
 
         RefreshSettingsCacheMetrics(MetricRegistry metricRegistry,
                                     CounterType counterType,
+                                    ReservoirSpec reservoirSpec,
                                     String prefix,
                                     MetricName type) {
 
             super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                    Objects.requireNonNull(reservoirSpec),
                     nameCreator(createPrefix(Objects.requireNonNull(prefix), Objects.requireNonNull(type))));
         }
 
@@ -10,10 +10,14 @@ import java.util.function.Function;
  */
 class SpecificValidationMetrics extends UpdatableMetrics {
 
-    SpecificValidationMetrics(
-            MetricRegistry metricRegistry, CounterType counterType, String prefix, String validation) {
+    SpecificValidationMetrics(MetricRegistry metricRegistry,
+                              CounterType counterType,
+                              ReservoirSpec reservoirSpec,
+                              String prefix,
+                              String validation) {
 
         super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 nameCreator(createPrefix(Objects.requireNonNull(prefix), Objects.requireNonNull(validation))));
     }
 
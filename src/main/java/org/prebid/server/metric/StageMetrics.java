@@ -4,9 +4,9 @@ import com.codahale.metrics.MetricRegistry;
 import org.prebid.server.hooks.execution.model.Stage;
 
 import java.util.EnumMap;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 class StageMetrics extends UpdatableMetrics {
@@ -25,21 +25,25 @@ class StageMetrics extends UpdatableMetrics {
 
     private static final String UNKNOWN_STAGE = "unknown";
 
-    // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
-    // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
-    // thread-safe
     private final Function<String, HookImplMetrics> hookImplMetricsCreator;
     private final Map<String, HookImplMetrics> hookImplMetrics;
 
-    StageMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix, Stage stage) {
+    StageMetrics(MetricRegistry metricRegistry,
+                 CounterType counterType,
+                 ReservoirSpec reservoirSpec,
+                 String prefix,
+                 Stage stage) {
+
         super(
                 Objects.requireNonNull(metricRegistry),
                 Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 nameCreator(createPrefix(Objects.requireNonNull(prefix), Objects.requireNonNull(stage))));
 
         hookImplMetricsCreator = hookImplCode ->
-                new HookImplMetrics(metricRegistry, counterType, createPrefix(prefix, stage), hookImplCode);
-        hookImplMetrics = new HashMap<>();
+                new HookImplMetrics(
+                        metricRegistry, counterType, reservoirSpec, createPrefix(prefix, stage), hookImplCode);
+        hookImplMetrics = new ConcurrentHashMap<>();
     }
 
     private static Function<MetricName, String> nameCreator(String prefix) {
@@ -16,15 +16,21 @@ class TcfMetrics extends UpdatableMetrics {
 
     private final TcfVersionMetrics tcfVersion1Metrics;
     private final TcfVersionMetrics tcfVersion2Metrics;
+    private final ConsentCacheMetrics consentCacheMetrics;
 
-    TcfMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
+    TcfMetrics(MetricRegistry metricRegistry, CounterType counterType, ReservoirSpec reservoirSpec, String prefix) {
         super(
                 Objects.requireNonNull(metricRegistry),
                 Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 nameCreator(createTcfPrefix(Objects.requireNonNull(prefix))));
 
-        tcfVersion1Metrics = new TcfVersionMetrics(metricRegistry, counterType, createTcfPrefix(prefix), "v1");
-        tcfVersion2Metrics = new TcfVersionMetrics(metricRegistry, counterType, createTcfPrefix(prefix), "v2");
+        tcfVersion1Metrics = new TcfVersionMetrics(
+                metricRegistry, counterType, reservoirSpec, createTcfPrefix(prefix), "v1");
+        tcfVersion2Metrics = new TcfVersionMetrics(
+                metricRegistry, counterType, reservoirSpec, createTcfPrefix(prefix), "v2");
+        consentCacheMetrics = new ConsentCacheMetrics(
+                metricRegistry, counterType, reservoirSpec, createTcfPrefix(prefix));
     }
 
     TcfVersionMetrics fromVersion(int version) {
@@ -35,6 +41,10 @@ class TcfMetrics extends UpdatableMetrics {
         };
     }
 
+    ConsentCacheMetrics consentCache() {
+        return consentCacheMetrics;
+    }
+
     private static String createTcfPrefix(String prefix) {
         return prefix + ".tcf";
     }
@@ -47,13 +57,19 @@ class TcfMetrics extends UpdatableMetrics {
 
         private final VendorListMetrics vendorListMetrics;
 
-        TcfVersionMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix, String version) {
+        TcfVersionMetrics(MetricRegistry metricRegistry,
+                          CounterType counterType,
+                          ReservoirSpec reservoirSpec,
+                          String prefix,
+                          String version) {
+
             super(
                     Objects.requireNonNull(metricRegistry),
                     Objects.requireNonNull(counterType),
+                    Objects.requireNonNull(reservoirSpec),
                     nameCreator(createVersionPrefix(Objects.requireNonNull(prefix), Objects.requireNonNull(version))));
 
-            vendorListMetrics = new VendorListMetrics(metricRegistry, counterType,
+            vendorListMetrics = new VendorListMetrics(metricRegistry, counterType, reservoirSpec,
                     createVersionPrefix(prefix, version));
         }
 
@@ -72,10 +88,15 @@ class TcfMetrics extends UpdatableMetrics {
 
     static class VendorListMetrics extends UpdatableMetrics {
 
-        VendorListMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
+        VendorListMetrics(MetricRegistry metricRegistry,
+                          CounterType counterType,
+                          ReservoirSpec reservoirSpec,
+                          String prefix) {
+
             super(
                     metricRegistry,
                     counterType,
+                    reservoirSpec,
                     nameCreator(createVersionPrefix(prefix)));
         }
 
@@ -87,4 +108,27 @@ class TcfMetrics extends UpdatableMetrics {
             return metricName -> "%s.%s".formatted(prefix, metricName);
         }
     }
+
+    static class ConsentCacheMetrics extends UpdatableMetrics {
+
+        ConsentCacheMetrics(MetricRegistry metricRegistry,
+                            CounterType counterType,
+                            ReservoirSpec reservoirSpec,
+                            String prefix) {
+
+            super(
+                    metricRegistry,
+                    counterType,
+                    reservoirSpec,
+                    nameCreator(createConsentCachePrefix(prefix)));
+        }
+
+        private static String createConsentCachePrefix(String prefix) {
+            return prefix + ".consent-cache";
+        }
+
+        private static Function<MetricName, String> nameCreator(String prefix) {
+            return metricName -> "%s.%s".formatted(prefix, metricName);
+        }
+    }
 }
@@ -9,8 +9,9 @@ import java.util.Objects;
  */
 class TimeoutNotificationMetrics extends UpdatableMetrics {
 
-    TimeoutNotificationMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+    TimeoutNotificationMetrics(MetricRegistry metricRegistry, CounterType counterType, ReservoirSpec reservoirSpec) {
         super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 metricName -> "timeout_notification." + metricName);
     }
 }
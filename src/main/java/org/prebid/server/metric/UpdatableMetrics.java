@@ -1,35 +1,69 @@
 package org.prebid.server.metric;
 
+import com.codahale.metrics.ExponentiallyDecayingReservoir;
+import com.codahale.metrics.Histogram;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Timer;
 
-import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
+/**
+ * Base class for metrics of particular scope.
+ * <p>
+ * Counters, timers and histograms are resolved from metric registry only once per metric name and kept as handles,
+ * so updates on hot path do not build metric names and do not look them up in registry. Underlying Dropwizard
+ * counters and meters are backed by {@link java.util.concurrent.atomic.LongAdder}, so concurrent updates from
+ * different event loops touch separate cells and are summed up on read.
+ * <p>
+ * Timers and histograms are backed by reservoir of configured {@link ReservoirSpec}.
+ */
 class UpdatableMetrics {
 
     private final MetricRegistry metricRegistry;
     private final Function<MetricName, String> nameCreator;
-    private final MetricIncrementer incrementer;
+    private final Function<String, LongConsumer> incrementerCreator;
     private final CounterType counterType;
-    // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
-    // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
-    // thread-safe
+    private final ReservoirSpec reservoirSpec;
+    private final Supplier<Reservoir> reservoirCreator;
+
     private final Map<MetricName, String> metricNames;
+    private final Map<MetricName, LongConsumer> incrementers;
+    private final Map<MetricName, Timer> timers;
+    private final Map<MetricName, Histogram> histograms;
+
+    UpdatableMetrics(MetricRegistry metricRegistry,
+                     CounterType counterType,
+                     ReservoirSpec reservoirSpec,
+                     Function<MetricName, String> nameCreator) {
 
-    UpdatableMetrics(MetricRegistry metricRegistry, CounterType counterType, Function<MetricName, String> nameCreator) {
         this.metricRegistry = metricRegistry;
         this.counterType = counterType;
+        this.reservoirSpec = reservoirSpec;
         this.nameCreator = nameCreator;
-        metricNames = new EnumMap<>(MetricName.class);
 
-        incrementer = switch (counterType) {
-            case flushingCounter -> (registry, metricName, value) ->
-                    registry.counter(metricName, ResettingCounter::new).inc(value);
-            case counter -> (registry, metricName, value) -> registry.counter(metricName).inc(value);
-            case meter -> (registry, metricName, value) -> registry.meter(metricName).mark(value);
+        metricNames = new ConcurrentHashMap<>();
+        incrementers = new ConcurrentHashMap<>();
+        timers = new ConcurrentHashMap<>();
+        histograms = new ConcurrentHashMap<>();
+
+        incrementerCreator = switch (counterType) {
+            case flushingCounter -> name -> metricRegistry.counter(name, ResettingCounter::new)::inc;
+            case counter -> name -> metricRegistry.counter(name)::inc;
+            case meter -> name -> metricRegistry.meter(name)::mark;
+        };
+        final long hdrHistogramWindowMs = reservoirSpec.getHdrHistogramWindowMs();
+        reservoirCreator = switch (reservoirSpec.getType()) {
+            // the same reservoir Dropwizard creates by default (size=1028, alpha=0.015)
+            case exponentiallyDecaying -> ExponentiallyDecayingReservoir::new;
+            case hdrHistogram -> () -> new HdrHistogramReservoir(false, hdrHistogramWindowMs);
+            case flushingHdrHistogram -> () -> new HdrHistogramReservoir(true, hdrHistogramWindowMs);
         };
     }
 
@@ -44,22 +78,28 @@ class UpdatableMetrics {
      * Increments metric's counter on a given value.
      */
     void incCounter(MetricName metricName, long value) {
-        incrementer.accept(metricRegistry, name(metricName), value);
+        handle(incrementers, metricName, incrementerCreator).accept(value);
     }
 
     /**
      * Updates metric's timer with a given value.
      */
     void updateTimer(MetricName metricName, long millis) {
-        metricRegistry.timer(name(metricName)).update(millis, TimeUnit.MILLISECONDS);
+        updateTimer(metricName, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Updates metric's timer with a given value measured in given time unit.
+     */
+    void updateTimer(MetricName metricName, long duration, TimeUnit unit) {
+        handle(timers, metricName, this::timer).update(duration, unit);
     }
 
     /**
      * Updates metric's histogram with a given value.
      */
     void updateHistogram(MetricName metricName, long value) {
-        // by default histograms with exponentially decaying reservoir (size=1028, alpha=0.015) are created
-        metricRegistry.histogram(name(metricName)).update(value);
+        handle(histograms, metricName, this::histogram).update(value);
     }
 
     void createGauge(MetricName metricName, LongSupplier supplier) {
@@ -67,19 +107,37 @@ class UpdatableMetrics {
     }
 
     void removeMetric(MetricName metricName) {
+        incrementers.remove(metricName);
+        timers.remove(metricName);
+        histograms.remove(metricName);
+
         metricRegistry.remove(name(metricName));
     }
 
+    private <T> T handle(Map<MetricName, T> handles, MetricName metricName, Function<String, T> handleCreator) {
+        final T handle = handles.get(metricName);
+        return handle != null
+                ? handle
+                : handles.computeIfAbsent(metricName, key -> handleCreator.apply(name(key)));
+    }
+
+    private Timer timer(String name) {
+        return metricRegistry.timer(name, () -> new Timer(reservoirCreator.get()));
+    }
+
+    private Histogram histogram(String name) {
+        return metricRegistry.histogram(name, () -> new Histogram(reservoirCreator.get()));
+    }
+
     private String name(MetricName metricName) {
-        return metricNames.computeIfAbsent(metricName, key -> nameCreator.apply(metricName));
+        return metricNames.computeIfAbsent(metricName, nameCreator);
     }
 
     public CounterType getCounterType() {
         return counterType;
     }
 
-    @FunctionalInterface
-    private interface MetricIncrementer {
-        void accept(MetricRegistry metricRegistry, String metricName, long value);
+    public ReservoirType getReservoirType() {
+        return reservoirSpec.getType();
     }
 }
@@ -2,9 +2,9 @@ package org.prebid.server.metric;
 
 import com.codahale.metrics.MetricRegistry;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -13,16 +13,15 @@ import java.util.function.Function;
 class UserSyncMetrics extends UpdatableMetrics {
 
     private final Function<String, BidderUserSyncMetrics> bidderUserSyncMetricsCreator;
-    // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
-    // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
-    // thread-safe
     private final Map<String, BidderUserSyncMetrics> bidderUserSyncMetrics;
 
-    UserSyncMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+    UserSyncMetrics(MetricRegistry metricRegistry, CounterType counterType, ReservoirSpec reservoirSpec) {
         super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 metricName -> "usersync." + metricName);
-        bidderUserSyncMetricsCreator = bidder -> new BidderUserSyncMetrics(metricRegistry, counterType, bidder);
-        bidderUserSyncMetrics = new HashMap<>();
+        bidderUserSyncMetricsCreator = bidder -> new BidderUserSyncMetrics(
+                metricRegistry, counterType, reservoirSpec, bidder);
+        bidderUserSyncMetrics = new ConcurrentHashMap<>();
     }
 
     BidderUserSyncMetrics forBidder(String bidder) {
@@ -33,10 +32,15 @@ class UserSyncMetrics extends UpdatableMetrics {
 
         private final TcfMetrics tcfMetrics;
 
-        BidderUserSyncMetrics(MetricRegistry metricRegistry, CounterType counterType, String bidder) {
+        BidderUserSyncMetrics(MetricRegistry metricRegistry,
+                              CounterType counterType,
+                              ReservoirSpec reservoirSpec,
+                              String bidder) {
+
             super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                    Objects.requireNonNull(reservoirSpec),
                     nameCreator(Objects.requireNonNull(createUserSyncPrefix(bidder))));
-            tcfMetrics = new TcfMetrics(metricRegistry, counterType, createUserSyncPrefix(bidder));
+            tcfMetrics = new TcfMetrics(metricRegistry, counterType, reservoirSpec, createUserSyncPrefix(bidder));
         }
 
         TcfMetrics tcf() {
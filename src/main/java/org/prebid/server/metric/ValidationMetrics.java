@@ -13,14 +13,19 @@ class ValidationMetrics extends UpdatableMetrics {
     private final SpecificValidationMetrics sizeValidationMetrics;
     private final SpecificValidationMetrics secureValidationMetrics;
 
-    ValidationMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
+    ValidationMetrics(MetricRegistry metricRegistry,
+                      CounterType counterType,
+                      ReservoirSpec reservoirSpec,
+                      String prefix) {
+
         super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirSpec),
                 nameCreator(createPrefix(Objects.requireNonNull(prefix))));
 
         sizeValidationMetrics = new SpecificValidationMetrics(
-                metricRegistry, counterType, createPrefix(prefix), "size");
+                metricRegistry, counterType, reservoirSpec, createPrefix(prefix), "size");
         secureValidationMetrics = new SpecificValidationMetrics(
-                metricRegistry, counterType, createPrefix(prefix), "secure");
+                metricRegistry, counterType, reservoirSpec, createPrefix(prefix), "secure");
     }
 
     private static Function<MetricName, String> nameCreator(String prefix) {
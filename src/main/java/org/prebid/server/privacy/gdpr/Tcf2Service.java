@@ -1,9 +1,12 @@
 package org.prebid.server.privacy.gdpr;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iabtcf.decoder.TCString;
 import io.vertx.core.Future;
 import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.privacy.gdpr.model.PrivacyEnforcementAction;
 import org.prebid.server.privacy.gdpr.model.VendorPermission;
@@ -28,6 +31,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -40,12 +44,17 @@ public class Tcf2Service {
     private final List<SpecialFeaturesStrategy> specialFeaturesStrategies;
     private final BidderCatalog bidderCatalog;
     private final PurposeOneTreatmentInterpretation purposeOneTreatmentInterpretation;
+    private final int permissionsCacheSize;
+
+    // vendor lists are compared by identity, so results are dropped together with replaced vendor list
+    private final Cache<Map<Integer, VendorV2>, Cache<PermissionsKey, Collection<VendorPermission>>> permissionsCache;
 
     public Tcf2Service(GdprConfig gdprConfig,
                        List<PurposeStrategy> purposeStrategies,
                        List<SpecialFeaturesStrategy> specialFeaturesStrategies,
                        VendorListServiceV2 vendorListServiceV2,
-                       BidderCatalog bidderCatalog) {
+                       BidderCatalog bidderCatalog,
+                       int permissionsCacheSize) {
 
         this.defaultPurposes = gdprConfig.getPurposes() == null ? Purposes.builder().build() : gdprConfig.getPurposes();
         this.defaultSpecialFeatures = gdprConfig.getSpecialFeatures() == null
@@ -56,6 +65,11 @@ public class Tcf2Service {
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
         this.purposeStrategies = Objects.requireNonNull(purposeStrategies);
         this.specialFeaturesStrategies = Objects.requireNonNull(specialFeaturesStrategies);
+        this.permissionsCacheSize = permissionsCacheSize;
+
+        permissionsCache = permissionsCacheSize > 0
+                ? Caffeine.newBuilder().weakKeys().build()
+                : null;
     }
 
     public Future<Collection<VendorPermission>> permissionsFor(Set<Integer> vendorIds, TCString tcfConsent) {
@@ -97,19 +111,81 @@ public class Tcf2Service {
         final PurposeOneTreatmentInterpretation mergedPurposeOneTreatmentInterpretation =
                 mergePurposeOneTreatmentInterpretation(accountGdprConfig);
 
+        final PermissionsKey permissionsKey = permissionsCache != null
+                ? PermissionsKey.of(
+                        tcfConsent,
+                        vendorPermissions.stream()
+                                .map(vendorPermission -> Pair.of(
+                                        vendorPermission.getVendorId(), vendorPermission.getBidderName()))
+                                .collect(Collectors.toSet()),
+                        mergedPurposes,
+                        mergedSpecialFeatures,
+                        mergedPurposeOneTreatmentInterpretation,
+                        accountGdprConfig != null ? accountGdprConfig.getBasicEnforcementVendors() : null)
+                : null;
+
         final VendorPermissionsByType<VendorPermission> vendorPermissionsByType = toVendorPermissionsByType(
                 vendorPermissions, accountGdprConfig);
 
         return vendorListServiceV2.forVersion(tcfConsent.getVendorListVersion())
-                .map(vendorGvlPermissions -> wrapWithGVL(vendorPermissionsByType, vendorGvlPermissions))
-
-                .compose(gvlResult -> processSupportedPurposeStrategies(tcfConsent, gvlResult, mergedPurposes,
-                                purposeOneTreatmentInterpretation),
+                .compose(vendorGvlPermissions -> cachedPermissions(vendorGvlPermissions, permissionsKey, () ->
+                                processSupportedPurposeStrategies(
+                                        tcfConsent,
+                                        wrapWithGVL(vendorPermissionsByType, vendorGvlPermissions),
+                                        mergedPurposes,
+                                        purposeOneTreatmentInterpretation)
+                                        .map(changedVendorPermissions -> processSupportedSpecialFeatureStrategies(
+                                                tcfConsent, changedVendorPermissions, mergedSpecialFeatures))),
                         ignoredFailed -> processDowngradedSupportedPurposeStrategies(tcfConsent,
-                                vendorPermissionsByType, mergedPurposes, mergedPurposeOneTreatmentInterpretation))
+                                vendorPermissionsByType, mergedPurposes, mergedPurposeOneTreatmentInterpretation)
+                                .map(changedVendorPermissions -> processSupportedSpecialFeatureStrategies(
+                                        tcfConsent, changedVendorPermissions, mergedSpecialFeatures)));
+    }
+
+    /**
+     * Returns copy of permissions calculated earlier for the same consent, vendors and enforcement configuration
+     * against the same vendor list, or calculates and remembers them.
+     * <p>
+     * Results calculated without vendor list are never cached, since vendor list will be fetched later.
+     */
+    private Future<Collection<VendorPermission>> cachedPermissions(
+            Map<Integer, VendorV2> vendorList,
+            PermissionsKey permissionsKey,
+            Supplier<Future<Collection<VendorPermission>>> permissionsSupplier) {
+
+        if (permissionsKey == null) {
+            return permissionsSupplier.get();
+        }
+
+        final Cache<PermissionsKey, Collection<VendorPermission>> vendorListCache = permissionsCache.get(
+                vendorList, ignored -> Caffeine.newBuilder().maximumSize(permissionsCacheSize).build());
+
+        final Collection<VendorPermission> cachedPermissions;
+        try {
+            cachedPermissions = vendorListCache.getIfPresent(permissionsKey);
+        } catch (RuntimeException e) {
+            // consent cannot be compared, so just calculate permissions as is
+            return permissionsSupplier.get();
+        }
+
+        if (cachedPermissions != null) {
+            return Future.succeededFuture(copyOf(cachedPermissions));
+        }
+
+        return permissionsSupplier.get()
+                .map(permissions -> {
+                    vendorListCache.put(permissionsKey, copyOf(permissions));
+                    return permissions;
+                });
+    }
 
-                .map(changedVendorPermissions -> processSupportedSpecialFeatureStrategies(tcfConsent,
-                        changedVendorPermissions, mergedSpecialFeatures));
+    private static Collection<VendorPermission> copyOf(Collection<VendorPermission> vendorPermissions) {
+        return vendorPermissions.stream()
+                .map(vendorPermission -> VendorPermission.of(
+                        vendorPermission.getVendorId(),
+                        vendorPermission.getBidderName(),
+                        vendorPermission.getPrivacyEnforcementAction().toBuilder().build()))
+                .toList();
     }
 
     private static VendorPermissionsByType<VendorPermission> toVendorPermissionsByType(
@@ -359,6 +435,22 @@ public class Tcf2Service {
         return prioritisedItem == null ? item : prioritisedItem;
     }
 
+    @Value(staticConstructor = "of")
+    private static class PermissionsKey {
+
+        TCString tcfConsent;
+
+        Set<Pair<Integer, String>> vendors;
+
+        Purposes purposes;
+
+        SpecialFeatures specialFeatures;
+
+        PurposeOneTreatmentInterpretation purposeOneTreatmentInterpretation;
+
+        List<String> basicEnforcementVendors;
+    }
+
     @Value(staticConstructor = "of")
     private static class VendorPermissionsByType<T> {
 
@@ -1,5 +1,7 @@
 package org.prebid.server.privacy.gdpr;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iabtcf.decoder.TCString;
 import io.vertx.core.Future;
 import io.vertx.core.logging.Logger;
@@ -61,6 +63,7 @@ public class TcfDefinerService {
     private final BidderCatalog bidderCatalog;
     private final IpAddressHelper ipAddressHelper;
     private final Metrics metrics;
+    private final Cache<String, TCStringDecodingResult> consentCache;
 
     public TcfDefinerService(GdprConfig gdprConfig,
                              Set<String> eeaCountries,
@@ -68,7 +71,8 @@ public class TcfDefinerService {
                              GeoLocationService geoLocationService,
                              BidderCatalog bidderCatalog,
                              IpAddressHelper ipAddressHelper,
-                             Metrics metrics) {
+                             Metrics metrics,
+                             int consentCacheSize) {
 
         this.gdprEnabled = gdprConfig != null && BooleanUtils.isNotFalse(gdprConfig.getEnabled());
         this.gdprDefaultValue = gdprConfig != null ? gdprConfig.getDefaultValue() : null;
@@ -80,6 +84,10 @@ public class TcfDefinerService {
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
         this.ipAddressHelper = Objects.requireNonNull(ipAddressHelper);
         this.metrics = Objects.requireNonNull(metrics);
+
+        consentCache = consentCacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(consentCacheSize).build()
+                : null;
     }
 
     /**
@@ -342,12 +350,56 @@ public class TcfDefinerService {
     }
 
     private TCString decodeTcString(String consentString, RequestLogInfo requestLogInfo, List<String> warnings) {
+        final TCStringDecodingResult decodingResult = consentCache != null
+                ? decodeTcStringWithCache(consentString)
+                : tryDecodeTcString(consentString);
+
+        final String errorMessage = decodingResult.getErrorMessage();
+        if (errorMessage != null) {
+            logWarn(consentString, errorMessage, requestLogInfo);
+            warnings.add("Parsing consent string:\"%s\" - failed. %s".formatted(consentString, errorMessage));
+            return null;
+        }
+        return decodingResult.getTcString();
+    }
+
+    /**
+     * Decodes the given consent string or takes decoded one (or the decoding error) from cache.
+     * <p>
+     * {@link TCString} is decoded lazily and is not thread-safe until all its fields were decoded,
+     * so only fully decoded instances are cached and shared between requests.
+     */
+    private TCStringDecodingResult decodeTcStringWithCache(String consentString) {
+        final TCStringDecodingResult cachedResult = consentCache.getIfPresent(consentString);
+        if (cachedResult != null) {
+            metrics.updatePrivacyTcfConsentCacheHitMetric();
+            return cachedResult;
+        }
+
+        metrics.updatePrivacyTcfConsentCacheMissMetric();
+
+        final TCStringDecodingResult decodingResult = tryDecodeTcString(consentString);
+        if (decodingResult.getTcString() == null || isFullyDecoded(decodingResult.getTcString())) {
+            consentCache.put(consentString, decodingResult);
+        }
+        return decodingResult;
+    }
+
+    private static TCStringDecodingResult tryDecodeTcString(String consentString) {
         try {
-            return TCString.decode(consentString);
+            return TCStringDecodingResult.of(TCString.decode(consentString), null);
         } catch (Exception e) {
-            logWarn(consentString, e.getMessage(), requestLogInfo);
-            warnings.add("Parsing consent string:\"%s\" - failed. %s".formatted(consentString, e.getMessage()));
-            return null;
+            return TCStringDecodingResult.of(null, String.valueOf(e.getMessage()));
+        }
+    }
+
+    private static boolean isFullyDecoded(TCString tcString) {
+        try {
+            // reads every field of consent
+            tcString.hashCode();
+            return true;
+        } catch (RuntimeException e) {
+            return false;
         }
     }
 
@@ -389,6 +441,14 @@ public class TcfDefinerService {
         }
     }
 
+    @Value(staticConstructor = "of")
+    private static class TCStringDecodingResult {
+
+        TCString tcString;
+
+        String errorMessage;
+    }
+
     @Value(staticConstructor = "of")
     private static class TCStringParsingResult {
 
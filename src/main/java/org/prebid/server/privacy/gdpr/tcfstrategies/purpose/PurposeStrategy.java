@@ -15,8 +15,10 @@ import org.prebid.server.settings.model.Purpose;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 public abstract class PurposeStrategy {
 
@@ -53,9 +55,8 @@ public abstract class PurposeStrategy {
             boolean wasDowngraded) {
 
         final Collection<VendorPermissionWithGvl> excludedVendors = excludedVendors(vendorPermissions, purpose);
-        final Collection<VendorPermissionWithGvl> vendorForPurpose = vendorPermissions.stream()
-                .filter(vendorPermission -> !excludedVendors.contains(vendorPermission))
-                .toList();
+        final Collection<VendorPermissionWithGvl> vendorForPurpose = vendorsForPurpose(vendorPermissions,
+                excludedVendors);
 
         allowedByTypeStrategy(vendorConsent, purpose, vendorForPurpose, excludedVendors).stream()
                 .map(VendorPermission::getPrivacyEnforcementAction)
@@ -74,6 +75,26 @@ public abstract class PurposeStrategy {
                 .toList();
     }
 
+    /**
+     * Excluded vendors are selected from the given permissions, so they are compared by identity rather than
+     * by value to keep this check cheap regardless of number of vendors.
+     */
+    private static Collection<VendorPermissionWithGvl> vendorsForPurpose(
+            Collection<VendorPermissionWithGvl> vendorPermissions,
+            Collection<VendorPermissionWithGvl> excludedVendors) {
+
+        if (excludedVendors.isEmpty()) {
+            return vendorPermissions;
+        }
+
+        final Set<VendorPermissionWithGvl> excluded = Collections.newSetFromMap(new IdentityHashMap<>());
+        excluded.addAll(excludedVendors);
+
+        return vendorPermissions.stream()
+                .filter(vendorPermission -> !excluded.contains(vendorPermission))
+                .toList();
+    }
+
     private Collection<VendorPermission> allowedByTypeStrategy(TCString vendorConsent,
                                                                Purpose purpose,
                                                                Collection<VendorPermissionWithGvl> vendorForPurpose,
@@ -6,7 +6,9 @@ import org.prebid.server.privacy.gdpr.model.VendorPermission;
 import org.prebid.server.privacy.gdpr.model.VendorPermissionWithGvl;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 public abstract class EnforcePurposeStrategy {
 
@@ -59,11 +61,21 @@ public abstract class EnforcePurposeStrategy {
         return isPurposeAllowed && isVendorAllowed;
     }
 
-    protected static Collection<VendorPermission> toVendorPermissions(
-            Collection<VendorPermissionWithGvl> vendorPermissionWithGvls) {
-
-        return vendorPermissionWithGvls.stream()
-                .map(VendorPermissionWithGvl::getVendorPermission)
-                .toList();
+    /**
+     * Appends permissions of excluded vendors to the allowed ones. Both collections come from disjoint
+     * vendor sets, so there is no need to deduplicate them.
+     */
+    protected static Collection<VendorPermission> concat(List<VendorPermission> allowedVendorPermissions,
+                                                         Collection<VendorPermissionWithGvl> excludedVendors) {
+
+        if (excludedVendors.isEmpty()) {
+            return allowedVendorPermissions;
+        }
+
+        final List<VendorPermission> result =
+                new ArrayList<>(allowedVendorPermissions.size() + excludedVendors.size());
+        result.addAll(allowedVendorPermissions);
+        excludedVendors.forEach(excludedVendor -> result.add(excludedVendor.getVendorPermission()));
+        return result;
     }
 }
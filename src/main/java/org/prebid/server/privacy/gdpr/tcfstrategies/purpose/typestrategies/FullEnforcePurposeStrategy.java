@@ -9,13 +9,11 @@ import org.prebid.server.privacy.gdpr.model.VendorPermissionWithGvl;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.VendorV2;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 public class FullEnforcePurposeStrategy extends EnforcePurposeStrategy {
 
@@ -29,53 +27,45 @@ public class FullEnforcePurposeStrategy extends EnforcePurposeStrategy {
                 .filter(publisherRestriction -> publisherRestriction.getPurposeId() == purpose.code())
                 .toList();
 
-        final List<VendorPermission> allowedExcluded = allowedExcludedVendorPermission(excludedVendors,
-                publisherRestrictions);
+        final List<VendorPermission> allowedVendorPermissions =
+                new ArrayList<>(excludedVendors.size() + vendorsForPurpose.size());
 
-        final Map<VendorPermissionWithGvl, RestrictionType> vendorPermissionToRestriction = mapVendorPermission(
-                vendorsForPurpose, publisherRestrictions);
+        allowedExcludedVendorPermissions(excludedVendors, publisherRestrictions, allowedVendorPermissions);
 
-        final List<VendorPermission> allowedVendorPermissions = vendorPermissionToRestriction.entrySet().stream()
-                .filter(permissionAndRestriction ->
-                        isAllowedByPublisherRestrictionAndFlexible(purpose, isEnforceVendors,
-                                permissionAndRestriction.getKey(), vendorConsent, permissionAndRestriction.getValue()))
-                .map(Map.Entry::getKey)
-                .map(VendorPermissionWithGvl::getVendorPermission)
-                .toList();
-
-        return CollectionUtils.union(allowedExcluded, allowedVendorPermissions);
-    }
-
-    private List<VendorPermission> allowedExcludedVendorPermission(
-            Collection<VendorPermissionWithGvl> excludedVendors,
-            Collection<PublisherRestriction> publisherRestrictions) {
+        for (VendorPermissionWithGvl vendorPermissionWithGvl : vendorsForPurpose) {
+            final RestrictionType restrictionType = restrictionType(vendorPermissionWithGvl, publisherRestrictions);
+            if (isAllowedByPublisherRestrictionAndFlexible(
+                    purpose, isEnforceVendors, vendorPermissionWithGvl, vendorConsent, restrictionType)) {
 
-        final List<Integer> notAllowedVendorIds = publisherRestrictions.stream()
-                .filter(publisherRestriction -> publisherRestriction.getRestrictionType()
-                        .equals(RestrictionType.NOT_ALLOWED))
-                .map(PublisherRestriction::getVendorIds)
-                .flatMap(vendorIds -> StreamSupport.stream(vendorIds.spliterator(), false))
-                .toList();
+                allowedVendorPermissions.add(vendorPermissionWithGvl.getVendorPermission());
+            }
+        }
 
-        return excludedVendors.stream()
-                .map(VendorPermissionWithGvl::getVendorPermission)
-                .filter(vendorPermissionWithGvl -> isNotRestricted(notAllowedVendorIds, vendorPermissionWithGvl))
-                .toList();
+        return allowedVendorPermissions;
     }
 
-    private boolean isNotRestricted(List<Integer> notAllowedVendorIds, VendorPermission vendorPermission) {
-        final Integer vendorId = vendorPermission.getVendorId();
-        return vendorId == null || !notAllowedVendorIds.contains(vendorId);
-    }
+    private static void allowedExcludedVendorPermissions(Collection<VendorPermissionWithGvl> excludedVendors,
+                                                         Collection<PublisherRestriction> publisherRestrictions,
+                                                         List<VendorPermission> allowedVendorPermissions) {
 
-    private Map<VendorPermissionWithGvl, RestrictionType> mapVendorPermission(
-            Collection<VendorPermissionWithGvl> vendorsForPurpose,
-            Collection<PublisherRestriction> publisherRestrictions) {
+        if (excludedVendors.isEmpty()) {
+            return;
+        }
 
-        return vendorsForPurpose.stream()
-                .collect(Collectors.toMap(
-                        Function.identity(),
-                        vendorPermissionWithGvl -> restrictionType(vendorPermissionWithGvl, publisherRestrictions)));
+        final BitSet notAllowedVendorIds = new BitSet();
+        for (PublisherRestriction publisherRestriction : publisherRestrictions) {
+            if (publisherRestriction.getRestrictionType().equals(RestrictionType.NOT_ALLOWED)) {
+                publisherRestriction.getVendorIds().spliterator().forEachRemaining(notAllowedVendorIds::set);
+            }
+        }
+
+        for (VendorPermissionWithGvl excludedVendor : excludedVendors) {
+            final VendorPermission vendorPermission = excludedVendor.getVendorPermission();
+            final Integer vendorId = vendorPermission.getVendorId();
+            if (vendorId == null || vendorId < 0 || !notAllowedVendorIds.get(vendorId)) {
+                allowedVendorPermissions.add(vendorPermission);
+            }
+        }
     }
 
     private RestrictionType restrictionType(VendorPermissionWithGvl vendorPermissionWithGvl,
@@ -84,11 +74,12 @@ public class FullEnforcePurposeStrategy extends EnforcePurposeStrategy {
         final VendorPermission vendorPermission = vendorPermissionWithGvl.getVendorPermission();
         final Integer vendorId = vendorPermission.getVendorId();
 
-        return publisherRestrictions.stream()
-                .filter(publisherRestriction -> publisherRestriction.getVendorIds().contains(vendorId))
-                .map(PublisherRestriction::getRestrictionType)
-                .findFirst()
-                .orElse(RestrictionType.UNDEFINED);
+        for (PublisherRestriction publisherRestriction : publisherRestrictions) {
+            if (publisherRestriction.getVendorIds().contains(vendorId)) {
+                return publisherRestriction.getRestrictionType();
+            }
+        }
+        return RestrictionType.UNDEFINED;
     }
 
     /**
@@ -4,7 +4,6 @@ import com.iabtcf.decoder.TCString;
 import com.iabtcf.utils.IntIterable;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
-import org.apache.commons.collections4.CollectionUtils;
 import org.prebid.server.privacy.gdpr.model.VendorPermission;
 import org.prebid.server.privacy.gdpr.model.VendorPermissionWithGvl;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
@@ -31,7 +30,7 @@ public class PurposeTwoBasicEnforcePurposeStrategy extends BasicEnforcePurposeSt
                         vendorPermission.getVendorId(), isEnforceVendors, vendorConsent))
                 .toList();
 
-        return CollectionUtils.union(allowedVendorPermissions, toVendorPermissions(excludedVendors));
+        return concat(allowedVendorPermissions, excludedVendors);
     }
 
     private boolean isAllowedBySimpleConsentOrPurposeLI(PurposeCode purpose,
@@ -8,4 +8,8 @@ public interface CacheNotificationListener {
     void save(Map<String, String> requests, Map<String, String> imps);
 
     void invalidate(List<String> requests, List<String> imps);
+
+    void saveResponses(Map<String, String> responses);
+
+    void invalidateResponses(List<String> responses);
 }
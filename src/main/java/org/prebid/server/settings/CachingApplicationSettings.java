@@ -1,13 +1,21 @@
 package org.prebid.server.settings;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.Timeout;
+import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.helper.StoredDataBatcher;
 import org.prebid.server.settings.helper.StoredDataFetcher;
 import org.prebid.server.settings.helper.StoredItemResolver;
 import org.prebid.server.settings.model.Account;
@@ -15,17 +23,28 @@ import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.StoredItem;
 import org.prebid.server.settings.model.StoredResponseDataResult;
 
+import java.time.Clock;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
-import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Adds caching functionality for {@link ApplicationSettings} implementation.
+ * <p>
+ * Concurrent misses of the same account or categories share a single call to the delegate. Misses of stored data
+ * issued within configured batch window are merged into a single call to the delegate per account.
+ * <p>
+ * If refresh-ahead TTL is configured, cached entries older than it are still served, while a single revalidation
+ * per entry is made in background with the timeout of the request which found entry stale. Entry is evicted
+ * when it expires or fails to revalidate several times in a row. Timed out revalidations are not counted as failures.
  */
 public class CachingApplicationSettings implements ApplicationSettings {
 
@@ -41,14 +60,29 @@ public class CachingApplicationSettings implements ApplicationSettings {
     private final SettingsCache ampCache;
     private final SettingsCache videoCache;
     private final Metrics metrics;
+    private final JacksonMapper mapper;
+    private final Clock clock;
+
+    private final RefreshAheadTracker accountRefreshAheadTracker;
+    private final RefreshAheadTracker categoryRefreshAheadTracker;
+    private final Map<String, Future<Account>> accountsInFlight = new ConcurrentHashMap<>();
+    private final Map<String, Future<Map<String, String>>> categoriesInFlight = new ConcurrentHashMap<>();
+    private final StoredDataBatcher storedDataBatcher;
+    private final StoredDataBatcher ampStoredDataBatcher;
+    private final StoredDataBatcher videoStoredDataBatcher;
 
     public CachingApplicationSettings(ApplicationSettings delegate,
                                       SettingsCache cache,
                                       SettingsCache ampCache,
                                       SettingsCache videoCache,
                                       Metrics metrics,
+                                      JacksonMapper mapper,
                                       int ttl,
-                                      int size) {
+                                      int size,
+                                      int refreshAheadTtl,
+                                      Vertx vertx,
+                                      long batchWindowMs,
+                                      Clock clock) {
 
         if (ttl <= 0 || size <= 0) {
             throw new IllegalArgumentException("ttl and size must be positive");
@@ -62,6 +96,23 @@ public class CachingApplicationSettings implements ApplicationSettings {
         this.ampCache = Objects.requireNonNull(ampCache);
         this.videoCache = Objects.requireNonNull(videoCache);
         this.metrics = Objects.requireNonNull(metrics);
+        this.mapper = Objects.requireNonNull(mapper);
+        this.clock = Objects.requireNonNull(clock);
+
+        accountRefreshAheadTracker = new RefreshAheadTracker(ttl, size, refreshAheadTtl, clock);
+        categoryRefreshAheadTracker = new RefreshAheadTracker(ttl, size, refreshAheadTtl, clock);
+
+        storedDataBatcher = new StoredDataBatcher(
+                delegate::getStoredData, vertx, batchWindowMs, batchedLookupListener(MetricName.stored_request));
+        ampStoredDataBatcher = new StoredDataBatcher(
+                delegate::getAmpStoredData, vertx, batchWindowMs, batchedLookupListener(MetricName.amp_stored_request));
+        videoStoredDataBatcher = new StoredDataBatcher(
+                delegate::getVideoStoredData, vertx, batchWindowMs,
+                batchedLookupListener(MetricName.video_stored_request));
+    }
+
+    private Runnable batchedLookupListener(MetricName cacheType) {
+        return () -> metrics.updateSettingsCacheEventMetric(cacheType, MetricName.batched);
     }
 
     /**
@@ -72,10 +123,12 @@ public class CachingApplicationSettings implements ApplicationSettings {
         return getFromCacheOrDelegate(
                 accountCache,
                 accountToErrorCache,
+                accountsInFlight,
+                accountRefreshAheadTracker,
                 accountId,
                 timeout,
                 delegate::getAccountById,
-                event -> metrics.updateSettingsCacheEventMetric(MetricName.account, event));
+                MetricName.account);
     }
 
     /**
@@ -87,7 +140,8 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                   Set<String> impIds,
                                                   Timeout timeout) {
 
-        return getFromCacheOrDelegate(cache, accountId, requestIds, impIds, timeout, delegate::getStoredData);
+        return getFromCacheOrDelegate(cache, accountId, requestIds, impIds, timeout, storedDataBatcher::fetch,
+                MetricName.stored_request, MetricName.stored_imp);
     }
 
     /**
@@ -99,7 +153,8 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                      Set<String> impIds,
                                                      Timeout timeout) {
 
-        return getFromCacheOrDelegate(ampCache, accountId, requestIds, impIds, timeout, delegate::getAmpStoredData);
+        return getFromCacheOrDelegate(ampCache, accountId, requestIds, impIds, timeout, ampStoredDataBatcher::fetch,
+                MetricName.amp_stored_request, MetricName.amp_stored_imp);
     }
 
     @Override
@@ -108,15 +163,43 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                        Set<String> impIds,
                                                        Timeout timeout) {
 
-        return getFromCacheOrDelegate(videoCache, accountId, requestIds, impIds, timeout, delegate::getVideoStoredData);
+        return getFromCacheOrDelegate(videoCache, accountId, requestIds, impIds, timeout, videoStoredDataBatcher::fetch,
+                MetricName.video_stored_request, MetricName.video_stored_imp);
     }
 
     /**
-     * Delegates stored response retrieve to original fetcher, as caching is not supported fot stored response.
+     * Retrieves stored responses from cache or delegates it to original fetcher for absent ids.
+     * <p>
+     * Stored responses are not bound to account and are kept in the cache of stored requests.
      */
     @Override
     public Future<StoredResponseDataResult> getStoredResponses(Set<String> responseIds, Timeout timeout) {
-        return delegate.getStoredResponses(responseIds, timeout);
+        final Map<String, String> responseCache = cache.getResponseCache();
+
+        final Map<String, String> idToStoredResponse = new HashMap<>(responseIds.size());
+        final Set<String> missedIds = new HashSet<>();
+        for (String id : responseIds) {
+            final String storedResponse = responseCache.get(id);
+            if (storedResponse != null) {
+                idToStoredResponse.put(id, storedResponse);
+                metrics.updateSettingsCacheEventMetric(MetricName.stored_response, MetricName.hit);
+            } else {
+                missedIds.add(id);
+                metrics.updateSettingsCacheEventMetric(MetricName.stored_response, MetricName.miss);
+            }
+        }
+
+        if (missedIds.isEmpty()) {
+            return Future.succeededFuture(StoredResponseDataResult.of(idToStoredResponse, Collections.emptyList()));
+        }
+
+        return delegate.getStoredResponses(missedIds, timeout).map(result -> {
+            final Map<String, String> idToStoredResponseFromDelegate = result.getIdToStoredResponses();
+            responseCache.putAll(idToStoredResponseFromDelegate);
+            idToStoredResponse.putAll(idToStoredResponseFromDelegate);
+
+            return StoredResponseDataResult.of(idToStoredResponse, result.getErrors());
+        });
     }
 
     @Override
@@ -125,38 +208,65 @@ public class CachingApplicationSettings implements ApplicationSettings {
                 ? "%s_%s".formatted(primaryAdServer, publisher)
                 : primaryAdServer;
 
-        return getFromCacheOrDelegate(categoryConfigCache, adServerPublisherToErrorCache, compoundKey, timeout,
+        return getFromCacheOrDelegate(categoryConfigCache, adServerPublisherToErrorCache, categoriesInFlight,
+                categoryRefreshAheadTracker, compoundKey, timeout,
                 (key, timeoutParam) -> delegate.getCategories(primaryAdServer, publisher, timeout),
-                CachingApplicationSettings::noOp);
+                null);
     }
 
-    private static <T> Future<T> getFromCacheOrDelegate(Map<String, T> cache,
-                                                        Map<String, String> accountToErrorCache,
-                                                        String key,
-                                                        Timeout timeout,
-                                                        BiFunction<String, Timeout, Future<T>> retriever,
-                                                        Consumer<MetricName> metricUpdater) {
+    /**
+     * Metrics are not updated if cache type is not given.
+     */
+    private <T> Future<T> getFromCacheOrDelegate(Map<String, T> cache,
+                                                 Map<String, String> accountToErrorCache,
+                                                 Map<String, Future<T>> inFlight,
+                                                 RefreshAheadTracker refreshAheadTracker,
+                                                 String key,
+                                                 Timeout timeout,
+                                                 BiFunction<String, Timeout, Future<T>> retriever,
+                                                 MetricName cacheType) {
 
         final T cachedValue = cache.get(key);
         if (cachedValue != null) {
-            metricUpdater.accept(MetricName.hit);
+            updateEventMetric(cacheType, MetricName.hit);
+
+            if (refreshAheadTracker.isStale(key)) {
+                updateEventMetric(cacheType, MetricName.stale_hit);
+                if (refreshAheadTracker.tryStartRevalidation(key)) {
+                    revalidate(cache, accountToErrorCache, refreshAheadTracker, key, timeout, retriever, cacheType);
+                }
+            }
 
             return Future.succeededFuture(cachedValue);
         }
 
-        metricUpdater.accept(MetricName.miss);
+        updateEventMetric(cacheType, MetricName.miss);
 
         final String preBidExceptionMessage = accountToErrorCache.get(key);
         if (preBidExceptionMessage != null) {
             return Future.failedFuture(new PreBidException(preBidExceptionMessage));
         }
 
-        return retriever.apply(key, timeout)
+        final Promise<T> promise = Promise.promise();
+        final Future<T> inFlightFuture = inFlight.putIfAbsent(key, promise.future());
+        if (inFlightFuture != null) {
+            updateEventMetric(cacheType, MetricName.coalesced);
+            return onCallerContext(inFlightFuture);
+        }
+
+        retriever.apply(key, timeout)
                 .map(value -> {
                     cache.put(key, value);
+                    refreshAheadTracker.loaded(key);
                     return value;
                 })
-                .recover(throwable -> cacheAndReturnFailedFuture(throwable, key, accountToErrorCache));
+                .recover(throwable -> cacheAndReturnFailedFuture(throwable, key, accountToErrorCache))
+                .onComplete(result -> {
+                    inFlight.remove(key, promise.future());
+                    promise.handle(result);
+                });
+
+        return promise.future();
     }
 
     /**
@@ -164,33 +274,44 @@ public class CachingApplicationSettings implements ApplicationSettings {
      * source, combines results and updates cache with missed stored item. In case when origin source returns failed
      * {@link Future} propagates its result to caller. In successive call return {@link Future&lt;StoredDataResult&gt;}
      * with all found stored items and error from origin source id call was made.
+     * <p>
+     * Stored items found in cache are also returned as parsed {@link JsonNode}s.
      */
-    private static Future<StoredDataResult> getFromCacheOrDelegate(
+    private Future<StoredDataResult> getFromCacheOrDelegate(
             SettingsCache cache,
             String accountId,
             Set<String> requestIds,
             Set<String> impIds,
             Timeout timeout,
-            StoredDataFetcher<String, Set<String>, Set<String>, Timeout, Future<StoredDataResult>> retriever) {
+            StoredDataFetcher<String, Set<String>, Set<String>, Timeout, Future<StoredDataResult>> retriever,
+            MetricName requestCacheType,
+            MetricName impCacheType) {
 
         // empty string account ID doesn't make sense
         final String normalizedAccountId = StringUtils.stripToNull(accountId);
 
         // search in cache
-        final Map<String, Set<StoredItem>> requestCache = cache.getRequestCache();
-        final Map<String, Set<StoredItem>> impCache = cache.getImpCache();
-
         final Set<String> missedRequestIds = new HashSet<>();
-        final Map<String, String> storedIdToRequest = getFromCacheOrAddMissedIds(normalizedAccountId, requestIds,
-                requestCache, missedRequestIds);
+        final Map<String, StoredItem> storedIdToRequestItem = getFromCacheOrAddMissedIds(normalizedAccountId,
+                requestIds, cache.getRequestCache(), missedRequestIds, requestCacheType);
+        final Map<String, String> storedIdToRequest = toStoredIdToData(storedIdToRequestItem);
+        final Map<String, JsonNode> storedIdToRequestNode = toStoredIdToNode(storedIdToRequestItem,
+                cache.getRequestNodeCache(), requestCacheType);
 
         final Set<String> missedImpIds = new HashSet<>();
-        final Map<String, String> storedIdToImp = getFromCacheOrAddMissedIds(normalizedAccountId, impIds, impCache,
-                missedImpIds);
+        final Map<String, StoredItem> storedIdToImpItem = getFromCacheOrAddMissedIds(normalizedAccountId,
+                impIds, cache.getImpCache(), missedImpIds, impCacheType);
+        final Map<String, String> storedIdToImp = toStoredIdToData(storedIdToImpItem);
+        final Map<String, JsonNode> storedIdToImpNode = toStoredIdToNode(storedIdToImpItem,
+                cache.getImpNodeCache(), impCacheType);
+
+        revalidateStaleItems(cache, normalizedAccountId, storedIdToRequestItem.keySet(), storedIdToImpItem.keySet(),
+                timeout, retriever, requestCacheType, impCacheType);
 
         if (missedRequestIds.isEmpty() && missedImpIds.isEmpty()) {
-            return Future.succeededFuture(
-                    StoredDataResult.of(storedIdToRequest, storedIdToImp, Collections.emptyList()));
+            return Future.succeededFuture(StoredDataResult.of(
+                    storedIdToRequest, storedIdToImp, Collections.emptyList(),
+                    storedIdToRequestNode, storedIdToImpNode));
         }
 
         // delegate call to original source for missed ids and update cache with it
@@ -207,10 +328,136 @@ public class CachingApplicationSettings implements ApplicationSettings {
                 cache.saveImpCache(normalizedAccountId, entry.getKey(), entry.getValue());
             }
 
-            return StoredDataResult.of(storedIdToRequest, storedIdToImp, result.getErrors());
+            return StoredDataResult.of(storedIdToRequest, storedIdToImp, result.getErrors(),
+                    storedIdToRequestNode, storedIdToImpNode);
+        });
+    }
+
+    private <T> void revalidate(Map<String, T> cache,
+                                Map<String, String> accountToErrorCache,
+                                RefreshAheadTracker refreshAheadTracker,
+                                String key,
+                                Timeout timeout,
+                                BiFunction<String, Timeout, Future<T>> retriever,
+                                MetricName cacheType) {
+
+        final long startTime = clock.millis();
+        retriever.apply(key, timeout).onComplete(result -> {
+            if (result.succeeded()) {
+                cache.put(key, result.result());
+                refreshAheadTracker.revalidated(key);
+                updateRevalidateTimeMetric(cacheType, startTime);
+                return;
+            }
+
+            updateEventMetric(cacheType, MetricName.revalidate_err);
+            final Throwable cause = result.cause();
+            if (cause instanceof TimeoutException) {
+                refreshAheadTracker.revalidationCancelled(key);
+            } else if (cause instanceof PreBidException) {
+                // entry is gone from the source, so there is no point to serve it anymore
+                cache.remove(key);
+                refreshAheadTracker.removed(key);
+                refreshAheadTracker.revalidationCancelled(key);
+                accountToErrorCache.put(key, cause.getMessage());
+            } else if (refreshAheadTracker.revalidationFailed(key)) {
+                cache.remove(key);
+            }
         });
     }
 
+    private void revalidateStaleItems(
+            SettingsCache cache,
+            String accountId,
+            Set<String> requestIds,
+            Set<String> impIds,
+            Timeout timeout,
+            StoredDataFetcher<String, Set<String>, Set<String>, Timeout, Future<StoredDataResult>> retriever,
+            MetricName requestCacheType,
+            MetricName impCacheType) {
+
+        final RefreshAheadTracker requestTracker = cache.getRequestRefreshAheadTracker();
+        final RefreshAheadTracker impTracker = cache.getImpRefreshAheadTracker();
+        final Set<String> staleRequestIds = staleIdsToRevalidate(requestIds, requestTracker, requestCacheType);
+        final Set<String> staleImpIds = staleIdsToRevalidate(impIds, impTracker, impCacheType);
+        if (staleRequestIds.isEmpty() && staleImpIds.isEmpty()) {
+            return;
+        }
+
+        final long startTime = clock.millis();
+        retriever.apply(accountId, staleRequestIds, staleImpIds, timeout).onComplete(result -> {
+            if (result.succeeded()) {
+                updateRevalidateTimeMetric(requestCacheType, startTime);
+            }
+
+            completeRevalidation(result, StoredDataResult::getStoredIdToRequest, staleRequestIds, requestTracker,
+                    cache.getRequestCache(), (id, value) -> cache.saveRequestCache(accountId, id, value),
+                    requestCacheType);
+            completeRevalidation(result, StoredDataResult::getStoredIdToImp, staleImpIds, impTracker,
+                    cache.getImpCache(), (id, value) -> cache.saveImpCache(accountId, id, value),
+                    impCacheType);
+        });
+    }
+
+    private Set<String> staleIdsToRevalidate(Set<String> ids, RefreshAheadTracker tracker, MetricName cacheType) {
+        final Set<String> staleIds = new HashSet<>();
+        for (String id : ids) {
+            if (tracker.isStale(id)) {
+                metrics.updateSettingsCacheEventMetric(cacheType, MetricName.stale_hit);
+                if (tracker.tryStartRevalidation(id)) {
+                    staleIds.add(id);
+                }
+            }
+        }
+        return staleIds;
+    }
+
+    /**
+     * Stored item which is missing in successful result is counted as failed to revalidate.
+     */
+    private void completeRevalidation(AsyncResult<StoredDataResult> result,
+                                      Function<StoredDataResult, Map<String, String>> idToValueExtractor,
+                                      Set<String> ids,
+                                      RefreshAheadTracker tracker,
+                                      Map<String, Set<StoredItem>> cache,
+                                      BiConsumer<String, String> saver,
+                                      MetricName cacheType) {
+
+        if (result.failed() && result.cause() instanceof TimeoutException) {
+            ids.forEach(tracker::revalidationCancelled);
+            return;
+        }
+
+        final Map<String, String> idToValue = result.succeeded()
+                ? idToValueExtractor.apply(result.result())
+                : Collections.emptyMap();
+        for (String id : ids) {
+            final String value = idToValue.get(id);
+            if (value != null) {
+                saver.accept(id, value);
+                tracker.revalidated(id);
+                continue;
+            }
+
+            metrics.updateSettingsCacheEventMetric(cacheType, MetricName.revalidate_err);
+            if (tracker.revalidationFailed(id)) {
+                cache.remove(id);
+            }
+        }
+    }
+
+    private void updateEventMetric(MetricName cacheType, MetricName event) {
+        if (cacheType != null) {
+            metrics.updateSettingsCacheEventMetric(cacheType, event);
+        }
+    }
+
+    private void updateRevalidateTimeMetric(MetricName cacheType, long startTime) {
+        if (cacheType != null) {
+            metrics.updateSettingsCacheRevalidateTime(cacheType, clock.millis() - startTime);
+        }
+    }
+
     private static <T> Future<T> cacheAndReturnFailedFuture(Throwable throwable,
                                                             String key,
                                                             Map<String, String> cache) {
@@ -222,27 +469,93 @@ public class CachingApplicationSettings implements ApplicationSettings {
         return Future.failedFuture(throwable);
     }
 
-    private static Map<String, String> getFromCacheOrAddMissedIds(String accountId,
-                                                                  Set<String> ids,
-                                                                  Map<String, Set<StoredItem>> cache,
-                                                                  Set<String> missedIds) {
+    /**
+     * Passes result of lookup started by another caller back to the Vert.x context of the current caller, so it
+     * doesn't continue on the event loop of the caller which started the lookup.
+     */
+    private static <T> Future<T> onCallerContext(Future<T> future) {
+        final Context context = Vertx.currentContext();
+        if (context == null) {
+            return future;
+        }
+
+        final Promise<T> promise = Promise.promise();
+        future.onComplete(result -> {
+            if (context == Vertx.currentContext()) {
+                promise.handle(result);
+            } else {
+                context.runOnContext(ignored -> promise.handle(result));
+            }
+        });
+
+        return promise.future();
+    }
+
+    private Map<String, StoredItem> getFromCacheOrAddMissedIds(String accountId,
+                                                               Set<String> ids,
+                                                               Map<String, Set<StoredItem>> cache,
+                                                               Set<String> missedIds,
+                                                               MetricName cacheType) {
 
-        final Map<String, String> idToStoredItem = new HashMap<>(ids.size());
+        final Map<String, StoredItem> idToStoredItem = new HashMap<>(ids.size());
 
         for (String id : ids) {
             try {
                 final StoredItem resolvedStoredItem = StoredItemResolver.resolve(null, accountId, id, cache.get(id));
-                idToStoredItem.put(id, resolvedStoredItem.getData());
+                idToStoredItem.put(id, resolvedStoredItem);
+                metrics.updateSettingsCacheEventMetric(cacheType, MetricName.hit);
             } catch (PreBidException e) {
                 missedIds.add(id);
+                metrics.updateSettingsCacheEventMetric(cacheType, MetricName.miss);
             }
         }
 
         return idToStoredItem;
     }
 
+    private static Map<String, String> toStoredIdToData(Map<String, StoredItem> idToStoredItem) {
+        final Map<String, String> idToData = new HashMap<>(idToStoredItem.size());
+        idToStoredItem.forEach((id, storedItem) -> idToData.put(id, storedItem.getData()));
+        return idToData;
+    }
+
+    private Map<String, JsonNode> toStoredIdToNode(Map<String, StoredItem> idToStoredItem,
+                                                   Map<StoredItem, JsonNode> nodeCache,
+                                                   MetricName cacheType) {
+
+        final Map<String, JsonNode> idToNode = new HashMap<>(idToStoredItem.size());
+        idToStoredItem.forEach((id, storedItem) -> {
+            final JsonNode node = getOrParseNode(storedItem, nodeCache, cacheType);
+            if (node != null) {
+                idToNode.put(id, node);
+            }
+        });
+        return idToNode;
+    }
+
+    private JsonNode getOrParseNode(StoredItem storedItem, Map<StoredItem, JsonNode> nodeCache, MetricName cacheType) {
+        final JsonNode cachedNode = nodeCache.get(storedItem);
+        if (cachedNode != null || storedItem.getData() == null) {
+            return cachedNode;
+        }
+
+        final long startTime = System.nanoTime();
+        final JsonNode node;
+        try {
+            node = mapper.mapper().readTree(storedItem.getData());
+        } catch (JsonProcessingException e) {
+            // malformed stored data will be reported while merging with incoming request
+            return null;
+        }
+        metrics.updateSettingsCacheParseTime(cacheType, System.nanoTime() - startTime);
+
+        nodeCache.put(storedItem, node);
+        return node;
+    }
+
     public void invalidateAccountCache(String accountId) {
         accountCache.remove(accountId);
+        accountRefreshAheadTracker.removed(accountId);
         logger.debug("Account with id {0} was invalidated", accountId);
     }
 
@@ -250,7 +563,4 @@ public class CachingApplicationSettings implements ApplicationSettings {
         accountCache.clear();
         logger.debug("All accounts cache were invalidated");
     }
-
-    private static <ANY> void noOp(ANY any) {
-    }
 }
@@ -0,0 +1,86 @@
+package org.prebid.server.settings;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks age of cache entries to revalidate them ahead of expiration.
+ * <p>
+ * Entry loaded earlier than refresh-ahead period ago is considered stale: it is still served from cache,
+ * while a single revalidation per key is running in background. Entry should be evicted after several
+ * failed revalidations in a row, otherwise it lives until expiration of the cache itself.
+ */
+class RefreshAheadTracker {
+
+    private static final int MAX_FAILED_REVALIDATIONS = 3;
+
+    private final long refreshAheadMillis;
+    private final Clock clock;
+
+    private final Map<String, Long> keyToLoadTime;
+    private final Map<String, Integer> keyToFailedRevalidations;
+    private final Set<String> revalidatingKeys = ConcurrentHashMap.newKeySet();
+
+    RefreshAheadTracker(int ttl, int size, int refreshAheadTtl, Clock clock) {
+        this.refreshAheadMillis = refreshAheadTtl > 0 && refreshAheadTtl < ttl ? refreshAheadTtl * 1000L : 0L;
+        this.clock = Objects.requireNonNull(clock);
+
+        keyToLoadTime = SettingsCache.createCache(ttl, size);
+        keyToFailedRevalidations = SettingsCache.createCache(ttl, size);
+    }
+
+    void loaded(String key) {
+        if (refreshAheadMillis > 0) {
+            keyToLoadTime.put(key, clock.millis());
+            keyToFailedRevalidations.remove(key);
+        }
+    }
+
+    void removed(String key) {
+        keyToLoadTime.remove(key);
+        keyToFailedRevalidations.remove(key);
+    }
+
+    /**
+     * Entries saved without tracking, e.g. by periodic refresh services, are never considered stale.
+     */
+    boolean isStale(String key) {
+        final Long loadTime = refreshAheadMillis > 0 ? keyToLoadTime.get(key) : null;
+        return loadTime != null && clock.millis() - loadTime >= refreshAheadMillis;
+    }
+
+    /**
+     * Returns true if caller is the one to revalidate stale entry.
+     */
+    boolean tryStartRevalidation(String key) {
+        return revalidatingKeys.add(key);
+    }
+
+    void revalidated(String key) {
+        loaded(key);
+        revalidatingKeys.remove(key);
+    }
+
+    /**
+     * Releases revalidation without counting it as failure, so entry will be revalidated again on next hit.
+     */
+    void revalidationCancelled(String key) {
+        revalidatingKeys.remove(key);
+    }
+
+    /**
+     * Returns true if entry failed to revalidate too many times in a row and should be evicted.
+     */
+    boolean revalidationFailed(String key) {
+        final boolean shouldEvict =
+                keyToFailedRevalidations.merge(key, 1, Integer::sum) >= MAX_FAILED_REVALIDATIONS;
+        if (shouldEvict) {
+            removed(key);
+        }
+        revalidatingKeys.remove(key);
+        return shouldEvict;
+    }
+}
@@ -1,31 +1,55 @@
 package org.prebid.server.settings;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.settings.model.StoredItem;
 
+import java.time.Clock;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Just a simple wrapper over in-memory caches for requests and imps.
+ * Just a simple wrapper over in-memory caches for requests, imps and responses.
+ * <p>
+ * Along with raw stored items it keeps their parsed {@link JsonNode}s, so hot stored request is parsed
+ * once per cache lifetime instead of once per auction. Parsed node is bound to exact {@link StoredItem} instance
+ * and is released together with it.
+ * <p>
+ * If refresh-ahead TTL is configured, requests and imps older than it are reported as stale to be revalidated
+ * by {@link CachingApplicationSettings} while still being served from cache.
  */
 public class SettingsCache implements CacheNotificationListener {
 
     private final Map<String, Set<StoredItem>> requestCache;
     private final Map<String, Set<StoredItem>> impCache;
+    private final Map<String, String> responseCache;
+    private final Map<StoredItem, JsonNode> requestNodeCache;
+    private final Map<StoredItem, JsonNode> impNodeCache;
+    private final RefreshAheadTracker requestRefreshAheadTracker;
+    private final RefreshAheadTracker impRefreshAheadTracker;
 
     public SettingsCache(int ttl, int size) {
+        this(ttl, size, 0, Clock.systemUTC());
+    }
+
+    public SettingsCache(int ttl, int size, int refreshAheadTtl, Clock clock) {
         if (ttl <= 0 || size <= 0) {
             throw new IllegalArgumentException("ttl and size must be positive");
         }
         requestCache = createCache(ttl, size);
         impCache = createCache(ttl, size);
+        responseCache = createCache(ttl, size);
+        requestNodeCache = createNodeCache();
+        impNodeCache = createNodeCache();
+        requestRefreshAheadTracker = new RefreshAheadTracker(ttl, size, refreshAheadTtl, clock);
+        impRefreshAheadTracker = new RefreshAheadTracker(ttl, size, refreshAheadTtl, clock);
     }
 
     static <T> Map<String, T> createCache(int ttl, int size) {
@@ -36,6 +60,14 @@ public class SettingsCache implements CacheNotificationListener {
                 .asMap();
     }
 
+    private static Map<StoredItem, JsonNode> createNodeCache() {
+        // weak keys are compared by identity, so node lives exactly as long as its stored item is cached
+        return Caffeine.newBuilder()
+                .weakKeys()
+                .<StoredItem, JsonNode>build()
+                .asMap();
+    }
+
     Map<String, Set<StoredItem>> getRequestCache() {
         return requestCache;
     }
@@ -44,17 +76,44 @@ public class SettingsCache implements CacheNotificationListener {
         return impCache;
     }
 
+    Map<String, String> getResponseCache() {
+        return responseCache;
+    }
+
+    Map<StoredItem, JsonNode> getRequestNodeCache() {
+        return requestNodeCache;
+    }
+
+    Map<StoredItem, JsonNode> getImpNodeCache() {
+        return impNodeCache;
+    }
+
+    RefreshAheadTracker getRequestRefreshAheadTracker() {
+        return requestRefreshAheadTracker;
+    }
+
+    RefreshAheadTracker getImpRefreshAheadTracker() {
+        return impRefreshAheadTracker;
+    }
+
     void saveRequestCache(String accountId, String requestId, String requestValue) {
         saveCachedValue(requestCache, accountId, requestId, requestValue);
+        requestRefreshAheadTracker.loaded(requestId);
     }
 
     void saveImpCache(String accountId, String impId, String impValue) {
         saveCachedValue(impCache, accountId, impId, impValue);
+        impRefreshAheadTracker.loaded(impId);
     }
 
+    /**
+     * Replaces stored item of the given account, so revalidated value does not coexist with the previous one.
+     * Set is copied on write since it may be read concurrently.
+     */
     private static void saveCachedValue(Map<String, Set<StoredItem>> cache,
                                         String accountId, String id, String value) {
-        final Set<StoredItem> values = ObjectUtils.defaultIfNull(cache.get(id), new HashSet<>());
+        final Set<StoredItem> values = new HashSet<>(ObjectUtils.defaultIfNull(cache.get(id), Collections.emptySet()));
+        values.removeIf(storedItem -> Objects.equals(storedItem.getAccountId(), accountId));
         values.add(StoredItem.of(accountId, value));
         cache.put(id, values);
     }
@@ -78,5 +137,19 @@ public class SettingsCache implements CacheNotificationListener {
     public void invalidate(List<String> requests, List<String> imps) {
         requests.forEach(requestCache.keySet()::remove);
         imps.forEach(impCache.keySet()::remove);
+        requests.forEach(requestRefreshAheadTracker::removed);
+        imps.forEach(impRefreshAheadTracker::removed);
+    }
+
+    @Override
+    public void saveResponses(Map<String, String> responses) {
+        if (MapUtils.isNotEmpty(responses)) {
+            responseCache.putAll(responses);
+        }
+    }
+
+    @Override
+    public void invalidateResponses(List<String> responses) {
+        responses.forEach(responseCache.keySet()::remove);
     }
 }
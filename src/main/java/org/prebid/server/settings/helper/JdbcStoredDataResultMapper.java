@@ -44,6 +44,7 @@ public class JdbcStoredDataResultMapper {
                                        Set<String> impIds) {
         final Map<String, String> storedIdToRequest;
         final Map<String, String> storedIdToImp;
+        final Map<String, String> storedIdToResponse = new HashMap<>();
         final List<String> errors = new ArrayList<>();
 
         if (resultSet == null || CollectionUtils.isEmpty(resultSet.getResults())) {
@@ -90,10 +91,10 @@ public class JdbcStoredDataResultMapper {
                     continue;
                 }
 
-                if (type == StoredDataType.request) {
-                    addStoredItem(fetchedAccountId, id, data, requestIdToStoredItems);
-                } else {
-                    addStoredItem(fetchedAccountId, id, data, impIdToStoredItems);
+                switch (type) {
+                    case request -> addStoredItem(fetchedAccountId, id, data, requestIdToStoredItems);
+                    case imp -> addStoredItem(fetchedAccountId, id, data, impIdToStoredItems);
+                    case seatbid -> storedIdToResponse.put(id, data);
                 }
             }
 
@@ -103,7 +104,7 @@ public class JdbcStoredDataResultMapper {
                     impIdToStoredItems, errors);
         }
 
-        return StoredDataResult.of(storedIdToRequest, storedIdToImp, errors);
+        return StoredDataResult.of(storedIdToRequest, storedIdToImp, storedIdToResponse, errors);
     }
 
     /**
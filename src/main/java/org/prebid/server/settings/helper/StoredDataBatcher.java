@@ -0,0 +1,202 @@
+package org.prebid.server.settings.helper;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.settings.model.StoredDataResult;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Merges lookups of stored data for the same account issued within a short window into a single call
+ * to the underlying {@link StoredDataFetcher}, so concurrent cache misses do not hit the source one by one.
+ * <p>
+ * Each caller receives only the stored requests and imps it asked for. Errors mentioning an id are passed
+ * only to the callers which asked for this id, other errors are passed to every caller of the batch.
+ * <p>
+ * Batch is fetched with the timeout of the lookup which opened it. Each lookup is completed on the Vert.x context
+ * it was issued from, so callers do not continue on the event loop of another caller.
+ */
+public class StoredDataBatcher {
+
+    private static final String NO_ACCOUNT = "";
+
+    private final StoredDataFetcher<String, Set<String>, Set<String>, Timeout, Future<StoredDataResult>> fetcher;
+    private final Vertx vertx;
+    private final long windowMs;
+    private final Runnable batchedLookupListener;
+
+    private final Map<String, Batch> batches = new ConcurrentHashMap<>();
+
+    public StoredDataBatcher(
+            StoredDataFetcher<String, Set<String>, Set<String>, Timeout, Future<StoredDataResult>> fetcher,
+            Vertx vertx,
+            long windowMs,
+            Runnable batchedLookupListener) {
+
+        this.fetcher = Objects.requireNonNull(fetcher);
+        this.vertx = vertx;
+        this.windowMs = windowMs;
+        this.batchedLookupListener = Objects.requireNonNull(batchedLookupListener);
+    }
+
+    public Future<StoredDataResult> fetch(String accountId,
+                                          Set<String> requestIds,
+                                          Set<String> impIds,
+                                          Timeout timeout) {
+
+        if (windowMs <= 0) {
+            return fetcher.apply(accountId, requestIds, impIds, timeout);
+        }
+
+        final String key = accountId != null ? accountId : NO_ACCOUNT;
+        final Lookup lookup = new Lookup(requestIds, impIds);
+        final Batch[] openedBatch = new Batch[1];
+
+        batches.compute(key, (ignored, batch) -> {
+            final Batch actualBatch = batch != null ? batch : new Batch(accountId, timeout);
+            actualBatch.add(lookup);
+            openedBatch[0] = batch != null ? null : actualBatch;
+            return actualBatch;
+        });
+
+        if (openedBatch[0] != null) {
+            final Batch batch = openedBatch[0];
+            vertx.setTimer(windowMs, ignored -> dispatch(key, batch));
+        } else {
+            batchedLookupListener.run();
+        }
+
+        return lookup.promise.future();
+    }
+
+    private void dispatch(String key, Batch batch) {
+        // no lookups can be added to the batch after removal
+        batches.remove(key, batch);
+
+        fetcher.apply(batch.accountId, batch.requestIds, batch.impIds, batch.timeout)
+                .onComplete(result -> batch.lookups.forEach(lookup -> complete(lookup, batch, result)));
+    }
+
+    private static void complete(Lookup lookup, Batch batch, AsyncResult<StoredDataResult> result) {
+        if (result.failed()) {
+            lookup.complete(Future.failedFuture(result.cause()));
+            return;
+        }
+
+        final StoredDataResult storedDataResult = result.result();
+        lookup.complete(Future.succeededFuture(StoredDataResult.of(
+                filterByIds(storedDataResult.getStoredIdToRequest(), lookup.requestIds),
+                filterByIds(storedDataResult.getStoredIdToImp(), lookup.impIds),
+                filterErrors(storedDataResult, lookup, batch))));
+    }
+
+    private static Map<String, String> filterByIds(Map<String, String> idToData, Set<String> ids) {
+        final Map<String, String> result = new HashMap<>(ids.size());
+        for (String id : ids) {
+            final String data = idToData.get(id);
+            if (data != null) {
+                result.put(id, data);
+            }
+        }
+        return result;
+    }
+
+    private static List<String> filterErrors(StoredDataResult result, Lookup lookup, Batch batch) {
+        final List<String> errors = result.getErrors();
+        final List<String> filteredErrors = new ArrayList<>(errors.size());
+        for (String error : errors) {
+            final boolean mentionsBatchId = mentionsMissingId(error, batch.requestIds, batch.impIds, result);
+            if (!mentionsBatchId || mentionsMissingId(error, lookup.requestIds, lookup.impIds, result)) {
+                filteredErrors.add(error);
+            }
+        }
+        return filteredErrors;
+    }
+
+    private static boolean mentionsMissingId(String error,
+                                             Set<String> requestIds,
+                                             Set<String> impIds,
+                                             StoredDataResult result) {
+
+        for (String id : requestIds) {
+            if (!result.getStoredIdToRequest().containsKey(id) && mentionsId(error, id)) {
+                return true;
+            }
+        }
+        for (String id : impIds) {
+            if (!result.getStoredIdToImp().containsKey(id) && mentionsId(error, id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if error refers to the given id in the "...: {id}" form used by settings sources.
+     */
+    private static boolean mentionsId(String error, String id) {
+        final String idReference = ": " + id;
+
+        int index = error.indexOf(idReference);
+        while (index >= 0) {
+            final int end = index + idReference.length();
+            if (end == error.length() || error.charAt(end) == ' ' || error.charAt(end) == ',') {
+                return true;
+            }
+            index = error.indexOf(idReference, index + 1);
+        }
+        return false;
+    }
+
+    private static class Batch {
+
+        private final String accountId;
+        private final Timeout timeout;
+        private final Set<String> requestIds = new HashSet<>();
+        private final Set<String> impIds = new HashSet<>();
+        private final List<Lookup> lookups = new ArrayList<>();
+
+        Batch(String accountId, Timeout timeout) {
+            this.accountId = accountId;
+            this.timeout = timeout;
+        }
+
+        void add(Lookup lookup) {
+            requestIds.addAll(lookup.requestIds);
+            impIds.addAll(lookup.impIds);
+            lookups.add(lookup);
+        }
+    }
+
+    private static class Lookup {
+
+        private final Set<String> requestIds;
+        private final Set<String> impIds;
+        private final Context context = Vertx.currentContext();
+        private final Promise<StoredDataResult> promise = Promise.promise();
+
+        Lookup(Set<String> requestIds, Set<String> impIds) {
+            this.requestIds = requestIds;
+            this.impIds = impIds;
+        }
+
+        void complete(AsyncResult<StoredDataResult> result) {
+            if (context == null || context == Vertx.currentContext()) {
+                promise.handle(result);
+            } else {
+                context.runOnContext(ignored -> promise.handle(result));
+            }
+        }
+    }
+}
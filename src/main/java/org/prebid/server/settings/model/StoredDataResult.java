@@ -1,12 +1,17 @@
 package org.prebid.server.settings.model;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import lombok.Value;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
-@AllArgsConstructor(staticName = "of")
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Value
 public class StoredDataResult {
 
@@ -14,5 +19,55 @@ public class StoredDataResult {
 
     Map<String, String> storedIdToImp;
 
+    /**
+     * Stored auction and bid responses, provided only by sources fetching all stored data at once,
+     * e.g. for periodic refresh of settings cache.
+     */
+    Map<String, String> storedIdToResponse;
+
     List<String> errors;
+
+    /**
+     * Already parsed stored requests, if source was able to provide them.
+     * <p>
+     * Nodes are shared between incoming requests and must not be modified.
+     */
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    Map<String, JsonNode> storedIdToRequestNode;
+
+    /**
+     * Already parsed stored imps, if source was able to provide them.
+     * <p>
+     * Nodes are shared between incoming requests and must not be modified.
+     */
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    Map<String, JsonNode> storedIdToImpNode;
+
+    public static StoredDataResult of(Map<String, String> storedIdToRequest,
+                                      Map<String, String> storedIdToImp,
+                                      List<String> errors) {
+
+        return of(storedIdToRequest, storedIdToImp, Collections.emptyMap(), errors);
+    }
+
+    public static StoredDataResult of(Map<String, String> storedIdToRequest,
+                                      Map<String, String> storedIdToImp,
+                                      Map<String, String> storedIdToResponse,
+                                      List<String> errors) {
+
+        return new StoredDataResult(storedIdToRequest, storedIdToImp, storedIdToResponse, errors,
+                Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    public static StoredDataResult of(Map<String, String> storedIdToRequest,
+                                      Map<String, String> storedIdToImp,
+                                      List<String> errors,
+                                      Map<String, JsonNode> storedIdToRequestNode,
+                                      Map<String, JsonNode> storedIdToImpNode) {
+
+        return new StoredDataResult(storedIdToRequest, storedIdToImp, Collections.emptyMap(), errors,
+                storedIdToRequestNode, storedIdToImpNode);
+    }
 }
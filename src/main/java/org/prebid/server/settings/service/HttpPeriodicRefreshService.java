@@ -3,6 +3,7 @@ package org.prebid.server.settings.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.collections4.MapUtils;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.logging.Logger;
@@ -33,10 +34,10 @@ import java.util.Objects;
  * It expects the following endpoint to exist remotely:
  * <p>
  * GET {endpoint}
- * -- Returns all the known Stored Requests and Stored Imps.
+ * -- Returns all the known Stored Requests, Stored Imps and Stored Responses.
  * <p>
  * GET {endpoint}?last-modified={timestamp}
- * -- Returns the Stored Requests and Stored Imps which have been updated since the last timestamp.
+ * -- Returns the Stored Requests, Stored Imps and Stored Responses which have been updated since the last timestamp.
  * This timestamp will be sent in the rfc3339 format, using UTC and no timezone shift.
  * For more info, see: https://tools.ietf.org/html/rfc3339
  * <p>
@@ -51,10 +52,15 @@ import java.util.Objects;
  *   "imps": {
  *     "imp1": { ... stored data for imp1 ... },
  *     "imp2": { ... stored data for imp2 ... },
+ *   },
+ *   "responses": {
+ *     "response1": [ ... stored seatbids ... ],
  *   }
  * }
  * </pre>
  * <p>
+ * Stored Responses are optional.
+ * <p>
  * To signal deletions, the endpoint may return { "deleted": true }
  * in place of the Stored Data if the "last-modified" param existed.
  */
@@ -111,6 +117,11 @@ public class HttpPeriodicRefreshService implements Initializable {
 
         cacheNotificationListener.save(requests, imps);
 
+        final Map<String, JsonNode> responses = refreshResponse.getResponses();
+        if (MapUtils.isNotEmpty(responses)) {
+            cacheNotificationListener.saveResponses(parseStoredData(responses, StoredDataType.seatbid));
+        }
+
         return null;
     }
 
@@ -144,11 +155,11 @@ public class HttpPeriodicRefreshService implements Initializable {
         return refreshResponse;
     }
 
-    private Map<String, String> parseStoredData(Map<String, ObjectNode> refreshResponse,
+    private Map<String, String> parseStoredData(Map<String, ? extends JsonNode> refreshResponse,
                                                 StoredDataType type) {
         final Map<String, String> result = new HashMap<>();
 
-        for (Map.Entry<String, ObjectNode> entry : refreshResponse.entrySet()) {
+        for (Map.Entry<String, ? extends JsonNode> entry : refreshResponse.entrySet()) {
             final String id = entry.getKey();
 
             final String jsonAsString;
@@ -190,14 +201,20 @@ public class HttpPeriodicRefreshService implements Initializable {
                 invalidatedRequests);
         final Map<String, ObjectNode> impsToSave = removeFromMap(refreshResponse.getImps(), invalidatedImps);
 
-        return HttpRefreshResponse.of(requestsToSave, impsToSave);
+        final Map<String, JsonNode> responses = MapUtils.emptyIfNull(refreshResponse.getResponses());
+        final List<String> invalidatedResponses = getInvalidatedKeys(responses);
+        if (!invalidatedResponses.isEmpty()) {
+            cacheNotificationListener.invalidateResponses(invalidatedResponses);
+        }
+
+        return HttpRefreshResponse.of(requestsToSave, impsToSave, removeFromMap(responses, invalidatedResponses));
     }
 
-    private static List<String> getInvalidatedKeys(Map<String, ObjectNode> changes) {
+    private static List<String> getInvalidatedKeys(Map<String, ? extends JsonNode> changes) {
         final List<String> result = new ArrayList<>();
 
-        for (Map.Entry<String, ObjectNode> entry : changes.entrySet()) {
-            final ObjectNode jsonNodes = entry.getValue();
+        for (Map.Entry<String, ? extends JsonNode> entry : changes.entrySet()) {
+            final JsonNode jsonNodes = entry.getValue();
             final JsonNode deleted = jsonNodes.get("deleted");
             if (deleted != null && deleted.asBoolean()) {
                 result.add(entry.getKey());
@@ -206,8 +223,10 @@ public class HttpPeriodicRefreshService implements Initializable {
         return result;
     }
 
-    private static Map<String, ObjectNode> removeFromMap(Map<String, ObjectNode> map, List<String> invalidatedKeys) {
-        final Map<String, ObjectNode> result = new HashMap<>(map);
+    private static <T extends JsonNode> Map<String, T> removeFromMap(Map<String, T> map,
+                                                                     List<String> invalidatedKeys) {
+
+        final Map<String, T> result = new HashMap<>(map);
         for (String key : invalidatedKeys) {
             result.remove(key);
         }
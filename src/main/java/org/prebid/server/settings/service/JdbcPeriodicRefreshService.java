@@ -33,7 +33,7 @@ import java.util.stream.Collectors;
  * <pre>
  * 1. id: string
  * 2. data: JSON
- * 3. type: string ("request" or "imp")
+ * 3. type: string ("request", "imp" or "seatbid" for stored responses)
  * </pre>
  *
  * <p>
@@ -129,6 +129,9 @@ public class JdbcPeriodicRefreshService implements Initializable {
                               MetricName refreshType) {
 
         cacheNotificationListener.save(storedDataResult.getStoredIdToRequest(), storedDataResult.getStoredIdToImp());
+        if (!storedDataResult.getStoredIdToResponse().isEmpty()) {
+            cacheNotificationListener.saveResponses(storedDataResult.getStoredIdToResponse());
+        }
         lastUpdate = updateTime;
 
         metrics.updateSettingsCacheRefreshTime(cacheType, refreshType, clock.millis() - startTime);
@@ -171,7 +174,14 @@ public class JdbcPeriodicRefreshService implements Initializable {
                 invalidatedRequests);
         final Map<String, String> impsToSave = removeFromMap(storedDataResult.getStoredIdToImp(), invalidatedImps);
 
-        return StoredDataResult.of(requestsToSave, impsToSave, storedDataResult.getErrors());
+        final List<String> invalidatedResponses = getInvalidatedKeys(storedDataResult.getStoredIdToResponse());
+        if (!invalidatedResponses.isEmpty()) {
+            cacheNotificationListener.invalidateResponses(invalidatedResponses);
+        }
+        final Map<String, String> responsesToSave = removeFromMap(storedDataResult.getStoredIdToResponse(),
+                invalidatedResponses);
+
+        return StoredDataResult.of(requestsToSave, impsToSave, responsesToSave, storedDataResult.getErrors());
     }
 
     private static List<String> getInvalidatedKeys(Map<String, String> changesMap) {
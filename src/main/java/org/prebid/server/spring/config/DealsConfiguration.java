@@ -157,7 +157,8 @@ public class DealsConfiguration {
                 ApplicationEventService applicationEventService,
                 @Value("${auction.ad-server-currency}") String adServerCurrency,
                 Clock clock,
-                CriteriaLogManager criteriaLogManager) {
+                CriteriaLogManager criteriaLogManager,
+                Metrics metrics) {
 
             return new LineItemService(maxDealsPerBidder,
                     targetingService,
@@ -165,7 +166,8 @@ public class DealsConfiguration {
                     applicationEventService,
                     adServerCurrency,
                     clock,
-                    criteriaLogManager);
+                    criteriaLogManager,
+                    metrics);
         }
 
         @Bean
@@ -451,7 +453,8 @@ public class DealsConfiguration {
                 ApplicationEventService applicationEventService,
                 @Value("${auction.ad-server-currency}") String adServerCurrency,
                 Clock clock,
-                CriteriaLogManager criteriaLogManager) {
+                CriteriaLogManager criteriaLogManager,
+                Metrics metrics) {
 
             return new SimulationAwareLineItemService(
                     maxDealsPerBidder,
@@ -460,7 +463,8 @@ public class DealsConfiguration {
                     applicationEventService,
                     adServerCurrency,
                     clock,
-                    criteriaLogManager);
+                    criteriaLogManager,
+                    metrics);
         }
 
         @Bean
@@ -57,9 +57,10 @@ public class GeoLocationConfiguration {
         @ConditionalOnProperty(prefix = "geolocation.circuit-breaker", name = "enabled", havingValue = "false",
                 matchIfMissing = true)
         GeoLocationService basicGeoLocationService(RemoteFileSyncerProperties fileSyncerProperties,
+                                                   @Value("${geolocation.maxmind.cache-size}") long cacheSize,
                                                    Vertx vertx) {
 
-            return createGeoLocationService(fileSyncerProperties, vertx);
+            return createGeoLocationService(fileSyncerProperties, cacheSize, vertx);
         }
 
         @Bean
@@ -68,16 +69,20 @@ public class GeoLocationConfiguration {
                 Vertx vertx,
                 Metrics metrics,
                 RemoteFileSyncerProperties fileSyncerProperties,
+                @Value("${geolocation.maxmind.cache-size}") long cacheSize,
                 @Qualifier("maxMindCircuitBreakerProperties") CircuitBreakerProperties circuitBreakerProperties,
                 Clock clock) {
 
             return new CircuitBreakerSecuredGeoLocationService(vertx,
-                    createGeoLocationService(fileSyncerProperties, vertx), metrics,
+                    createGeoLocationService(fileSyncerProperties, cacheSize, vertx), metrics,
                     circuitBreakerProperties.getOpeningThreshold(), circuitBreakerProperties.getOpeningIntervalMs(),
                     circuitBreakerProperties.getClosingIntervalMs(), clock);
         }
 
-        private GeoLocationService createGeoLocationService(RemoteFileSyncerProperties properties, Vertx vertx) {
+        private GeoLocationService createGeoLocationService(RemoteFileSyncerProperties properties,
+                                                            long cacheSize,
+                                                            Vertx vertx) {
+
             final HttpClientProperties httpClientProperties = properties.getHttpClient();
             final HttpClientOptions httpClientOptions = new HttpClientOptions()
                     .setConnectTimeout(httpClientProperties.getConnectTimeoutMs())
@@ -92,7 +97,7 @@ public class GeoLocationConfiguration {
                     properties.getUpdateIntervalMs(),
                     vertx.createHttpClient(httpClientOptions),
                     vertx);
-            final MaxMindGeoLocationService maxMindGeoLocationService = new MaxMindGeoLocationService();
+            final MaxMindGeoLocationService maxMindGeoLocationService = new MaxMindGeoLocationService(cacheSize);
 
             remoteFileSyncer.sync(maxMindGeoLocationService);
             return maxMindGeoLocationService;
@@ -5,16 +5,25 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.hooks.execution.HookCatalog;
+import org.prebid.server.hooks.execution.HookExecutor;
 import org.prebid.server.hooks.execution.HookStageExecutor;
+import org.prebid.server.hooks.execution.model.HookExecutionPolicy;
 import org.prebid.server.hooks.v1.Module;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.annotation.Validated;
 
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
 import java.time.Clock;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 public class HooksConfiguration {
@@ -29,6 +38,7 @@ public class HooksConfiguration {
                                         HookCatalog hookCatalog,
                                         TimeoutFactory timeoutFactory,
                                         Vertx vertx,
+                                        Metrics metrics,
                                         Clock clock,
                                         JacksonMapper mapper) {
 
@@ -37,11 +47,36 @@ public class HooksConfiguration {
                 hooksConfiguration.getDefaultAccountExecutionPlan(),
                 hookCatalog,
                 timeoutFactory,
+                createHookExecutors(hooksConfiguration.getExecutors(), vertx, metrics),
                 vertx,
                 clock,
                 mapper);
     }
 
+    private static Map<String, HookExecutor> createHookExecutors(
+            Map<String, HookExecutorProperties> moduleCodeToProperties,
+            Vertx vertx,
+            Metrics metrics) {
+
+        final Map<String, HookExecutor> moduleCodeToHookExecutor = new HashMap<>();
+        moduleCodeToProperties.forEach((moduleCode, properties) ->
+                moduleCodeToHookExecutor.put(moduleCode, createHookExecutor(moduleCode, properties, vertx, metrics)));
+
+        return moduleCodeToHookExecutor;
+    }
+
+    private static HookExecutor createHookExecutor(String moduleCode,
+                                                   HookExecutorProperties properties,
+                                                   Vertx vertx,
+                                                   Metrics metrics) {
+
+        return switch (properties.getPolicy()) {
+            case event_loop -> HookExecutor.eventLoop(vertx);
+            case worker -> HookExecutor.worker(
+                    moduleCode, properties.getPoolSize(), properties.getQueueSize(), vertx, metrics);
+        };
+    }
+
     @Bean
     @ConfigurationProperties("hooks")
     HooksConfigurationProperties hooksConfigurationProperties() {
@@ -56,5 +91,24 @@ public class HooksConfiguration {
         String hostExecutionPlan;
 
         String defaultAccountExecutionPlan;
+
+        @NotNull
+        @Valid
+        Map<String, HookExecutorProperties> executors = Collections.emptyMap();
+    }
+
+    @Validated
+    @Data
+    @NoArgsConstructor
+    private static class HookExecutorProperties {
+
+        @NotNull
+        HookExecutionPolicy policy = HookExecutionPolicy.event_loop;
+
+        @Min(1)
+        int poolSize = 1;
+
+        @Min(0)
+        int queueSize;
     }
 }
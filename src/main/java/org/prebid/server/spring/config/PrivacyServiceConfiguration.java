@@ -85,10 +85,11 @@ public class PrivacyServiceConfiguration {
                             List<PurposeStrategy> purposeStrategies,
                             List<SpecialFeaturesStrategy> specialFeaturesStrategies,
                             VendorListServiceV2 vendorListServiceV2,
-                            BidderCatalog bidderCatalog) {
+                            BidderCatalog bidderCatalog,
+                            @Value("${gdpr.permissions-cache-size}") int permissionsCacheSize) {
 
         return new Tcf2Service(gdprConfig, purposeStrategies, specialFeaturesStrategies, vendorListServiceV2,
-                bidderCatalog);
+                bidderCatalog, permissionsCacheSize);
     }
 
     @Bean
@@ -99,7 +100,8 @@ public class PrivacyServiceConfiguration {
             @Autowired(required = false) GeoLocationService geoLocationService,
             BidderCatalog bidderCatalog,
             IpAddressHelper ipAddressHelper,
-            Metrics metrics) {
+            Metrics metrics,
+            @Value("${gdpr.consent-cache-size}") int consentCacheSize) {
 
         final Set<String> eeaCountries = new HashSet<>(Arrays.asList(eeaCountriesAsString.trim().split(",")));
 
@@ -110,7 +112,8 @@ public class PrivacyServiceConfiguration {
                 geoLocationService,
                 bidderCatalog,
                 ipAddressHelper,
-                metrics);
+                metrics,
+                consentCacheSize);
     }
 
     @Bean
@@ -5,9 +5,11 @@ import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixListFactory;
 import io.vertx.core.Vertx;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.core.net.JksOptions;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.activity.infrastructure.creator.ActivityInfrastructureCreator;
@@ -51,11 +53,15 @@ import org.prebid.server.auction.requestfactory.AuctionRequestFactory;
 import org.prebid.server.auction.requestfactory.Ortb2ImplicitParametersResolver;
 import org.prebid.server.auction.requestfactory.Ortb2RequestFactory;
 import org.prebid.server.auction.requestfactory.VideoRequestFactory;
+import org.prebid.server.auction.throttling.BidRateBidderThrottler;
+import org.prebid.server.auction.throttling.BidderThrottler;
+import org.prebid.server.auction.throttling.NoOpBidderThrottler;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConverterFactory;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.bidder.BidderDeps;
 import org.prebid.server.bidder.BidderErrorNotifier;
+import org.prebid.server.bidder.BidderLatencyTracker;
 import org.prebid.server.bidder.BidderRequestCompletionTrackerFactory;
 import org.prebid.server.bidder.HttpBidderRequestEnricher;
 import org.prebid.server.bidder.HttpBidderRequester;
@@ -93,6 +99,8 @@ import org.prebid.server.privacy.PrivacyExtractor;
 import org.prebid.server.privacy.gdpr.TcfDefinerService;
 import org.prebid.server.settings.ApplicationSettings;
 import org.prebid.server.settings.model.BidValidationEnforcement;
+import org.prebid.server.spring.config.bidder.model.BidderConfigurationProperties;
+import org.prebid.server.spring.config.bidder.model.BidderHttpClientProperties;
 import org.prebid.server.spring.config.model.ExternalConversionProperties;
 import org.prebid.server.spring.config.model.HttpClientCircuitBreakerProperties;
 import org.prebid.server.spring.config.model.HttpClientProperties;
@@ -106,6 +114,7 @@ import org.prebid.server.version.PrebidVersionProvider;
 import org.prebid.server.vertx.http.BasicHttpClient;
 import org.prebid.server.vertx.http.CircuitBreakerSecuredHttpClient;
 import org.prebid.server.vertx.http.HttpClient;
+import org.prebid.server.vertx.http.HttpConnectionsWarmer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -118,12 +127,17 @@ import org.springframework.context.annotation.ScopedProxyMode;
 
 import javax.validation.constraints.Min;
 import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
 import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -377,6 +391,7 @@ public class ServiceConfiguration {
     @Bean
     AuctionRequestFactory auctionRequestFactory(
             @Value("${auction.max-request-size}") @Min(0) int maxRequestSize,
+            @Value("${auction.streaming-request-parsing-enabled}") boolean streamingRequestParsingEnabled,
             Ortb2RequestFactory ortb2RequestFactory,
             StoredRequestProcessor storedRequestProcessor,
             BidRequestOrtbVersionConversionManager bidRequestOrtbVersionConversionManager,
@@ -390,6 +405,7 @@ public class ServiceConfiguration {
 
         return new AuctionRequestFactory(
                 maxRequestSize,
+                streamingRequestParsingEnabled,
                 ortb2RequestFactory,
                 storedRequestProcessor,
                 bidRequestOrtbVersionConversionManager,
@@ -538,8 +554,12 @@ public class ServiceConfiguration {
     @Scope(scopeName = VertxContextScope.NAME, proxyMode = ScopedProxyMode.INTERFACES)
     @ConditionalOnProperty(prefix = "http-client.circuit-breaker", name = "enabled", havingValue = "false",
             matchIfMissing = true)
-    BasicHttpClient basicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
-        return createBasicHttpClient(vertx, httpClientProperties);
+    BasicHttpClient basicHttpClient(
+            Vertx vertx,
+            HttpClientProperties httpClientProperties,
+            @Autowired(required = false) List<BidderConfigurationProperties> bidderConfigurationProperties) {
+
+        return createBasicHttpClient(vertx, httpClientProperties, bidderConfigurationProperties);
     }
 
     @Bean
@@ -558,9 +578,11 @@ public class ServiceConfiguration {
             HttpClientProperties httpClientProperties,
             @Qualifier("httpClientCircuitBreakerProperties")
             HttpClientCircuitBreakerProperties circuitBreakerProperties,
+            @Autowired(required = false) List<BidderConfigurationProperties> bidderConfigurationProperties,
             Clock clock) {
 
-        final HttpClient httpClient = createBasicHttpClient(vertx, httpClientProperties);
+        final HttpClient httpClient = createBasicHttpClient(
+                vertx, httpClientProperties, bidderConfigurationProperties);
 
         return new CircuitBreakerSecuredHttpClient(
                 vertx,
@@ -569,11 +591,17 @@ public class ServiceConfiguration {
                 circuitBreakerProperties.getOpeningThreshold(),
                 circuitBreakerProperties.getOpeningIntervalMs(),
                 circuitBreakerProperties.getClosingIntervalMs(),
+                circuitBreakerProperties.getFailureRateThreshold(),
+                circuitBreakerProperties.getSlowCallDurationMs(),
                 circuitBreakerProperties.getIdleExpireHours(),
                 clock);
     }
 
-    private static BasicHttpClient createBasicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
+    private static BasicHttpClient createBasicHttpClient(
+            Vertx vertx,
+            HttpClientProperties httpClientProperties,
+            List<BidderConfigurationProperties> bidderConfigurationProperties) {
+
         final HttpClientOptions options = new HttpClientOptions()
                 .setMaxPoolSize(httpClientProperties.getMaxPoolSize())
                 .setIdleTimeoutUnit(TimeUnit.MILLISECONDS)
@@ -595,7 +623,140 @@ public class ServiceConfiguration {
                     .setKeyStoreOptions(jksOptions);
         }
 
-        return new BasicHttpClient(vertx, vertx.createHttpClient(options));
+        final List<BidderConfigurationProperties> bidders =
+                ObjectUtils.defaultIfNull(bidderConfigurationProperties, Collections.emptyList());
+        final Map<String, URL> hostToEndpointUrl = new HashMap<>();
+        final Map<String, BidderHttpClientProperties> hostToHttpClientProperties =
+                bidderHostHttpClientProperties(bidders, hostToEndpointUrl);
+
+        final Map<String, io.vertx.core.http.HttpClient> hostHttpClients = new HashMap<>();
+        hostToHttpClientProperties.forEach((host, properties) -> hostHttpClients.put(
+                host, vertx.createHttpClient(createBidderHttpClientOptions(options, host, properties))));
+
+        final BasicHttpClient basicHttpClient =
+                new BasicHttpClient(vertx, vertx.createHttpClient(options), hostHttpClients);
+
+        // connections are warmed up through the client, so it picks the pool of the host the same way as for bids
+        hostToHttpClientProperties.forEach((host, properties) -> warmUpConnections(
+                vertx, basicHttpClient, hostToEndpointUrl.get(host), properties, options.getConnectTimeout()));
+
+        return basicHttpClient;
+    }
+
+    /**
+     * Collects {@code http-client} settings of enabled bidders by endpoint host, dedicated connection pool is created
+     * per host. Bidders sharing the same host share its pool, so their settings are merged: the largest pool size and
+     * number of prewarmed connections and the shortest keep-warm interval are taken, other settings are taken from
+     * the first bidder and conflicts are logged.
+     */
+    private static Map<String, BidderHttpClientProperties> bidderHostHttpClientProperties(
+            List<BidderConfigurationProperties> bidderConfigurationProperties,
+            Map<String, URL> hostToEndpointUrl) {
+
+        final Map<String, BidderHttpClientProperties> hostToHttpClientProperties = new HashMap<>();
+        for (BidderConfigurationProperties bidderProperties : bidderConfigurationProperties) {
+            final BidderHttpClientProperties httpClientProperties = bidderProperties.getHttpClient();
+            final URL endpointUrl = parseUrl(bidderProperties.getEndpoint());
+            if (!BooleanUtils.isTrue(bidderProperties.getEnabled())
+                    || httpClientProperties == null
+                    || endpointUrl == null
+                    // endpoints with macros in host are resolved per request, so host is not known in advance
+                    || StringUtils.containsAny(endpointUrl.getHost(), '{', '}')) {
+
+                continue;
+            }
+
+            final String host = endpointUrl.getHost();
+            hostToEndpointUrl.putIfAbsent(host, endpointUrl);
+            hostToHttpClientProperties.merge(host, httpClientProperties,
+                    (properties, otherProperties) -> mergeHttpClientProperties(host, properties, otherProperties));
+        }
+
+        return hostToHttpClientProperties;
+    }
+
+    private static BidderHttpClientProperties mergeHttpClientProperties(String host,
+                                                                        BidderHttpClientProperties properties,
+                                                                        BidderHttpClientProperties otherProperties) {
+
+        final BidderHttpClientProperties merged = new BidderHttpClientProperties();
+        merged.setMaxPoolSize(ObjectUtils.max(properties.getMaxPoolSize(), otherProperties.getMaxPoolSize()));
+        merged.setIdleTimeoutMs(firstLoggingConflict(
+                host, "idle-timeout-ms", properties.getIdleTimeoutMs(), otherProperties.getIdleTimeoutMs()));
+        merged.setConnectTimeoutMs(firstLoggingConflict(
+                host, "connect-timeout-ms", properties.getConnectTimeoutMs(), otherProperties.getConnectTimeoutMs()));
+        merged.setKeepAlive(firstLoggingConflict(
+                host, "keep-alive", properties.getKeepAlive(), otherProperties.getKeepAlive()));
+        merged.setHttp2(firstLoggingConflict(
+                host, "http2", properties.getHttp2(), otherProperties.getHttp2()));
+        merged.setPrewarmConnections(ObjectUtils.max(
+                properties.getPrewarmConnections(), otherProperties.getPrewarmConnections()));
+        merged.setKeepWarmIntervalMs(ObjectUtils.min(
+                properties.getKeepWarmIntervalMs(), otherProperties.getKeepWarmIntervalMs()));
+
+        return merged;
+    }
+
+    private static <T> T firstLoggingConflict(String host, String property, T value, T otherValue) {
+        if (value != null && otherValue != null && !value.equals(otherValue)) {
+            logger.warn("Bidders sharing host %s have different http-client.%s settings: %s and %s, %s is used"
+                    .formatted(host, property, value, otherValue, value));
+        }
+
+        return ObjectUtils.defaultIfNull(value, otherValue);
+    }
+
+    private static void warmUpConnections(Vertx vertx,
+                                          HttpClient httpClient,
+                                          URL endpointUrl,
+                                          BidderHttpClientProperties properties,
+                                          int defaultConnectTimeoutMs) {
+
+        final Integer prewarmConnections = properties.getPrewarmConnections();
+        if (prewarmConnections != null && prewarmConnections > 0) {
+            final String hostUrl = endpointUrl.getProtocol() + "://" + endpointUrl.getAuthority() + "/";
+            final long timeoutMs = ObjectUtils.defaultIfNull(properties.getConnectTimeoutMs(), defaultConnectTimeoutMs);
+            new HttpConnectionsWarmer(vertx, httpClient, hostUrl, prewarmConnections, timeoutMs)
+                    .warmUp(properties.getKeepWarmIntervalMs());
+        }
+    }
+
+    private static HttpClientOptions createBidderHttpClientOptions(HttpClientOptions defaultOptions,
+                                                                   String host,
+                                                                   BidderHttpClientProperties properties) {
+
+        // pool metrics are reported under the host name, e.g. vertx.http.clients.<host>.connections
+        final HttpClientOptions options = new HttpClientOptions(defaultOptions).setMetricsName(host);
+
+        if (properties.getMaxPoolSize() != null) {
+            options
+                    .setMaxPoolSize(properties.getMaxPoolSize())
+                    .setHttp2MaxPoolSize(properties.getMaxPoolSize());
+        }
+        if (properties.getIdleTimeoutMs() != null) {
+            options.setIdleTimeout(properties.getIdleTimeoutMs());
+        }
+        if (properties.getConnectTimeoutMs() != null) {
+            options.setConnectTimeout(properties.getConnectTimeoutMs());
+        }
+        if (properties.getKeepAlive() != null) {
+            options.setKeepAlive(properties.getKeepAlive());
+        }
+        if (BooleanUtils.isTrue(properties.getHttp2())) {
+            options
+                    .setProtocolVersion(HttpVersion.HTTP_2)
+                    .setUseAlpn(true);
+        }
+
+        return options;
+    }
+
+    private static URL parseUrl(String url) {
+        try {
+            return StringUtils.isNotBlank(url) ? new URL(url) : null;
+        } catch (MalformedURLException e) {
+            return null;
+        }
     }
 
     @Bean
@@ -706,13 +867,29 @@ public class ServiceConfiguration {
             @Autowired(required = false) BidderRequestCompletionTrackerFactory bidderRequestCompletionTrackerFactory,
             BidderErrorNotifier bidderErrorNotifier,
             HttpBidderRequestEnricher requestEnricher,
-            JacksonMapper mapper) {
+            JacksonMapper mapper,
+            @Autowired(required = false) BidderLatencyTracker bidderLatencyTracker) {
 
         return new HttpBidderRequester(httpClient,
                 bidderRequestCompletionTrackerFactory,
                 bidderErrorNotifier,
                 requestEnricher,
-                mapper);
+                mapper,
+                bidderLatencyTracker);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.biddertmax.adaptive", name = "enabled", havingValue = "true")
+    BidderLatencyTracker bidderLatencyTracker(
+            @Value("${auction.biddertmax.adaptive.percentile}") double percentile,
+            @Value("${auction.biddertmax.adaptive.timeout-multiplier}") double timeoutMultiplier,
+            @Value("${auction.biddertmax.adaptive.min-samples}") long minSamples,
+            @Value("${auction.biddertmax.adaptive.window-ms}") long windowMs,
+            @Value("${auction.biddertmax.adaptive.early-close-threshold:#{0}}") double earlyCloseThreshold,
+            Clock clock) {
+
+        return new BidderLatencyTracker(
+                percentile, timeoutMultiplier, minSamples, windowMs, earlyCloseThreshold, clock);
     }
 
     @Bean
@@ -805,7 +982,9 @@ public class ServiceConfiguration {
             Metrics metrics,
             Clock clock,
             JacksonMapper mapper,
-            CriteriaLogManager criteriaLogManager) {
+            CriteriaLogManager criteriaLogManager,
+            @Autowired(required = false) BidderLatencyTracker bidderLatencyTracker,
+            BidderThrottler bidderThrottler) {
 
         return new ExchangeService(
                 logSamplingRate,
@@ -836,7 +1015,35 @@ public class ServiceConfiguration {
                 metrics,
                 clock,
                 mapper,
-                criteriaLogManager);
+                criteriaLogManager,
+                bidderLatencyTracker,
+                bidderThrottler);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.bidder-throttling", name = "enabled", havingValue = "true")
+    BidderThrottler bidRateBidderThrottler(
+            @Value("${auction.bidder-throttling.exploration-rate}") double explorationRate,
+            @Value("${auction.bidder-throttling.min-bid-rate}") double minBidRate,
+            @Value("${auction.bidder-throttling.min-win-rate}") double minWinRate,
+            @Value("${auction.bidder-throttling.min-requests}") long minRequests,
+            @Value("${auction.bidder-throttling.half-life-ms}") long halfLifeMs,
+            @Value("${auction.bidder-throttling.max-entries}") long maxEntries,
+            Metrics metrics,
+            Clock clock) {
+
+        return new BidRateBidderThrottler(
+                explorationRate, minBidRate, minWinRate, minRequests, halfLifeMs, maxEntries, metrics, clock);
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "auction.bidder-throttling",
+            name = "enabled",
+            havingValue = "false",
+            matchIfMissing = true)
+    BidderThrottler noOpBidderThrottler() {
+        return new NoOpBidderThrottler();
     }
 
     @Bean
@@ -271,7 +271,10 @@ public class SettingsConfiguration {
                 @Qualifier("settingsCache") SettingsCache cache,
                 @Qualifier("ampSettingsCache") SettingsCache ampCache,
                 @Qualifier("videoSettingCache") SettingsCache videoCache,
-                Metrics metrics) {
+                Metrics metrics,
+                JacksonMapper mapper,
+                Vertx vertx,
+                Clock clock) {
 
             return new CachingApplicationSettings(
                     enrichingApplicationSettings,
@@ -279,8 +282,13 @@ public class SettingsConfiguration {
                     ampCache,
                     videoCache,
                     metrics,
+                    mapper,
                     cacheProperties.getTtlSeconds(),
-                    cacheProperties.getCacheSize());
+                    cacheProperties.getCacheSize(),
+                    cacheProperties.getRefreshAheadSeconds(),
+                    vertx,
+                    cacheProperties.getBatchWindowMs(),
+                    clock);
         }
     }
 
@@ -301,20 +309,30 @@ public class SettingsConfiguration {
 
         @Bean
         @Qualifier("settingsCache")
-        SettingsCache settingsCache(ApplicationSettingsCacheProperties cacheProperties) {
-            return new SettingsCache(cacheProperties.getTtlSeconds(), cacheProperties.getCacheSize());
+        SettingsCache settingsCache(ApplicationSettingsCacheProperties cacheProperties, Clock clock) {
+            return createSettingsCache(cacheProperties, clock);
         }
 
         @Bean
         @Qualifier("ampSettingsCache")
-        SettingsCache ampSettingsCache(ApplicationSettingsCacheProperties cacheProperties) {
-            return new SettingsCache(cacheProperties.getTtlSeconds(), cacheProperties.getCacheSize());
+        SettingsCache ampSettingsCache(ApplicationSettingsCacheProperties cacheProperties, Clock clock) {
+            return createSettingsCache(cacheProperties, clock);
         }
 
         @Bean
         @Qualifier("videoSettingCache")
-        SettingsCache videoSettingCache(ApplicationSettingsCacheProperties cacheProperties) {
-            return new SettingsCache(cacheProperties.getTtlSeconds(), cacheProperties.getCacheSize());
+        SettingsCache videoSettingCache(ApplicationSettingsCacheProperties cacheProperties, Clock clock) {
+            return createSettingsCache(cacheProperties, clock);
+        }
+
+        private static SettingsCache createSettingsCache(ApplicationSettingsCacheProperties cacheProperties,
+                                                         Clock clock) {
+
+            return new SettingsCache(
+                    cacheProperties.getTtlSeconds(),
+                    cacheProperties.getCacheSize(),
+                    cacheProperties.getRefreshAheadSeconds(),
+                    clock);
         }
     }
 
@@ -332,5 +350,9 @@ public class SettingsConfiguration {
         @NotNull
         @Min(1)
         private Integer cacheSize;
+        @Min(0)
+        private long batchWindowMs;
+        @Min(0)
+        private int refreshAheadSeconds;
     }
 }
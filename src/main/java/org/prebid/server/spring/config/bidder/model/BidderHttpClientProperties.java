@@ -0,0 +1,35 @@
+package org.prebid.server.spring.config.bidder.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+
+/**
+ * Settings of the dedicated connection pool to bidder endpoint host, the ones not set are taken from
+ * global {@code http-client} settings.
+ */
+@Validated
+@Data
+@NoArgsConstructor
+public class BidderHttpClientProperties {
+
+    @Min(1)
+    private Integer maxPoolSize;
+
+    private Integer idleTimeoutMs;
+
+    @Min(1)
+    private Integer connectTimeoutMs;
+
+    private Boolean keepAlive;
+
+    private Boolean http2;
+
+    @Min(0)
+    private Integer prewarmConnections;
+
+    @Min(1)
+    private Long keepWarmIntervalMs;
+}
@@ -18,6 +18,8 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.metric.AccountMetricsVerbosityResolver;
 import org.prebid.server.metric.CounterType;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.ReservoirSpec;
+import org.prebid.server.metric.ReservoirType;
 import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
 import org.prebid.server.spring.env.YamlPropertySourceFactory;
 import org.prebid.server.vertx.CloseableAdapter;
@@ -102,9 +104,17 @@ public class MetricsConfiguration {
     }
 
     @Bean
-    Metrics metrics(@Value("${metrics.metricType}") CounterType counterType, MetricRegistry metricRegistry,
+    Metrics metrics(@Value("${metrics.metricType}") CounterType counterType,
+                    @Value("${metrics.reservoirType}") ReservoirType reservoirType,
+                    @Value("${metrics.hdrHistogramWindowMs}") long hdrHistogramWindowMs,
+                    MetricRegistry metricRegistry,
                     AccountMetricsVerbosityResolver accountMetricsVerbosityResolver) {
-        return new Metrics(metricRegistry, counterType, accountMetricsVerbosityResolver);
+
+        return new Metrics(
+                metricRegistry,
+                counterType,
+                ReservoirSpec.of(reservoirType, hdrHistogramWindowMs),
+                accountMetricsVerbosityResolver);
     }
 
     @Bean
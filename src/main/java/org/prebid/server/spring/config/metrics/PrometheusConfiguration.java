@@ -15,6 +15,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.prebid.server.metric.CounterType;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.ReservoirType;
 import org.prebid.server.metric.prometheus.NamespaceSubsystemSampleBuilder;
 import org.prebid.server.vertx.ContextRunner;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -76,6 +77,9 @@ public class PrometheusConfiguration {
             if (metrics.getCounterType() == CounterType.flushingCounter) {
                 logger.warn("Prometheus metric system: Metric type is flushingCounter.");
             }
+            if (metrics.getReservoirType() == ReservoirType.flushingHdrHistogram) {
+                logger.warn("Prometheus metric system: Reservoir type is flushingHdrHistogram.");
+            }
 
             final Router router = Router.router(vertx);
             router.route("/metrics").handler(new MetricsHandler());
@@ -5,6 +5,8 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import org.springframework.validation.annotation.Validated;
 
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
@@ -17,4 +19,11 @@ public class HttpClientCircuitBreakerProperties extends CircuitBreakerProperties
     @NotNull
     @Min(1)
     private Integer idleExpireHours;
+
+    @DecimalMin("0")
+    @DecimalMax("1")
+    private double failureRateThreshold;
+
+    @Min(0)
+    private long slowCallDurationMs;
 }
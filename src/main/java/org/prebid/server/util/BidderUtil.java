@@ -30,7 +30,7 @@ public class BidderUtil {
                 .method(HttpMethod.POST)
                 .uri(endpointUrl)
                 .headers(HttpUtil.headers())
-                .body(mapper.encodeToBytes(bidRequest))
+                .body(mapper.encodeToBytesWithSharedFragments(bidRequest))
                 .payload(bidRequest)
                 .build();
     }
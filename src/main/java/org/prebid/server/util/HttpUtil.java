@@ -3,6 +3,7 @@ package org.prebid.server.util;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.cookie.ServerCookieDecoder;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.Cookie;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerResponse;
@@ -11,7 +12,9 @@ import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.RoutingContext;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.ConditionalLogger;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.Endpoint;
 import org.prebid.server.model.HttpRequestContext;
@@ -211,6 +214,19 @@ public final class HttpUtil {
         }
     }
 
+    /**
+     * Encodes response body straight into {@link Buffer} and tracks bytes allocated by encoding, if JVM supports it.
+     */
+    public static Buffer encodeResponse(JacksonMapper mapper, Metrics metrics, Object response) {
+        final long allocatedBytesBefore = MemoryUtil.currentThreadAllocatedBytes();
+        final Buffer body = mapper.encodeToBuffer(response);
+        if (allocatedBytesBefore >= 0) {
+            metrics.updateResponseAllocatedBytesMetric(
+                    MemoryUtil.currentThreadAllocatedBytes() - allocatedBytesBefore);
+        }
+        return body;
+    }
+
     /**
      * Creates standart basic auth header value
      */
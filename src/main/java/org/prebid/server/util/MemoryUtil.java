@@ -0,0 +1,30 @@
+package org.prebid.server.util;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+
+public final class MemoryUtil {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = threadMXBean();
+
+    private MemoryUtil() {
+    }
+
+    /**
+     * Returns an approximate number of bytes allocated in heap by the current thread so far,
+     * or -1 if JVM doesn't support thread allocation accounting.
+     */
+    public static long currentThreadAllocatedBytes() {
+        return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    private static ThreadMXBean threadMXBean() {
+        final java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        return threadMXBean instanceof ThreadMXBean hotspotThreadMXBean
+                && hotspotThreadMXBean.isThreadAllocatedMemorySupported()
+                && hotspotThreadMXBean.isThreadAllocatedMemoryEnabled()
+                ? hotspotThreadMXBean
+                : null;
+    }
+}
@@ -1,31 +1,51 @@
 package org.prebid.server.vertx;
 
-import io.vertx.circuitbreaker.CircuitBreakerOptions;
-import io.vertx.circuitbreaker.CircuitBreakerState;
+import io.vertx.circuitbreaker.OpenCircuitException;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
-import io.vertx.core.logging.Logger;
-import io.vertx.core.logging.LoggerFactory;
 
 import java.time.Clock;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
- * Wrapper over Vert.x {@link io.vertx.circuitbreaker.CircuitBreaker} with functionality
- * to reset failure counter to adjust open-circuit time frame.
+ * Circuit breaker with sliding-window failure-rate and slow-call-rate model.
+ * <p>
+ * Calls are accounted in a time window of opening interval length, split into buckets. Circuit opens when
+ * the number of failed and slow calls in the window reaches opening threshold and their share of all calls
+ * reaches failure rate threshold. After closing interval a single trial call is allowed in half-open state:
+ * circuit closes if it succeeds in time, otherwise it opens again.
+ * <p>
+ * All state is kept in atomics and updated on the thread completing the call, so no worker thread is involved.
  */
 public class CircuitBreaker {
 
-    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+    private static final int WINDOW_BUCKETS = 10;
 
-    private final io.vertx.circuitbreaker.CircuitBreaker breaker;
     private final Vertx vertx;
-    private final long openingIntervalMs;
+    private final int openingThreshold;
+    private final long closingIntervalMs;
+    private final double failureRateThreshold;
+    private final long slowCallDurationMs;
     private final Clock clock;
 
-    private volatile long lastFailureTime;
+    private final long bucketDurationMs;
+    private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(WINDOW_BUCKETS);
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicBoolean trialCallInFlight = new AtomicBoolean();
+
+    private volatile Handler<Void> openHandler = ignored -> {
+    };
+    private volatile Handler<Void> halfOpenHandler = ignored -> {
+    };
+    private volatile Handler<Void> closeHandler = ignored -> {
+    };
 
     public CircuitBreaker(String name,
                           Vertx vertx,
@@ -34,88 +54,142 @@ public class CircuitBreaker {
                           long closingIntervalMs,
                           Clock clock) {
 
-        breaker = io.vertx.circuitbreaker.CircuitBreaker.create(
-                Objects.requireNonNull(name),
-                Objects.requireNonNull(vertx),
-                new CircuitBreakerOptions()
-                        .setNotificationPeriod(0)
-                        .setMaxFailures(openingThreshold)
-                        .setResetTimeout(closingIntervalMs));
+        this(name, vertx, openingThreshold, openingIntervalMs, closingIntervalMs, 0, 0, clock);
+    }
 
-        this.vertx = vertx;
-        this.openingIntervalMs = openingIntervalMs;
+    public CircuitBreaker(String name,
+                          Vertx vertx,
+                          int openingThreshold,
+                          long openingIntervalMs,
+                          long closingIntervalMs,
+                          double failureRateThreshold,
+                          long slowCallDurationMs,
+                          Clock clock) {
+
+        Objects.requireNonNull(name);
+        this.vertx = Objects.requireNonNull(vertx);
+        this.openingThreshold = openingThreshold;
+        this.closingIntervalMs = closingIntervalMs;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallDurationMs = slowCallDurationMs;
         this.clock = Objects.requireNonNull(clock);
+
+        bucketDurationMs = Math.max(1L, openingIntervalMs / WINDOW_BUCKETS);
     }
 
     /**
      * Executes the given operation with the circuit breaker control.
      */
     public <T> Future<T> execute(Handler<Promise<T>> command) {
-        return breaker.execute(promise -> execute(command, promise));
+        final State currentState = state.get();
+        final boolean trialCall = currentState == State.HALF_OPEN;
+        if (currentState == State.OPEN || (trialCall && !trialCallInFlight.compareAndSet(false, true))) {
+            return Future.failedFuture(OpenCircuitException.INSTANCE);
+        }
+
+        final long startTime = clock.millis();
+        final Promise<T> commandPromise = Promise.promise();
+        final Promise<T> resultPromise = Promise.promise();
+
+        commandPromise.future().onComplete(result -> {
+            callCompleted(trialCall, result, startTime);
+            resultPromise.handle(result);
+        });
+
+        try {
+            command.handle(commandPromise);
+        } catch (Exception e) {
+            commandPromise.tryFail(e);
+        }
+
+        return resultPromise.future();
     }
 
-    /**
-     * Executes operation and handle result of it on given {@link Promise}.
-     */
-    private <T> void execute(Handler<Promise<T>> command, Promise<T> promise) {
-        final Promise<T> passedPromise = Promise.promise();
-        command.handle(passedPromise);
+    private void callCompleted(boolean trialCall, AsyncResult<?> result, long startTime) {
+        final long currentTime = clock.millis();
+        final boolean badCall = result.failed()
+                || (slowCallDurationMs > 0 && currentTime - startTime >= slowCallDurationMs);
+
+        if (trialCall) {
+            if (badCall) {
+                open(State.HALF_OPEN);
+            } else {
+                close();
+            }
+            return;
+        }
 
-        passedPromise.future()
-                .compose(response -> succeedBreaker(response, promise))
-                .recover(exception -> failBreaker(exception, promise));
+        final long bucketIndex = currentTime / bucketDurationMs;
+        final Bucket bucket = bucketFor(bucketIndex);
+        bucket.calls.incrementAndGet();
+        if (badCall) {
+            bucket.badCalls.incrementAndGet();
+            if (state.get() == State.CLOSED && shouldOpen(bucketIndex)) {
+                open(State.CLOSED);
+            }
+        }
     }
 
     /**
-     * Succeeds given {@link Promise} and returns corresponding {@link Future}.
+     * Returns bucket for the given index, replacing outdated one occupying the same slot.
      */
-    private static <T> Future<T> succeedBreaker(T result, Promise<T> promise) {
-        promise.complete(result);
-        return promise.future();
+    private Bucket bucketFor(long bucketIndex) {
+        final int slot = (int) (bucketIndex % WINDOW_BUCKETS);
+        while (true) {
+            final Bucket bucket = buckets.get(slot);
+            if (bucket != null && bucket.index == bucketIndex) {
+                return bucket;
+            }
+
+            final Bucket newBucket = new Bucket(bucketIndex);
+            if (buckets.compareAndSet(slot, bucket, newBucket)) {
+                return newBucket;
+            }
+        }
     }
 
-    /**
-     * Fails given {@link Promise} and returns corresponding {@link Future}.
-     */
-    private <T> Future<T> failBreaker(Throwable exception, Promise<T> promise) {
-        final Promise<T> ensureStatePromise = Promise.promise();
-        vertx.executeBlocking(this::ensureState, false, ensureStatePromise);
-
-        return ensureStatePromise.future()
-                .recover(throwable -> {
-                    logger.warn("Resetting circuit breaker state failed", throwable);
-                    promise.fail(throwable);
-                    return promise.future();
-                })
-                .compose(ignored -> { // ensuring state succeeded, propagate real error
-                    promise.fail(exception);
-                    return promise.future();
-                });
+    private boolean shouldOpen(long currentBucketIndex) {
+        int calls = 0;
+        int badCalls = 0;
+        for (int slot = 0; slot < WINDOW_BUCKETS; slot++) {
+            final Bucket bucket = buckets.get(slot);
+            if (bucket != null && currentBucketIndex - bucket.index < WINDOW_BUCKETS) {
+                calls += bucket.calls.get();
+                badCalls += bucket.badCalls.get();
+            }
+        }
+
+        return badCalls >= openingThreshold && badCalls >= failureRateThreshold * calls;
     }
 
-    /**
-     * Resets failure counter to adjust open-circuit time frame.
-     * <p>
-     * Note: the operations {@link io.vertx.circuitbreaker.CircuitBreaker#state()}
-     * and {@link io.vertx.circuitbreaker.CircuitBreaker#reset()} can take a while,
-     * so it is better to perform them on a worker thread.
-     */
-    private <T> void ensureState(Promise<T> executeBlockingPromise) {
-        final long currentTime = clock.millis();
-        if (breaker.state() == CircuitBreakerState.CLOSED && lastFailureTime > 0
-                && currentTime - lastFailureTime > openingIntervalMs) {
-            breaker.reset();
+    private void open(State expectedState) {
+        if (state.compareAndSet(expectedState, State.OPEN)) {
+            vertx.setTimer(closingIntervalMs, ignored -> halfOpen());
+            openHandler.handle(null);
         }
+    }
 
-        lastFailureTime = currentTime;
-        executeBlockingPromise.complete();
+    private void halfOpen() {
+        trialCallInFlight.set(false);
+        if (state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+            halfOpenHandler.handle(null);
+        }
+    }
+
+    private void close() {
+        for (int slot = 0; slot < WINDOW_BUCKETS; slot++) {
+            buckets.set(slot, null);
+        }
+        if (state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+            closeHandler.handle(null);
+        }
     }
 
     /**
      * Sets a {@link Handler} invoked when the circuit breaker state switches to open.
      */
     public CircuitBreaker openHandler(Handler<Void> handler) {
-        breaker.openHandler(handler);
+        openHandler = Objects.requireNonNull(handler);
         return this;
     }
 
@@ -123,7 +197,7 @@ public class CircuitBreaker {
      * Sets a {@link Handler} invoked when the circuit breaker state switches to half-open.
      */
     public CircuitBreaker halfOpenHandler(Handler<Void> handler) {
-        breaker.halfOpenHandler(handler);
+        halfOpenHandler = Objects.requireNonNull(handler);
         return this;
     }
 
@@ -131,14 +205,27 @@ public class CircuitBreaker {
      * Sets a {@link Handler} invoked when the circuit breaker state switches to close.
      */
     public CircuitBreaker closeHandler(Handler<Void> handler) {
-        breaker.closeHandler(handler);
+        closeHandler = Objects.requireNonNull(handler);
         return this;
     }
 
     public boolean isOpen() {
-        return switch (breaker.state()) {
-            case OPEN, HALF_OPEN -> true;
-            case CLOSED -> false;
-        };
+        return state.get() != State.CLOSED;
+    }
+
+    private enum State {
+
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static class Bucket {
+
+        private final long index;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger badCalls = new AtomicInteger();
+
+        Bucket(long index) {
+            this.index = index;
+        }
     }
 }
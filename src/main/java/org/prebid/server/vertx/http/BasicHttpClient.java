@@ -9,23 +9,38 @@ import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.http.model.HttpClientResponse;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 
 /**
  * Simple wrapper around {@link HttpClient} with general functionality.
+ * <p>
+ * Requests to the hosts having dedicated {@link io.vertx.core.http.HttpClient} are performed through it,
+ * so they use separate connection pool and do not compete for connections with requests to other hosts.
  */
 public class BasicHttpClient implements HttpClient {
 
     private final Vertx vertx;
     private final io.vertx.core.http.HttpClient httpClient;
+    private final Map<String, io.vertx.core.http.HttpClient> hostHttpClients;
 
     public BasicHttpClient(Vertx vertx, io.vertx.core.http.HttpClient httpClient) {
+        this(vertx, httpClient, Collections.emptyMap());
+    }
+
+    public BasicHttpClient(Vertx vertx,
+                           io.vertx.core.http.HttpClient httpClient,
+                           Map<String, io.vertx.core.http.HttpClient> hostHttpClients) {
+
         this.vertx = Objects.requireNonNull(vertx);
         this.httpClient = Objects.requireNonNull(httpClient);
+        this.hostHttpClients = Objects.requireNonNull(hostHttpClients);
     }
 
     @Override
@@ -52,7 +67,7 @@ public class BasicHttpClient implements HttpClient {
         } else {
             final HttpClientRequest httpClientRequest;
             try {
-                httpClientRequest = httpClient.requestAbs(method, url);
+                httpClientRequest = httpClientFor(url).requestAbs(method, url);
             } catch (Exception e) {
                 failResponse(e, promise);
                 return promise.future();
@@ -80,6 +95,16 @@ public class BasicHttpClient implements HttpClient {
         return promise.future();
     }
 
+    private io.vertx.core.http.HttpClient httpClientFor(String url) {
+        if (hostHttpClients.isEmpty()) {
+            return httpClient;
+        }
+
+        final String host = HttpUtil.getHostFromUrl(url);
+        final io.vertx.core.http.HttpClient hostHttpClient = host != null ? hostHttpClients.get(host) : null;
+        return hostHttpClient != null ? hostHttpClient : httpClient;
+    }
+
     private void handleTimeout(Promise<HttpClientResponse> promise,
                                long timeoutMs,
                                HttpClientRequest httpClientRequest) {
@@ -107,15 +132,15 @@ public class BasicHttpClient implements HttpClient {
         }
 
         response
-                .bodyHandler(buffer -> successResponse(buffer.toString(), response, promise, timerId))
+                .bodyHandler(buffer -> successResponse(buffer.getBytes(), response, promise, timerId))
                 .exceptionHandler(exception -> failResponse(exception, promise, timerId));
     }
 
-    private void successResponse(String body, io.vertx.core.http.HttpClientResponse response,
+    private void successResponse(byte[] body, io.vertx.core.http.HttpClientResponse response,
                                  Promise<HttpClientResponse> promise, long timerId) {
         vertx.cancelTimer(timerId);
 
-        promise.tryComplete(HttpClientResponse.of(response.statusCode(), response.headers(), body));
+        promise.tryComplete(HttpClientResponse.fromBytes(response.statusCode(), response.headers(), body));
     }
 
     private void failResponse(Throwable exception, Promise<HttpClientResponse> promise, long timerId) {
@@ -41,13 +41,15 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
                                            int openingThreshold,
                                            long openingIntervalMs,
                                            long closingIntervalMs,
+                                           double failureRateThreshold,
+                                           long slowCallDurationMs,
                                            int idleExpireHours,
                                            Clock clock) {
 
         this.httpClient = Objects.requireNonNull(httpClient);
 
-        circuitBreakerCreator = name -> createCircuitBreaker(
-                name, vertx, openingThreshold, openingIntervalMs, closingIntervalMs, clock, metrics);
+        circuitBreakerCreator = name -> createCircuitBreaker(name, vertx, openingThreshold, openingIntervalMs,
+                closingIntervalMs, failureRateThreshold, slowCallDurationMs, clock, metrics);
 
         circuitBreakerByName = Caffeine.newBuilder()
                 .expireAfterAccess(idleExpireHours, TimeUnit.HOURS)
@@ -92,6 +94,8 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
                                                 int openingThreshold,
                                                 long openingIntervalMs,
                                                 long closingIntervalMs,
+                                                double failureRateThreshold,
+                                                long slowCallDurationMs,
                                                 Clock clock,
                                                 Metrics metrics) {
 
@@ -101,6 +105,8 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
                 openingThreshold,
                 openingIntervalMs,
                 closingIntervalMs,
+                failureRateThreshold,
+                slowCallDurationMs,
                 Objects.requireNonNull(clock))
                 .openHandler(ignored -> circuitOpened(name))
                 .halfOpenHandler(ignored -> circuitHalfOpened(name))
@@ -0,0 +1,53 @@
+package org.prebid.server.vertx.http;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+import java.util.Objects;
+
+/**
+ * Opens connections of {@link HttpClient} pool to the given host in advance, so the first requests after startup
+ * or after idle period do not pay for TCP and TLS handshakes.
+ * <p>
+ * Connections are opened by lightweight OPTIONS requests to the host root, responses are ignored.
+ */
+public class HttpConnectionsWarmer {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpConnectionsWarmer.class);
+
+    private final Vertx vertx;
+    private final HttpClient httpClient;
+    private final String url;
+    private final int connections;
+    private final long timeoutMs;
+
+    public HttpConnectionsWarmer(Vertx vertx, HttpClient httpClient, String url, int connections, long timeoutMs) {
+        this.vertx = Objects.requireNonNull(vertx);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.url = Objects.requireNonNull(url);
+        this.connections = connections;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Opens connections now and, if interval is given, periodically afterwards, so pool is kept warm
+     * through idle periods.
+     */
+    public void warmUp(Long keepWarmIntervalMs) {
+        warmUp();
+
+        if (keepWarmIntervalMs != null) {
+            vertx.setPeriodic(keepWarmIntervalMs, ignored -> warmUp());
+        }
+    }
+
+    private void warmUp() {
+        for (int i = 0; i < connections; i++) {
+            httpClient.request(HttpMethod.OPTIONS, url, null, (String) null, timeoutMs)
+                    .onFailure(exception -> logger.debug(
+                            "Failed to warm up connection to {0}: {1}", url, exception.getMessage()));
+        }
+    }
+}
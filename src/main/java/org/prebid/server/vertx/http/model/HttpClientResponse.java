@@ -1,21 +1,63 @@
 package org.prebid.server.vertx.http.model;
 
 import io.vertx.core.MultiMap;
-import lombok.AllArgsConstructor;
-import lombok.Value;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
 
 /**
  * Holds Http client response data.
  * <p>
  * Should be created in "bodyHandler(...) after response has been read."
+ * <p>
+ * Body is kept as bytes received from the wire, its {@link String} view is decoded lazily on first access.
+ * Responses created from {@link String} body encode it to bytes lazily in the same way.
  */
-@AllArgsConstructor(staticName = "of")
-@Value
+@Getter
+@EqualsAndHashCode
+@ToString
 public class HttpClientResponse {
 
-    int statusCode;
+    private final int statusCode;
+
+    private final MultiMap headers;
+
+    @ToString.Exclude
+    private volatile byte[] bodyBytes;
+
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private volatile String body;
+
+    private HttpClientResponse(int statusCode, MultiMap headers, byte[] bodyBytes, String body) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.bodyBytes = bodyBytes;
+        this.body = body;
+    }
+
+    public static HttpClientResponse of(int statusCode, MultiMap headers, String body) {
+        return new HttpClientResponse(statusCode, headers, null, body);
+    }
+
+    public static HttpClientResponse fromBytes(int statusCode, MultiMap headers, byte[] bodyBytes) {
+        return new HttpClientResponse(statusCode, headers, bodyBytes, null);
+    }
 
-    MultiMap headers;
+    @ToString.Include(name = "body")
+    public String getBody() {
+        if (body == null && bodyBytes != null) {
+            body = new String(bodyBytes, StandardCharsets.UTF_8);
+        }
+        return body;
+    }
 
-    String body;
+    public byte[] getBodyBytes() {
+        if (bodyBytes == null && body != null) {
+            bodyBytes = body.getBytes(StandardCharsets.UTF_8);
+        }
+        return bodyBytes;
+    }
 }
@@ -23,8 +23,10 @@ import java.util.Map;
 
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 public class ActivityInfrastructureCreatorTest {
 
@@ -113,4 +115,56 @@ public class ActivityInfrastructureCreatorTest {
         assertThat(configuration.get(Activity.TRANSMIT_UFPD).isAllowed(null))
                 .isEqualTo(ActivityCallResult.of(false, 1));
     }
+
+    @Test
+    public void parseShouldCompileEqualConfigurationsOnlyOnce() {
+        // given
+        final AccountActivityComponentRuleConfig ruleConfig = AccountActivityComponentRuleConfig.of(null, null);
+        final GppContext gppContext = GppContextCreator.from(null, null).build().getGppContext();
+
+        given(activityRuleFactory.from(same(ruleConfig), any()))
+                .willReturn(TestRule.disallowIfMatches(payload -> true));
+
+        // when
+        final Map<Activity, ActivityConfiguration> first = creator.parse(givenAccount(ruleConfig), gppContext);
+        final Map<Activity, ActivityConfiguration> second = creator.parse(givenAccount(ruleConfig), gppContext);
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(activityRuleFactory).from(same(ruleConfig), any());
+    }
+
+    @Test
+    public void parseShouldCompileGppDependentRulesForEachGppSectionsSet() {
+        // given
+        final AccountActivityComponentRuleConfig ruleConfig = AccountActivityComponentRuleConfig.of(null, null);
+        final GppContext gppContext1 = GppContextCreator.from(null, singletonList(1)).build().getGppContext();
+        final GppContext gppContext2 = GppContextCreator.from(null, singletonList(2)).build().getGppContext();
+
+        given(activityRuleFactory.dependsOnGpp(same(ruleConfig))).willReturn(true);
+        given(activityRuleFactory.from(same(ruleConfig), same(gppContext1)))
+                .willReturn(TestRule.disallowIfMatches(payload -> true));
+        given(activityRuleFactory.from(same(ruleConfig), same(gppContext2)))
+                .willReturn(TestRule.allowIfMatches(payload -> true));
+
+        // when
+        final Map<Activity, ActivityConfiguration> first = creator.parse(givenAccount(ruleConfig), gppContext1);
+        final Map<Activity, ActivityConfiguration> second = creator.parse(givenAccount(ruleConfig), gppContext2);
+        final Map<Activity, ActivityConfiguration> third = creator.parse(givenAccount(ruleConfig), gppContext1);
+
+        // then
+        assertThat(first.get(Activity.CALL_BIDDER).isAllowed(null)).isEqualTo(ActivityCallResult.of(false, 1));
+        assertThat(second.get(Activity.CALL_BIDDER).isAllowed(null)).isEqualTo(ActivityCallResult.of(true, 1));
+        assertThat(third).isSameAs(first);
+        assertThat(second.get(Activity.SYNC_USER)).isSameAs(first.get(Activity.SYNC_USER));
+        verify(activityRuleFactory).from(same(ruleConfig), same(gppContext1));
+        verify(activityRuleFactory).from(same(ruleConfig), same(gppContext2));
+    }
+
+    private static Account givenAccount(AccountActivityComponentRuleConfig ruleConfig) {
+        return Account.builder()
+                .privacy(AccountPrivacyConfig.of(null, null, Map.of(
+                        Activity.CALL_BIDDER, AccountActivityConfiguration.of(true, singletonList(ruleConfig)))))
+                .build();
+    }
 }
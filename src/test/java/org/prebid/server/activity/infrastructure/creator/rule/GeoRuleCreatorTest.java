@@ -69,4 +69,18 @@ public class GeoRuleCreatorTest {
 
         assertThat(rule.allowed()).isFalse();
     }
+
+    @Test
+    public void dependsOnGppShouldReturnTrueOnlyIfSidsConditionIsPresent() {
+        // given
+        final AccountActivityGeoRuleConfig withSids = AccountActivityGeoRuleConfig.of(
+                AccountActivityGeoRuleConfig.Condition.of(null, null, singletonList(1), null), true);
+        final AccountActivityGeoRuleConfig withoutSids = AccountActivityGeoRuleConfig.of(
+                AccountActivityGeoRuleConfig.Condition.of(null, null, null, singletonList("country")), true);
+
+        // when and then
+        assertThat(target.dependsOnGpp(withSids)).isTrue();
+        assertThat(target.dependsOnGpp(withoutSids)).isFalse();
+        assertThat(target.dependsOnGpp(AccountActivityGeoRuleConfig.of(null, true))).isFalse();
+    }
 }
@@ -1907,6 +1907,33 @@ public class BidResponseCreatorTest extends VertxTest {
         verify(cacheService, never()).cacheBidsOpenrtb(anyList(), any(), any(), any());
     }
 
+    @Test
+    public void shouldCollectImpIdsWonByBidders() {
+        // given
+        final Bid firstBid = Bid.builder().id("bidId1").price(BigDecimal.valueOf(5.67)).impid("i1").build();
+        final Bid secondBid = Bid.builder().id("bidId2").price(BigDecimal.valueOf(4.98)).impid("i2").build();
+        final Bid thirdBid = Bid.builder().id("bidId3").price(BigDecimal.valueOf(7.25)).impid("i2").build();
+        final List<BidderResponse> bidderResponses = asList(
+                BidderResponse.of("bidder1",
+                        givenSeatBid(
+                                BidderBid.of(firstBid, banner, null),
+                                BidderBid.of(secondBid, banner, null)), 100),
+                BidderResponse.of("bidder2",
+                        givenSeatBid(BidderBid.of(thirdBid, banner, null)), 111));
+
+        final AuctionContext auctionContext = givenAuctionContext(
+                givenBidRequest(givenImp("i1"), givenImp("i2")),
+                contextBuilder -> contextBuilder.auctionParticipations(toAuctionParticipant(bidderResponses)));
+
+        // when
+        bidResponseCreator.create(auctionContext, CACHE_INFO, MULTI_BIDS);
+
+        // then
+        assertThat(auctionContext.getBidderToWonImpIds()).containsOnly(
+                entry("bidder1", singleton("i1")),
+                entry("bidder2", singleton("i2")));
+    }
+
     @Test
     public void shouldPopulateAuctionLostToMetricByWinningDealBid() {
         // given
@@ -3759,6 +3786,7 @@ public class BidResponseCreatorTest extends VertxTest {
                 .debugWarnings(emptyList())
                 .auctionParticipations(emptyList())
                 .bidRejectionTrackers(new HashMap<>())
+                .bidderToWonImpIds(new HashMap<>())
                 .prebidErrors(new ArrayList<>());
 
         return contextCustomizer.apply(auctionContextBuilder).build();
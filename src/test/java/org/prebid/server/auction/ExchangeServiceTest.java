@@ -30,6 +30,7 @@ import com.iab.openrtb.response.Bid;
 import com.iab.openrtb.response.BidResponse;
 import com.iab.openrtb.response.SeatBid;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import org.apache.commons.collections4.MapUtils;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.Before;
@@ -50,6 +51,8 @@ import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessor;
 import org.prebid.server.auction.mediatypeprocessor.NoOpMediaTypeProcessor;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.BidRejectionReason;
+import org.prebid.server.auction.model.BidRejectionTracker;
 import org.prebid.server.auction.model.BidRequestCacheInfo;
 import org.prebid.server.auction.model.BidderPrivacyResult;
 import org.prebid.server.auction.model.BidderRequest;
@@ -57,10 +60,12 @@ import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.auction.model.MultiBidConfig;
 import org.prebid.server.auction.model.StoredResponseResult;
 import org.prebid.server.auction.model.debug.DebugContext;
+import org.prebid.server.auction.throttling.NoOpBidderThrottler;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
 import org.prebid.server.bidder.Bidder;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.bidder.BidderInfo;
+import org.prebid.server.bidder.BidderLatencyTracker;
 import org.prebid.server.bidder.HttpBidderRequester;
 import org.prebid.server.bidder.Usersyncer;
 import org.prebid.server.bidder.model.BidderBid;
@@ -253,6 +258,12 @@ public class ExchangeServiceTest extends VertxTest {
     @Mock
     private HttpBidderRequester httpBidderRequester;
 
+    @Mock
+    private BidderLatencyTracker bidderLatencyTracker;
+
+    @Spy
+    private NoOpBidderThrottler bidderThrottler;
+
     @Mock
     private ResponseBidValidator responseBidValidator;
 
@@ -443,7 +454,9 @@ public class ExchangeServiceTest extends VertxTest {
                 metrics,
                 clock,
                 jacksonMapper,
-                criteriaLogManager);
+                criteriaLogManager,
+                bidderLatencyTracker,
+                bidderThrottler);
     }
 
     @Test
@@ -478,7 +491,9 @@ public class ExchangeServiceTest extends VertxTest {
                         metrics,
                         clock,
                         jacksonMapper,
-                        criteriaLogManager))
+                        criteriaLogManager,
+                        bidderLatencyTracker,
+                        bidderThrottler))
                 .withMessage("Expected timeout adjustment factor should be in [0, 100].");
     }
 
@@ -953,6 +968,87 @@ public class ExchangeServiceTest extends VertxTest {
         assertThat(capturedBidRequest3.getExt().getPrebid().getSchains()).isNull();
     }
 
+    @Test
+    public void shouldCloseAuctionEarlyWhenAwaitedBiddersAreNotWorthWaiting() {
+        // given
+        final Bidder<?> bidder1 = mock(Bidder.class);
+        final Bidder<?> bidder2 = mock(Bidder.class);
+        givenBidder("bidder1", bidder1, givenSingleSeatBid(givenBidderBid(Bid.builder().price(ONE).build())));
+        doReturn(bidder2).when(bidderCatalog).bidderByName(eq("bidder2"));
+        given(httpBidderRequester.requestBids(same(bidder2), any(), any(), any(), any(), any(), anyBoolean()))
+                .willReturn(Promise.<BidderSeatBid>promise().future());
+
+        given(bidderLatencyTracker.isNotWorthWaiting(any())).willReturn(true);
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(doubleMap("bidder1", 1, "bidder2", 2)));
+
+        // when
+        final Future<AuctionContext> result = exchangeService.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        verify(bidderLatencyTracker).isNotWorthWaiting(any());
+        verify(bidderLatencyTracker).recordBidderResponse(eq("bidder1"), anyLong(), eq(true));
+
+        final List<AuctionParticipation> auctionParticipations = captureAuctionParticipations();
+        assertThat(auctionParticipations).hasSize(2);
+        final BidderResponse closedResponse = auctionParticipations.stream()
+                .map(AuctionParticipation::getBidderResponse)
+                .filter(bidderResponse -> bidderResponse.getBidder().equals("bidder2"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(closedResponse.getSeatBid().getBids()).isEmpty();
+        assertThat(closedResponse.getSeatBid().getErrors()).containsExactly(BidderError.timeout(
+                "Auction was closed early, remaining bidders were not expected to bid"));
+    }
+
+    @Test
+    public void shouldIgnoreLateResponseOfBidderNotAwaitedAfterAuctionWasClosedEarly() {
+        // given
+        final Bidder<?> bidder1 = mock(Bidder.class);
+        final Bidder<?> bidder2 = mock(Bidder.class);
+        givenBidder("bidder1", bidder1, givenSingleSeatBid(givenBidderBid(Bid.builder().price(ONE).build())));
+        doReturn(bidder2).when(bidderCatalog).bidderByName(eq("bidder2"));
+        final Promise<BidderSeatBid> lateSeatBidPromise = Promise.promise();
+        given(httpBidderRequester.requestBids(same(bidder2), any(), any(), any(), any(), any(), anyBoolean()))
+                .willReturn(lateSeatBidPromise.future());
+
+        given(bidderLatencyTracker.isNotWorthWaiting(any())).willReturn(true);
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp("impId", doubleMap("bidder1", 1, "bidder2", 2)));
+        final AuctionContext auctionContext = exchangeService.holdAuction(givenRequestContext(bidRequest)).result();
+
+        // when
+        final BidRejectionTracker bidRejectionTracker = auctionContext.getBidRejectionTrackers().get("bidder2");
+        final BidderBid lateBid = givenBidderBid(Bid.builder().impid("impId").price(ONE).build());
+        bidRejectionTracker.succeed(singletonList(lateBid));
+        lateSeatBidPromise.complete(givenSingleSeatBid(lateBid));
+
+        // then
+        assertThat(bidRejectionTracker.getRejectionReasons())
+                .isEqualTo(singletonMap("impId", BidRejectionReason.TIMED_OUT));
+        verify(bidderLatencyTracker, never()).recordBidderResponse(eq("bidder2"), anyLong(), anyBoolean());
+    }
+
+    @Test
+    public void shouldNotRequestBidsFromThrottledBidders() {
+        // given
+        final Bidder<?> bidder = mock(Bidder.class);
+        givenBidder("bidder", bidder, givenEmptySeatBid());
+
+        willReturn(emptyList()).given(bidderThrottler).throttle(any(), anyList());
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 1)));
+
+        // when
+        final Future<AuctionContext> result = exchangeService.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        verify(httpBidderRequester, never()).requestBids(any(), any(), any(), any(), any(), any(), anyBoolean());
+        verify(bidderThrottler).recordOutcome(any());
+    }
+
     @Test
     public void shouldReturnFailedFutureWithUnchangedMessageWhenPrivacyEnforcementServiceFails() {
         // given
@@ -4418,7 +4514,9 @@ public class ExchangeServiceTest extends VertxTest {
                 metrics,
                 clock,
                 jacksonMapper,
-                criteriaLogManager);
+                criteriaLogManager,
+                bidderLatencyTracker,
+                bidderThrottler);
 
         // when
         final Future<AuctionContext> result = exchangeService.holdAuction(auctionContext);
@@ -4514,6 +4612,7 @@ public class ExchangeServiceTest extends VertxTest {
                 .txnLog(TxnLog.create())
                 .deepDebugLog(DeepDebugLog.create(false, clock))
                 .bidRejectionTrackers(new HashMap<>())
+                .bidderToWonImpIds(new HashMap<>())
                 .activityInfrastructure(activityInfrastructure)
                 .build();
     }
@@ -1,9 +1,14 @@
 package org.prebid.server.auction;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.User;
 import org.junit.Test;
 import org.prebid.server.VertxTest;
 import org.prebid.server.json.JsonMerger;
@@ -561,6 +566,106 @@ public class OrtbTypesResolverTest extends VertxTest {
         assertThat(fpd.path("app")).isEqualTo(requestFpdApp);
     }
 
+    @Test
+    public void parseBidRequestShouldResolveFieldsTypesSameWayAsNormalizeBidRequest() throws JsonProcessingException {
+        // given
+        final ObjectNode requestNode = obj("id", "requestId");
+        requestNode.set("site", obj("page", array("page1", "page2"))
+                .set("keywords", array("keyword1", "keyword2")));
+        requestNode.set("user", obj("gender", array("gender1", "gender2"))
+                .set("data", obj("dataField", "dataValue")));
+        requestNode.set("imp", array(obj("id", "impId")));
+
+        final List<String> expectedWarnings = new ArrayList<>();
+        final ObjectNode normalizedNode = requestNode.deepCopy();
+        ortbTypesResolver.normalizeBidRequest(normalizedNode, expectedWarnings, "referer");
+
+        final List<String> warnings = new ArrayList<>();
+
+        // when
+        final BidRequest result = ortbTypesResolver.parseBidRequest(requestNode.toString(), warnings, "referer");
+
+        // then
+        assertThat(result).isEqualTo(mapper.treeToValue(normalizedNode, BidRequest.class));
+        assertThat(result.getSite().getPage()).isEqualTo("page1");
+        assertThat(result.getUser().getExt().getData()).isEqualTo(obj("dataField", "dataValue"));
+        assertThat(warnings).containsExactlyInAnyOrderElementsOf(expectedWarnings);
+    }
+
+    @Test
+    public void parseBidRequestShouldRemoveUserIfItsTypeIsNotObjectAndWriteMessage() throws JsonProcessingException {
+        // given
+        final List<String> warnings = new ArrayList<>();
+
+        // when
+        final BidRequest result = ortbTypesResolver.parseBidRequest(
+                obj("user", "invalid").toString(), warnings, "referer");
+
+        // then
+        assertThat(result.getUser()).isNull();
+        assertThat(warnings).containsOnly(
+                "WARNING: bidrequest.user field ignored. Expected type is object, but was `STRING`.");
+    }
+
+    @Test
+    public void parseBidRequestShouldRemoveAppIfNullAndWriteMessage() throws JsonProcessingException {
+        // given
+        final List<String> warnings = new ArrayList<>();
+
+        // when
+        final BidRequest result = ortbTypesResolver.parseBidRequest(
+                obj("app", NullNode.getInstance()).toString(), warnings, "referer");
+
+        // then
+        assertThat(result.getApp()).isNull();
+        assertThat(warnings).containsOnly(
+                "WARNING: bidrequest.app field ignored. Expected type is object, but was `NULL`.");
+    }
+
+    @Test
+    public void parseBidRequestShouldMergeFpdToOrtb2InBidderConfig() throws JsonProcessingException {
+        // given
+        final ObjectNode configNode = obj("fpd", obj("user", obj("gender", array("gender1", "gender2"))));
+        configNode.set("ortb2", obj("site", obj("keywords", array("keyword1", "keyword2"))));
+        final ObjectNode requestNode = obj("ext", obj("prebid", obj("bidderconfig", array(obj("config", configNode)))));
+
+        final ObjectNode normalizedNode = requestNode.deepCopy();
+        ortbTypesResolver.normalizeBidRequest(normalizedNode, new ArrayList<>(), "referer");
+
+        final List<String> warnings = new ArrayList<>();
+
+        // when
+        final BidRequest result = ortbTypesResolver.parseBidRequest(requestNode.toString(), warnings, "referer");
+
+        // then
+        assertThat(result).isEqualTo(mapper.treeToValue(normalizedNode, BidRequest.class));
+        assertThat(result.getExt().getPrebid().getBidderconfig()).singleElement()
+                .extracting(bidderConfig -> bidderConfig.getConfig().getOrtb2())
+                .satisfies(ortb2 -> {
+                    assertThat(ortb2.getUser()).isEqualTo(obj("gender", "gender1"));
+                    assertThat(ortb2.getSite()).isEqualTo(obj("keywords", "keyword1,keyword2"));
+                });
+        assertThat(warnings).hasSize(2);
+    }
+
+    @Test
+    public void parseBidRequestShouldNotWriteMessagesIfFieldsHaveExpectedTypes() throws JsonProcessingException {
+        // given
+        final ObjectNode requestNode = obj("site", obj("page", "page"));
+        requestNode.set("user", obj("keywords", "keyword1,keyword2"));
+        final List<String> warnings = new ArrayList<>();
+
+        // when
+        final BidRequest result = ortbTypesResolver.parseBidRequest(requestNode.toString(), warnings, "referer");
+
+        // then
+        assertThat(result).isEqualTo(BidRequest.builder()
+                .site(Site.builder().page("page").build())
+                .user(User.builder().keywords("keyword1,keyword2").build())
+                .build());
+        assertThat(warnings).isEmpty();
+    }
+
     private static ArrayNode array(String... fields) {
         final ArrayNode arrayNode = mapper.createArrayNode();
         Arrays.stream(fields).forEach(arrayNode::add);
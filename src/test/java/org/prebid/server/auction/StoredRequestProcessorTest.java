@@ -175,6 +175,39 @@ public class StoredRequestProcessorTest extends VertxTest {
                 .build());
     }
 
+    @Test
+    public void shouldMergeBidRequestAndImpsWithParsedStoredDataIfPresent() {
+        // given
+        final BidRequest bidRequest = givenBidRequest(builder -> builder
+                .ext(ExtRequest.of(ExtRequestPrebid.builder()
+                        .storedrequest(ExtStoredRequest.of("123"))
+                        .build()))
+                .imp(singletonList(givenImp(impBuilder -> impBuilder
+                        .ext(mapper.valueToTree(
+                                ExtImp.of(ExtImpPrebid.builder().storedrequest(ExtStoredRequest.of("321")).build(),
+                                        null)))))));
+
+        // raw stored data is malformed to make sure it is not parsed again
+        given(applicationSettings.getStoredData(any(), anySet(), anySet(), any()))
+                .willReturn(Future.succeededFuture(StoredDataResult.of(
+                        singletonMap("123", "malformed"),
+                        singletonMap("321", "malformed"),
+                        emptyList(),
+                        singletonMap("123", mapper.createObjectNode().put("id", "test-request-id")),
+                        singletonMap("321", mapper.createObjectNode().put("id", "test-imp")))));
+
+        // when
+        final Future<AuctionStoredResult> bidRequestFuture =
+                storedRequestProcessor.processAuctionRequest(null, bidRequest);
+
+        // then
+        assertThat(bidRequestFuture.succeeded()).isTrue();
+        assertThat(bidRequestFuture.result().bidRequest().getId()).isEqualTo("test-request-id");
+        assertThat(bidRequestFuture.result().bidRequest().getImp())
+                .extracting(Imp::getId)
+                .containsExactly("test-imp");
+    }
+
     @Test
     public void shouldReturnMergedDefaultAndBidRequest() throws IOException {
         // given
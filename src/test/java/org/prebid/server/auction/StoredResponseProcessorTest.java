@@ -97,6 +97,36 @@ public class StoredResponseProcessorTest extends VertxTest {
                 emptyMap()));
     }
 
+    @Test
+    public void getStoredResponseResultShouldNotShareBidExtBetweenRequestsForSameStoredResponse()
+            throws JsonProcessingException {
+
+        // given
+        final List<Imp> imps = singletonList(givenImp("impId", ExtStoredAuctionResponse.of("1"), null));
+
+        final String storedResponse = mapper.writeValueAsString(singletonList(SeatBid.builder().seat("rubicon")
+                .bid(singletonList(Bid.builder().id("id").ext(mapper.createObjectNode().put("field", 1)).build()))
+                .build()));
+        given(applicationSettings.getStoredResponses(any(), any()))
+                .willReturn(Future.succeededFuture(StoredResponseDataResult.of(
+                        singletonMap("1", storedResponse), emptyList())));
+
+        final StoredResponseResult firstResult =
+                storedResponseProcessor.getStoredResponseResult(imps, timeout).result();
+        firstResult.getAuctionStoredResponse().get(0).getBid().get(0).getExt().put("field", 2);
+
+        // when
+        final StoredResponseResult secondResult =
+                storedResponseProcessor.getStoredResponseResult(imps, timeout).result();
+
+        // then
+        assertThat(secondResult.getAuctionStoredResponse())
+                .extracting(SeatBid::getBid)
+                .flatExtracting(bids -> bids)
+                .extracting(Bid::getExt)
+                .containsExactly(mapper.createObjectNode().put("field", 1));
+    }
+
     @Test
     public void getStoredResponseResultShouldNotChangeImpsAndReturnSeatBidsWhenThereAreNoStoredIds() {
         // given
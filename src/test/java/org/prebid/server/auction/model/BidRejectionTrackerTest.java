@@ -102,4 +102,19 @@ public class BidRejectionTrackerTest {
         // then
         assertThat(target.getRejectionReasons()).isEqualTo(singletonMap("1", BidRejectionReason.NO_BID));
     }
+
+    @Test
+    public void rejectAllAndCloseShouldIgnoreFurtherOutcomes() {
+        // given
+        target.rejectAllAndClose(BidRejectionReason.TIMED_OUT);
+
+        // when
+        target.succeed("1");
+        target.reject("1", BidRejectionReason.OTHER_ERROR);
+
+        // then
+        assertThat(target.isClosed()).isTrue();
+        assertThat(target.getRejectionReasons())
+                .isEqualTo(singletonMap("1", BidRejectionReason.TIMED_OUT));
+    }
 }
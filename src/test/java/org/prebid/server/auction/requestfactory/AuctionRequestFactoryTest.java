@@ -37,6 +37,7 @@ import org.prebid.server.auction.model.debug.DebugContext;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.json.JsonMerger;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.HttpRequestContext;
@@ -66,6 +67,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.prebid.server.assertion.FutureAssertion.assertThat;
 
@@ -179,6 +181,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
 
         target = new AuctionRequestFactory(
                 Integer.MAX_VALUE,
+                false,
                 ortb2RequestFactory,
                 storedRequestProcessor,
                 ortbVersionConversionManager,
@@ -212,6 +215,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
         // given
         target = new AuctionRequestFactory(
                 1,
+                false,
                 ortb2RequestFactory,
                 storedRequestProcessor,
                 ortbVersionConversionManager,
@@ -535,6 +539,65 @@ public class AuctionRequestFactoryTest extends VertxTest {
         verify(ortbTypesResolver).normalizeBidRequest(any(), any(), any());
     }
 
+    @Test
+    public void shouldParseBidRequestWithOrtbTypesResolverIfStreamingParsingEnabled() throws JsonProcessingException {
+        // given
+        target = new AuctionRequestFactory(
+                Integer.MAX_VALUE,
+                true,
+                ortb2RequestFactory,
+                storedRequestProcessor,
+                ortbVersionConversionManager,
+                auctionGppService,
+                paramsExtractor,
+                paramsResolver,
+                interstitialProcessor,
+                ortbTypesResolver,
+                privacyEnforcementService,
+                debugResolver,
+                jacksonMapper);
+
+        givenValidBidRequest();
+        given(ortbTypesResolver.parseBidRequest(any(), any(), any())).willReturn(defaultBidRequest);
+
+        // when
+        target.fromRequest(routingContext, 0L).result();
+
+        // then
+        verify(ortbTypesResolver).parseBidRequest(eq(bidRequestToString(defaultBidRequest)), any(), any());
+        verify(ortbTypesResolver, never()).normalizeBidRequest(any(), any(), any());
+    }
+
+    @Test
+    public void shouldReturnFailedFutureIfRequestBodyCouldNotBeParsedInStreamingMode() {
+        // given
+        target = new AuctionRequestFactory(
+                Integer.MAX_VALUE,
+                true,
+                ortb2RequestFactory,
+                storedRequestProcessor,
+                ortbVersionConversionManager,
+                auctionGppService,
+                paramsExtractor,
+                paramsResolver,
+                interstitialProcessor,
+                new OrtbTypesResolver(0, jacksonMapper, new JsonMerger(jacksonMapper)),
+                privacyEnforcementService,
+                debugResolver,
+                jacksonMapper);
+
+        given(routingContext.getBodyAsString()).willReturn("body");
+
+        // when
+        final Future<?> future = target.fromRequest(routingContext, 0L);
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(InvalidRequestException.class);
+        assertThat(((InvalidRequestException) future.cause()).getMessages()).hasSize(1)
+                .element(0).asString().startsWith("Error decoding bidRequest: Unrecognized token 'body'");
+    }
+
     @Test
     public void shouldReturnFailedFutureIfOrtb2RequestFactoryReturnedFailedFuture() {
         // given
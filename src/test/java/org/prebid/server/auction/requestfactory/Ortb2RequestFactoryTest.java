@@ -709,6 +709,7 @@ public class Ortb2RequestFactoryTest extends VertxTest {
                 .txnLog(TxnLog.create())
                 .debugHttpCalls(emptyMap())
                 .bidRejectionTrackers(new HashMap<>())
+                .bidderToWonImpIds(new HashMap<>())
                 .build());
     }
 
@@ -0,0 +1,327 @@
+package org.prebid.server.auction.throttling;
+
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Deal;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Pmp;
+import com.iab.openrtb.response.Bid;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.BidderRequest;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.auction.model.debug.DebugContext;
+import org.prebid.server.bidder.model.BidderBid;
+import org.prebid.server.bidder.model.BidderError;
+import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.proto.openrtb.ext.response.BidType;
+import org.prebid.server.settings.model.Account;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static java.util.function.UnaryOperator.identity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class BidRateBidderThrottlerTest {
+
+    private static final String BIDDER = "bidder";
+    private static final long HALF_LIFE_MILLIS = 1000L;
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Metrics metrics;
+
+    @Mock
+    private Clock clock;
+
+    private BidRateBidderThrottler target;
+
+    @Before
+    public void setUp() {
+        given(clock.millis()).willReturn(0L);
+
+        target = new BidRateBidderThrottler(0, 0.1, 0.05, 10, HALF_LIFE_MILLIS, 100, metrics, clock);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidExplorationRate() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BidRateBidderThrottler(2, 0.1, 0, 10, HALF_LIFE_MILLIS, 100, metrics, clock))
+                .withMessage("Exploration rate should be in [0, 1]: 2.0");
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidMinBidRate() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BidRateBidderThrottler(0, 0, 0, 10, HALF_LIFE_MILLIS, 100, metrics, clock))
+                .withMessage("Minimum bid rate should be in (0, 1]: 0.0");
+    }
+
+    @Test
+    public void throttleShouldNotSkipBidderWithoutStatistics() {
+        // given
+        final AuctionParticipation auctionParticipation = givenAuctionParticipation(givenImp(identity()));
+
+        // when
+        final List<AuctionParticipation> result =
+                target.throttle(givenAuctionContext(false), singletonList(auctionParticipation));
+
+        // then
+        assertThat(result).containsExactly(auctionParticipation);
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void throttleShouldSkipBidderWhichDidNotBidRecently() {
+        // given
+        final Imp imp = givenImp(identity());
+        givenOutcomes(imp, 10, 0, 0);
+
+        final AuctionContext auctionContext = givenAuctionContext(true);
+
+        // when
+        final List<AuctionParticipation> result =
+                target.throttle(auctionContext, singletonList(givenAuctionParticipation(imp)));
+
+        // then
+        assertThat(result).isEmpty();
+        verify(metrics).updateAdapterRequestThrottledMetrics(eq(BIDDER), any());
+        assertThat(auctionContext.getDebugWarnings())
+                .containsExactly("Bidder bidder was throttled due to low recent bid rate");
+    }
+
+    @Test
+    public void throttleShouldNotSkipBidderUntilEnoughRequestsRecorded() {
+        // given
+        final Imp imp = givenImp(identity());
+        givenOutcomes(imp, 9, 0, 0);
+
+        final AuctionParticipation auctionParticipation = givenAuctionParticipation(imp);
+
+        // when
+        final List<AuctionParticipation> result =
+                target.throttle(givenAuctionContext(false), singletonList(auctionParticipation));
+
+        // then
+        assertThat(result).containsExactly(auctionParticipation);
+    }
+
+    @Test
+    public void throttleShouldNotSkipBidderWhichBidsOften() {
+        // given
+        final Imp imp = givenImp(identity());
+        givenOutcomes(imp, 10, 1, 0);
+
+        final AuctionParticipation auctionParticipation = givenAuctionParticipation(imp);
+
+        // when
+        final List<AuctionParticipation> result =
+                target.throttle(givenAuctionContext(false), singletonList(auctionParticipation));
+
+        // then
+        assertThat(result).containsExactly(auctionParticipation);
+    }
+
+    @Test
+    public void throttleShouldNotSkipBidderWhichWinsWhenBidding() {
+        // given
+        target = new BidRateBidderThrottler(0, 0.5, 0.05, 10, HALF_LIFE_MILLIS, 100, metrics, clock);
+
+        final Imp imp = givenImp(identity());
+        givenOutcomes(imp, 10, 1, 1);
+
+        final AuctionParticipation auctionParticipation = givenAuctionParticipation(imp);
+
+        // when
+        final List<AuctionParticipation> result =
+                target.throttle(givenAuctionContext(false), singletonList(auctionParticipation));
+
+        // then
+        assertThat(result).containsExactly(auctionParticipation);
+    }
+
+    @Test
+    public void throttleShouldNotSkipBidderForOtherSize() {
+        // given
+        givenOutcomes(givenImp(identity()), 10, 0, 0);
+
+        final AuctionParticipation auctionParticipation = givenAuctionParticipation(givenImp(imp -> imp
+                .banner(Banner.builder().format(singletonList(Format.builder().w(728).h(90).build())).build())));
+
+        // when
+        final List<AuctionParticipation> result =
+                target.throttle(givenAuctionContext(false), singletonList(auctionParticipation));
+
+        // then
+        assertThat(result).containsExactly(auctionParticipation);
+    }
+
+    @Test
+    public void throttleShouldNotSkipRequestWithDeals() {
+        // given
+        givenOutcomes(givenImp(identity()), 10, 0, 0);
+
+        final AuctionParticipation auctionParticipation = givenAuctionParticipation(givenImp(imp -> imp
+                .pmp(Pmp.builder().deals(singletonList(Deal.builder().id("dealId").build())).build())));
+
+        // when
+        final List<AuctionParticipation> result =
+                target.throttle(givenAuctionContext(false), singletonList(auctionParticipation));
+
+        // then
+        assertThat(result).containsExactly(auctionParticipation);
+    }
+
+    @Test
+    public void throttleShouldNotSkipBidderWhenStatisticsDecayed() {
+        // given
+        final Imp imp = givenImp(identity());
+        givenOutcomes(imp, 10, 0, 0);
+        given(clock.millis()).willReturn(HALF_LIFE_MILLIS);
+
+        final AuctionParticipation auctionParticipation = givenAuctionParticipation(imp);
+
+        // when
+        final List<AuctionParticipation> result =
+                target.throttle(givenAuctionContext(false), singletonList(auctionParticipation));
+
+        // then
+        assertThat(result).containsExactly(auctionParticipation);
+    }
+
+    @Test
+    public void recordOutcomeShouldIgnoreTimedOutResponses() {
+        // given
+        final Imp imp = givenImp(identity());
+        final BidderSeatBid timedOutSeatBid = BidderSeatBid.builder()
+                .errors(singletonList(BidderError.timeout("Timeout")))
+                .build();
+        final AuctionParticipation timedOut = givenAuctionParticipation(imp)
+                .with(BidderResponse.of(BIDDER, timedOutSeatBid, 100));
+
+        for (int i = 0; i < 10; i++) {
+            target.recordOutcome(givenAuctionContext(false, singletonList(timedOut), emptyMap()));
+        }
+
+        final AuctionParticipation auctionParticipation = givenAuctionParticipation(imp);
+
+        // when
+        final List<AuctionParticipation> result =
+                target.throttle(givenAuctionContext(false), singletonList(auctionParticipation));
+
+        // then
+        assertThat(result).containsExactly(auctionParticipation);
+    }
+
+    @Test
+    public void recordOutcomeShouldNotCountLosingBidAsWin() {
+        // given
+        final Imp imp = givenImp(identity());
+        final Bid bid = Bid.builder().impid(imp.getId()).build();
+        final AuctionParticipation auctionParticipation = givenAuctionParticipation(imp)
+                .with(BidderResponse.of(BIDDER, BidderSeatBid.of(
+                        singletonList(BidderBid.of(bid, BidType.banner, null))), 100));
+        final AuctionContext auctionContext = givenAuctionContext(
+                false, singletonList(auctionParticipation), singletonMap("otherBidder", singleton(imp.getId())));
+
+        // when
+        target.recordOutcome(auctionContext);
+
+        // then
+        assertThat(target.winRate(BIDDER, "accountId", imp)).isZero();
+    }
+
+    @Test
+    public void recordOutcomeShouldCountWinningBidAsWin() {
+        // given
+        final Imp imp = givenImp(identity());
+        final Bid bid = Bid.builder().impid(imp.getId()).build();
+        final AuctionParticipation auctionParticipation = givenAuctionParticipation(imp)
+                .with(BidderResponse.of(BIDDER, BidderSeatBid.of(
+                        singletonList(BidderBid.of(bid, BidType.banner, null))), 100));
+        final AuctionContext auctionContext = givenAuctionContext(
+                false, singletonList(auctionParticipation), singletonMap(BIDDER, singleton(imp.getId())));
+
+        // when
+        target.recordOutcome(auctionContext);
+
+        // then
+        assertThat(target.winRate(BIDDER, "accountId", imp)).isEqualTo(1);
+    }
+
+    private void givenOutcomes(Imp imp, int requests, int bids, int wins) {
+        for (int i = 0; i < requests; i++) {
+            final Bid bid = Bid.builder().impid(imp.getId()).build();
+            final List<BidderBid> bidderBids = i < bids
+                    ? singletonList(BidderBid.of(bid, BidType.banner, null))
+                    : emptyList();
+            final AuctionParticipation auctionParticipation = givenAuctionParticipation(imp)
+                    .with(BidderResponse.of(BIDDER, BidderSeatBid.of(bidderBids), 100));
+            final Map<String, Set<String>> bidderToWonImpIds = i < wins
+                    ? singletonMap(BIDDER, singleton(imp.getId()))
+                    : emptyMap();
+
+            target.recordOutcome(givenAuctionContext(false, singletonList(auctionParticipation), bidderToWonImpIds));
+        }
+    }
+
+    private static AuctionContext givenAuctionContext(boolean debugEnabled) {
+        return givenAuctionContext(debugEnabled, emptyList(), emptyMap());
+    }
+
+    private static AuctionContext givenAuctionContext(boolean debugEnabled,
+                                                      List<AuctionParticipation> auctionParticipations,
+                                                      Map<String, Set<String>> bidderToWonImpIds) {
+
+        return AuctionContext.builder()
+                .account(Account.empty("accountId"))
+                .debugContext(DebugContext.of(debugEnabled, false, null))
+                .debugWarnings(new ArrayList<>())
+                .auctionParticipations(auctionParticipations)
+                .bidderToWonImpIds(bidderToWonImpIds)
+                .build();
+    }
+
+    private static AuctionParticipation givenAuctionParticipation(Imp imp) {
+        return AuctionParticipation.builder()
+                .bidder(BIDDER)
+                .bidderRequest(BidderRequest.builder()
+                        .bidder(BIDDER)
+                        .bidRequest(BidRequest.builder().imp(singletonList(imp)).build())
+                        .build())
+                .build();
+    }
+
+    private static Imp givenImp(UnaryOperator<Imp.ImpBuilder> impCustomizer) {
+        return impCustomizer.apply(Imp.builder()
+                        .id("impId")
+                        .banner(Banner.builder().format(singletonList(Format.builder().w(300).h(250).build())).build()))
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+package org.prebid.server.bidder;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+import java.time.Clock;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+
+public class BidderLatencyTrackerTest {
+
+    private static final long WINDOW_MILLIS = 1000L;
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Clock clock;
+
+    private BidderLatencyTracker target;
+
+    @Before
+    public void setUp() {
+        given(clock.millis()).willReturn(0L);
+
+        target = new BidderLatencyTracker(90, 1.5, 10, WINDOW_MILLIS, 0.5, clock);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidPercentile() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BidderLatencyTracker(0, 1.5, 10, WINDOW_MILLIS, 0, clock))
+                .withMessage("Latency percentile should be in (0, 100]: 0.0");
+    }
+
+    @Test
+    public void creationShouldFailOnTimeoutMultiplierLessThanOne() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BidderLatencyTracker(90, 0.5, 10, WINDOW_MILLIS, 0, clock))
+                .withMessage("Timeout multiplier cannot be less than 1: 0.5");
+    }
+
+    @Test
+    public void resolveTimeoutShouldReturnRemainingTimeoutWhenNoStatistics() {
+        // when and then
+        assertThat(target.resolveTimeout("bidder", "endpoint", 500L)).isEqualTo(500L);
+    }
+
+    @Test
+    public void resolveTimeoutShouldReturnRemainingTimeoutUntilWindowIsClosed() {
+        // given
+        givenEndpointLatencies("endpoint", 100L, 10);
+
+        // when and then
+        assertThat(target.resolveTimeout("bidder", "endpoint", 500L)).isEqualTo(500L);
+    }
+
+    @Test
+    public void resolveTimeoutShouldReturnRemainingTimeoutWhenNotEnoughSamples() {
+        // given
+        givenEndpointLatencies("endpoint", 100L, 9);
+        given(clock.millis()).willReturn(WINDOW_MILLIS);
+
+        // when and then
+        assertThat(target.resolveTimeout("bidder", "endpoint", 500L)).isEqualTo(500L);
+    }
+
+    @Test
+    public void resolveTimeoutShouldReturnMultipliedEndpointLatencyPercentile() {
+        // given
+        givenEndpointLatencies("endpoint", 100L, 10);
+        given(clock.millis()).willReturn(WINDOW_MILLIS);
+
+        // when and then
+        assertThat(target.resolveTimeout("bidder", "endpoint", 500L)).isEqualTo(150L);
+    }
+
+    @Test
+    public void resolveTimeoutShouldNotExceedRemainingTimeout() {
+        // given
+        givenEndpointLatencies("endpoint", 100L, 10);
+        given(clock.millis()).willReturn(WINDOW_MILLIS);
+
+        // when and then
+        assertThat(target.resolveTimeout("bidder", "endpoint", 120L)).isEqualTo(120L);
+    }
+
+    @Test
+    public void resolveTimeoutShouldFallbackToBidderLatencyWhenEndpointIsUnknown() {
+        // given
+        for (int i = 0; i < 10; i++) {
+            target.recordBidderResponse("bidder", 200L, true);
+        }
+        given(clock.millis()).willReturn(WINDOW_MILLIS);
+
+        // when and then
+        assertThat(target.resolveTimeout("bidder", "endpoint", 500L)).isEqualTo(300L);
+    }
+
+    @Test
+    public void isNotWorthWaitingShouldReturnFalseWhenBidderHasNoStatistics() {
+        // when and then
+        assertThat(target.isNotWorthWaiting(List.of("bidder"))).isFalse();
+    }
+
+    @Test
+    public void isNotWorthWaitingShouldReturnTrueWhenBiddersRarelyBid() {
+        // given
+        givenBidderResponses("bidder1", 1, 10);
+        givenBidderResponses("bidder2", 2, 10);
+        given(clock.millis()).willReturn(WINDOW_MILLIS);
+
+        // when and then
+        assertThat(target.isNotWorthWaiting(List.of("bidder1", "bidder2"))).isTrue();
+    }
+
+    @Test
+    public void isNotWorthWaitingShouldReturnFalseWhenBiddersTogetherOftenBid() {
+        // given
+        givenBidderResponses("bidder1", 3, 10);
+        givenBidderResponses("bidder2", 3, 10);
+        given(clock.millis()).willReturn(WINDOW_MILLIS);
+
+        // when and then
+        assertThat(target.isNotWorthWaiting(List.of("bidder1", "bidder2"))).isFalse();
+    }
+
+    @Test
+    public void isNotWorthWaitingShouldReturnFalseWhenEarlyCloseIsDisabled() {
+        // given
+        target = new BidderLatencyTracker(90, 1.5, 10, WINDOW_MILLIS, 0, clock);
+        givenBidderResponses("bidder", 0, 10);
+        given(clock.millis()).willReturn(WINDOW_MILLIS);
+
+        // when and then
+        assertThat(target.isNotWorthWaiting(List.of("bidder"))).isFalse();
+    }
+
+    private void givenEndpointLatencies(String endpoint, long latency, int count) {
+        for (int i = 0; i < count; i++) {
+            target.recordEndpointLatency(endpoint, latency);
+        }
+    }
+
+    private void givenBidderResponses(String bidder, int withBids, int total) {
+        for (int i = 0; i < total; i++) {
+            target.recordBidderResponse(bidder, 100L, i < withBids);
+        }
+    }
+}
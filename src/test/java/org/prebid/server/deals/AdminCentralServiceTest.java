@@ -211,7 +211,7 @@ public class AdminCentralServiceTest extends VertxTest {
         // given
         final AdminCentralResponse adminCentralResponse = AdminCentralResponse.of(null, null,
                 Command.of("save", jacksonMapper.mapper().valueToTree(UpdateSettingsCacheRequest
-                        .of(Collections.emptyMap(), Collections.emptyMap()))), null, null, null);
+                        .of(Collections.emptyMap(), Collections.emptyMap(), null))), null, null, null);
 
         // when
         adminCentralService.processAdminCentralEvent(adminCentralResponse);
@@ -225,7 +225,7 @@ public class AdminCentralServiceTest extends VertxTest {
         // given
         final AdminCentralResponse adminCentralResponse = AdminCentralResponse.of(null, null,
                 Command.of("invalidate", jacksonMapper.mapper().valueToTree(InvalidateSettingsCacheRequest
-                        .of(Collections.emptyList(), Collections.emptyList()))), null, null, null);
+                        .of(Collections.emptyList(), Collections.emptyList(), null))), null, null, null);
 
         // when
         adminCentralService.processAdminCentralEvent(adminCentralResponse);
@@ -257,7 +257,8 @@ public class AdminCentralServiceTest extends VertxTest {
                                                 .build())),
                                 Collections.singletonMap("impId",
                                         jacksonMapper.mapper().writeValueAsString(Imp.builder().id("impId")
-                                                .build()))))),
+                                                .build())),
+                                null))),
                 null, null, null, null);
 
         // when
@@ -272,7 +273,7 @@ public class AdminCentralServiceTest extends VertxTest {
         // given
         final AdminCentralResponse adminCentralResponse = AdminCentralResponse.of(null,
                 Command.of("invalidate", jacksonMapper.mapper().valueToTree(InvalidateSettingsCacheRequest
-                        .of(Collections.emptyList(), Collections.emptyList()))), null, null, null, null);
+                        .of(Collections.emptyList(), Collections.emptyList(), null))), null, null, null, null);
 
         // when
         adminCentralService.processAdminCentralEvent(adminCentralResponse);
@@ -7,6 +7,7 @@ import com.iab.openrtb.request.User;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -30,6 +31,7 @@ import org.prebid.server.deals.proto.Price;
 import org.prebid.server.deals.proto.Token;
 import org.prebid.server.deals.targeting.TargetingDefinition;
 import org.prebid.server.log.CriteriaLogManager;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
@@ -52,6 +54,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.stream.IntStream;
 
 import static java.util.Arrays.asList;
@@ -64,6 +67,7 @@ import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -88,6 +92,8 @@ public class LineItemServiceTest extends VertxTest {
     private Clock clock;
     @Mock
     private CriteriaLogManager criteriaLogManager;
+    @Mock
+    private Metrics metrics;
 
     private BidderAliases bidderAliases;
 
@@ -114,7 +120,8 @@ public class LineItemServiceTest extends VertxTest {
                 applicationEventService,
                 "USD",
                 clock,
-                criteriaLogManager);
+                criteriaLogManager,
+                metrics);
     }
 
     @Test
@@ -310,7 +317,8 @@ public class LineItemServiceTest extends VertxTest {
                 applicationEventService,
                 defaultCurrency,
                 clock,
-                criteriaLogManager);
+                criteriaLogManager,
+                metrics);
 
         final List<LineItemMetaData> planResponse = asList(
                 givenLineItemMetaData("lineItem1", null, null,
@@ -514,6 +522,46 @@ public class LineItemServiceTest extends VertxTest {
                 .containsExactly(tuple(1, 100, 0L));
     }
 
+    @Test
+    public void updateLineItemsShouldRebuildLineItemsIndexAndUpdateMetrics() {
+        // given
+        final ArgumentCaptor<LongSupplier> indexSizeCaptor = ArgumentCaptor.forClass(LongSupplier.class);
+        verify(metrics).createLineItemsIndexSizeGauge(indexSizeCaptor.capture());
+
+        final List<LineItemMetaData> planResponse = asList(
+                givenLineItemMetaData("lineItem1", "1001", "rubicon",
+                        singletonList(givenDeliverySchedule("planId1", now.minusHours(1), now.plusHours(1),
+                                emptySet())), now),
+                givenLineItemMetaData("lineItem2", "2002", "appnexus",
+                        singletonList(givenDeliverySchedule("planId2", now.minusHours(1), now.plusHours(1),
+                                emptySet())), now));
+
+        // when
+        lineItemService.updateLineItems(planResponse, true);
+
+        // then
+        assertThat(indexSizeCaptor.getValue().getAsLong()).isEqualTo(2L);
+        verify(metrics).updateLineItemsIndexRebuildTime(anyLong());
+    }
+
+    @Test
+    public void accountHasDealsShouldReturnFalseWhenLineItemsWereInvalidated() {
+        // given
+        final List<LineItemMetaData> planResponse = singletonList(
+                givenLineItemMetaData("lineItem1", "1001", "rubicon",
+                        singletonList(givenDeliverySchedule("planId1", now.minusHours(1), now.plusHours(1),
+                                emptySet())), now));
+        lineItemService.updateLineItems(planResponse, true);
+
+        // when
+        lineItemService.invalidateLineItemsByIds(singletonList("lineItem1"));
+
+        // then
+        assertThat(lineItemService.accountHasDeals(AuctionContext.builder()
+                .account(Account.builder().id("1001").build()).build()))
+                .isFalse();
+    }
+
     @Test
     public void accountHasDealsShouldReturnTrue() {
         // given
@@ -753,7 +801,7 @@ public class LineItemServiceTest extends VertxTest {
                 .willReturn(TargetingDefinition.of(context -> false));
         given(targetingService.parseTargetingDefinition(any(), eq("id2")))
                 .willReturn(TargetingDefinition.of(context -> true));
-        given(targetingService.matchesTargeting(any(), any(), any(), any()))
+        given(targetingService.matchesTargeting(any(), any()))
                 .willAnswer(withEvaluatedTargeting());
 
         givenClock(now, now.plusMinutes(1));
@@ -805,7 +853,7 @@ public class LineItemServiceTest extends VertxTest {
                 .willReturn(TargetingDefinition.of(context -> false));
         given(targetingService.parseTargetingDefinition(any(), eq("id2")))
                 .willReturn(TargetingDefinition.of(context -> true));
-        given(targetingService.matchesTargeting(any(), any(), any(), any()))
+        given(targetingService.matchesTargeting(any(), any()))
                 .willAnswer(withEvaluatedTargeting());
 
         givenClock(now, now.plusMinutes(1));
@@ -859,7 +907,7 @@ public class LineItemServiceTest extends VertxTest {
                 .willReturn(null);
         given(targetingService.parseTargetingDefinition(any(), eq("id2")))
                 .willReturn(TargetingDefinition.of(context -> true));
-        given(targetingService.matchesTargeting(any(), any(), any(), any()))
+        given(targetingService.matchesTargeting(any(), any()))
                 .willAnswer(withEvaluatedTargeting());
 
         givenClock(now, now.plusMinutes(1));
@@ -1616,7 +1664,8 @@ public class LineItemServiceTest extends VertxTest {
                 applicationEventService,
                 "USD",
                 clock,
-                criteriaLogManager);
+                criteriaLogManager,
+                metrics);
 
         final List<LineItemMetaData> planResponse = asList(
                 givenLineItemMetaData("id1", now, "1",
@@ -2059,12 +2108,12 @@ public class LineItemServiceTest extends VertxTest {
     private void givenTargetingService() {
         given(targetingService.parseTargetingDefinition(any(), any()))
                 .willReturn(TargetingDefinition.of(context -> true));
-        given(targetingService.matchesTargeting(any(), any(), any(), any()))
+        given(targetingService.matchesTargeting(any(), any()))
                 .willAnswer(withEvaluatedTargeting());
     }
 
     private Answer<Boolean> withEvaluatedTargeting() {
-        return invocation -> ((TargetingDefinition) invocation.getArgument(2)).getRootExpression().matches(null);
+        return invocation -> ((TargetingDefinition) invocation.getArgument(1)).getRootExpression().matches(null);
     }
 
     private void givenClock(ZonedDateTime... dateTimes) {
@@ -839,6 +839,57 @@ public class RequestContextTest extends VertxTest {
         assertThat(context.lookupStrings(category).getValues()).containsExactly(asList("hockey", "football"));
     }
 
+    @Test
+    public void lookupStringShouldReturnSameResultOnSubsequentCalls() {
+        // given
+        final TargetingCategory category = new TargetingCategory(TargetingCategory.Type.domain);
+        final RequestContext context = new RequestContext(
+                request(r -> r.site(site(s -> s.domain("domain.com")))),
+                imp(identity()),
+                txnLog,
+                jacksonMapper);
+
+        // when
+        final LookupResult<String> result = context.lookupString(category);
+
+        // then
+        assertThat(context.lookupString(category)).isSameAs(result);
+    }
+
+    @Test
+    public void lookupLowerCaseStringShouldReturnLowerCasedValues() {
+        // given
+        final TargetingCategory category = new TargetingCategory(TargetingCategory.Type.domain);
+        final RequestContext context = new RequestContext(
+                request(r -> r.site(site(s -> s
+                        .domain("Domain.com")
+                        .publisher(Publisher.builder().domain("PUBLISHER.com").build())))),
+                imp(identity()),
+                txnLog,
+                jacksonMapper);
+
+        // when and then
+        assertThat(context.lookupLowerCaseString(category).getValues())
+                .containsExactly("domain.com", "publisher.com");
+        assertThat(context.lookupString(category).getValues()).containsExactly("Domain.com", "PUBLISHER.com");
+    }
+
+    @Test
+    public void lookupLowerCaseStringsShouldReturnLowerCasedValues() {
+        // given
+        final TargetingCategory category = new TargetingCategory(TargetingCategory.Type.userSegment, "rubicon");
+        final RequestContext context = new RequestContext(
+                request(r -> r.user(user(u -> u.data(singletonList(
+                        data(d -> d.id("rubicon")
+                                .segment(asList(segment(s -> s.id("A")), segment(s -> s.id("b")))))))))),
+                imp(identity()),
+                txnLog,
+                jacksonMapper);
+
+        // when and then
+        assertThat(context.lookupLowerCaseStrings(category).getValues()).containsExactly(asList("a", "b"));
+    }
+
     @Test
     public void lookupStringsShouldReturnSegmentsWithDesiredSource() {
         // given
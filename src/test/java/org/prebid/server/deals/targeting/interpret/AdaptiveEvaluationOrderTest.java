@@ -0,0 +1,145 @@
+package org.prebid.server.deals.targeting.interpret;
+
+import org.junit.Test;
+import org.prebid.server.deals.targeting.RequestContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class AdaptiveEvaluationOrderTest {
+
+    private final RequestContext context = mock(RequestContext.class);
+
+    @Test
+    public void evaluateShouldStartWithChildrenInDeclarationOrder() {
+        // given
+        final List<String> evaluated = new ArrayList<>();
+        final AdaptiveEvaluationOrder evaluationOrder = new AdaptiveEvaluationOrder(asList(
+                givenExpression("first", true, false, evaluated),
+                givenExpression("second", false, false, evaluated)), false);
+
+        // when
+        final boolean result = evaluationOrder.evaluate(context);
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(evaluated).containsExactly("first", "second");
+    }
+
+    @Test
+    public void evaluateShouldFirstEvaluateChildMostLikelyToShortCircuitAfterObservingResults() {
+        // given
+        final List<String> evaluated = new ArrayList<>();
+        final AdaptiveEvaluationOrder evaluationOrder = new AdaptiveEvaluationOrder(asList(
+                givenExpression("alwaysTrue", true, false, evaluated),
+                givenExpression("alwaysFalse", false, false, evaluated)), false, 1);
+
+        for (int i = 0; i < 64; i++) {
+            evaluationOrder.evaluate(context);
+        }
+        evaluated.clear();
+
+        // when
+        final boolean result = evaluationOrder.evaluate(context);
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(evaluated).containsExactly("alwaysFalse");
+    }
+
+    @Test
+    public void evaluateShouldFollowChangedResultsSinceOldObservationsDecay() {
+        // given
+        final List<String> evaluated = new ArrayList<>();
+        final AtomicBoolean firstShortCircuits = new AtomicBoolean(true);
+        final AdaptiveEvaluationOrder evaluationOrder = new AdaptiveEvaluationOrder(asList(
+                givenExpression("first", firstShortCircuits, evaluated),
+                givenExpression("second", true, false, evaluated)), true, 1);
+
+        for (int i = 0; i < 6400; i++) {
+            evaluationOrder.evaluate(context);
+        }
+        firstShortCircuits.set(false);
+        for (int i = 0; i < 64; i++) {
+            evaluationOrder.evaluate(context);
+        }
+        evaluated.clear();
+
+        // when
+        final boolean result = evaluationOrder.evaluate(context);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(evaluated).containsExactly("second");
+    }
+
+    @Test
+    public void evaluateShouldKeepDeclarationOrderWhenChildHasSideEffects() {
+        // given
+        final List<String> evaluated = new ArrayList<>();
+        final AdaptiveEvaluationOrder evaluationOrder = new AdaptiveEvaluationOrder(asList(
+                givenExpression("neverTrue", false, true, evaluated),
+                givenExpression("alwaysTrue", true, false, evaluated)), true, 1);
+
+        for (int i = 0; i < 64; i++) {
+            evaluationOrder.evaluate(context);
+        }
+        evaluated.clear();
+
+        // when
+        final boolean result = evaluationOrder.evaluate(context);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(evaluated).containsExactly("neverTrue", "alwaysTrue");
+        assertThat(evaluationOrder.hasSideEffects()).isTrue();
+    }
+
+    @Test
+    public void costShouldSumChildrenCosts() {
+        // given
+        final AdaptiveEvaluationOrder evaluationOrder = new AdaptiveEvaluationOrder(asList(
+                givenExpression("first", true, false, new ArrayList<>()),
+                new Not(givenExpression("second", true, false, new ArrayList<>()))), true);
+
+        // when and then
+        assertThat(evaluationOrder.cost()).isEqualTo(2);
+    }
+
+    private static Expression givenExpression(String name, boolean result, boolean sideEffects, List<String> log) {
+        return new Expression() {
+
+            @Override
+            public boolean matches(RequestContext context) {
+                log.add(name);
+                return result;
+            }
+
+            @Override
+            public boolean hasSideEffects() {
+                return sideEffects;
+            }
+        };
+    }
+
+    private static Expression givenExpression(String name, AtomicBoolean result, List<String> log) {
+        return new Expression() {
+
+            @Override
+            public boolean matches(RequestContext context) {
+                log.add(name);
+                return result.get();
+            }
+
+            @Override
+            public boolean hasSideEffects() {
+                return false;
+            }
+        };
+    }
+}
@@ -38,17 +38,17 @@ public class InStringsTest {
     @Test
     public void matchesShouldReturnTrueWhenThereIsMatch() {
         // given
-        willReturn(LookupResult.ofValue("Berlin")).given(context).lookupString(any());
+        willReturn(LookupResult.ofValue("berlin")).given(context).lookupLowerCaseString(any());
 
         // when and then
         assertThat(expression.matches(context)).isTrue();
-        verify(context).lookupString(eq(category));
+        verify(context).lookupLowerCaseString(eq(category));
     }
 
     @Test
     public void matchesShouldReturnFalseWhenThereIsNoMatch() {
         // given
-        willReturn(LookupResult.ofValue("Ingolstadt")).given(context).lookupString(any());
+        willReturn(LookupResult.ofValue("ingolstadt")).given(context).lookupLowerCaseString(any());
 
         // when and then
         assertThat(expression.matches(context)).isFalse();
@@ -57,7 +57,7 @@ public class InStringsTest {
     @Test
     public void matchesShouldPerformCaseInsensitiveComparison() {
         // given
-        willReturn(LookupResult.ofValue("BERLIN")).given(context).lookupString(any());
+        willReturn(LookupResult.ofValue("berlin")).given(context).lookupLowerCaseString(any());
 
         // when and then
         assertThat(expression.matches(context)).isTrue();
@@ -66,7 +66,7 @@ public class InStringsTest {
     @Test
     public void matchesShouldReturnFalseWhenActualValueIsMissing() {
         // given
-        willReturn(LookupResult.empty()).given(context).lookupString(any());
+        willReturn(LookupResult.empty()).given(context).lookupLowerCaseString(any());
         willReturn(LookupResult.empty()).given(context).lookupInteger(any());
 
         // when and then
@@ -76,7 +76,7 @@ public class InStringsTest {
     @Test
     public void matchesShouldReturnTrueWhenActualValueIsInteger() {
         // given
-        willReturn(LookupResult.empty()).given(context).lookupString(any());
+        willReturn(LookupResult.empty()).given(context).lookupLowerCaseString(any());
         willReturn(LookupResult.ofValue(123)).given(context).lookupInteger(any());
 
         // when and then
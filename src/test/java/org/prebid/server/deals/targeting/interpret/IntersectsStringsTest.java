@@ -38,17 +38,18 @@ public class IntersectsStringsTest {
     @Test
     public void matchesShouldReturnTrueWhenThereIsMatch() {
         // given
-        willReturn(LookupResult.ofValue(asList("Rock", "Alternative", "Folk"))).given(context).lookupStrings(any());
+        willReturn(LookupResult.ofValue(asList("rock", "alternative", "folk")))
+                .given(context).lookupLowerCaseStrings(any());
 
         // when and then
         assertThat(expression.matches(context)).isTrue();
-        verify(context).lookupStrings(eq(category));
+        verify(context).lookupLowerCaseStrings(eq(category));
     }
 
     @Test
     public void matchesShouldReturnFalseWhenThereIsNoMatch() {
         // given
-        willReturn(LookupResult.ofValue(asList("Folk", "Trance"))).given(context).lookupStrings(any());
+        willReturn(LookupResult.ofValue(asList("folk", "trance"))).given(context).lookupLowerCaseStrings(any());
 
         // when and then
         assertThat(expression.matches(context)).isFalse();
@@ -57,7 +58,8 @@ public class IntersectsStringsTest {
     @Test
     public void matchesShouldPerformCaseInsensitiveComparison() {
         // given
-        willReturn(LookupResult.ofValue(asList("ROCK", "ALTERNATIVE", "FOLK"))).given(context).lookupStrings(any());
+        willReturn(LookupResult.ofValue(asList("rock", "alternative", "folk")))
+                .given(context).lookupLowerCaseStrings(any());
 
         // when and then
         assertThat(expression.matches(context)).isTrue();
@@ -66,7 +68,7 @@ public class IntersectsStringsTest {
     @Test
     public void matchesShouldReturnFalseWhenActualValueIsMissing() {
         // given
-        willReturn(LookupResult.empty()).given(context).lookupStrings(any());
+        willReturn(LookupResult.empty()).given(context).lookupLowerCaseStrings(any());
 
         // when and then
         assertThat(expression.matches(context)).isFalse();
@@ -75,7 +77,7 @@ public class IntersectsStringsTest {
     @Test
     public void matchesShouldReturnFalseWhenActualValueIsNotDefined() {
         // given
-        willReturn(LookupResult.empty()).given(context).lookupStrings(any());
+        willReturn(LookupResult.empty()).given(context).lookupLowerCaseStrings(any());
 
         // when and then
         assertThat(expression.matches(context)).isFalse();
@@ -0,0 +1,95 @@
+package org.prebid.server.floors;
+
+import org.junit.Test;
+import org.prebid.server.floors.model.PriceFloorField;
+import org.prebid.server.floors.model.PriceFloorModelGroup;
+import org.prebid.server.floors.model.PriceFloorSchema;
+
+import java.math.BigDecimal;
+import java.util.function.UnaryOperator;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PriceFloorRuleIndexTest {
+
+    @Test
+    public void findShouldReturnExactMatchBeforeWildcards() {
+        // given
+        final PriceFloorRuleIndex index = PriceFloorRuleIndex.of(givenModelGroup(modelGroup -> modelGroup
+                .value("banner|300x250", BigDecimal.ONE)
+                .value("banner|*", BigDecimal.TEN)
+                .value("*|*", BigDecimal.ZERO)));
+
+        // when and then
+        assertThat(index.find(asList(singletonList("banner"), singletonList("300x250"))))
+                .isEqualTo(PriceFloorRuleIndex.Rule.of("banner|300x250", BigDecimal.ONE));
+    }
+
+    @Test
+    public void findShouldPreferWildcardsAtRightmostFields() {
+        // given
+        final PriceFloorRuleIndex index = PriceFloorRuleIndex.of(givenModelGroup(modelGroup -> modelGroup
+                .value("*|300x250", BigDecimal.ONE)
+                .value("banner|*", BigDecimal.TEN)));
+
+        // when and then
+        assertThat(index.find(asList(singletonList("banner"), singletonList("300x250"))))
+                .isEqualTo(PriceFloorRuleIndex.Rule.of("banner|*", BigDecimal.TEN));
+    }
+
+    @Test
+    public void findShouldAlwaysUseWildcardForImplicitlyUnknownFields() {
+        // given
+        final PriceFloorRuleIndex index = PriceFloorRuleIndex.of(givenModelGroup(modelGroup -> modelGroup
+                .value("banner|300x250", BigDecimal.ONE)
+                .value("*|300x250", BigDecimal.TEN)));
+
+        // when and then
+        assertThat(index.find(asList(singletonList("*"), singletonList("300x250"))))
+                .isEqualTo(PriceFloorRuleIndex.Rule.of("*|300x250", BigDecimal.TEN));
+    }
+
+    @Test
+    public void findShouldMatchAnyOfFieldValues() {
+        // given
+        final PriceFloorRuleIndex index = PriceFloorRuleIndex.of(givenModelGroup(modelGroup -> modelGroup
+                .value("video-instream|640x480", BigDecimal.ONE)));
+
+        // when and then
+        assertThat(index.find(asList(asList("video", "video-instream"), singletonList("640x480"))))
+                .isEqualTo(PriceFloorRuleIndex.Rule.of("video-instream|640x480", BigDecimal.ONE));
+    }
+
+    @Test
+    public void findShouldMatchRulesCaseInsensitivelyAndUseCustomDelimiter() {
+        // given
+        final PriceFloorRuleIndex index = PriceFloorRuleIndex.of(givenModelGroup(modelGroup -> modelGroup
+                .schema(PriceFloorSchema.of("~", asList(PriceFloorField.mediaType, PriceFloorField.size)))
+                .value("Banner~300X250", BigDecimal.ONE)));
+
+        // when and then
+        assertThat(index.find(asList(singletonList("banner"), singletonList("300x250"))))
+                .isEqualTo(PriceFloorRuleIndex.Rule.of("banner~300x250", BigDecimal.ONE));
+    }
+
+    @Test
+    public void findShouldReturnNullWhenNoRuleMatched() {
+        // given
+        final PriceFloorRuleIndex index = PriceFloorRuleIndex.of(givenModelGroup(modelGroup -> modelGroup
+                .value("banner|300x250", BigDecimal.ONE)
+                .value("banner|300x250|extra", BigDecimal.TEN)));
+
+        // when and then
+        assertThat(index.find(asList(singletonList("video"), singletonList("300x250")))).isNull();
+    }
+
+    private static PriceFloorModelGroup givenModelGroup(
+            UnaryOperator<PriceFloorModelGroup.PriceFloorModelGroupBuilder> modelGroupCustomizer) {
+
+        return modelGroupCustomizer.apply(PriceFloorModelGroup.builder()
+                        .schema(PriceFloorSchema.of("|", asList(PriceFloorField.mediaType, PriceFloorField.size))))
+                .build();
+    }
+}
@@ -24,6 +24,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 public class MaxMindGeoLocationServiceTest {
 
@@ -33,7 +36,7 @@ public class MaxMindGeoLocationServiceTest {
 
     @Before
     public void setUp() {
-        maxMindGeoLocationService = new MaxMindGeoLocationService();
+        maxMindGeoLocationService = new MaxMindGeoLocationService(0);
     }
 
     @Test
@@ -112,4 +115,46 @@ public class MaxMindGeoLocationServiceTest {
         assertThat(future.succeeded()).isTrue();
         assertThat(future.result()).isEqualTo(GeoInfo.builder().vendor("maxmind").build());
     }
+
+    @Test
+    public void lookupShouldReuseResultForAddressesFromTheSameNetworkWhenCacheIsEnabled() throws IOException,
+            GeoIp2Exception, NoSuchFieldException, IllegalAccessException {
+        // given
+        maxMindGeoLocationService = new MaxMindGeoLocationService(100);
+
+        final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
+        given(databaseReader.city(any())).willReturn(null);
+
+        new ReflectionMemberAccessor().set(maxMindGeoLocationService.getClass().getDeclaredField("databaseReader"),
+                maxMindGeoLocationService, databaseReader);
+
+        // when
+        maxMindGeoLocationService.lookup("80.215.195.122", null);
+        maxMindGeoLocationService.lookup("80.215.195.1", null);
+        maxMindGeoLocationService.lookup("80.215.196.122", null);
+        maxMindGeoLocationService.lookup("2001:db8:1:1::1", null);
+        final Future<GeoInfo> future = maxMindGeoLocationService.lookup("2001:db8:1:2::1", null);
+
+        // then
+        assertThat(future.result()).isEqualTo(GeoInfo.builder().vendor("maxmind").build());
+        verify(databaseReader, times(3)).city(any());
+    }
+
+    @Test
+    public void lookupShouldReturnFailedFutureWhenAddressIsNotIpLiteral() throws NoSuchFieldException,
+            IllegalAccessException {
+        // given
+        final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
+
+        new ReflectionMemberAccessor().set(maxMindGeoLocationService.getClass().getDeclaredField("databaseReader"),
+                maxMindGeoLocationService, databaseReader);
+
+        // when
+        final Future<GeoInfo> future = maxMindGeoLocationService.lookup("80.215.195.256", null);
+
+        // then
+        assertTrue(future.failed());
+        assertThat(future.cause()).hasMessage("Invalid IP address: 80.215.195.256");
+        verifyNoInteractions(databaseReader);
+    }
 }
@@ -0,0 +1,253 @@
+package org.prebid.server.hooks.execution;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.metric.Metrics;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@RunWith(VertxUnitRunner.class)
+public class HookExecutorTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Metrics metrics;
+
+    private Vertx vertx;
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+    }
+
+    @After
+    public void tearDown(TestContext context) {
+        vertx.close(context.asyncAssertSuccess());
+    }
+
+    @Test
+    public void workerShouldCreateGauges() {
+        // when
+        HookExecutor.worker("module", 1, 0, vertx, metrics);
+
+        // then
+        verify(metrics).createHooksExecutorGauges(eq("module"), any(), any(), any());
+    }
+
+    @Test
+    public void executeShouldCallActionOnWorkerThread(TestContext context) {
+        // given
+        final HookExecutor hookExecutor = HookExecutor.worker("module", 1, 0, vertx, metrics);
+
+        // when
+        final Future<String> future = execute(context, hookExecutor,
+                () -> Future.succeededFuture(Thread.currentThread().getName()), 1000L);
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        assertThat(future.result()).startsWith("hooks-module-");
+    }
+
+    @Test
+    public void executeShouldFailIfWorkerPoolIsExhausted(TestContext context) {
+        // given
+        final HookExecutor hookExecutor = HookExecutor.worker("module", 1, 0, vertx, metrics);
+
+        final CountDownLatch blockingActionLatch = new CountDownLatch(1);
+        submit(context, hookExecutor, () -> {
+            awaitQuietly(blockingActionLatch);
+            return Future.succeededFuture("value");
+        }, 1000L);
+
+        // when
+        final Future<String> future = execute(context, hookExecutor, () -> Future.succeededFuture("value"), 1000L);
+
+        // then
+        blockingActionLatch.countDown();
+
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(FailedException.class)
+                .hasMessage("Hook execution rejected: worker pool is exhausted");
+        verify(metrics).updateHooksExecutorRejectedMetric("module");
+    }
+
+    @Test
+    public void executeShouldInterruptTimedOutActionAndReleaseWorker(TestContext context)
+            throws InterruptedException {
+
+        // given
+        final HookExecutor hookExecutor = HookExecutor.worker("module", 1, 0, vertx, metrics);
+        final LongSupplier activeSupplier = captureActiveGauge();
+
+        final CountDownLatch interruptedLatch = new CountDownLatch(1);
+
+        // when
+        final Future<String> future = execute(context, hookExecutor, () -> {
+            try {
+                Thread.sleep(10000L);
+            } catch (InterruptedException e) {
+                interruptedLatch.countDown();
+            }
+            return Future.succeededFuture("value");
+        }, 50L);
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(TimeoutException.class);
+
+        assertThat(interruptedLatch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(awaitZero(activeSupplier)).isZero();
+    }
+
+    @Test
+    public void executeShouldReplaceThreadOfTimedOutActionIgnoringInterruptionUntilItFinishes(TestContext context)
+            throws InterruptedException {
+
+        // given
+        final HookExecutor hookExecutor = HookExecutor.worker("module", 1, 0, vertx, metrics);
+        final LongSupplier stuckSupplier = captureStuckGauge();
+
+        final AtomicBoolean released = new AtomicBoolean();
+        final Future<String> stuckFuture = execute(context, hookExecutor, () -> busyLoop(released), 50L);
+
+        // when
+        final Future<String> future = execute(context, hookExecutor, () -> Future.succeededFuture("value"), 1000L);
+
+        // then
+        assertThat(stuckFuture.cause()).isInstanceOf(TimeoutException.class);
+        assertThat(stuckSupplier.getAsLong()).isEqualTo(1);
+        assertThat(future.succeeded()).isTrue();
+        assertThat(future.result()).isEqualTo("value");
+
+        released.set(true);
+        assertThat(awaitZero(stuckSupplier)).isZero();
+    }
+
+    @Test
+    public void executeShouldFailIfReplacementThreadsForTimedOutActionsAreExhausted(TestContext context) {
+        // given
+        final HookExecutor hookExecutor = HookExecutor.worker("module", 1, 0, vertx, metrics);
+        final LongSupplier stuckSupplier = captureStuckGauge();
+
+        final AtomicBoolean released = new AtomicBoolean();
+        execute(context, hookExecutor, () -> busyLoop(released), 50L);
+        execute(context, hookExecutor, () -> busyLoop(released), 50L);
+
+        // when
+        final Future<String> future = execute(context, hookExecutor, () -> Future.succeededFuture("value"), 1000L);
+
+        // then
+        released.set(true);
+
+        assertThat(stuckSupplier.getAsLong()).isEqualTo(2);
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(FailedException.class)
+                .hasMessage("Hook execution rejected: worker pool is exhausted");
+    }
+
+    @Test
+    public void executeShouldFailOnEventLoopIfActionTimedOut(TestContext context) {
+        // given
+        final HookExecutor hookExecutor = HookExecutor.eventLoop(vertx);
+
+        // when
+        final Future<String> future = execute(context, hookExecutor, () -> Promise.<String>promise().future(), 50L);
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(TimeoutException.class)
+                .hasMessage("Timed out while executing action");
+    }
+
+    private Future<String> execute(TestContext context,
+                                   HookExecutor hookExecutor,
+                                   Supplier<Future<String>> action,
+                                   Long timeout) {
+
+        final Promise<String> promise = Promise.promise();
+
+        final Async async = context.async();
+        vertx.runOnContext(ignored -> hookExecutor.execute(action, timeout).onComplete(result -> {
+            promise.handle(result);
+            async.complete();
+        }));
+        async.await();
+
+        return promise.future();
+    }
+
+    private void submit(TestContext context,
+                        HookExecutor hookExecutor,
+                        Supplier<Future<String>> action,
+                        Long timeout) {
+
+        final Async async = context.async();
+        vertx.runOnContext(ignored -> {
+            hookExecutor.execute(action, timeout);
+            async.complete();
+        });
+        async.await();
+    }
+
+    private LongSupplier captureActiveGauge() {
+        final ArgumentCaptor<LongSupplier> activeCaptor = ArgumentCaptor.forClass(LongSupplier.class);
+        verify(metrics).createHooksExecutorGauges(eq("module"), activeCaptor.capture(), any(), any());
+        return activeCaptor.getValue();
+    }
+
+    private LongSupplier captureStuckGauge() {
+        final ArgumentCaptor<LongSupplier> stuckCaptor = ArgumentCaptor.forClass(LongSupplier.class);
+        verify(metrics).createHooksExecutorGauges(eq("module"), any(), any(), stuckCaptor.capture());
+        return stuckCaptor.getValue();
+    }
+
+    private static long awaitZero(LongSupplier supplier) throws InterruptedException {
+        for (int i = 0; i < 100 && supplier.getAsLong() > 0; i++) {
+            Thread.sleep(10L);
+        }
+        return supplier.getAsLong();
+    }
+
+    /**
+     * Emulates CPU-bound action which ignores interruption.
+     */
+    private static Future<String> busyLoop(AtomicBoolean released) {
+        while (!released.get()) {
+            Thread.onSpinWait();
+        }
+        return Future.succeededFuture("value");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
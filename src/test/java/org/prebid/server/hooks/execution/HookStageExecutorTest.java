@@ -2881,6 +2881,7 @@ public class HookStageExecutorTest extends VertxTest {
                 defaultAccountExecutionPlan,
                 hookCatalog,
                 timeoutFactory,
+                emptyMap(),
                 vertx,
                 clock,
                 jacksonMapper);
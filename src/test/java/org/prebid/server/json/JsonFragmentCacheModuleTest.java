@@ -0,0 +1,98 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Regs;
+import com.iab.openrtb.request.Site;
+import org.junit.Test;
+import org.prebid.server.VertxTest;
+import org.prebid.server.proto.openrtb.ext.request.ExtSite;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+public class JsonFragmentCacheModuleTest extends VertxTest {
+
+    private final ObjectMapper fragmentCachingMapper = mapper.copy()
+            .registerModule(new JsonFragmentCacheModule(mapper, Set.of(Site.class, Regs.class)));
+
+    @Test
+    public void shouldSerializeSameAsOriginalMapper() throws JsonProcessingException {
+        // given
+        final BidRequest bidRequest = BidRequest.builder()
+                .id("id")
+                .site(Site.builder().domain("domain.com").page("http://domain.com/page").build())
+                .device(Device.builder().ua("ua").build())
+                .regs(Regs.builder().coppa(1).build())
+                .build();
+
+        // when
+        final String result = fragmentCachingMapper.writeValueAsString(bidRequest);
+
+        // then
+        assertThat(result).isEqualTo(mapper.writeValueAsString(bidRequest));
+    }
+
+    @Test
+    public void shouldReuseFragmentSerializedForSameUnchangedInstance() throws JsonProcessingException {
+        // given
+        final ObjectMapper fragmentMapper = spy(mapper);
+        final ObjectMapper target = mapper.copy()
+                .registerModule(new JsonFragmentCacheModule(fragmentMapper, Set.of(Site.class)));
+
+        final Site site = Site.builder().domain("domain.com").build();
+        final BidRequest bidRequest = BidRequest.builder().id("id").site(site).build();
+
+        target.writeValueAsString(bidRequest);
+
+        // when
+        final String result = target.writeValueAsString(bidRequest.toBuilder().id("otherId").build());
+
+        // then
+        assertThat(result).isEqualTo("{\"id\":\"otherId\",\"site\":{\"domain\":\"domain.com\"}}");
+        verify(fragmentMapper).writeValueAsString(same(site));
+    }
+
+    @Test
+    public void shouldSerializeAgainInstanceWithModifiedExt() throws JsonProcessingException {
+        // given
+        final ExtSite siteExt = ExtSite.of(0, null);
+        final Site site = Site.builder().domain("domain.com").ext(siteExt).build();
+        final BidRequest bidRequest = BidRequest.builder().id("id").site(site).build();
+
+        fragmentCachingMapper.writeValueAsString(bidRequest);
+        siteExt.addProperty("key", TextNode.valueOf("value"));
+
+        // when
+        final String result = fragmentCachingMapper.writeValueAsString(bidRequest.toBuilder().id("otherId").build());
+
+        // then
+        assertThat(result).isEqualTo(
+                "{\"id\":\"otherId\",\"site\":{\"domain\":\"domain.com\",\"ext\":{\"amp\":0,\"key\":\"value\"}}}");
+    }
+
+    @Test
+    public void shouldSerializeOtherInstanceSeparately() throws JsonProcessingException {
+        // given
+        final BidRequest bidRequest = BidRequest.builder()
+                .site(Site.builder().domain("domain.com").build())
+                .build();
+
+        fragmentCachingMapper.writeValueAsString(bidRequest);
+
+        // when
+        final String result = fragmentCachingMapper.writeValueAsString(bidRequest.toBuilder()
+                .site(Site.builder().domain("other.com").build())
+                .build());
+
+        // then
+        assertThat(result).isEqualTo("{\"site\":{\"domain\":\"other.com\"}}");
+    }
+}
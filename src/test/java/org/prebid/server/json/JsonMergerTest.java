@@ -72,4 +72,16 @@ public class JsonMergerTest extends VertxTest {
         assertThat(result).isEqualTo(site);
     }
 
+    @Test
+    public void mergeShouldNotModifyStoredDataNode() {
+        // given
+        final ObjectNode storedSite = mapper.createObjectNode().put("page", "storedPage").put("domain", "domain");
+
+        // when
+        final Site result = target.merge(Site.builder().page("page").build(), storedSite, "id", Site.class);
+
+        // then
+        assertThat(result).isEqualTo(Site.builder().page("page").domain("domain").build());
+        assertThat(storedSite).isEqualTo(mapper.createObjectNode().put("page", "storedPage").put("domain", "domain"));
+    }
 }
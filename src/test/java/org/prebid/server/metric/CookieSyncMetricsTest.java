@@ -7,10 +7,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 public class CookieSyncMetricsTest {
 
+    private static final ReservoirSpec EXPONENTIALLY_DECAYING =
+            ReservoirSpec.of(ReservoirType.exponentiallyDecaying, 60_000L);
+
     @Test
     public void forBidderShouldReturnSameBidderCookieSyncMetricsOnSuccessiveCalls() {
         // given
-        final CookieSyncMetrics cookieSyncMetrics = new CookieSyncMetrics(new MetricRegistry(), CounterType.counter);
+        final CookieSyncMetrics cookieSyncMetrics = new CookieSyncMetrics(
+                new MetricRegistry(), CounterType.counter, EXPONENTIALLY_DECAYING);
 
         // when and then
         assertThat(cookieSyncMetrics.forBidder("rubicon")).isSameAs(cookieSyncMetrics.forBidder("rubicon"));
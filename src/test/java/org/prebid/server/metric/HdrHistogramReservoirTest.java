@@ -0,0 +1,118 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Snapshot;
+import org.junit.Test;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class HdrHistogramReservoirTest {
+
+    private static final long WINDOW_MS = 60_000L;
+
+    @Test
+    public void creationShouldFailOnWindowShorterThanSlicesNumber() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new HdrHistogramReservoir(false, 5L))
+                .withMessage("HdrHistogram window should be at least 6 ms: 5");
+    }
+
+    @Test
+    public void getSnapshotShouldReturnPercentilesOfAllRecordedValues() {
+        // given
+        final HdrHistogramReservoir reservoir = new HdrHistogramReservoir(false, WINDOW_MS);
+        for (long value = 1; value <= 10000; value++) {
+            reservoir.update(value);
+        }
+
+        // when
+        final Snapshot snapshot = reservoir.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(10000);
+        assertThat(snapshot.getMin()).isEqualTo(1);
+        assertThat(snapshot.getMedian()).isCloseTo(5000, within(50d));
+        assertThat(snapshot.get999thPercentile()).isCloseTo(9990, within(100d));
+        assertThat(snapshot.getMax()).isCloseTo(10000, within(100L));
+    }
+
+    @Test
+    public void getSnapshotShouldAccumulateValuesBetweenSnapshots() {
+        // given
+        final HdrHistogramReservoir reservoir = new HdrHistogramReservoir(false, WINDOW_MS);
+        reservoir.update(10);
+        reservoir.getSnapshot();
+        reservoir.update(20);
+
+        // when and then
+        assertThat(reservoir.getSnapshot().getValues()).containsExactly(10, 20);
+    }
+
+    @Test
+    public void getSnapshotShouldDropValuesRecordedOutsideOfWindow() {
+        // given
+        final Clock clock = mock(Clock.class);
+        given(clock.millis()).willReturn(0L, 0L, 30_000L, 70_000L);
+
+        final HdrHistogramReservoir reservoir = new HdrHistogramReservoir(false, WINDOW_MS, clock);
+        reservoir.update(10);
+        reservoir.getSnapshot();
+        reservoir.update(20);
+        reservoir.getSnapshot();
+        reservoir.update(30);
+
+        // when and then
+        assertThat(reservoir.getSnapshot().getValues()).containsExactly(20, 30);
+    }
+
+    @Test
+    public void getSnapshotShouldDropValuesRecordedOutsideOfConfiguredWindow() {
+        // given
+        final Clock clock = mock(Clock.class);
+        given(clock.millis()).willReturn(0L, 0L, 3_000L, 7_000L);
+
+        final HdrHistogramReservoir reservoir = new HdrHistogramReservoir(false, 6_000L, clock);
+        reservoir.update(10);
+        reservoir.getSnapshot();
+        reservoir.update(20);
+        reservoir.getSnapshot();
+        reservoir.update(30);
+
+        // when and then
+        assertThat(reservoir.getSnapshot().getValues()).containsExactly(20, 30);
+    }
+
+    @Test
+    public void getSnapshotShouldReturnOnlyValuesRecordedSincePreviousSnapshotIfFlushing() {
+        // given
+        final HdrHistogramReservoir reservoir = new HdrHistogramReservoir(true, WINDOW_MS);
+        reservoir.update(10);
+        reservoir.getSnapshot();
+        reservoir.update(20);
+
+        // when and then
+        assertThat(reservoir.getSnapshot().getValues()).containsExactly(20);
+        assertThat(reservoir.size()).isZero();
+    }
+
+    @Test
+    public void getSnapshotShouldIgnoreNegativeValuesAndReturnZerosWhenEmpty() {
+        // given
+        final HdrHistogramReservoir reservoir = new HdrHistogramReservoir(false, WINDOW_MS);
+        reservoir.update(-1);
+
+        // when
+        final Snapshot snapshot = reservoir.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isZero();
+        assertThat(snapshot.getMax()).isZero();
+        assertThat(snapshot.getMean()).isZero();
+        assertThat(snapshot.getStdDev()).isZero();
+    }
+}
@@ -4,6 +4,7 @@ import com.codahale.metrics.Counter;
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.Metric;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.iab.openrtb.request.Audio;
 import com.iab.openrtb.request.Banner;
 import com.iab.openrtb.request.Imp;
@@ -29,6 +30,9 @@ import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import static java.util.Arrays.asList;
@@ -44,6 +48,8 @@ public class MetricsTest {
     private static final String CONVERSANT = "conversant";
     private static final String ACCOUNT_ID = "accountId";
     private static final String ANALYTIC_CODE = "analyticCode";
+    private static final ReservoirSpec EXPONENTIALLY_DECAYING =
+            ReservoirSpec.of(ReservoirType.exponentiallyDecaying, 60_000L);
 
     @Rule
     public final MockitoRule mockitoRule = MockitoJUnit.rule();
@@ -59,7 +65,8 @@ public class MetricsTest {
         metricRegistry = new MetricRegistry();
         given(accountMetricsVerbosityResolver.forAccount(any())).willReturn(AccountMetricsVerbosityLevel.detailed);
 
-        metrics = new Metrics(metricRegistry, CounterType.counter, accountMetricsVerbosityResolver);
+        metrics = new Metrics(metricRegistry, CounterType.counter, EXPONENTIALLY_DECAYING,
+                accountMetricsVerbosityResolver);
     }
 
     @Test
@@ -67,6 +74,38 @@ public class MetricsTest {
         verifyCreatesConfiguredCounterType(metrics -> metrics.incCounter(MetricName.bids_received));
     }
 
+    @Test
+    public void updateTimerShouldResolveTimerFromRegistryOnlyOnce() {
+        // given
+        final MetricRegistry registry = Mockito.spy(new MetricRegistry());
+        final Metrics metrics = new Metrics(
+                registry, CounterType.counter, EXPONENTIALLY_DECAYING, accountMetricsVerbosityResolver);
+
+        // when
+        metrics.forAdapter(RUBICON).updateTimer(MetricName.request_time, 10L);
+        metrics.forAdapter(RUBICON).updateTimer(MetricName.request_time, 20L);
+
+        // then
+        verify(registry).timer(eq("adapter.rubicon.request_time"), any());
+        assertThat(registry.timer("adapter.rubicon.request_time").getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void incCounterShouldCountAllConcurrentIncrements() throws InterruptedException {
+        // given
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        for (int i = 0; i < 4000; i++) {
+            executor.execute(() -> metrics.forAccount(ACCOUNT_ID).incCounter(MetricName.requests));
+        }
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(metricRegistry.counter("account.accountId.requests").getCount()).isEqualTo(4000);
+    }
+
     @Test
     public void forAccountShouldReturnSameAccountMetricsOnSuccessiveCalls() {
         assertThat(metrics.forAccount(ACCOUNT_ID)).isSameAs(metrics.forAccount(ACCOUNT_ID));
@@ -384,6 +423,15 @@ public class MetricsTest {
         assertThat(metricRegistry.timer("request_time").getCount()).isOne();
     }
 
+    @Test
+    public void updateResponseAllocatedBytesMetricShouldUpdateMetric() {
+        // when
+        metrics.updateResponseAllocatedBytesMetric(1024L);
+
+        // then
+        assertThat(metricRegistry.histogram("response_allocated_bytes").getCount()).isOne();
+    }
+
     @Test
     public void updateRequestTypeMetricShouldIncrementMetric() {
         // when
@@ -516,6 +564,22 @@ public class MetricsTest {
                 .isEqualTo(2);
     }
 
+    @Test
+    public void updateAdapterRequestThrottledMetricsShouldIncrementMetrics() {
+        // when
+        metrics.updateAdapterRequestThrottledMetrics(RUBICON, Account.empty(ACCOUNT_ID));
+        metrics.updateAdapterRequestThrottledMetrics(CONVERSANT, Account.empty(ACCOUNT_ID));
+        metrics.updateAdapterRequestThrottledMetrics(CONVERSANT, Account.empty(ACCOUNT_ID));
+
+        // then
+        assertThat(metricRegistry.counter("adapter.rubicon.requests.throttled").getCount()).isOne();
+        assertThat(metricRegistry.counter("account.accountId.adapter.rubicon.requests.throttled").getCount())
+                .isOne();
+        assertThat(metricRegistry.counter("adapter.conversant.requests.throttled").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.counter("account.accountId.adapter.conversant.requests.throttled").getCount())
+                .isEqualTo(2);
+    }
+
     @Test
     public void updateAdapterRequestGotbidsMetricsShouldIncrementMetrics() {
         // when
@@ -794,6 +858,24 @@ public class MetricsTest {
         assertThat(metricRegistry.timer("pg.delivery_request_time").getCount()).isEqualTo(1);
     }
 
+    @Test
+    public void createLineItemsIndexSizeGaugeShouldCreateGauge() {
+        // when
+        metrics.createLineItemsIndexSizeGauge(() -> 5L);
+
+        // then
+        assertThat(metricRegistry.gauge("pg.lineitems_index_size", () -> null).getValue()).isEqualTo(5L);
+    }
+
+    @Test
+    public void updateLineItemsIndexRebuildTimeShouldLogTime() {
+        // when
+        metrics.updateLineItemsIndexRebuildTime(20L);
+
+        // then
+        assertThat(metricRegistry.timer("pg.lineitems_index_rebuild_time").getCount()).isEqualTo(1);
+    }
+
     @Test
     public void updateAuctionTcfMetricsShouldIncrementMetrics() {
         // when
@@ -879,6 +961,17 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("privacy.tcf.invalid").getCount()).isOne();
     }
 
+    @Test
+    public void updatePrivacyTcfConsentCacheMetricsShouldIncrementMetrics() {
+        // when
+        metrics.updatePrivacyTcfConsentCacheHitMetric();
+        metrics.updatePrivacyTcfConsentCacheMissMetric();
+
+        // then
+        assertThat(metricRegistry.counter("privacy.tcf.consent-cache.hit").getCount()).isOne();
+        assertThat(metricRegistry.counter("privacy.tcf.consent-cache.miss").getCount()).isOne();
+    }
+
     @Test
     public void updatePrivacyTcfRequestsMetricShouldIncrementMetric() {
         // when
@@ -1184,6 +1277,17 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("settings.cache.account.hit").getCount()).isEqualTo(1);
     }
 
+    @Test
+    public void updateSettingsCacheParseTimeShouldUpdateTimer() {
+        // when
+        metrics.updateSettingsCacheParseTime(MetricName.stored_imp, 123_000L);
+
+        // then
+        final Timer timer = metricRegistry.timer("settings.cache.stored-imp.parse_time");
+        assertThat(timer.getCount()).isEqualTo(1);
+        assertThat(timer.getSnapshot().getMax()).isEqualTo(123_000L);
+    }
+
     @Test
     public void updateHooksMetricsShouldIncrementMetrics() {
         // when
@@ -1263,6 +1367,29 @@ public class MetricsTest {
                 .isEqualTo(1);
     }
 
+    @Test
+    public void shouldCreateHooksExecutorGaugeMetrics() {
+        // when
+        metrics.createHooksExecutorGauges("module1", () -> 2, () -> 3, () -> 1);
+
+        // then
+        assertThat(metricRegistry.gauge("modules.module.module1.executor.active", () -> null).getValue())
+                .isEqualTo(2L);
+        assertThat(metricRegistry.gauge("modules.module.module1.executor.queued", () -> null).getValue())
+                .isEqualTo(3L);
+        assertThat(metricRegistry.gauge("modules.module.module1.executor.stuck", () -> null).getValue())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    public void updateHooksExecutorRejectedMetricShouldIncrementMetric() {
+        // when
+        metrics.updateHooksExecutorRejectedMetric("module1");
+
+        // then
+        assertThat(metricRegistry.counter("modules.module.module1.executor.rejected").getCount()).isEqualTo(1);
+    }
+
     @Test
     public void updateAccountHooksMetricsShouldIncrementMetricsIfVerbosityIsDetailed() {
         // given
@@ -1413,7 +1540,7 @@ public class MetricsTest {
 
             // when
             metricsConsumer.accept(new Metrics(metricRegistry, CounterType.valueOf(counterType.name()),
-                    accountMetricsVerbosityResolver));
+                    EXPONENTIALLY_DECAYING, accountMetricsVerbosityResolver));
 
             // then
             softly.assertThat(metricRegistry.getMetrics()).hasValueSatisfying(new Condition<>(
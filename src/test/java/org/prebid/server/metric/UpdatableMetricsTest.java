@@ -1,6 +1,7 @@
 package org.prebid.server.metric;
 
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Snapshot;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -18,6 +19,11 @@ import static org.mockito.Mockito.verify;
 
 public class UpdatableMetricsTest {
 
+    private static final ReservoirSpec EXPONENTIALLY_DECAYING =
+            ReservoirSpec.of(ReservoirType.exponentiallyDecaying, 60_000L);
+    private static final ReservoirSpec FLUSHING_HDR_HISTOGRAM =
+            ReservoirSpec.of(ReservoirType.flushingHdrHistogram, 60_000L);
+
     @Rule
     public final MockitoRule mockitoRule = MockitoJUnit.rule();
 
@@ -33,7 +39,8 @@ public class UpdatableMetricsTest {
     @Test
     public void incCounterShouldCreateMetricNameUsingProvidedCreator() {
         // given
-        updatableMetrics = new UpdatableMetrics(metricRegistry, CounterType.counter,
+        updatableMetrics = new UpdatableMetrics(
+                metricRegistry, CounterType.counter, EXPONENTIALLY_DECAYING,
                 metricName -> "someprefix." + metricName);
 
         // when
@@ -50,7 +57,8 @@ public class UpdatableMetricsTest {
         final Function<MetricName, String> nameCreator = mock(Function.class);
         given(nameCreator.apply(any())).willReturn("");
 
-        updatableMetrics = new UpdatableMetrics(metricRegistry, CounterType.counter, nameCreator);
+        updatableMetrics = new UpdatableMetrics(
+                metricRegistry, CounterType.counter, EXPONENTIALLY_DECAYING, nameCreator);
 
         // when
         updatableMetrics.incCounter(MetricName.requests, 5);
@@ -63,7 +71,8 @@ public class UpdatableMetricsTest {
     @Test
     public void incCounterShouldIncrementByOne() {
         // given
-        updatableMetrics = new UpdatableMetrics(metricRegistry, CounterType.counter, MetricName::toString);
+        updatableMetrics = new UpdatableMetrics(
+                metricRegistry, CounterType.counter, EXPONENTIALLY_DECAYING, MetricName::toString);
 
         // when
         updatableMetrics.incCounter(MetricName.requests);
@@ -75,7 +84,8 @@ public class UpdatableMetricsTest {
     @Test
     public void updateTimerShouldCreateMetricNameUsingProvidedCreator() {
         // given
-        updatableMetrics = new UpdatableMetrics(metricRegistry, CounterType.counter,
+        updatableMetrics = new UpdatableMetrics(
+                metricRegistry, CounterType.counter, EXPONENTIALLY_DECAYING,
                 metricName -> "someprefix." + metricName);
 
         // when
@@ -92,7 +102,8 @@ public class UpdatableMetricsTest {
         final Function<MetricName, String> nameCreator = mock(Function.class);
         given(nameCreator.apply(any())).willReturn("");
 
-        updatableMetrics = new UpdatableMetrics(metricRegistry, CounterType.counter, nameCreator);
+        updatableMetrics = new UpdatableMetrics(
+                metricRegistry, CounterType.counter, EXPONENTIALLY_DECAYING, nameCreator);
 
         // when
         updatableMetrics.updateTimer(MetricName.request_time, 1000L);
@@ -105,7 +116,8 @@ public class UpdatableMetricsTest {
     @Test
     public void updateTimerShouldConvertToNanos() {
         // given
-        updatableMetrics = new UpdatableMetrics(metricRegistry, CounterType.counter, MetricName::toString);
+        updatableMetrics = new UpdatableMetrics(
+                metricRegistry, CounterType.counter, EXPONENTIALLY_DECAYING, MetricName::toString);
 
         // when
         updatableMetrics.updateTimer(MetricName.request_time, 1000L);
@@ -117,7 +129,8 @@ public class UpdatableMetricsTest {
     @Test
     public void updateHistogramShouldCreateMetricNameUsingProvidedCreator() {
         // given
-        updatableMetrics = new UpdatableMetrics(metricRegistry, CounterType.counter,
+        updatableMetrics = new UpdatableMetrics(
+                metricRegistry, CounterType.counter, EXPONENTIALLY_DECAYING,
                 metricName -> "someprefix." + metricName);
 
         // when
@@ -134,7 +147,8 @@ public class UpdatableMetricsTest {
         final Function<MetricName, String> nameCreator = mock(Function.class);
         given(nameCreator.apply(any())).willReturn("");
 
-        updatableMetrics = new UpdatableMetrics(metricRegistry, CounterType.counter, nameCreator);
+        updatableMetrics = new UpdatableMetrics(
+                metricRegistry, CounterType.counter, EXPONENTIALLY_DECAYING, nameCreator);
 
         // when
         updatableMetrics.updateHistogram(MetricName.prices, 1000L);
@@ -147,7 +161,8 @@ public class UpdatableMetricsTest {
     @Test
     public void createGaugeShouldCreateMetricNameUsingProvidedCreator() {
         // given
-        updatableMetrics = new UpdatableMetrics(metricRegistry, CounterType.counter,
+        updatableMetrics = new UpdatableMetrics(
+                metricRegistry, CounterType.counter, EXPONENTIALLY_DECAYING,
                 metricName -> "someprefix." + metricName);
 
         // when
@@ -157,6 +172,38 @@ public class UpdatableMetricsTest {
         assertThat(metricRegistry.gauge("someprefix.opened", () -> null).getValue()).isEqualTo(1L);
     }
 
+    @Test
+    public void updateTimerShouldUseReservoirOfConfiguredType() {
+        // given
+        updatableMetrics = new UpdatableMetrics(
+                metricRegistry, CounterType.counter, FLUSHING_HDR_HISTOGRAM, MetricName::toString);
+        updatableMetrics.updateTimer(MetricName.request_time, 10L);
+
+        // when
+        final Snapshot firstSnapshot = metricRegistry.timer("request_time").getSnapshot();
+        final Snapshot secondSnapshot = metricRegistry.timer("request_time").getSnapshot();
+
+        // then
+        assertThat(firstSnapshot.size()).isOne();
+        assertThat(secondSnapshot.size()).isZero();
+    }
+
+    @Test
+    public void updateHistogramShouldUseReservoirOfConfiguredType() {
+        // given
+        updatableMetrics = new UpdatableMetrics(
+                metricRegistry, CounterType.counter, FLUSHING_HDR_HISTOGRAM, MetricName::toString);
+        updatableMetrics.updateHistogram(MetricName.prices, 10L);
+
+        // when
+        final Snapshot firstSnapshot = metricRegistry.histogram("prices").getSnapshot();
+        final Snapshot secondSnapshot = metricRegistry.histogram("prices").getSnapshot();
+
+        // then
+        assertThat(firstSnapshot.getValues()).containsExactly(10L);
+        assertThat(secondSnapshot.size()).isZero();
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public void createGaugeShouldCreateMetricNameOnlyOnceOnSuccessiveCalls() {
@@ -164,7 +211,8 @@ public class UpdatableMetricsTest {
         final Function<MetricName, String> nameCreator = mock(Function.class);
         given(nameCreator.apply(any())).willReturn("");
 
-        updatableMetrics = new UpdatableMetrics(metricRegistry, CounterType.counter, nameCreator);
+        updatableMetrics = new UpdatableMetrics(
+                metricRegistry, CounterType.counter, EXPONENTIALLY_DECAYING, nameCreator);
 
         // when
         updatableMetrics.createGauge(MetricName.opened, () -> 1);
@@ -177,7 +225,8 @@ public class UpdatableMetricsTest {
     @Test
     public void removeMetricShouldRemoveExistingMetric() {
         // given
-        updatableMetrics = new UpdatableMetrics(metricRegistry, CounterType.counter, MetricName::toString);
+        updatableMetrics = new UpdatableMetrics(
+                metricRegistry, CounterType.counter, EXPONENTIALLY_DECAYING, MetricName::toString);
 
         // when
         updatableMetrics.createGauge(MetricName.opened, () -> 1);
@@ -188,6 +237,7 @@ public class UpdatableMetricsTest {
     }
 
     private UpdatableMetrics givenUpdatableMetricsWith(CounterType counterType) {
-        return new UpdatableMetrics(metricRegistry, counterType, MetricName::toString);
+        return new UpdatableMetrics(
+                metricRegistry, counterType, EXPONENTIALLY_DECAYING, MetricName::toString);
     }
 }
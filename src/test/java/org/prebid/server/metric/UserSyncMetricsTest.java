@@ -7,10 +7,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 public class UserSyncMetricsTest {
 
+    private static final ReservoirSpec EXPONENTIALLY_DECAYING =
+            ReservoirSpec.of(ReservoirType.exponentiallyDecaying, 60_000L);
+
     @Test
     public void forBidderShouldReturnSameBidderCookieSyncMetricsOnSuccessiveCalls() {
         // given
-        final UserSyncMetrics userSyncMetrics = new UserSyncMetrics(new MetricRegistry(), CounterType.counter);
+        final UserSyncMetrics userSyncMetrics = new UserSyncMetrics(
+                new MetricRegistry(), CounterType.counter, EXPONENTIALLY_DECAYING);
 
         // when and then
         assertThat(userSyncMetrics.forBidder("rubicon")).isSameAs(userSyncMetrics.forBidder("rubicon"));
@@ -115,7 +115,7 @@ public class Tcf2ServiceTest extends VertxTest {
         initSpecialFeatures();
         initGdpr();
         target = new Tcf2Service(gdprConfig, purposeStrategies, specialFeaturesStrategies, vendorListService,
-                bidderCatalog);
+                bidderCatalog, 0);
     }
 
     private void initPurposes() {
@@ -209,6 +209,42 @@ public class Tcf2ServiceTest extends VertxTest {
         verify(vendorListService).forVersion(10);
     }
 
+    @Test
+    public void permissionsForShouldReuseCalculatedPermissionsWhenPermissionsCacheIsEnabled() {
+        // given
+        target = new Tcf2Service(gdprConfig, purposeStrategies, specialFeaturesStrategies, vendorListService,
+                bidderCatalog, 100);
+        given(bidderCatalog.nameByVendorId(any())).willReturn("rubicon");
+
+        // when
+        final Future<Collection<VendorPermission>> firstResult = target.permissionsFor(singleton(1), tcString);
+        final Future<Collection<VendorPermission>> secondResult = target.permissionsFor(singleton(1), tcString);
+
+        // then
+        final VendorPermission expectedVendorPermission =
+                VendorPermission.of(1, "rubicon", PrivacyEnforcementAction.restrictAll());
+        assertThat(firstResult).succeededWith(singletonList(expectedVendorPermission));
+        assertThat(secondResult).succeededWith(singletonList(expectedVendorPermission));
+
+        verify(specialFeaturesStrategyOne).processSpecialFeaturesStrategy(any(), any(), anyCollection());
+    }
+
+    @Test
+    public void permissionsForShouldNotReusePermissionsCalculatedWithoutVendorList() {
+        // given
+        target = new Tcf2Service(gdprConfig, purposeStrategies, specialFeaturesStrategies, vendorListService,
+                bidderCatalog, 100);
+        given(vendorListService.forVersion(anyInt())).willReturn(Future.failedFuture("Bad version"));
+        given(bidderCatalog.nameByVendorId(any())).willReturn("rubicon");
+
+        // when
+        target.permissionsFor(singleton(1), tcString);
+        target.permissionsFor(singleton(1), tcString);
+
+        // then
+        verify(specialFeaturesStrategyOne, times(2)).processSpecialFeaturesStrategy(any(), any(), anyCollection());
+    }
+
     @Test
     public void permissionsForShouldMergeAccountPurposes() {
         // given
@@ -374,7 +410,7 @@ public class Tcf2ServiceTest extends VertxTest {
                 .purposeOneTreatmentInterpretation(PurposeOneTreatmentInterpretation.noAccessAllowed)
                 .build();
         target = new Tcf2Service(gdprConfig, purposeStrategies, specialFeaturesStrategies, vendorListService,
-                bidderCatalog);
+                bidderCatalog, 0);
 
         // when
         final Future<Collection<VendorPermission>> result = target.permissionsFor(singleton(1), tcString);
@@ -413,7 +449,7 @@ public class Tcf2ServiceTest extends VertxTest {
                 .purposeOneTreatmentInterpretation(PurposeOneTreatmentInterpretation.accessAllowed)
                 .build();
         target = new Tcf2Service(gdprConfig, purposeStrategies, specialFeaturesStrategies, vendorListService,
-                bidderCatalog);
+                bidderCatalog, 0);
 
         // when
         target.permissionsFor(singleton(1), tcString);
@@ -450,7 +486,7 @@ public class Tcf2ServiceTest extends VertxTest {
                 .purposeOneTreatmentInterpretation(PurposeOneTreatmentInterpretation.accessAllowed)
                 .build();
         target = new Tcf2Service(gdprConfig, purposeStrategies, specialFeaturesStrategies, vendorListService,
-                bidderCatalog);
+                bidderCatalog, 0);
 
         // when
         target.permissionsFor(singleton(1), tcString);
@@ -90,7 +90,8 @@ public class TcfDefinerServiceTest {
                 geoLocationService,
                 bidderCatalog,
                 ipAddressHelper,
-                metrics);
+                metrics,
+                0);
     }
 
     @Test
@@ -104,7 +105,8 @@ public class TcfDefinerServiceTest {
                 geoLocationService,
                 bidderCatalog,
                 ipAddressHelper,
-                metrics);
+                metrics,
+                0);
 
         // when
         final Future<TcfContext> result = tcfDefinerService.resolveTcfContext(
@@ -182,7 +184,8 @@ public class TcfDefinerServiceTest {
                 geoLocationService,
                 bidderCatalog,
                 ipAddressHelper,
-                metrics);
+                metrics,
+                0);
 
         final AccountGdprConfig accountGdprConfig = AccountGdprConfig.builder()
                 .enabledForRequestType(EnabledForRequestType.of(true, true, true, true))
@@ -214,7 +217,8 @@ public class TcfDefinerServiceTest {
                 geoLocationService,
                 bidderCatalog,
                 ipAddressHelper,
-                metrics);
+                metrics,
+                0);
 
         final String vendorConsent = "BOEFEAyOEFEAyAHABDENAI4AAAB9vABAASA";
 
@@ -246,7 +250,8 @@ public class TcfDefinerServiceTest {
                 geoLocationService,
                 bidderCatalog,
                 ipAddressHelper,
-                metrics);
+                metrics,
+                0);
 
         final String vendorConsent = "CPBCa-mPBCa-mAAAAAENA0CAAEAAAAAAACiQAaQAwAAgAgABoAAAAAA";
 
@@ -341,7 +346,8 @@ public class TcfDefinerServiceTest {
                 geoLocationService,
                 bidderCatalog,
                 ipAddressHelper,
-                metrics);
+                metrics,
+                0);
 
         given(geoLocationService.lookup(anyString(), any())).willReturn(Future.failedFuture("Bad ip"));
 
@@ -376,7 +382,8 @@ public class TcfDefinerServiceTest {
                 geoLocationService,
                 bidderCatalog,
                 ipAddressHelper,
-                metrics);
+                metrics,
+                0);
 
         given(geoLocationService.lookup(anyString(), any())).willReturn(Future.failedFuture("Bad ip"));
 
@@ -460,6 +467,65 @@ public class TcfDefinerServiceTest {
         verify(metrics).updatePrivacyTcfInvalidMetric();
     }
 
+    @Test
+    public void resolveTcfContextShouldReuseDecodedConsentStringWhenConsentCacheIsEnabled() {
+        // given
+        tcfDefinerService = new TcfDefinerService(
+                GdprConfig.builder().enabled(true).build(),
+                singleton(EEA_COUNTRY),
+                tcf2Service,
+                geoLocationService,
+                bidderCatalog,
+                ipAddressHelper,
+                metrics,
+                100);
+
+        final Privacy privacy = Privacy.builder()
+                .gdpr("1")
+                .consentString("CPBCa-mPBCa-mAAAAAENA0CAAEAAAAAAACiQAaQAwAAgAgABoAAAAAA")
+                .build();
+
+        // when
+        final Future<TcfContext> firstResult = tcfDefinerService.resolveTcfContext(
+                privacy, null, null, MetricName.setuid, null, null);
+        final Future<TcfContext> secondResult = tcfDefinerService.resolveTcfContext(
+                privacy, null, null, MetricName.setuid, null, null);
+
+        // then
+        assertThat(secondResult.result().isConsentValid()).isTrue();
+        assertThat(secondResult.result().getConsent()).isSameAs(firstResult.result().getConsent());
+        verify(metrics).updatePrivacyTcfConsentCacheMissMetric();
+        verify(metrics).updatePrivacyTcfConsentCacheHitMetric();
+    }
+
+    @Test
+    public void resolveTcfContextShouldReuseDecodingErrorWhenConsentCacheIsEnabled() {
+        // given
+        tcfDefinerService = new TcfDefinerService(
+                GdprConfig.builder().enabled(true).build(),
+                singleton(EEA_COUNTRY),
+                tcf2Service,
+                geoLocationService,
+                bidderCatalog,
+                ipAddressHelper,
+                metrics,
+                100);
+
+        final Privacy privacy = Privacy.builder().gdpr("1").consentString("invalid").build();
+
+        // when
+        final Future<TcfContext> firstResult = tcfDefinerService.resolveTcfContext(
+                privacy, null, null, MetricName.setuid, null, null);
+        final Future<TcfContext> secondResult = tcfDefinerService.resolveTcfContext(
+                privacy, null, null, MetricName.setuid, null, null);
+
+        // then
+        assertThat(secondResult.result().isConsentValid()).isFalse();
+        assertThat(secondResult.result().getWarnings()).isEqualTo(firstResult.result().getWarnings());
+        verify(metrics).updatePrivacyTcfConsentCacheMissMetric();
+        verify(metrics).updatePrivacyTcfConsentCacheHitMetric();
+    }
+
     @Test
     public void resultForVendorIdsShouldNotSetTcfRequestsAndTcfGeoMetricsWhenConsentIsNotValid() {
         // given
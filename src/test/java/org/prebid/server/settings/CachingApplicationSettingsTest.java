@@ -1,12 +1,17 @@
 package org.prebid.server.settings;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
+import org.prebid.server.VertxTest;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.Timeout;
@@ -16,14 +21,20 @@ import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountAuctionConfig;
 import org.prebid.server.settings.model.StoredDataResult;
+import org.prebid.server.settings.model.StoredItem;
 import org.prebid.server.settings.model.StoredResponseDataResult;
 
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
@@ -31,17 +42,20 @@ import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
-public class CachingApplicationSettingsTest {
+public class CachingApplicationSettingsTest extends VertxTest {
 
     @Rule
     public final MockitoRule mockitoRule = MockitoJUnit.rule();
@@ -50,6 +64,10 @@ public class CachingApplicationSettingsTest {
     private ApplicationSettings applicationSettings;
     @Mock
     private Metrics metrics;
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private Clock clock;
 
     private CachingApplicationSettings cachingApplicationSettings;
 
@@ -65,8 +83,13 @@ public class CachingApplicationSettingsTest {
                 new SettingsCache(360, 100),
                 new SettingsCache(360, 100),
                 metrics,
+                jacksonMapper,
                 360,
-                100);
+                100,
+                0,
+                vertx,
+                0,
+                clock);
     }
 
     @Test
@@ -171,6 +194,120 @@ public class CachingApplicationSettingsTest {
         verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.hit));
     }
 
+    @Test
+    public void getAccountByIdShouldShareInFlightDelegateCall() {
+        // given
+        final Promise<Account> promise = Promise.promise();
+        given(applicationSettings.getAccountById(eq("accountId"), same(timeout))).willReturn(promise.future());
+
+        final Account account = Account.empty("accountId");
+
+        // when
+        final Future<Account> firstFuture = cachingApplicationSettings.getAccountById("accountId", timeout);
+        final Future<Account> secondFuture = cachingApplicationSettings.getAccountById("accountId", timeout);
+        promise.complete(account);
+
+        // then
+        assertThat(firstFuture.result()).isSameAs(account);
+        assertThat(secondFuture.result()).isSameAs(account);
+        verify(applicationSettings).getAccountById(eq("accountId"), same(timeout));
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.coalesced));
+    }
+
+    @Test
+    public void getAccountByIdShouldCompleteSharedDelegateCallOnContextOfEachCaller() throws InterruptedException {
+        // given
+        final Vertx realVertx = Vertx.vertx();
+        final Promise<Account> promise = Promise.promise();
+        given(applicationSettings.getAccountById(eq("accountId"), same(timeout))).willReturn(promise.future());
+
+        final Context firstContext = realVertx.getOrCreateContext();
+        final Context secondContext = realVertx.getOrCreateContext();
+        final Map<Context, Context> callerToCompletionContext = new ConcurrentHashMap<>();
+        final CountDownLatch calledLatch = new CountDownLatch(2);
+        final CountDownLatch completedLatch = new CountDownLatch(2);
+
+        // when
+        for (Context context : asList(firstContext, secondContext)) {
+            context.runOnContext(ignored -> {
+                cachingApplicationSettings.getAccountById("accountId", timeout).onComplete(result -> {
+                    callerToCompletionContext.put(context, Vertx.currentContext());
+                    completedLatch.countDown();
+                });
+                calledLatch.countDown();
+            });
+        }
+        calledLatch.await(1, TimeUnit.SECONDS);
+        firstContext.runOnContext(ignored -> promise.complete(Account.empty("accountId")));
+
+        // then
+        assertThat(completedLatch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(callerToCompletionContext)
+                .containsEntry(firstContext, firstContext)
+                .containsEntry(secondContext, secondContext);
+
+        realVertx.close();
+    }
+
+    @Test
+    public void getAccountByIdShouldServeStaleAccountWhileRevalidatingItOnce() {
+        // given
+        cachingApplicationSettings = givenRefreshAheadCachingApplicationSettings(new SettingsCache(360, 100));
+
+        final Account account = Account.empty("accountId");
+        final Account revalidatedAccount = Account.builder().id("accountId").build();
+        final Promise<Account> revalidation = Promise.promise();
+        given(applicationSettings.getAccountById(eq("accountId"), same(timeout)))
+                .willReturn(Future.succeededFuture(account), revalidation.future());
+
+        given(clock.millis()).willReturn(0L);
+        cachingApplicationSettings.getAccountById("accountId", timeout);
+        given(clock.millis()).willReturn(10_000L);
+
+        // when
+        final Future<Account> firstStaleFuture = cachingApplicationSettings.getAccountById("accountId", timeout);
+        final Future<Account> secondStaleFuture = cachingApplicationSettings.getAccountById("accountId", timeout);
+        revalidation.complete(revalidatedAccount);
+        final Future<Account> revalidatedFuture = cachingApplicationSettings.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(firstStaleFuture.result()).isSameAs(account);
+        assertThat(secondStaleFuture.result()).isSameAs(account);
+        assertThat(revalidatedFuture.result()).isSameAs(revalidatedAccount);
+        verify(applicationSettings, times(2)).getAccountById(eq("accountId"), same(timeout));
+        verify(metrics, times(2)).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.stale_hit));
+        verify(metrics).updateSettingsCacheRevalidateTime(eq(MetricName.account), anyLong());
+    }
+
+    @Test
+    public void getAccountByIdShouldEvictStaleAccountAfterRepeatedRevalidationFailures() {
+        // given
+        cachingApplicationSettings = givenRefreshAheadCachingApplicationSettings(new SettingsCache(360, 100));
+
+        final Account account = Account.empty("accountId");
+        given(applicationSettings.getAccountById(eq("accountId"), same(timeout))).willReturn(
+                Future.succeededFuture(account),
+                Future.failedFuture(new RuntimeException("error")),
+                Future.failedFuture(new RuntimeException("error")),
+                Future.failedFuture(new RuntimeException("error")),
+                Future.succeededFuture(account));
+
+        given(clock.millis()).willReturn(0L);
+        cachingApplicationSettings.getAccountById("accountId", timeout);
+        given(clock.millis()).willReturn(10_000L);
+
+        // when
+        cachingApplicationSettings.getAccountById("accountId", timeout);
+        cachingApplicationSettings.getAccountById("accountId", timeout);
+        cachingApplicationSettings.getAccountById("accountId", timeout);
+        cachingApplicationSettings.getAccountById("accountId", timeout);
+
+        // then
+        verify(applicationSettings, times(5)).getAccountById(eq("accountId"), same(timeout));
+        verify(metrics, times(3)).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.revalidate_err));
+        verify(metrics, times(2)).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.miss));
+    }
+
     @Test
     public void getCategoriesShouldReturnResultFromCacheOnSuccessiveCalls() {
         // given
@@ -270,6 +407,121 @@ public class CachingApplicationSettingsTest {
         verifyNoMoreInteractions(applicationSettings);
     }
 
+    @Test
+    public void getStoredDataShouldReturnSameParsedNodesForCachedItemsOnSuccessiveCalls() {
+        // given
+        given(applicationSettings.getStoredData(any(), eq(singleton("reqid")), eq(singleton("impid")), same(timeout)))
+                .willReturn(Future.succeededFuture(StoredDataResult.of(
+                        singletonMap("reqid", "{\"id\":\"req\"}"), singletonMap("impid", "{\"id\":\"imp\"}"),
+                        emptyList())));
+
+        // when
+        final StoredDataResult firstResult = cachingApplicationSettings
+                .getStoredData("1001", singleton("reqid"), singleton("impid"), timeout).result();
+        final StoredDataResult secondResult = cachingApplicationSettings
+                .getStoredData("1001", singleton("reqid"), singleton("impid"), timeout).result();
+        final StoredDataResult thirdResult = cachingApplicationSettings
+                .getStoredData("1001", singleton("reqid"), singleton("impid"), timeout).result();
+
+        // then
+        assertThat(firstResult.getStoredIdToRequestNode()).isEmpty();
+        assertThat(firstResult.getStoredIdToImpNode()).isEmpty();
+
+        final JsonNode requestNode = secondResult.getStoredIdToRequestNode().get("reqid");
+        assertThat(requestNode).isEqualTo(mapper.createObjectNode().put("id", "req"));
+        assertThat(secondResult.getStoredIdToImpNode().get("impid"))
+                .isEqualTo(mapper.createObjectNode().put("id", "imp"));
+        assertThat(thirdResult.getStoredIdToRequestNode().get("reqid")).isSameAs(requestNode);
+
+        verify(metrics).updateSettingsCacheParseTime(eq(MetricName.stored_request), anyLong());
+        verify(metrics).updateSettingsCacheParseTime(eq(MetricName.stored_imp), anyLong());
+    }
+
+    @Test
+    public void getStoredDataShouldNotReturnParsedNodeForMalformedStoredData() {
+        // given
+        given(applicationSettings.getStoredData(any(), eq(singleton("reqid")), eq(emptySet()), same(timeout)))
+                .willReturn(Future.succeededFuture(StoredDataResult.of(
+                        singletonMap("reqid", "{invalid"), emptyMap(), emptyList())));
+        cachingApplicationSettings.getStoredData("1001", singleton("reqid"), emptySet(), timeout);
+
+        // when
+        final StoredDataResult result = cachingApplicationSettings
+                .getStoredData("1001", singleton("reqid"), emptySet(), timeout).result();
+
+        // then
+        assertThat(result.getStoredIdToRequest()).containsEntry("reqid", "{invalid");
+        assertThat(result.getStoredIdToRequestNode()).isEmpty();
+    }
+
+    @Test
+    public void getStoredDataShouldServeStaleStoredRequestAndReplaceItWithRevalidatedOne() {
+        // given
+        final SettingsCache settingsCache = new SettingsCache(360, 100, 5, clock);
+        cachingApplicationSettings = givenRefreshAheadCachingApplicationSettings(settingsCache);
+
+        given(applicationSettings.getStoredData(any(), eq(singleton("reqid")), eq(emptySet()), same(timeout)))
+                .willReturn(
+                        Future.succeededFuture(StoredDataResult.of(
+                                singletonMap("reqid", "{}"), emptyMap(), emptyList())),
+                        Future.succeededFuture(StoredDataResult.of(
+                                singletonMap("reqid", "{\"id\":1}"), emptyMap(), emptyList())));
+
+        given(clock.millis()).willReturn(0L);
+        cachingApplicationSettings.getStoredData("1001", singleton("reqid"), emptySet(), timeout);
+        given(clock.millis()).willReturn(10_000L);
+
+        // when
+        final Future<StoredDataResult> staleFuture =
+                cachingApplicationSettings.getStoredData("1001", singleton("reqid"), emptySet(), timeout);
+        final Future<StoredDataResult> revalidatedFuture =
+                cachingApplicationSettings.getStoredData("1001", singleton("reqid"), emptySet(), timeout);
+
+        // then
+        assertThat(staleFuture.result().getStoredIdToRequest()).containsOnly(entry("reqid", "{}"));
+        assertThat(revalidatedFuture.result().getStoredIdToRequest()).containsOnly(entry("reqid", "{\"id\":1}"));
+        assertThat(settingsCache.getRequestCache().get("reqid")).containsOnly(StoredItem.of("1001", "{\"id\":1}"));
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.stored_request, MetricName.stale_hit);
+    }
+
+    @Test
+    public void getStoredDataShouldUpdateMetrics() {
+        // given
+        given(applicationSettings.getStoredData(any(), eq(singleton("reqid")), eq(singleton("impid")), same(timeout)))
+                .willReturn(Future.succeededFuture(StoredDataResult.of(
+                        singletonMap("reqid", "{}"), singletonMap("impid", "{}"), emptyList())));
+
+        // when
+        cachingApplicationSettings.getStoredData("1001", singleton("reqid"), singleton("impid"), timeout);
+        cachingApplicationSettings.getStoredData("1001", singleton("reqid"), singleton("impid"), timeout);
+
+        // then
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.stored_request, MetricName.miss);
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.stored_request, MetricName.hit);
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.stored_imp, MetricName.miss);
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.stored_imp, MetricName.hit);
+    }
+
+    @Test
+    public void getVideoStoredDataShouldUpdateMetricsOfVideoCache() {
+        // given
+        given(applicationSettings.getVideoStoredData(any(), eq(singleton("reqid")), eq(singleton("impid")),
+                same(timeout)))
+                .willReturn(Future.succeededFuture(StoredDataResult.of(
+                        singletonMap("reqid", "{}"), singletonMap("impid", "{}"), emptyList())));
+
+        // when
+        cachingApplicationSettings.getVideoStoredData("1001", singleton("reqid"), singleton("impid"), timeout);
+        cachingApplicationSettings.getVideoStoredData("1001", singleton("reqid"), singleton("impid"), timeout);
+
+        // then
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.video_stored_request, MetricName.miss);
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.video_stored_request, MetricName.hit);
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.video_stored_imp, MetricName.miss);
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.video_stored_imp, MetricName.hit);
+        verify(metrics, never()).updateSettingsCacheEventMetric(eq(MetricName.stored_request), any());
+    }
+
     @Test
     public void getStoredDataShouldPropagateFailure() {
         // given
@@ -344,4 +596,63 @@ public class CachingApplicationSettingsTest {
                 .isInstanceOf(InvalidRequestException.class)
                 .hasMessage("error");
     }
+
+    @Test
+    public void getStoredResponsesShouldReturnCachedResponsesAndDelegateOnlyMissedIds() {
+        // given
+        given(applicationSettings.getStoredResponses(eq(singleton("id1")), same(timeout)))
+                .willReturn(Future.succeededFuture(StoredResponseDataResult.of(
+                        singletonMap("id1", "response1"), emptyList())));
+        given(applicationSettings.getStoredResponses(eq(singleton("id2")), same(timeout)))
+                .willReturn(Future.succeededFuture(StoredResponseDataResult.of(
+                        emptyMap(), singletonList("No stored response found for id: id2"))));
+        cachingApplicationSettings.getStoredResponses(singleton("id1"), timeout);
+
+        // when
+        final Future<StoredResponseDataResult> future = cachingApplicationSettings
+                .getStoredResponses(new HashSet<>(asList("id1", "id2")), timeout);
+
+        // then
+        assertThat(future.result().getIdToStoredResponses()).containsOnly(entry("id1", "response1"));
+        assertThat(future.result().getErrors()).containsExactly("No stored response found for id: id2");
+        verify(applicationSettings).getStoredResponses(eq(singleton("id1")), same(timeout));
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.stored_response, MetricName.hit);
+    }
+
+    @Test
+    public void getStoredResponsesShouldNotReturnInvalidatedResponse() {
+        // given
+        final SettingsCache settingsCache = new SettingsCache(360, 100);
+        cachingApplicationSettings = givenRefreshAheadCachingApplicationSettings(settingsCache);
+
+        settingsCache.saveResponses(singletonMap("id", "response"));
+        settingsCache.invalidateResponses(singletonList("id"));
+
+        given(applicationSettings.getStoredResponses(anySet(), any()))
+                .willReturn(Future.succeededFuture(StoredResponseDataResult.of(
+                        singletonMap("id", "updatedResponse"), emptyList())));
+
+        // when
+        final Future<StoredResponseDataResult> future = cachingApplicationSettings
+                .getStoredResponses(singleton("id"), timeout);
+
+        // then
+        assertThat(future.result().getIdToStoredResponses()).containsOnly(entry("id", "updatedResponse"));
+    }
+
+    private CachingApplicationSettings givenRefreshAheadCachingApplicationSettings(SettingsCache settingsCache) {
+        return new CachingApplicationSettings(
+                applicationSettings,
+                settingsCache,
+                new SettingsCache(360, 100),
+                new SettingsCache(360, 100),
+                metrics,
+                jacksonMapper,
+                360,
+                100,
+                5,
+                vertx,
+                0,
+                clock);
+    }
 }
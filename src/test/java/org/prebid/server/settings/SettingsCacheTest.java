@@ -38,6 +38,20 @@ public class SettingsCacheTest {
                 .containsEntry("reqId1", singleton(StoredItem.of("1001", "reqValue1")));
     }
 
+    @Test
+    public void saveRequestCacheShouldReplaceRequestOfSameAccountOnly() {
+        // given
+        settingsCache.saveRequestCache("1001", "reqId1", "reqValue1");
+        settingsCache.saveRequestCache("1002", "reqId1", "reqValue2");
+
+        // when
+        settingsCache.saveRequestCache("1001", "reqId1", "reqValue3");
+
+        // then
+        assertThat(settingsCache.getRequestCache().get("reqId1"))
+                .containsOnly(StoredItem.of("1001", "reqValue3"), StoredItem.of("1002", "reqValue2"));
+    }
+
     @Test
     public void saveImpCacheShouldAddNewImpsToCache() {
         // when
@@ -0,0 +1,180 @@
+package org.prebid.server.settings.helper;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.settings.model.StoredDataResult;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class StoredDataBatcherTest {
+
+    private static final long WINDOW_MS = 5L;
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private StoredDataFetcher<String, Set<String>, Set<String>, Timeout, Future<StoredDataResult>> fetcher;
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private Runnable batchedLookupListener;
+    @Mock
+    private Timeout timeout;
+
+    private StoredDataBatcher target;
+
+    @Before
+    public void setUp() {
+        target = new StoredDataBatcher(fetcher, vertx, WINDOW_MS, batchedLookupListener);
+    }
+
+    @Test
+    public void fetchShouldCallFetcherDirectlyIfWindowIsNotPositive() {
+        // given
+        target = new StoredDataBatcher(fetcher, vertx, 0, batchedLookupListener);
+
+        final StoredDataResult storedDataResult = StoredDataResult.of(
+                singletonMap("reqId", "{}"), emptyMap(), emptyList());
+        given(fetcher.apply(any(), any(), any(), any())).willReturn(Future.succeededFuture(storedDataResult));
+
+        // when
+        final Future<StoredDataResult> result = target.fetch("accountId", singleton("reqId"), emptySet(), timeout);
+
+        // then
+        assertThat(result.result()).isSameAs(storedDataResult);
+        verifyNoInteractions(vertx, batchedLookupListener);
+    }
+
+    @Test
+    public void fetchShouldCompleteEachLookupOnContextOfItsCaller() throws InterruptedException {
+        // given
+        final Vertx realVertx = Vertx.vertx();
+        target = new StoredDataBatcher(fetcher, realVertx, 50L, batchedLookupListener);
+
+        given(fetcher.apply(any(), any(), any(), any())).willReturn(Future.succeededFuture(
+                StoredDataResult.of(singletonMap("reqId", "{}"), emptyMap(), emptyList())));
+
+        final Context firstContext = realVertx.getOrCreateContext();
+        final Context secondContext = realVertx.getOrCreateContext();
+        final Map<Context, Context> callerToCompletionContext = new ConcurrentHashMap<>();
+        final CountDownLatch completedLatch = new CountDownLatch(2);
+
+        // when
+        for (Context context : asList(firstContext, secondContext)) {
+            context.runOnContext(ignored -> target.fetch("accountId", singleton("reqId"), emptySet(), timeout)
+                    .onComplete(result -> {
+                        callerToCompletionContext.put(context, Vertx.currentContext());
+                        completedLatch.countDown();
+                    }));
+        }
+
+        // then
+        assertThat(completedLatch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(callerToCompletionContext)
+                .containsEntry(firstContext, firstContext)
+                .containsEntry(secondContext, secondContext);
+
+        realVertx.close();
+    }
+
+    @Test
+    public void fetchShouldMergeLookupsOfSameAccountWithinWindow() {
+        // given
+        final Map<String, String> idToRequest = new HashMap<>();
+        idToRequest.put("reqId1", "{\"id\":1}");
+        idToRequest.put("reqId2", "{\"id\":2}");
+        given(fetcher.apply(any(), any(), any(), any()))
+                .willReturn(Future.succeededFuture(StoredDataResult.of(idToRequest, emptyMap(), emptyList())));
+
+        // when
+        final Future<StoredDataResult> firstResult =
+                target.fetch("accountId", singleton("reqId1"), emptySet(), timeout);
+        final Future<StoredDataResult> secondResult =
+                target.fetch("accountId", singleton("reqId2"), emptySet(), timeout);
+        fireTimer();
+
+        // then
+        verify(fetcher).apply(eq("accountId"), eq(new HashSet<>(asList("reqId1", "reqId2"))), eq(emptySet()),
+                eq(timeout));
+        verify(batchedLookupListener).run();
+        assertThat(firstResult.result().getStoredIdToRequest()).containsOnlyKeys("reqId1");
+        assertThat(secondResult.result().getStoredIdToRequest()).containsOnlyKeys("reqId2");
+    }
+
+    @Test
+    public void fetchShouldPassErrorsAboutMissingIdsOnlyToLookupsAskedForThem() {
+        // given
+        given(fetcher.apply(any(), any(), any(), any()))
+                .willReturn(Future.succeededFuture(StoredDataResult.of(
+                        singletonMap("reqId1", "{}"),
+                        emptyMap(),
+                        asList("No stored request found for id: reqId2", "Database error"))));
+
+        // when
+        final Future<StoredDataResult> firstResult =
+                target.fetch("accountId", singleton("reqId1"), emptySet(), timeout);
+        final Future<StoredDataResult> secondResult =
+                target.fetch("accountId", singleton("reqId2"), emptySet(), timeout);
+        fireTimer();
+
+        // then
+        assertThat(firstResult.result().getErrors()).containsExactly("Database error");
+        assertThat(secondResult.result().getErrors())
+                .containsExactly("No stored request found for id: reqId2", "Database error");
+    }
+
+    @Test
+    public void fetchShouldFailAllLookupsOfBatchOnFetcherFailure() {
+        // given
+        given(fetcher.apply(any(), any(), any(), any()))
+                .willReturn(Future.failedFuture(new RuntimeException("error")));
+
+        // when
+        final Future<StoredDataResult> firstResult =
+                target.fetch("accountId", singleton("reqId1"), emptySet(), timeout);
+        final Future<StoredDataResult> secondResult =
+                target.fetch("accountId", singleton("reqId2"), emptySet(), timeout);
+        fireTimer();
+
+        // then
+        assertThat(firstResult.cause()).hasMessage("error");
+        assertThat(secondResult.cause()).hasMessage("error");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void fireTimer() {
+        final ArgumentCaptor<Handler<Long>> handlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(WINDOW_MS), handlerCaptor.capture());
+        handlerCaptor.getValue().handle(1L);
+    }
+}
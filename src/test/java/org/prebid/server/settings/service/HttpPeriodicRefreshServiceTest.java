@@ -59,11 +59,13 @@ public class HttpPeriodicRefreshServiceTest extends VertxTest {
         final HttpClientResponse initialResponse = HttpClientResponse.of(200, null,
                 mapper.writeValueAsString(HttpRefreshResponse.of(
                         singletonMap("id1", mapper.createObjectNode().put("field1", "field-value1")),
-                        singletonMap("id2", mapper.createObjectNode().put("field2", "field-value2")))));
+                        singletonMap("id2", mapper.createObjectNode().put("field2", "field-value2")),
+                        null)));
         updatedResponse = HttpClientResponse.of(200, null,
                 mapper.writeValueAsString(HttpRefreshResponse.of(
                         singletonMap("id1", mapper.createObjectNode().put("deleted", "true")),
-                        singletonMap("id2", mapper.createObjectNode().put("field2", "field-value2")))));
+                        singletonMap("id2", mapper.createObjectNode().put("field2", "field-value2")),
+                        null)));
 
         given(httpClient.get(anyString(), anyLong()))
                 .willReturn(Future.succeededFuture(initialResponse));
@@ -109,7 +111,8 @@ public class HttpPeriodicRefreshServiceTest extends VertxTest {
         updatedResponse = HttpClientResponse.of(200, null,
                 mapper.writeValueAsString(HttpRefreshResponse.of(
                         singletonMap("id1", mapper.createObjectNode().put("changed1", "value-changed2")),
-                        singletonMap("id2", mapper.createObjectNode().put("field2", "field-value2")))));
+                        singletonMap("id2", mapper.createObjectNode().put("field2", "field-value2")),
+                        null)));
 
         given(vertx.setPeriodic(anyLong(), any()))
                 .willAnswer(withSelfAndPassObjectToHandler(1L));
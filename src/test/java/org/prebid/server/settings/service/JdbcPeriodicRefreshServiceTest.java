@@ -92,6 +92,26 @@ public class JdbcPeriodicRefreshServiceTest {
         verify(cacheNotificationListener).save(emptyMap(), singletonMap("id2", "changed_value"));
     }
 
+    @Test
+    public void shouldSaveAndInvalidateStoredResponses() {
+        // given
+        given(jdbcClient.executeQuery(eq("init_query"), anyList(), any(), any()))
+                .willReturn(Future.succeededFuture(StoredDataResult.of(
+                        emptyMap(), emptyMap(), singletonMap("id3", "value3"), emptyList())));
+        given(jdbcClient.executeQuery(eq("update_query"), anyList(), any(), any()))
+                .willReturn(Future.succeededFuture(StoredDataResult.of(
+                        emptyMap(), emptyMap(), singletonMap("id3", "null"), emptyList())));
+        given(vertx.setPeriodic(anyLong(), any()))
+                .willAnswer(withSelfAndPassObjectToHandler(1L));
+
+        // when
+        createAndInitService(1000);
+
+        // then
+        verify(cacheNotificationListener).saveResponses(singletonMap("id3", "value3"));
+        verify(cacheNotificationListener).invalidateResponses(singletonList("id3"));
+    }
+
     @Test
     public void initializeShouldMakeOneInitialRequestAndTwoScheduledRequestsWithParam() {
         // given
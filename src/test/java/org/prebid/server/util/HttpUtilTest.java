@@ -1,6 +1,7 @@
 package org.prebid.server.util;
 
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.Cookie;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerResponse;
@@ -12,6 +13,9 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.HttpRequestContext;
 
@@ -26,6 +30,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
@@ -253,4 +258,18 @@ public class HttpUtilTest {
         // then
         assertThat(result).isEqualTo(ZonedDateTime.parse("2019-11-04T13:31:24.365+02:00[Europe/Kiev]"));
     }
+
+    @Test
+    public void encodeResponseShouldEncodeResponseToBufferAndUpdateAllocatedBytesMetric() {
+        // given
+        final Metrics metrics = mock(Metrics.class);
+
+        // when
+        final Buffer body = HttpUtil.encodeResponse(
+                new JacksonMapper(ObjectMapperProvider.mapper()), metrics, singletonMap("key", "value"));
+
+        // then
+        assertThat(body.toString()).isEqualTo("{\"key\":\"value\"}");
+        verify(metrics).updateResponseAllocatedBytesMetric(anyLong());
+    }
 }
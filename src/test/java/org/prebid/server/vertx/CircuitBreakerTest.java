@@ -18,6 +18,8 @@ import org.mockito.junit.MockitoRule;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -136,6 +138,63 @@ public class CircuitBreakerTest {
         assertThat(future2.cause()).isInstanceOf(RuntimeException.class).hasMessage("exception2");
     }
 
+    @Test
+    public void executeShouldNotOpenCircuitIfFailureRateIsBelowThreshold(TestContext context) {
+        // given
+        circuitBreaker = new CircuitBreaker("name", vertx, 1, 100L, 200L, 0.5, 0L, clock);
+
+        // when
+        executeWithSuccess(context, "value1");
+        executeWithSuccess(context, "value2");
+        final Future<?> future1 = executeWithFail(context, "exception");
+        final Future<?> future2 = executeWithSuccess(context, "value3");
+
+        // then
+        assertThat(future1.failed()).isTrue();
+        assertThat(future1.cause()).isInstanceOf(RuntimeException.class).hasMessage("exception");
+
+        assertThat(future2.succeeded()).isTrue();
+        assertThat(circuitBreaker.isOpen()).isFalse();
+    }
+
+    @Test
+    public void executeShouldOpenCircuitIfCallIsSlow(TestContext context) {
+        // given
+        circuitBreaker = new CircuitBreaker("name", vertx, 1, 100L, 200L, 0, 10L, Clock.systemUTC());
+
+        // when
+        final Future<?> future1 = execute(context, operationPromise ->
+                vertx.setTimer(20L, ignored -> operationPromise.complete("slow value")));
+        final Future<?> future2 = executeWithSuccess(context, "value");
+
+        // then
+        assertThat(future1.succeeded()).isTrue();
+        assertThat(future1.result()).isEqualTo("slow value");
+
+        assertThat(future2.failed()).isTrue();
+        assertThat(future2.cause()).isInstanceOf(RuntimeException.class).hasMessage("open circuit");
+        assertThat(circuitBreaker.isOpen()).isTrue();
+    }
+
+    @Test
+    public void executeShouldInvokeHandlersOnStateTransitions(TestContext context) {
+        // given
+        final List<String> transitions = new ArrayList<>();
+        circuitBreaker
+                .openHandler(ignored -> transitions.add("open"))
+                .halfOpenHandler(ignored -> transitions.add("half-open"))
+                .closeHandler(ignored -> transitions.add("close"));
+
+        // when
+        executeWithFail(context, "exception");
+        waitForClosingInterval(context);
+        executeWithSuccess(context, "value");
+
+        // then
+        assertThat(transitions).containsExactly("open", "half-open", "close");
+        assertThat(circuitBreaker.isOpen()).isFalse();
+    }
+
     private Future<String> executeWithSuccess(TestContext context, String result) {
         return execute(context, operationPromise -> operationPromise.complete(result));
     }
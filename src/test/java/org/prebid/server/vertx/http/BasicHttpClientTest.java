@@ -29,6 +29,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
@@ -36,6 +37,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @RunWith(VertxUnitRunner.class)
 public class BasicHttpClientTest {
@@ -84,6 +86,26 @@ public class BasicHttpClientTest {
         verify(httpClientRequest).end(eq("body"));
     }
 
+    @Test
+    public void requestShouldUseDedicatedHttpClientOfRequestedHost() {
+        // given
+        final io.vertx.core.http.HttpClient hostHttpClient = mock(io.vertx.core.http.HttpClient.class);
+        given(hostHttpClient.requestAbs(any(), any())).willReturn(httpClientRequest);
+
+        httpClient = new BasicHttpClient(vertx, wrappedHttpClient, singletonMap("bidder.com", hostHttpClient));
+
+        // when
+        httpClient.request(HttpMethod.POST, "http://bidder.com/bid", MultiMap.caseInsensitiveMultiMap(), "body",
+                500L);
+        httpClient.request(HttpMethod.POST, "http://other.com/bid", MultiMap.caseInsensitiveMultiMap(), "body",
+                500L);
+
+        // then
+        verify(hostHttpClient).requestAbs(eq(HttpMethod.POST), eq("http://bidder.com/bid"));
+        verify(wrappedHttpClient).requestAbs(eq(HttpMethod.POST), eq("http://other.com/bid"));
+        verifyNoMoreInteractions(hostHttpClient, wrappedHttpClient);
+    }
+
     @Test
     public void requestShouldSucceedIfHttpRequestSucceeds() {
         // given
@@ -100,6 +122,24 @@ public class BasicHttpClientTest {
         assertThat(future.succeeded()).isTrue();
     }
 
+    @Test
+    public void requestShouldReturnResponseBodyAsBytesAndDecodeStringLazily() {
+        // given
+        given(httpClientRequest.handler(any()))
+                .willAnswer(withSelfAndPassObjectToHandler(httpClientResponse));
+
+        given(httpClientResponse.bodyHandler(any()))
+                .willAnswer(withSelfAndPassObjectToHandler(Buffer.buffer("response")));
+
+        // when
+        final Future<org.prebid.server.vertx.http.model.HttpClientResponse> future =
+                httpClient.request(HttpMethod.GET, null, null, (String) null, 1L);
+
+        // then
+        assertThat(future.result().getBodyBytes()).isEqualTo("response".getBytes());
+        assertThat(future.result().getBody()).isEqualTo("response");
+    }
+
     @Test
     public void requestShouldAllowFollowingRedirections() {
         // when
@@ -56,7 +56,8 @@ public class CircuitBreakerSecuredHttpClientTest {
     public void setUp() {
         vertx = Vertx.vertx();
         clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
-        httpClient = new CircuitBreakerSecuredHttpClient(vertx, wrappedHttpClient, metrics, 1, 100L, 200L, 24, clock);
+        httpClient = new CircuitBreakerSecuredHttpClient(
+                vertx, wrappedHttpClient, metrics, 1, 100L, 200L, 0, 0L, 24, clock);
     }
 
     @After
@@ -174,7 +175,8 @@ public class CircuitBreakerSecuredHttpClientTest {
     @Test
     public void requestShouldFailWithOriginalExceptionIfOpeningIntervalExceeds(TestContext context) {
         // given
-        httpClient = new CircuitBreakerSecuredHttpClient(vertx, wrappedHttpClient, metrics, 2, 100L, 200L, 24, clock);
+        httpClient = new CircuitBreakerSecuredHttpClient(
+                vertx, wrappedHttpClient, metrics, 2, 100L, 200L, 0, 0L, 24, clock);
 
         givenHttpClientReturning(new RuntimeException("exception1"), new RuntimeException("exception2"));
 
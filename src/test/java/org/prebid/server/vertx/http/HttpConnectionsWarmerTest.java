@@ -0,0 +1,69 @@
+package org.prebid.server.vertx.http;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class HttpConnectionsWarmerTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private HttpClient httpClient;
+
+    private HttpConnectionsWarmer connectionsWarmer;
+
+    @Before
+    public void setUp() {
+        given(httpClient.request(any(), any(), any(), (String) any(), anyLong()))
+                .willReturn(Future.failedFuture("connection refused"));
+
+        connectionsWarmer = new HttpConnectionsWarmer(vertx, httpClient, "https://bidder.com/", 3, 100L);
+    }
+
+    @Test
+    public void warmUpShouldSendRequestPerConnection() {
+        // when
+        connectionsWarmer.warmUp(null);
+
+        // then
+        verify(httpClient, times(3))
+                .request(eq(HttpMethod.OPTIONS), eq("https://bidder.com/"), isNull(), (String) isNull(), eq(100L));
+        verifyNoInteractions(vertx);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void warmUpShouldPeriodicallyRepeatWhenIntervalIsGiven() {
+        // when
+        connectionsWarmer.warmUp(1000L);
+
+        // then
+        final ArgumentCaptor<Handler<Long>> periodicHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setPeriodic(eq(1000L), periodicHandlerCaptor.capture());
+
+        periodicHandlerCaptor.getValue().handle(1L);
+        verify(httpClient, times(6))
+                .request(eq(HttpMethod.OPTIONS), eq("https://bidder.com/"), isNull(), (String) isNull(), eq(100L));
+    }
+}